@@ -0,0 +1,23 @@
+#
+# Copyright (c) 2024 Leyramu. All rights reserved.
+# This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+# For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+# The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+# By using this project, users acknowledge and agree to abide by these terms and conditions.
+#
+
+@echo off
+
+cd /d %~dp0\..\..
+
+rem Java: 由 lersosa-common-grpc 的 protobuf-maven-plugin 在 generate-sources 阶段生成到 target/generated-sources/protobuf
+call mvn -f lersosa-java\lersosa-common\lersosa-common-grpc\pom.xml generate-sources
+
+rem Python: 生成到 src/proto 并将导入改为包内导入 (生成的代码不提交)
+cd lersosa-python
+
+python src\proto\generate.py --force
+
+echo "The build succeeded"
+
+pause
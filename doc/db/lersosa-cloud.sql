@@ -290,6 +290,22 @@ CREATE TABLE `pulsar_mark_3`  (
 -- Records of pulsar_mark_3
 -- ----------------------------
 
+-- ----------------------------
+-- Table structure for pulsar_mark_stat
+-- ----------------------------
+DROP TABLE IF EXISTS `pulsar_mark_stat`;
+CREATE TABLE `pulsar_mark_stat`  (
+  `tenant_id` varchar(20) CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci NOT NULL DEFAULT '000000' COMMENT '租户编号',
+  `stat_user` varchar(40) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL DEFAULT '' COMMENT '统计用户 (区分大小写 与按用户名分组一致)',
+  `stat_key` varchar(40) CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci NOT NULL COMMENT '统计项',
+  `stat_count` bigint NOT NULL DEFAULT 0 COMMENT '计数',
+  PRIMARY KEY (`tenant_id`, `stat_user`, `stat_key`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = 'AI打分记录统计计数' ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Records of pulsar_mark_stat
+-- ----------------------------
+
 -- ----------------------------
 -- Table structure for pulsar_recorder
 -- ----------------------------
@@ -410,6 +426,48 @@ INSERT INTO `sys_dept` VALUES (107, '000000', 101, '0,100,101', '运维部门',
 INSERT INTO `sys_dept` VALUES (108, '000000', 102, '0,100,102', '市场部门', NULL, 1, NULL, '15888888888', 'xxx@qq.com', '0', '0', 103, 1, '2025-08-03 11:03:23', NULL, NULL);
 INSERT INTO `sys_dept` VALUES (109, '000000', 102, '0,100,102', '财务部门', NULL, 2, NULL, '15888888888', 'xxx@qq.com', '0', '0', 103, 1, '2025-08-03 11:03:23', NULL, NULL);
 
+-- ----------------------------
+-- Table structure for sys_dept_closure
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_dept_closure`;
+CREATE TABLE `sys_dept_closure`  (
+  `ancestor_id` bigint NOT NULL COMMENT '祖先部门id',
+  `descendant_id` bigint NOT NULL COMMENT '后代部门id',
+  `depth` int NOT NULL DEFAULT 0 COMMENT '层级距离（自身为0）',
+  PRIMARY KEY (`ancestor_id`, `descendant_id`) USING BTREE,
+  INDEX `idx_descendant`(`descendant_id`, `depth`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '部门层级闭包表' ROW_FORMAT = Dynamic;
+
+-- ----------------------------
+-- Records of sys_dept_closure
+-- ----------------------------
+INSERT INTO `sys_dept_closure` VALUES (100, 100, 0);
+INSERT INTO `sys_dept_closure` VALUES (100, 101, 1);
+INSERT INTO `sys_dept_closure` VALUES (100, 102, 1);
+INSERT INTO `sys_dept_closure` VALUES (100, 103, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 104, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 105, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 106, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 107, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 108, 2);
+INSERT INTO `sys_dept_closure` VALUES (100, 109, 2);
+INSERT INTO `sys_dept_closure` VALUES (101, 101, 0);
+INSERT INTO `sys_dept_closure` VALUES (101, 103, 1);
+INSERT INTO `sys_dept_closure` VALUES (101, 104, 1);
+INSERT INTO `sys_dept_closure` VALUES (101, 105, 1);
+INSERT INTO `sys_dept_closure` VALUES (101, 106, 1);
+INSERT INTO `sys_dept_closure` VALUES (101, 107, 1);
+INSERT INTO `sys_dept_closure` VALUES (102, 102, 0);
+INSERT INTO `sys_dept_closure` VALUES (102, 108, 1);
+INSERT INTO `sys_dept_closure` VALUES (102, 109, 1);
+INSERT INTO `sys_dept_closure` VALUES (103, 103, 0);
+INSERT INTO `sys_dept_closure` VALUES (104, 104, 0);
+INSERT INTO `sys_dept_closure` VALUES (105, 105, 0);
+INSERT INTO `sys_dept_closure` VALUES (106, 106, 0);
+INSERT INTO `sys_dept_closure` VALUES (107, 107, 0);
+INSERT INTO `sys_dept_closure` VALUES (108, 108, 0);
+INSERT INTO `sys_dept_closure` VALUES (109, 109, 0);
+
 -- ----------------------------
 -- Table structure for sys_dict_data
 -- ----------------------------
@@ -88,7 +88,7 @@ CREATE TABLE `config_info`  (
 -- ----------------------------
 -- Records of config_info
 -- ----------------------------
-INSERT INTO `config_info` VALUES (1, 'application-common.yml', 'DEFAULT_GROUP', 'server:\n  # undertow 配置\n  undertow:\n    # HTTP post内容的最大大小。当值为-1时，默认值为大小是无限的\n    max-http-post-size: -1\n    # 以下的配置会影响buffer,这些buffer会用于服务器连接的IO操作,有点类似netty的池化内存管理\n    # 每块buffer的空间大小,越小的空间被利用越充分\n    buffer-size: 512\n    # 是否分配的直接内存\n    direct-buffers: true\n    threads:\n      # 设置IO线程数, 它主要执行非阻塞的任务,它们会负责多个连接, 默认设置每个CPU核心一个线程\n      io: 8\n      # 阻塞任务线程池, 当执行类似servlet请求阻塞操作, undertow会从这个线程池中取得线程,它的值设置取决于系统的负载\n      worker: 256\n\ndubbo:\n  application:\n    # 关闭qos端口避免单机多生产者端口冲突 如需使用自行开启\n    qos-enable: false\n  protocol:\n    # 如需使用 Triple 3.0 新协议 可查看官方文档\n    # 使用 dubbo 协议通信\n    name: dubbo\n    # dubbo 协议端口(-1表示自增端口,从20880开始)\n    port: -1\n    # 指定dubbo协议注册ip\n    # host: 192.168.0.100\n  # 消费者相关配置\n  consumer:\n    # 超时时间\n    timeout: 3000\n  # 自定义配置\n  custom:\n    # 全局请求log\n    request-log: true\n    # info 基础信息 param 参数信息 full 全部\n    log-level: info\n\nspring:\n  threads:\n    # 开启虚拟线程 仅jdk21可用\n    virtual:\n      enabled: true\n  # 资源信息\n  messages:\n    # 国际化资源文件路径\n    basename: i18n/messages\n  servlet:\n    multipart:\n      # 整个请求大小限制\n      max-request-size: 20MB\n      # 上传单个文件大小限制\n      max-file-size: 10MB\n  mvc:\n    # 设置静态资源路径 防止所有请求都去查静态资源\n    static-path-pattern: /static/**\n    format:\n      date-time: yyyy-MM-dd HH:mm:ss\n  #jackson配置\n  jackson:\n    # 日期格式化\n    date-format: yyyy-MM-dd HH:mm:ss\n    serialization:\n      # 格式化输出\n      INDENT_OUTPUT: false\n      # 忽略无法转换的对象\n      fail_on_empty_beans: false\n    deserialization:\n      # 允许对象忽略json中不存在的属性\n      fail_on_unknown_properties: false\n  cloud:\n    nacos:\n      discovery:\n        metadata:\n          # admin 监控账号密码\n          username: lersosa\n          userpassword: Zcx@223852//\n    # sentinel 配置\n    sentinel:\n      # sentinel 开关\n      enabled: true\n      transport:\n        # dashboard控制台服务名 用于服务发现\n        # 如无此配置将默认使用下方 dashboard 配置直接注册\n        # server-name: lersosa-visual-sentinel\n        # 客户端指定注册的ip 用于多网卡ip不稳点使用\n        # client-ip:\n        # 控制台地址 从1.3.0开始使用 server-name 注册\n        dashboard: localhost:8718\n\n    bus:\n      id: ${spring.application.name}\n      base-packages: leyramu.framework.lersosa.**.event\n  # 消息总线 也可以使用 kafka 参考 spring-cloud-bus 用法\n  rabbitmq:\n    host: localhost\n    port: 5672\n    username: lersosa\n    password: Zcx@223852//\n\n  # redis通用配置 子服务可以自行配置进行覆盖\n  data:\n    redis:\n      host: localhost\n      port: 6379\n      # redis 密码必须配置\n      password: Zcx@223852//\n      database: 0\n      # 需要使用数字\n      timeout: 10000\n      ssl.enabled: false\n\n# redisson 配置\nredisson:\n  # redis key前缀\n  keyPrefix:\n  # 线程池数量\n  threads: 4\n  # Netty线程池数量\n  nettyThreads: 8\n  # 单节点配置\n  singleServerConfig:\n    # 客户端名称\n    clientName: ${spring.application.name}\n    # 最小空闲连接数\n    connectionMinimumIdleSize: 8\n    # 连接池大小\n    connectionPoolSize: 32\n    # 连接空闲超时，单位：毫秒\n    idleConnectionTimeout: 10000\n    # 命令等待超时，单位：毫秒\n    timeout: 3000\n    # 发布和订阅连接池大小\n    subscriptionConnectionPoolSize: 50\n\n# 分布式锁 lock4j 全局配置\nlock4j:\n  # 获取分布式锁超时时间，默认为 3000 毫秒\n  acquire-timeout: 3000\n  # 分布式锁的超时时间，默认为 30 秒\n  expire: 30000\n\n# 暴露监控端点\nmanagement:\n  endpoints:\n    web:\n      exposure:\n        include: \'*\'\n  endpoint:\n    health:\n      show-details: ALWAYS\n    logfile:\n      external-file: ./logs/${spring.application.name}/console.log\n\n# 日志配置\nlogging:\n  level:\n    org.springframework: warn\n    org.apache.dubbo: warn\n    com.alibaba.nacos: warn\n    com.alibaba.cloud.sentinel: warn\n    org.mybatis.spring.mapper: error\n    org.apache.dubbo.config: error\n    # 临时处理 spring 调整日志级别导致启动警告问题 不影响使用等待 alibaba 适配\n    org.springframework.context.support.PostProcessorRegistrationDelegate: error\n  config: classpath:logback-plus.xml\n\n# Sa-Token配置\nsa-token:\n  # token名称 (同时也是cookie名称)\n  token-name: Authorization\n  # 开启内网服务调用鉴权(不允许越过gateway访问内网服务 保障服务安全)\n  check-same-token: true\n  # 是否允许同一账号并发登录 (为true时允许一起登录, 为false时新登录挤掉旧登录)\n  is-concurrent: true\n  # 在多人登录同一账号时，是否共用一个token (为true时所有登录共用一个token, 为false时每次登录新建一个token)\n  is-share: false\n  # jwt秘钥\n  jwt-secret-key: abcdefghijklmnopqrstuvwxyz\n\n# MyBatisPlus配置\n# https://baomidou.com/config/\nmybatis-plus:\n  # 多包名使用 例如 leyramu.framework.lersosa.**.mapper,org.xxx.**.mapper\n  mapperPackage: leyramu.framework.lersosa.**.mapper\n  # 对应的 XML 文件位置\n  mapperLocations: classpath*:mapper/**/*Mapper.xml\n  # 实体扫描，多个package用逗号或者分号分隔\n  typeAliasesPackage: leyramu.framework.lersosa.**.domain\n  global-config:\n    dbConfig:\n      # 主键类型\n      # AUTO 自增 NONE 空 INPUT 用户输入 ASSIGN_ID 雪花 ASSIGN_UUID 唯一 UUID\n      # 如需改为自增 需要将数据库表全部设置为自增\n      idType: ASSIGN_ID\n\n# 数据加密\nmybatis-encryptor:\n  # 是否开启加密\n  enable: false\n  # 默认加密算法\n  algorithm: BASE64\n  # 编码方式 BASE64/HEX。默认BASE64\n  encode: BASE64\n  # 安全秘钥 对称算法的秘钥 如：AES，SM4\n  password:\n  # 公私钥 非对称算法的公私钥 如：SM2，RSA\n  publicKey:\n  privateKey:\n\n# api接口加密\napi-decrypt:\n  # 是否开启全局接口加密\n  enabled: true\n  # AES 加密头标识\n  headerFlag: encrypt-key\n  # 响应加密公钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端解密私钥 MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAmc3CuPiGL/LcIIm7zryCEIbl1SPzBkr75E2VMtxegyZ1lYRD+7TZGAPkvIsBcaMs6Nsy0L78n2qh+lIZMpLH8wIDAQABAkEAk82Mhz0tlv6IVCyIcw/s3f0E+WLmtPFyR9/WtV3Y5aaejUkU60JpX4m5xNR2VaqOLTZAYjW8Wy0aXr3zYIhhQQIhAMfqR9oFdYw1J9SsNc+CrhugAvKTi0+BF6VoL6psWhvbAiEAxPPNTmrkmrXwdm/pQQu3UOQmc2vCZ5tiKpW10CgJi8kCIFGkL6utxw93Ncj4exE/gPLvKcT+1Emnoox+O9kRXss5AiAMtYLJDaLEzPrAWcZeeSgSIzbL+ecokmFKSDDcRske6QIgSMkHedwND1olF8vlKsJUGK3BcdtM8w4Xq7BpSBwsloE=\n  publicKey: MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAJnNwrj4hi/y3CCJu868ghCG5dUj8wZK++RNlTLcXoMmdZWEQ/u02RgD5LyLAXGjLOjbMtC+/J9qofpSGTKSx/MCAwEAAQ==\n  # 请求解密私钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端加密公钥 MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAKoR8mX0rGKLqzcWmOzbfj64K8ZIgOdHnzkXSOVOZbFu/TJhZ7rFAN+eaGkl3C4buccQd/EjEsj9ir7ijT7h96MCAwEAAQ==\n  privateKey: MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAqhHyZfSsYourNxaY7Nt+PrgrxkiA50efORdI5U5lsW79MmFnusUA355oaSXcLhu5xxB38SMSyP2KvuKNPuH3owIDAQABAkAfoiLyL+Z4lf4Myxk6xUDgLaWGximj20CUf+5BKKnlrK+Ed8gAkM0HqoTt2UZwA5E2MzS4EI2gjfQhz5X28uqxAiEA3wNFxfrCZlSZHb0gn2zDpWowcSxQAgiCstxGUoOqlW8CIQDDOerGKH5OmCJ4Z21v+F25WaHYPxCFMvwxpcw99EcvDQIgIdhDTIqD2jfYjPTY8Jj3EDGPbH2HHuffvflECt3Ek60CIQCFRlCkHpi7hthhYhovyloRYsM+IS9h/0BzlEAuO0ktMQIgSPT3aFAgJYwKpqRYKlLDVcflZFCKY7u3UP8iWi1Qw0Y=\n\n# 防止XSS攻击\nxss:\n  enabled: true\n  excludeUrls:\n    - /system/notice\n    - /workflow/model/save\n    - /workflow/model/editModelXml\n\n# 接口文档配置\nspringdoc:\n  api-docs:\n    # 是否开启接口文档\n    enabled: true\n#  swagger-ui:\n#    # 持久化认证数据\n#    persistAuthorization: true\n  info:\n    # 标题\n    title: \'标题：Lersosa 微服务权限管理系统_接口文档\'\n    # 描述\n    description: \'描述：微服务权限管理系统, 具体包括XXX,XXX模块...\'\n    # 版本\n    version: \'版本号：系统版本...\'\n    # 作者信息\n    contact:\n      name: Miraitowa_zcx\n      email: 2038322151@qq.com\n      url: https://github.com/Leyramu/Lersosa\n  components:\n    # 鉴权方式配置\n    security-schemes:\n      apiKey:\n        type: APIKEY\n        in: HEADER\n        name: ${sa-token.token-name}\n\n# seata配置\nseata:\n  # 是否启用\n  enabled: true\n  # Seata 应用编号，默认为应用名\n  application-id: ${spring.application.name}\n  # Seata 事务组编号，用于 TC 集群名\n  tx-service-group: ${spring.application.name}-group\n\n# 多租户配置\ntenant:\n  # 是否开启\n  enable: true\n  # 排除表\n  excludes:\n    - sys_menu\n    - sys_tenant\n    - sys_tenant_package\n    - sys_role_dept\n    - sys_role_menu\n    - sys_user_post\n    - sys_user_role\n    - sys_client\n    - sys_oss_config\n', '855288ef1c0ea93fa25d64547ef5b060', '2022-01-09 15:18:55', '2025-08-03 12:39:36', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', '通用配置基础配置', '', '', 'yaml', '', '');
+INSERT INTO `config_info` VALUES (1, 'application-common.yml', 'DEFAULT_GROUP', 'server:\n  # undertow 配置\n  undertow:\n    # HTTP post内容的最大大小。当值为-1时，默认值为大小是无限的\n    max-http-post-size: -1\n    # 以下的配置会影响buffer,这些buffer会用于服务器连接的IO操作,有点类似netty的池化内存管理\n    # 每块buffer的空间大小,越小的空间被利用越充分\n    buffer-size: 512\n    # 是否分配的直接内存\n    direct-buffers: true\n    threads:\n      # 设置IO线程数, 它主要执行非阻塞的任务,它们会负责多个连接, 默认设置每个CPU核心一个线程\n      io: 8\n      # 阻塞任务线程池, 当执行类似servlet请求阻塞操作, undertow会从这个线程池中取得线程,它的值设置取决于系统的负载\n      worker: 256\n\ndubbo:\n  application:\n    # 关闭qos端口避免单机多生产者端口冲突 如需使用自行开启\n    qos-enable: false\n  protocol:\n    # 如需使用 Triple 3.0 新协议 可查看官方文档\n    # 使用 dubbo 协议通信\n    name: dubbo\n    # dubbo 协议端口(-1表示自增端口,从20880开始)\n    port: -1\n    # 指定dubbo协议注册ip\n    # host: 192.168.0.100\n  # 消费者相关配置\n  consumer:\n    # 超时时间\n    timeout: 3000\n  # 自定义配置\n  custom:\n    # 全局请求log\n    request-log: true\n    # info 基础信息 param 参数信息 full 全部\n    log-level: info\n\nspring:\n  threads:\n    # 开启虚拟线程 仅jdk21可用\n    virtual:\n      enabled: true\n  # 资源信息\n  messages:\n    # 国际化资源文件路径\n    basename: i18n/messages\n  servlet:\n    multipart:\n      # 整个请求大小限制\n      max-request-size: 20MB\n      # 上传单个文件大小限制\n      max-file-size: 10MB\n  mvc:\n    # 设置静态资源路径 防止所有请求都去查静态资源\n    static-path-pattern: /static/**\n    format:\n      date-time: yyyy-MM-dd HH:mm:ss\n  #jackson配置\n  jackson:\n    # 日期格式化\n    date-format: yyyy-MM-dd HH:mm:ss\n    serialization:\n      # 格式化输出\n      INDENT_OUTPUT: false\n      # 忽略无法转换的对象\n      fail_on_empty_beans: false\n    deserialization:\n      # 允许对象忽略json中不存在的属性\n      fail_on_unknown_properties: false\n  cloud:\n    nacos:\n      discovery:\n        metadata:\n          # admin 监控账号密码\n          username: lersosa\n          userpassword: Zcx@223852//\n    # sentinel 配置\n    sentinel:\n      # sentinel 开关\n      enabled: true\n      transport:\n        # dashboard控制台服务名 用于服务发现\n        # 如无此配置将默认使用下方 dashboard 配置直接注册\n        # server-name: lersosa-visual-sentinel\n        # 客户端指定注册的ip 用于多网卡ip不稳点使用\n        # client-ip:\n        # 控制台地址 从1.3.0开始使用 server-name 注册\n        dashboard: localhost:8718\n\n    bus:\n      id: ${spring.application.name}\n      base-packages: leyramu.framework.lersosa.**.event\n  # 消息总线 也可以使用 kafka 参考 spring-cloud-bus 用法\n  rabbitmq:\n    host: localhost\n    port: 5672\n    username: lersosa\n    password: Zcx@223852//\n\n  # redis通用配置 子服务可以自行配置进行覆盖\n  data:\n    redis:\n      host: localhost\n      port: 6379\n      # redis 密码必须配置\n      password: Zcx@223852//\n      database: 0\n      # 需要使用数字\n      timeout: 10000\n      ssl.enabled: false\n\n# redisson 配置\nredisson:\n  # redis key前缀\n  keyPrefix:\n  # 线程池数量\n  threads: 4\n  # Netty线程池数量\n  nettyThreads: 8\n  # 单节点配置\n  singleServerConfig:\n    # 客户端名称\n    clientName: ${spring.application.name}\n    # 最小空闲连接数\n    connectionMinimumIdleSize: 8\n    # 连接池大小\n    connectionPoolSize: 32\n    # 连接空闲超时，单位：毫秒\n    idleConnectionTimeout: 10000\n    # 命令等待超时，单位：毫秒\n    timeout: 3000\n    # 发布和订阅连接池大小\n    subscriptionConnectionPoolSize: 50\n\n# 分布式锁 lock4j 全局配置\nlock4j:\n  # 获取分布式锁超时时间，默认为 3000 毫秒\n  acquire-timeout: 3000\n  # 分布式锁的超时时间，默认为 30 秒\n  expire: 30000\n\n# 暴露监控端点\nmanagement:\n  endpoints:\n    web:\n      exposure:\n        include: \'*\'\n  endpoint:\n    health:\n      show-details: ALWAYS\n    logfile:\n      external-file: ./logs/${spring.application.name}/console.log\n\n# 日志配置\nlogging:\n  level:\n    org.springframework: warn\n    org.apache.dubbo: warn\n    com.alibaba.nacos: warn\n    com.alibaba.cloud.sentinel: warn\n    org.mybatis.spring.mapper: error\n    org.apache.dubbo.config: error\n    # 临时处理 spring 调整日志级别导致启动警告问题 不影响使用等待 alibaba 适配\n    org.springframework.context.support.PostProcessorRegistrationDelegate: error\n  config: classpath:logback-plus.xml\n\n# Sa-Token配置\nsa-token:\n  # token名称 (同时也是cookie名称)\n  token-name: Authorization\n  # 开启内网服务调用鉴权(不允许越过gateway访问内网服务 保障服务安全)\n  check-same-token: true\n  # 是否允许同一账号并发登录 (为true时允许一起登录, 为false时新登录挤掉旧登录)\n  is-concurrent: true\n  # 在多人登录同一账号时，是否共用一个token (为true时所有登录共用一个token, 为false时每次登录新建一个token)\n  is-share: false\n  # jwt秘钥\n  jwt-secret-key: abcdefghijklmnopqrstuvwxyz\n\n# MyBatisPlus配置\n# https://baomidou.com/config/\nmybatis-plus:\n  # 多包名使用 例如 leyramu.framework.lersosa.**.mapper,org.xxx.**.mapper\n  mapperPackage: leyramu.framework.lersosa.**.mapper\n  # 对应的 XML 文件位置\n  mapperLocations: classpath*:mapper/**/*Mapper.xml\n  # 实体扫描，多个package用逗号或者分号分隔\n  typeAliasesPackage: leyramu.framework.lersosa.**.domain\n  global-config:\n    dbConfig:\n      # 主键类型\n      # AUTO 自增 NONE 空 INPUT 用户输入 ASSIGN_ID 雪花 ASSIGN_UUID 唯一 UUID\n      # 如需改为自增 需要将数据库表全部设置为自增\n      idType: ASSIGN_ID\n\n# 数据加密\nmybatis-encryptor:\n  # 是否开启加密\n  enable: false\n  # 默认加密算法\n  algorithm: BASE64\n  # 编码方式 BASE64/HEX。默认BASE64\n  encode: BASE64\n  # 安全秘钥 对称算法的秘钥 如：AES，SM4\n  password:\n  # 公私钥 非对称算法的公私钥 如：SM2，RSA\n  publicKey:\n  privateKey:\n\n# api接口加密\napi-decrypt:\n  # 是否开启全局接口加密\n  enabled: true\n  # AES 加密头标识\n  headerFlag: encrypt-key\n  # 响应加密公钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端解密私钥 MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAmc3CuPiGL/LcIIm7zryCEIbl1SPzBkr75E2VMtxegyZ1lYRD+7TZGAPkvIsBcaMs6Nsy0L78n2qh+lIZMpLH8wIDAQABAkEAk82Mhz0tlv6IVCyIcw/s3f0E+WLmtPFyR9/WtV3Y5aaejUkU60JpX4m5xNR2VaqOLTZAYjW8Wy0aXr3zYIhhQQIhAMfqR9oFdYw1J9SsNc+CrhugAvKTi0+BF6VoL6psWhvbAiEAxPPNTmrkmrXwdm/pQQu3UOQmc2vCZ5tiKpW10CgJi8kCIFGkL6utxw93Ncj4exE/gPLvKcT+1Emnoox+O9kRXss5AiAMtYLJDaLEzPrAWcZeeSgSIzbL+ecokmFKSDDcRske6QIgSMkHedwND1olF8vlKsJUGK3BcdtM8w4Xq7BpSBwsloE=\n  publicKey: MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAJnNwrj4hi/y3CCJu868ghCG5dUj8wZK++RNlTLcXoMmdZWEQ/u02RgD5LyLAXGjLOjbMtC+/J9qofpSGTKSx/MCAwEAAQ==\n  # 请求解密私钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端加密公钥 MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAKoR8mX0rGKLqzcWmOzbfj64K8ZIgOdHnzkXSOVOZbFu/TJhZ7rFAN+eaGkl3C4buccQd/EjEsj9ir7ijT7h96MCAwEAAQ==\n  privateKey: MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAqhHyZfSsYourNxaY7Nt+PrgrxkiA50efORdI5U5lsW79MmFnusUA355oaSXcLhu5xxB38SMSyP2KvuKNPuH3owIDAQABAkAfoiLyL+Z4lf4Myxk6xUDgLaWGximj20CUf+5BKKnlrK+Ed8gAkM0HqoTt2UZwA5E2MzS4EI2gjfQhz5X28uqxAiEA3wNFxfrCZlSZHb0gn2zDpWowcSxQAgiCstxGUoOqlW8CIQDDOerGKH5OmCJ4Z21v+F25WaHYPxCFMvwxpcw99EcvDQIgIdhDTIqD2jfYjPTY8Jj3EDGPbH2HHuffvflECt3Ek60CIQCFRlCkHpi7hthhYhovyloRYsM+IS9h/0BzlEAuO0ktMQIgSPT3aFAgJYwKpqRYKlLDVcflZFCKY7u3UP8iWi1Qw0Y=\n\n# 防止XSS攻击\nxss:\n  enabled: true\n  excludeUrls:\n    - /system/notice\n    - /workflow/model/save\n    - /workflow/model/editModelXml\n\n# 接口文档配置\nspringdoc:\n  api-docs:\n    # 是否开启接口文档\n    enabled: true\n#  swagger-ui:\n#    # 持久化认证数据\n#    persistAuthorization: true\n  info:\n    # 标题\n    title: \'标题：Lersosa 微服务权限管理系统_接口文档\'\n    # 描述\n    description: \'描述：微服务权限管理系统, 具体包括XXX,XXX模块...\'\n    # 版本\n    version: \'版本号：系统版本...\'\n    # 作者信息\n    contact:\n      name: Miraitowa_zcx\n      email: 2038322151@qq.com\n      url: https://github.com/Leyramu/Lersosa\n  components:\n    # 鉴权方式配置\n    security-schemes:\n      apiKey:\n        type: APIKEY\n        in: HEADER\n        name: ${sa-token.token-name}\n\n# seata配置\nseata:\n  # 是否启用\n  enabled: true\n  # Seata 应用编号，默认为应用名\n  application-id: ${spring.application.name}\n  # Seata 事务组编号，用于 TC 集群名\n  tx-service-group: ${spring.application.name}-group\n\n# 多租户配置\ntenant:\n  # 是否开启\n  enable: true\n  # 排除表\n  excludes:\n    - sys_menu\n    - sys_tenant\n    - sys_tenant_package\n    - sys_role_dept\n    - sys_dept_closure\n    - sys_role_menu\n    - sys_user_post\n    - sys_user_role\n    - sys_client\n    - sys_oss_config\n', '855288ef1c0ea93fa25d64547ef5b060', '2022-01-09 15:18:55', '2025-08-03 12:39:36', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', '通用配置基础配置', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (2, 'datasource.yml', 'DEFAULT_GROUP', 'datasource:\n  system-master:\n    # jdbc 所有参数配置参考 https://lionli.blog.csdn.net/article/details/122018562\n    # rewriteBatchedStatements=true 批处理优化 大幅提升批量插入更新删除性能\n    url: jdbc:mysql://localhost:3306/lersosa-cloud?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  gen:\n    url: jdbc:mysql://localhost:3306/lersosa-cloud?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  job:\n    url: jdbc:mysql://localhost:3306/lersosa-job?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  workflow:\n    url: jdbc:mysql://localhost:3306/lersosa-workflow?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true&nullCatalogMeansCurrent=true\n    username: root\n    password: Zcx@223852//\n  sharding:\n    url: jdbc:mysql://localhost:3307/lersosa-cloud?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true&nullCatalogMeansCurrent=true\n    username: root\n    password: Zcx@223852//\n#  system-oracle:\n#    url: jdbc:oracle:thin:@//localhost:1521/XE\n#    username: ROOT\n#    password: password\n#  system-postgres:\n#    url: jdbc:postgresql://localhost:5432/postgres?useUnicode=true&characterEncoding=utf8&useSSL=true&autoReconnect=true&reWriteBatchedInserts=true\n#    username: root\n#    password: password\n\nspring:\n  datasource:\n    type: com.zaxxer.hikari.HikariDataSource\n    # 动态数据源文档 https://www.kancloud.cn/tracy5546/dynamic-datasource/content\n    dynamic:\n      # 性能分析插件(有性能损耗 不建议生产环境使用)\n      p6spy: true\n      # 开启seata代理，开启后默认每个数据源都代理，如果某个不需要代理可单独关闭\n      seata: ${seata.enabled}\n      # 严格模式 匹配不到数据源则报错\n      strict: true\n      hikari:\n        # 最大连接池数量\n        maxPoolSize: 20\n        # 最小空闲线程数量\n        minIdle: 10\n        # 配置获取连接等待超时的时间\n        connectionTimeout: 30000\n        # 校验超时时间\n        validationTimeout: 5000\n        # 空闲连接存活最大时间，默认10分钟\n        idleTimeout: 600000\n        # 此属性控制池中连接的最长生命周期，值0表示无限生命周期，默认30分钟\n        maxLifetime: 1800000\n        # 多久检查一次连接的活性\n        keepaliveTime: 30000\n', '971bc356a6bc7c2a1853d837e8c34bc3', '2022-01-09 15:19:07', '2025-08-07 22:57:42', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', '数据源配置', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (3, 'lersosa-gateway-api.yml', 'GATEWAY_GROUP', '# 安全配置\nsecurity:\n  # 不校验白名单\n  ignore:\n    whites:\n      - /python/*\n      - /auth/code\n      - /auth/logout\n      - /auth/login\n      - /auth/binding/*\n      - /auth/social/callback\n      - /auth/register\n      - /auth/tenant/list\n      - /resource/sms/code\n      - /resource/sse/close\n      - /doc/swagger-ui/*\n      - /v3/api-docs/**\n      - /*/v3/api-docs/**\n      - /*/error\n      - /csrf\n\nspring:\n  cloud:\n    # 网关配置\n    gateway:\n      # 打印请求日志(自定义)\n      requestLog: true\n      discovery:\n        locator:\n          lowerCaseServiceId: true\n          enabled: true\n      routes:\n        # 认证中心\n        - id: lersosa-service-auth\n          uri: lb://lersosa-service-auth\n          predicates:\n            - Path=/auth/**\n          filters:\n            - StripPrefix=1\n        # 代码生成\n        - id: lersosa-service-gen\n          uri: lb://lersosa-service-gen\n          predicates:\n            - Path=/tool/**\n          filters:\n            - StripPrefix=1\n        # 系统模块\n        - id: lersosa-service-system\n          uri: lb://lersosa-service-system\n          predicates:\n            - Path=/system/**,/monitor/**\n          filters:\n            - StripPrefix=1\n        # 资源服务\n        - id: lersosa-service-resource\n          uri: lb://lersosa-service-resource\n          predicates:\n            - Path=/resource/**\n          filters:\n            - StripPrefix=1\n        # workflow服务\n        - id: lersosa-service-workflow\n          uri: lb://lersosa-service-workflow\n          predicates:\n            - Path=/workflow/**\n          filters:\n            - StripPrefix=1\n        # 演示服务\n        - id: lersosa-service-demo\n          uri: lb://lersosa-service-demo\n          predicates:\n            - Path=/demo/**\n          filters:\n            - StripPrefix=1\n        # MQ演示服务\n        - id: lersosa-service-test-mq\n          uri: lb://lersosa-service-test-mq\n          predicates:\n            - Path=/test-mq/**\n          filters:\n            - StripPrefix=1\n        # pulsar 服务\n        - id: lersosa-service-pulsar\n          uri: lb://lersosa-service-pulsar\n          predicates:\n            - Path=/pulsar/**\n          filters:\n            - StripPrefix=1\n        # python 服务\n        - id: lersosa-service-python\n          uri: lb://lersosa-service-python\n          predicates:\n            - Path=/python/**\n          filters:\n            - StripPrefix=1\n\n    # sentinel 配置\n    sentinel:\n      filter:\n        enabled: false\n      # nacos配置持久化\n      datasource:\n        ds1:\n          nacos:\n            server-addr: ${spring.cloud.nacos.server-addr}\n            dataId: sentinel-${spring.application.name}.json\n            groupId: ${spring.cloud.nacos.config.group}\n            username: ${spring.cloud.nacos.username}\n            password: ${spring.cloud.nacos.password}\n            namespace: ${spring.profiles.active}\n            data-type: json\n            rule-type: gw-flow\n\n  datasource:\n    dynamic:\n      primary: system-master\n      strict: true\n      p6spy: true\n      seata: ${seata.enabled}\n      hikari:\n        maxPoolSize: 20\n        minIdle: 10\n        connectionTimeout: 30000\n        validationTimeout: 5000\n        idleTimeout: 600000\n        maxLifetime: 1800000\n        keepaliveTime: 30000\n      datasource:\n        system-master:\n          url: ${datasource.system-master.url}\n          username: ${datasource.system-master.username}\n          password: ${datasource.system-master.password}\n        gen:\n          url: ${datasource.gen.url}\n          username: ${datasource.gen.username}\n          password: ${datasource.gen.password}\n        job:\n          url: ${datasource.job.url}\n          username: ${datasource.job.username}\n          password: ${datasource.job.password}\n        workflow:\n          url: ${datasource.workflow.url}\n          username: ${datasource.workflow.username}\n          password: ${datasource.workflow.password}\n        sharding:\n          url: ${datasource.sharding.url}\n          username: ${datasource.sharding.username}\n          password: ${datasource.sharding.password}\n\nspringdoc:\n  api-docs:\n    ignore:\n      excludes:\n        - lersosa-gateway-api\n        - lersosa-service-job\n        - lersosa-service-grpc\n        - lersosa-service-workflow\n', '5016e95977039e482d5bee90b304ad16', '2022-01-09 15:19:43', '2025-08-03 15:54:16', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', '网关模块', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (4, 'lersosa-service-auth.yml', 'SERVICE_GROUP', '# 安全配置\nsecurity:\n  # 验证码\n  captcha:\n    # 是否开启验证码\n    enabled: true\n    # 验证码类型 math 数组计算 char 字符验证\n    type: MATH\n    # line 线段干扰 circle 圆圈干扰 shear 扭曲干扰\n    category: CIRCLE\n    # 数字验证码位数\n    numberLength: 1\n    # 字符验证码长度\n    charLength: 4\n\n# 用户配置\nuser:\n  password:\n    # 密码最大错误次数\n    maxRetryCount: 5\n    # 密码锁定时间（默认10分钟）\n    lockTime: 10\n\n# 三方授权\njustauth:\n  # 前端外网访问地址\n  address: http://localhost:80\n  type:\n    maxkey:\n      # maxkey 服务器地址\n      # 注意 如下均配置均不需要修改 maxkey 已经内置好了数据\n      server-url: http://sso.maxkey.top\n      client-id: 876892492581044224\n      client-secret: x1Y5MTMwNzIwMjMxNTM4NDc3Mzche8\n      redirect-uri: ${justauth.address}/social-callback?source=maxkey\n    topiam:\n      # topiam 服务器地址\n      server-url: http://127.0.0.1:1989/api/v1/authorize/y0q************spq***********8ol\n      client-id: 449c4*********937************759\n      client-secret: ac7***********1e0************28d\n      redirect-uri: ${justauth.address}/social-callback?source=topiam\n      scopes: [ openid, email, phone, profile ]\n    qq:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=qq\n      union-id: false\n    weibo:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=weibo\n    gitee:\n      client-id: 91436b7940090d09c72c7daf85b959cfd5f215d67eea73acbf61b6b590751a98\n      client-secret: 02c6fcfd70342980cd8dd2f2c06c1a350645d76c754d7a264c4e125f9ba915ac\n      redirect-uri: ${justauth.address}/social-callback?source=gitee\n    dingtalk:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=dingtalk\n    baidu:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=baidu\n    csdn:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=csdn\n    coding:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=coding\n      coding-group-name: xx\n    oschina:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=oschina\n    alipay_wallet:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=alipay_wallet\n      alipay-public-key: MIIB**************DAQAB\n    wechat_open:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_open\n    wechat_mp:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_mp\n    wechat_enterprise:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_enterprise\n      agent-id: 1000002\n    gitlab:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=gitlab\n', '362c28d8864626b864d682b5f1c4a73a', '2022-01-09 15:19:43', '2025-08-03 12:36:56', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', '认证中心', '', '', 'yaml', '', '');
@@ -102,7 +102,7 @@ INSERT INTO `config_info` VALUES (11, 'sentinel-lersosa-gateway-api.json', 'GATE
 INSERT INTO `config_info` VALUES (12, 'lersosa-visual-seata.properties', 'VISUAL_GROUP', 'service.vgroupMapping.lersosa-service-auth-group=default\nservice.vgroupMapping.lersosa-service-system-group=default\nservice.vgroupMapping.lersosa-service-resource-group=default\nservice.vgroupMapping.lersosa-service-workflow-group=default\nservice.vgroupMapping.lersosa-service-grpc-group=default\nservice.vgroupMapping.lersosa-service-pulsar-group=default\nservice.vgroupMapping.lersosa-service-ai-group=default\n\nservice.enableDegrade=false\nservice.disableGlobalTransaction=false\nseata.service.vgroup-mapping.lersosa-service-grpc-group=default\nseata.service.vgroup-mapping.lersosa-service-pulsar-group=default\n\n#Transaction storage configuration, only for the server. The file, DB, and redis configuration values are optional.\nstore.mode=db\nstore.lock.mode=db\nstore.session.mode=db\n#Used for password encryption\n#store.publicKey=\n\n#These configurations are required if the `store mode` is `db`. If `store.mode,store.lock.mode,store.session.mode` are not equal to `db`, you can remove the configuration block.\nstore.db.datasource=hikari\nstore.db.dbType=mysql\nstore.db.driverClassName=com.mysql.cj.jdbc.Driver\nstore.db.url=jdbc:mysql://localhost:3306/lersosa-seata?useUnicode=true&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\nstore.db.user=root\nstore.db.password=Zcx@223852//\nstore.db.minConn=5\nstore.db.maxConn=30\nstore.db.globalTable=global_table\nstore.db.branchTable=branch_table\nstore.db.distributedLockTable=distributed_lock\nstore.db.queryLimit=100\nstore.db.lockTable=lock_table\nstore.db.maxWait=5000\n\n# redis 模式 store.mode=redis 开启 (控制台查询功能有限,不影响实际执行功能)\n# store.redis.host=127.0.0.1\n# store.redis.port=6379\n# 最大连接数\n# store.redis.maxConn=10\n# 最小连接数\n# store.redis.minConn=1\n# store.redis.database=0\n# store.redis.password=\n# store.redis.queryLimit=100\n\n#Transaction rule configuration, only for the server\nserver.recovery.committingRetryPeriod=1000\nserver.recovery.asynCommittingRetryPeriod=1000\nserver.recovery.rollbackingRetryPeriod=1000\nserver.recovery.timeoutRetryPeriod=1000\nserver.maxCommitRetryTimeout=-1\nserver.maxRollbackRetryTimeout=-1\nserver.rollbackRetryTimeoutUnlockEnable=false\nserver.distributedLockExpireTime=10000\nserver.xaerNotaRetryTimeout=60000\nserver.session.branchAsyncQueueSize=5000\nserver.session.enableBranchAsyncRemove=false\n\n#Transaction rule configuration, only for the client\nclient.rm.asyncCommitBufferLimit=10000\nclient.rm.lock.retryInterval=10\nclient.rm.lock.retryTimes=30\nclient.rm.lock.retryPolicyBranchRollbackOnConflict=true\nclient.rm.reportRetryCount=5\nclient.rm.tableMetaCheckEnable=true\nclient.rm.tableMetaCheckerInterval=60000\nclient.rm.sqlParserType=druid\nclient.rm.reportSuccessEnable=false\nclient.rm.sagaBranchRegisterEnable=false\nclient.rm.sagaJsonParser=fastjson\nclient.rm.tccActionInterceptorOrder=-2147482648\nclient.tm.commitRetryCount=5\nclient.tm.rollbackRetryCount=5\nclient.tm.defaultGlobalTransactionTimeout=60000\nclient.tm.degradeCheck=false\nclient.tm.degradeCheckAllowTimes=10\nclient.tm.degradeCheckPeriod=2000\nclient.tm.interceptorOrder=-2147482648\nclient.undo.dataValidation=true\nclient.undo.logSerialization=jackson\nclient.undo.onlyCareUpdateColumns=true\nserver.undo.logSaveDays=7\nserver.undo.logDeletePeriod=86400000\nclient.undo.logTable=undo_log\nclient.undo.compress.enable=true\nclient.undo.compress.type=zip\nclient.undo.compress.threshold=64k\n\n#For TCC transaction mode\ntcc.fence.logTableName=tcc_fence_log\ntcc.fence.cleanPeriod=1h\n\n#Log rule configuration, for client and server\nlog.exceptionRate=100\n\n#Metrics configuration, only for the server\nmetrics.enabled=false\nmetrics.registryType=compact\nmetrics.exporterList=prometheus\nmetrics.exporterPrometheusPort=9898\n\n#For details about configuration items, see https://seata.io/zh-cn/docs/user/configurations.html\n#Transport configuration, for client and server\ntransport.type=TCP\ntransport.server=NIO\ntransport.heartbeat=true\ntransport.enableTmClientBatchSendRequest=false\ntransport.enableRmClientBatchSendRequest=true\ntransport.enableTcServerBatchSendResponse=false\ntransport.rpcRmRequestTimeout=30000\ntransport.rpcTmRequestTimeout=30000\ntransport.rpcTcRequestTimeout=30000\ntransport.threadFactory.bossThreadPrefix=NettyBoss\ntransport.threadFactory.workerThreadPrefix=NettyServerNIOWorker\ntransport.threadFactory.serverExecutorThreadPrefix=NettyServerBizHandler\ntransport.threadFactory.shareBossWorker=false\ntransport.threadFactory.clientSelectorThreadPrefix=NettyClientSelector\ntransport.threadFactory.clientSelectorThreadSize=1\ntransport.threadFactory.clientWorkerThreadPrefix=NettyClientWorkerThread\ntransport.threadFactory.bossThreadSize=1\ntransport.threadFactory.workerThreadSize=default\ntransport.shutdown.wait=3\ntransport.serialization=seata\ntransport.compressor=none\n', '46bdf69e08aa2f0122739ba76fae2530', '2022-01-09 15:21:02', '2025-08-07 23:13:24', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', 'seata配置文件', '', '', 'properties', '', '');
 INSERT INTO `config_info` VALUES (13, 'lersosa-visual-sentinel.yml', 'VISUAL_GROUP', 'spring:\n  mvc:\n    pathmatch:\n      # 修复 sentinel 控制台未适配 springboot 2.6 新路由方式\n      matching-strategy: ANT_PATH_MATCHER\n\nserver:\n  servlet:\n    encoding:\n      force: true\n      charset: UTF-8\n      enabled: true\n    session:\n      cookie:\n        name: sentinel_dashboard_cookie\n\nlogging:\n  level:\n    org.springframework.web: INFO\n\nauth:\n  enabled: true\n  filter:\n    exclude-urls: /,/auth/login,/auth/logout,/registry/machine,/version,/actuator,/actuator/**\n    exclude-url-suffixes: htm,html,js,css,map,ico,ttf,woff,png\n  username: sentinel\n  password: sentinel\n', '59055747c62f08cd2c38a6016d4b9227', '2022-01-09 15:21:02', '2025-08-03 12:36:00', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', 'sentinel控制台配置文件', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (14, 'lersosa-visual-snailjob.yml', 'VISUAL_GROUP', 'spring:\n  datasource:\n    type: com.zaxxer.hikari.HikariDataSource\n    driver-class-name: com.mysql.cj.jdbc.Driver\n    url: ${datasource.job.url}\n    username: ${datasource.job.username}\n    password: ${datasource.job.password}\n    hikari:\n      connection-timeout: 30000\n      validation-timeout: 5000\n      minimum-idle: 10\n      maximum-pool-size: 20\n      idle-timeout: 600000\n      max-lifetime: 900000\n      keepaliveTime: 30000\n  cloud:\n    nacos:\n      discovery:\n        metadata:\n          # 解决 er 服务有 context-path 无法监控问题\n          management.context-path: ${server.servlet.context-path}/actuator\n          # 监控账号密码\n          username: lersosa\n          userpassword: Zcx@223852//\n\n# snail-job 服务端配置\nsnail-job:\n  # 拉取重试数据的每批次的大小\n  retry-pull-page-size: 1000\n  # 拉取重试数据的每批次的大小\n  job-pull-page-size: 1000\n  # 服务端 netty 端口\n  netty-port: 17888\n  # 重试和死信表的分区总数\n  total-partition: 2\n  # 一个客户端每秒最多接收的重试数量指令\n  limiter: 1000\n  # 号段模式下步长配置\n  step: 100\n  # 日志保存时间(单位: day)\n  log-storage: 90\n  # 回调配置\n  callback:\n    #回调最大执行次数\n    max-count: 288\n    #间隔时间\n    trigger-interval: 900\n  retry-max-pull-count: 10\n', '48b4e04732a1f048180a2826c715a63d', '2022-01-09 15:21:02', '2025-08-03 12:36:17', 'nacos', '0:0:0:0:0:0:0:1', '', '106fdced-d95e-46db-b9f4-0abdce58a18b', 'SJ定时任务控制台', '', '', 'yaml', '', '');
-INSERT INTO `config_info` VALUES (101, 'application-common.yml', 'DEFAULT_GROUP', 'server:\n  # undertow 配置\n  undertow:\n    # HTTP post内容的最大大小。当值为-1时，默认值为大小是无限的\n    max-http-post-size: -1\n    # 以下的配置会影响buffer,这些buffer会用于服务器连接的IO操作,有点类似netty的池化内存管理\n    # 每块buffer的空间大小,越小的空间被利用越充分\n    buffer-size: 512\n    # 是否分配的直接内存\n    direct-buffers: true\n    threads:\n      # 设置IO线程数, 它主要执行非阻塞的任务,它们会负责多个连接, 默认设置每个CPU核心一个线程\n      io: 8\n      # 阻塞任务线程池, 当执行类似servlet请求阻塞操作, undertow会从这个线程池中取得线程,它的值设置取决于系统的负载\n      worker: 256\n\ndubbo:\n  application:\n    # 关闭qos端口避免单机多生产者端口冲突 如需使用自行开启\n    qos-enable: false\n  protocol:\n    # 如需使用 Triple 3.0 新协议 可查看官方文档\n    # 使用 dubbo 协议通信\n    name: dubbo\n    # dubbo 协议端口(-1表示自增端口,从20880开始)\n    port: -1\n    # 指定dubbo协议注册ip\n    # host: 192.168.0.100\n  # 消费者相关配置\n  consumer:\n    # 超时时间\n    timeout: 3000\n  # 自定义配置\n  custom:\n    # 全局请求log\n    request-log: true\n    # info 基础信息 param 参数信息 full 全部\n    log-level: info\n\nspring:\n  threads:\n    # 开启虚拟线程 仅jdk21可用\n    virtual:\n      enabled: true\n  # 资源信息\n  messages:\n    # 国际化资源文件路径\n    basename: i18n/messages\n  servlet:\n    multipart:\n      # 整个请求大小限制\n      max-request-size: 20MB\n      # 上传单个文件大小限制\n      max-file-size: 10MB\n  mvc:\n    # 设置静态资源路径 防止所有请求都去查静态资源\n    static-path-pattern: /static/**\n    format:\n      date-time: yyyy-MM-dd HH:mm:ss\n  #jackson配置\n  jackson:\n    # 日期格式化\n    date-format: yyyy-MM-dd HH:mm:ss\n    serialization:\n      # 格式化输出\n      INDENT_OUTPUT: false\n      # 忽略无法转换的对象\n      fail_on_empty_beans: false\n    deserialization:\n      # 允许对象忽略json中不存在的属性\n      fail_on_unknown_properties: false\n  cloud:\n    nacos:\n      discovery:\n        metadata:\n          # admin 监控账号密码\n          username: lersosa\n          userpassword: Zcx@223852//\n    # sentinel 配置\n    sentinel:\n      # sentinel 开关\n      enabled: true\n      transport:\n        # dashboard控制台服务名 用于服务发现\n        # 如无此配置将默认使用下方 dashboard 配置直接注册\n        # server-name: lersosa-visual-sentinel\n        # 客户端指定注册的ip 用于多网卡ip不稳点使用\n        # client-ip:\n        # 控制台地址 从1.3.0开始使用 server-name 注册\n        dashboard: lersosa-sentinel:8718\n\n    bus:\n      id: ${spring.application.name}\n      base-packages: leyramu.framework.lersosa.**.event\n  # 消息总线 也可以使用 kafka 参考 spring-cloud-bus 用法\n  rabbitmq:\n    host: lersosa-rabbitmq\n    port: 5672\n    username: lersosa\n    password: Zcx@223852//\n\n  # redis通用配置 子服务可以自行配置进行覆盖\n  data:\n    redis:\n      host: lersosa-redis\n      port: 6379\n      # redis 密码必须配置\n      password: Zcx@223852//\n      database: 0\n      # 需要使用数字\n      timeout: 10000\n      ssl.enabled: false\n\n# redisson 配置\nredisson:\n  # redis key前缀\n  keyPrefix:\n  # 线程池数量\n  threads: 4\n  # Netty线程池数量\n  nettyThreads: 8\n  # 单节点配置\n  singleServerConfig:\n    # 客户端名称\n    clientName: ${spring.application.name}\n    # 最小空闲连接数\n    connectionMinimumIdleSize: 8\n    # 连接池大小\n    connectionPoolSize: 32\n    # 连接空闲超时，单位：毫秒\n    idleConnectionTimeout: 10000\n    # 命令等待超时，单位：毫秒\n    timeout: 3000\n    # 发布和订阅连接池大小\n    subscriptionConnectionPoolSize: 50\n\n# 分布式锁 lock4j 全局配置\nlock4j:\n  # 获取分布式锁超时时间，默认为 3000 毫秒\n  acquire-timeout: 3000\n  # 分布式锁的超时时间，默认为 30 秒\n  expire: 30000\n\n# 暴露监控端点\nmanagement:\n  endpoints:\n    web:\n      exposure:\n        include: \'*\'\n  endpoint:\n    health:\n      show-details: ALWAYS\n    logfile:\n      external-file: ./logs/${spring.application.name}/console.log\n\n# 日志配置\nlogging:\n  level:\n    org.springframework: warn\n    org.apache.dubbo: warn\n    com.alibaba.nacos: warn\n    com.alibaba.cloud.sentinel: warn\n    org.mybatis.spring.mapper: error\n    org.apache.dubbo.config: error\n    # 临时处理 spring 调整日志级别导致启动警告问题 不影响使用等待 alibaba 适配\n    org.springframework.context.support.PostProcessorRegistrationDelegate: error\n  config: classpath:logback-plus.xml\n\n# Sa-Token配置\nsa-token:\n  # token名称 (同时也是cookie名称)\n  token-name: Authorization\n  # 开启内网服务调用鉴权(不允许越过gateway访问内网服务 保障服务安全)\n  check-same-token: true\n  # 是否允许同一账号并发登录 (为true时允许一起登录, 为false时新登录挤掉旧登录)\n  is-concurrent: true\n  # 在多人登录同一账号时，是否共用一个token (为true时所有登录共用一个token, 为false时每次登录新建一个token)\n  is-share: false\n  # jwt秘钥\n  jwt-secret-key: abcdefghijklmnopqrstuvwxyz\n\n# MyBatisPlus配置\n# https://baomidou.com/config/\nmybatis-plus:\n  # 多包名使用 例如 leyramu.framework.lersosa.**.mapper,org.xxx.**.mapper\n  mapperPackage: leyramu.framework.lersosa.**.mapper\n  # 对应的 XML 文件位置\n  mapperLocations: classpath*:mapper/**/*Mapper.xml\n  # 实体扫描，多个package用逗号或者分号分隔\n  typeAliasesPackage: leyramu.framework.lersosa.**.domain\n  global-config:\n    dbConfig:\n      # 主键类型\n      # AUTO 自增 NONE 空 INPUT 用户输入 ASSIGN_ID 雪花 ASSIGN_UUID 唯一 UUID\n      # 如需改为自增 需要将数据库表全部设置为自增\n      idType: ASSIGN_ID\n\n# 数据加密\nmybatis-encryptor:\n  # 是否开启加密\n  enable: false\n  # 默认加密算法\n  algorithm: BASE64\n  # 编码方式 BASE64/HEX。默认BASE64\n  encode: BASE64\n  # 安全秘钥 对称算法的秘钥 如：AES，SM4\n  password:\n  # 公私钥 非对称算法的公私钥 如：SM2，RSA\n  publicKey:\n  privateKey:\n\n# api接口加密\napi-decrypt:\n  # 是否开启全局接口加密\n  enabled: true\n  # AES 加密头标识\n  headerFlag: encrypt-key\n  # 响应加密公钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端解密私钥 MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAmc3CuPiGL/LcIIm7zryCEIbl1SPzBkr75E2VMtxegyZ1lYRD+7TZGAPkvIsBcaMs6Nsy0L78n2qh+lIZMpLH8wIDAQABAkEAk82Mhz0tlv6IVCyIcw/s3f0E+WLmtPFyR9/WtV3Y5aaejUkU60JpX4m5xNR2VaqOLTZAYjW8Wy0aXr3zYIhhQQIhAMfqR9oFdYw1J9SsNc+CrhugAvKTi0+BF6VoL6psWhvbAiEAxPPNTmrkmrXwdm/pQQu3UOQmc2vCZ5tiKpW10CgJi8kCIFGkL6utxw93Ncj4exE/gPLvKcT+1Emnoox+O9kRXss5AiAMtYLJDaLEzPrAWcZeeSgSIzbL+ecokmFKSDDcRske6QIgSMkHedwND1olF8vlKsJUGK3BcdtM8w4Xq7BpSBwsloE=\n  publicKey: MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAJnNwrj4hi/y3CCJu868ghCG5dUj8wZK++RNlTLcXoMmdZWEQ/u02RgD5LyLAXGjLOjbMtC+/J9qofpSGTKSx/MCAwEAAQ==\n  # 请求解密私钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端加密公钥 MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAKoR8mX0rGKLqzcWmOzbfj64K8ZIgOdHnzkXSOVOZbFu/TJhZ7rFAN+eaGkl3C4buccQd/EjEsj9ir7ijT7h96MCAwEAAQ==\n  privateKey: MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAqhHyZfSsYourNxaY7Nt+PrgrxkiA50efORdI5U5lsW79MmFnusUA355oaSXcLhu5xxB38SMSyP2KvuKNPuH3owIDAQABAkAfoiLyL+Z4lf4Myxk6xUDgLaWGximj20CUf+5BKKnlrK+Ed8gAkM0HqoTt2UZwA5E2MzS4EI2gjfQhz5X28uqxAiEA3wNFxfrCZlSZHb0gn2zDpWowcSxQAgiCstxGUoOqlW8CIQDDOerGKH5OmCJ4Z21v+F25WaHYPxCFMvwxpcw99EcvDQIgIdhDTIqD2jfYjPTY8Jj3EDGPbH2HHuffvflECt3Ek60CIQCFRlCkHpi7hthhYhovyloRYsM+IS9h/0BzlEAuO0ktMQIgSPT3aFAgJYwKpqRYKlLDVcflZFCKY7u3UP8iWi1Qw0Y=\n\n# 防止XSS攻击\nxss:\n  enabled: true\n  excludeUrls:\n    - /system/notice\n    - /workflow/model/save\n    - /workflow/model/editModelXml\n\n# 接口文档配置\nspringdoc:\n  api-docs:\n    # 是否开启接口文档\n    enabled: true\n#  swagger-ui:\n#    # 持久化认证数据\n#    persistAuthorization: true\n  info:\n    # 标题\n    title: \'标题：Lersosa 微服务权限管理系统_接口文档\'\n    # 描述\n    description: \'描述：微服务权限管理系统, 具体包括XXX,XXX模块...\'\n    # 版本\n    version: \'版本号：系统版本...\'\n    # 作者信息\n    contact:\n      name: Miraitowa_zcx\n      email: 2038322151@qq.com\n      url: https://github.com/Leyramu/Lersosa\n  components:\n    # 鉴权方式配置\n    security-schemes:\n      apiKey:\n        type: APIKEY\n        in: HEADER\n        name: ${sa-token.token-name}\n\n# seata配置\nseata:\n  # 是否启用\n  enabled: true\n  # Seata 应用编号，默认为应用名\n  application-id: ${spring.application.name}\n  # Seata 事务组编号，用于 TC 集群名\n  tx-service-group: ${spring.application.name}-group\n\n# 多租户配置\ntenant:\n  # 是否开启\n  enable: true\n  # 排除表\n  excludes:\n    - sys_menu\n    - sys_tenant\n    - sys_tenant_package\n    - sys_role_dept\n    - sys_role_menu\n    - sys_user_post\n    - sys_user_role\n    - sys_client\n    - sys_oss_config\n', '195bbe59c60a2f193a0a5d032f7f5cff', '2022-01-09 15:23:00', '2025-08-07 23:27:08', 'nacos', '0:0:0:0:0:0:0:1', '', '356d484c-399c-4a23-9419-e200e8edbff9', '通用配置基础配置', '', '', 'yaml', '', '');
+INSERT INTO `config_info` VALUES (101, 'application-common.yml', 'DEFAULT_GROUP', 'server:\n  # undertow 配置\n  undertow:\n    # HTTP post内容的最大大小。当值为-1时，默认值为大小是无限的\n    max-http-post-size: -1\n    # 以下的配置会影响buffer,这些buffer会用于服务器连接的IO操作,有点类似netty的池化内存管理\n    # 每块buffer的空间大小,越小的空间被利用越充分\n    buffer-size: 512\n    # 是否分配的直接内存\n    direct-buffers: true\n    threads:\n      # 设置IO线程数, 它主要执行非阻塞的任务,它们会负责多个连接, 默认设置每个CPU核心一个线程\n      io: 8\n      # 阻塞任务线程池, 当执行类似servlet请求阻塞操作, undertow会从这个线程池中取得线程,它的值设置取决于系统的负载\n      worker: 256\n\ndubbo:\n  application:\n    # 关闭qos端口避免单机多生产者端口冲突 如需使用自行开启\n    qos-enable: false\n  protocol:\n    # 如需使用 Triple 3.0 新协议 可查看官方文档\n    # 使用 dubbo 协议通信\n    name: dubbo\n    # dubbo 协议端口(-1表示自增端口,从20880开始)\n    port: -1\n    # 指定dubbo协议注册ip\n    # host: 192.168.0.100\n  # 消费者相关配置\n  consumer:\n    # 超时时间\n    timeout: 3000\n  # 自定义配置\n  custom:\n    # 全局请求log\n    request-log: true\n    # info 基础信息 param 参数信息 full 全部\n    log-level: info\n\nspring:\n  threads:\n    # 开启虚拟线程 仅jdk21可用\n    virtual:\n      enabled: true\n  # 资源信息\n  messages:\n    # 国际化资源文件路径\n    basename: i18n/messages\n  servlet:\n    multipart:\n      # 整个请求大小限制\n      max-request-size: 20MB\n      # 上传单个文件大小限制\n      max-file-size: 10MB\n  mvc:\n    # 设置静态资源路径 防止所有请求都去查静态资源\n    static-path-pattern: /static/**\n    format:\n      date-time: yyyy-MM-dd HH:mm:ss\n  #jackson配置\n  jackson:\n    # 日期格式化\n    date-format: yyyy-MM-dd HH:mm:ss\n    serialization:\n      # 格式化输出\n      INDENT_OUTPUT: false\n      # 忽略无法转换的对象\n      fail_on_empty_beans: false\n    deserialization:\n      # 允许对象忽略json中不存在的属性\n      fail_on_unknown_properties: false\n  cloud:\n    nacos:\n      discovery:\n        metadata:\n          # admin 监控账号密码\n          username: lersosa\n          userpassword: Zcx@223852//\n    # sentinel 配置\n    sentinel:\n      # sentinel 开关\n      enabled: true\n      transport:\n        # dashboard控制台服务名 用于服务发现\n        # 如无此配置将默认使用下方 dashboard 配置直接注册\n        # server-name: lersosa-visual-sentinel\n        # 客户端指定注册的ip 用于多网卡ip不稳点使用\n        # client-ip:\n        # 控制台地址 从1.3.0开始使用 server-name 注册\n        dashboard: lersosa-sentinel:8718\n\n    bus:\n      id: ${spring.application.name}\n      base-packages: leyramu.framework.lersosa.**.event\n  # 消息总线 也可以使用 kafka 参考 spring-cloud-bus 用法\n  rabbitmq:\n    host: lersosa-rabbitmq\n    port: 5672\n    username: lersosa\n    password: Zcx@223852//\n\n  # redis通用配置 子服务可以自行配置进行覆盖\n  data:\n    redis:\n      host: lersosa-redis\n      port: 6379\n      # redis 密码必须配置\n      password: Zcx@223852//\n      database: 0\n      # 需要使用数字\n      timeout: 10000\n      ssl.enabled: false\n\n# redisson 配置\nredisson:\n  # redis key前缀\n  keyPrefix:\n  # 线程池数量\n  threads: 4\n  # Netty线程池数量\n  nettyThreads: 8\n  # 单节点配置\n  singleServerConfig:\n    # 客户端名称\n    clientName: ${spring.application.name}\n    # 最小空闲连接数\n    connectionMinimumIdleSize: 8\n    # 连接池大小\n    connectionPoolSize: 32\n    # 连接空闲超时，单位：毫秒\n    idleConnectionTimeout: 10000\n    # 命令等待超时，单位：毫秒\n    timeout: 3000\n    # 发布和订阅连接池大小\n    subscriptionConnectionPoolSize: 50\n\n# 分布式锁 lock4j 全局配置\nlock4j:\n  # 获取分布式锁超时时间，默认为 3000 毫秒\n  acquire-timeout: 3000\n  # 分布式锁的超时时间，默认为 30 秒\n  expire: 30000\n\n# 暴露监控端点\nmanagement:\n  endpoints:\n    web:\n      exposure:\n        include: \'*\'\n  endpoint:\n    health:\n      show-details: ALWAYS\n    logfile:\n      external-file: ./logs/${spring.application.name}/console.log\n\n# 日志配置\nlogging:\n  level:\n    org.springframework: warn\n    org.apache.dubbo: warn\n    com.alibaba.nacos: warn\n    com.alibaba.cloud.sentinel: warn\n    org.mybatis.spring.mapper: error\n    org.apache.dubbo.config: error\n    # 临时处理 spring 调整日志级别导致启动警告问题 不影响使用等待 alibaba 适配\n    org.springframework.context.support.PostProcessorRegistrationDelegate: error\n  config: classpath:logback-plus.xml\n\n# Sa-Token配置\nsa-token:\n  # token名称 (同时也是cookie名称)\n  token-name: Authorization\n  # 开启内网服务调用鉴权(不允许越过gateway访问内网服务 保障服务安全)\n  check-same-token: true\n  # 是否允许同一账号并发登录 (为true时允许一起登录, 为false时新登录挤掉旧登录)\n  is-concurrent: true\n  # 在多人登录同一账号时，是否共用一个token (为true时所有登录共用一个token, 为false时每次登录新建一个token)\n  is-share: false\n  # jwt秘钥\n  jwt-secret-key: abcdefghijklmnopqrstuvwxyz\n\n# MyBatisPlus配置\n# https://baomidou.com/config/\nmybatis-plus:\n  # 多包名使用 例如 leyramu.framework.lersosa.**.mapper,org.xxx.**.mapper\n  mapperPackage: leyramu.framework.lersosa.**.mapper\n  # 对应的 XML 文件位置\n  mapperLocations: classpath*:mapper/**/*Mapper.xml\n  # 实体扫描，多个package用逗号或者分号分隔\n  typeAliasesPackage: leyramu.framework.lersosa.**.domain\n  global-config:\n    dbConfig:\n      # 主键类型\n      # AUTO 自增 NONE 空 INPUT 用户输入 ASSIGN_ID 雪花 ASSIGN_UUID 唯一 UUID\n      # 如需改为自增 需要将数据库表全部设置为自增\n      idType: ASSIGN_ID\n\n# 数据加密\nmybatis-encryptor:\n  # 是否开启加密\n  enable: false\n  # 默认加密算法\n  algorithm: BASE64\n  # 编码方式 BASE64/HEX。默认BASE64\n  encode: BASE64\n  # 安全秘钥 对称算法的秘钥 如：AES，SM4\n  password:\n  # 公私钥 非对称算法的公私钥 如：SM2，RSA\n  publicKey:\n  privateKey:\n\n# api接口加密\napi-decrypt:\n  # 是否开启全局接口加密\n  enabled: true\n  # AES 加密头标识\n  headerFlag: encrypt-key\n  # 响应加密公钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端解密私钥 MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAmc3CuPiGL/LcIIm7zryCEIbl1SPzBkr75E2VMtxegyZ1lYRD+7TZGAPkvIsBcaMs6Nsy0L78n2qh+lIZMpLH8wIDAQABAkEAk82Mhz0tlv6IVCyIcw/s3f0E+WLmtPFyR9/WtV3Y5aaejUkU60JpX4m5xNR2VaqOLTZAYjW8Wy0aXr3zYIhhQQIhAMfqR9oFdYw1J9SsNc+CrhugAvKTi0+BF6VoL6psWhvbAiEAxPPNTmrkmrXwdm/pQQu3UOQmc2vCZ5tiKpW10CgJi8kCIFGkL6utxw93Ncj4exE/gPLvKcT+1Emnoox+O9kRXss5AiAMtYLJDaLEzPrAWcZeeSgSIzbL+ecokmFKSDDcRske6QIgSMkHedwND1olF8vlKsJUGK3BcdtM8w4Xq7BpSBwsloE=\n  publicKey: MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAJnNwrj4hi/y3CCJu868ghCG5dUj8wZK++RNlTLcXoMmdZWEQ/u02RgD5LyLAXGjLOjbMtC+/J9qofpSGTKSx/MCAwEAAQ==\n  # 请求解密私钥 非对称算法的公私钥 如：SM2，RSA 使用者请自行更换\n  # 对应前端加密公钥 MFwwDQYJKoZIhvcNAQEBBQADSwAwSAJBAKoR8mX0rGKLqzcWmOzbfj64K8ZIgOdHnzkXSOVOZbFu/TJhZ7rFAN+eaGkl3C4buccQd/EjEsj9ir7ijT7h96MCAwEAAQ==\n  privateKey: MIIBVAIBADANBgkqhkiG9w0BAQEFAASCAT4wggE6AgEAAkEAqhHyZfSsYourNxaY7Nt+PrgrxkiA50efORdI5U5lsW79MmFnusUA355oaSXcLhu5xxB38SMSyP2KvuKNPuH3owIDAQABAkAfoiLyL+Z4lf4Myxk6xUDgLaWGximj20CUf+5BKKnlrK+Ed8gAkM0HqoTt2UZwA5E2MzS4EI2gjfQhz5X28uqxAiEA3wNFxfrCZlSZHb0gn2zDpWowcSxQAgiCstxGUoOqlW8CIQDDOerGKH5OmCJ4Z21v+F25WaHYPxCFMvwxpcw99EcvDQIgIdhDTIqD2jfYjPTY8Jj3EDGPbH2HHuffvflECt3Ek60CIQCFRlCkHpi7hthhYhovyloRYsM+IS9h/0BzlEAuO0ktMQIgSPT3aFAgJYwKpqRYKlLDVcflZFCKY7u3UP8iWi1Qw0Y=\n\n# 防止XSS攻击\nxss:\n  enabled: true\n  excludeUrls:\n    - /system/notice\n    - /workflow/model/save\n    - /workflow/model/editModelXml\n\n# 接口文档配置\nspringdoc:\n  api-docs:\n    # 是否开启接口文档\n    enabled: true\n#  swagger-ui:\n#    # 持久化认证数据\n#    persistAuthorization: true\n  info:\n    # 标题\n    title: \'标题：Lersosa 微服务权限管理系统_接口文档\'\n    # 描述\n    description: \'描述：微服务权限管理系统, 具体包括XXX,XXX模块...\'\n    # 版本\n    version: \'版本号：系统版本...\'\n    # 作者信息\n    contact:\n      name: Miraitowa_zcx\n      email: 2038322151@qq.com\n      url: https://github.com/Leyramu/Lersosa\n  components:\n    # 鉴权方式配置\n    security-schemes:\n      apiKey:\n        type: APIKEY\n        in: HEADER\n        name: ${sa-token.token-name}\n\n# seata配置\nseata:\n  # 是否启用\n  enabled: true\n  # Seata 应用编号，默认为应用名\n  application-id: ${spring.application.name}\n  # Seata 事务组编号，用于 TC 集群名\n  tx-service-group: ${spring.application.name}-group\n\n# 多租户配置\ntenant:\n  # 是否开启\n  enable: true\n  # 排除表\n  excludes:\n    - sys_menu\n    - sys_tenant\n    - sys_tenant_package\n    - sys_role_dept\n    - sys_dept_closure\n    - sys_role_menu\n    - sys_user_post\n    - sys_user_role\n    - sys_client\n    - sys_oss_config\n', '195bbe59c60a2f193a0a5d032f7f5cff', '2022-01-09 15:23:00', '2025-08-07 23:27:08', 'nacos', '0:0:0:0:0:0:0:1', '', '356d484c-399c-4a23-9419-e200e8edbff9', '通用配置基础配置', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (102, 'datasource.yml', 'DEFAULT_GROUP', 'datasource:\n  system-master:\n    # jdbc 所有参数配置参考 https://lionli.blog.csdn.net/article/details/122018562\n    # rewriteBatchedStatements=true 批处理优化 大幅提升批量插入更新删除性能\n    url: jdbc:mysql://lersosa-mysql:3306/lersosa-cloud?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  gen:\n    url: jdbc:mysql://lersosa-mysql:3306/lersosa-cloud?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  job:\n    url: jdbc:mysql://lersosa-mysql:3306/lersosa-job?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true\n    username: root\n    password: Zcx@223852//\n  workflow:\n    url: jdbc:mysql://lersosa-mysql:3306/lersosa-workflow?useUnicode=true&characterEncoding=utf8&zeroDateTimeBehavior=convertToNull&useSSL=true&serverTimezone=GMT%2B8&rewriteBatchedStatements=true&allowPublicKeyRetrieval=true&nullCatalogMeansCurrent=true\n    username: root\n    password: Zcx@223852//\n#  system-oracle:\n#    url: jdbc:oracle:thin:@//lersosa-oracle::1521/XE\n#    username: ROOT\n#    password: password\n#  system-postgres:\n#    url: jdbc:postgresql://lersosa-postgres::5432/postgres?useUnicode=true&characterEncoding=utf8&useSSL=true&autoReconnect=true&reWriteBatchedInserts=true\n#    username: root\n#    password: password\n\nspring:\n  datasource:\n    type: com.zaxxer.hikari.HikariDataSource\n    # 动态数据源文档 https://www.kancloud.cn/tracy5546/dynamic-datasource/content\n    dynamic:\n      # 性能分析插件(有性能损耗 不建议生产环境使用)\n      p6spy: true\n      # 开启seata代理，开启后默认每个数据源都代理，如果某个不需要代理可单独关闭\n      seata: ${seata.enabled}\n      # 严格模式 匹配不到数据源则报错\n      strict: true\n      hikari:\n        # 最大连接池数量\n        maxPoolSize: 20\n        # 最小空闲线程数量\n        minIdle: 10\n        # 配置获取连接等待超时的时间\n        connectionTimeout: 30000\n        # 校验超时时间\n        validationTimeout: 5000\n        # 空闲连接存活最大时间，默认10分钟\n        idleTimeout: 600000\n        # 此属性控制池中连接的最长生命周期，值0表示无限生命周期，默认30分钟\n        maxLifetime: 1800000\n        # 多久检查一次连接的活性\n        keepaliveTime: 30000\n', '0e243950220ff7fb855ce030d5839da5', '2022-01-09 15:23:00', '2025-08-07 23:27:47', 'nacos', '0:0:0:0:0:0:0:1', '', '356d484c-399c-4a23-9419-e200e8edbff9', '数据源配置', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (103, 'lersosa-gateway-api.yml', 'GATEWAY_GROUP', '# 安全配置\nsecurity:\n  # 不校验白名单\n  ignore:\n    whites:\n      - /auth/code\n      - /auth/logout\n      - /auth/login\n      - /auth/binding/*\n      - /auth/social/callback\n      - /auth/register\n      - /auth/tenant/list\n      - /resource/sms/code\n      - /resource/sse/close\n      - /*/v3/api-docs\n      - /*/error\n      - /csrf\n\nspring:\n  cloud:\n    # 网关配置\n    gateway:\n      # 打印请求日志(自定义)\n      requestLog: true\n      discovery:\n        locator:\n          lowerCaseServiceId: true\n          enabled: true\n      routes:\n        # 认证中心\n        - id: lersosa-service-auth\n          uri: lb://lersosa-service-auth\n          predicates:\n            - Path=/auth/**\n          filters:\n            - StripPrefix=1\n        # 代码生成\n        - id: lersosa-service-gen\n          uri: lb://lersosa-service-gen\n          predicates:\n            - Path=/tool/**\n          filters:\n            - StripPrefix=1\n        # 系统模块\n        - id: lersosa-service-system\n          uri: lb://lersosa-service-system\n          predicates:\n            - Path=/system/**,/monitor/**\n          filters:\n            - StripPrefix=1\n        # 资源服务\n        - id: lersosa-service-resource\n          uri: lb://lersosa-service-resource\n          predicates:\n            - Path=/resource/**\n          filters:\n            - StripPrefix=1\n        # workflow服务\n        - id: lersosa-service-workflow\n          uri: lb://lersosa-service-workflow\n          predicates:\n            - Path=/workflow/**\n          filters:\n            - StripPrefix=1\n        # 演示服务\n        - id: lersosa-service-demo\n          uri: lb://lersosa-service-demo\n          predicates:\n            - Path=/demo/**\n          filters:\n            - StripPrefix=1\n        # MQ演示服务\n        - id: lersosa-service-test-mq\n          uri: lb://lersosa-service-test-mq\n          predicates:\n            - Path=/test-mq/**\n          filters:\n            - StripPrefix=1\n        # Python 服务\n        - id: lersosa-service-python\n          uri: lb://lersosa-service-python\n          predicates:\n            - Path=/python/**\n          filters:\n            - StripPrefix=1\n\n    # sentinel 配置\n    sentinel:\n      filter:\n        enabled: false\n      # nacos配置持久化\n      datasource:\n        ds1:\n          nacos:\n            server-addr: ${spring.cloud.nacos.server-addr}\n            dataId: sentinel-${spring.application.name}.json\n            groupId: ${spring.cloud.nacos.config.group}\n            username: ${spring.cloud.nacos.username}\n            password: ${spring.cloud.nacos.password}\n            namespace: ${spring.profiles.active}\n            data-type: json\n            rule-type: gw-flow\n', '5fb4970571079b2bb6ffab93ee2ad831', '2022-01-09 15:23:00', '2025-08-07 23:28:13', 'nacos', '0:0:0:0:0:0:0:1', '', '356d484c-399c-4a23-9419-e200e8edbff9', '网关模块', '', '', 'yaml', '', '');
 INSERT INTO `config_info` VALUES (104, 'lersosa-service-auth.yml', 'SERVICE_GROUP', '# 安全配置\nsecurity:\n  # 验证码\n  captcha:\n    # 是否开启验证码\n    enabled: true\n    # 验证码类型 math 数组计算 char 字符验证\n    type: MATH\n    # line 线段干扰 circle 圆圈干扰 shear 扭曲干扰\n    category: CIRCLE\n    # 数字验证码位数\n    numberLength: 1\n    # 字符验证码长度\n    charLength: 4\n\n# 用户配置\nuser:\n  password:\n    # 密码最大错误次数\n    maxRetryCount: 5\n    # 密码锁定时间（默认10分钟）\n    lockTime: 10\n\n# 三方授权\njustauth:\n  # 前端外网访问地址\n  address: http://localhost:80\n  type:\n    maxkey:\n      # maxkey 服务器地址\n      # 注意 如下均配置均不需要修改 maxkey 已经内置好了数据\n      server-url: http://sso.maxkey.top\n      client-id: 876892492581044224\n      client-secret: x1Y5MTMwNzIwMjMxNTM4NDc3Mzche8\n      redirect-uri: ${justauth.address}/social-callback?source=maxkey\n    topiam:\n      # topiam 服务器地址\n      server-url: http://127.0.0.1:1989/api/v1/authorize/y0q************spq***********8ol\n      client-id: 449c4*********937************759\n      client-secret: ac7***********1e0************28d\n      redirect-uri: ${justauth.address}/social-callback?source=topiam\n      scopes: [ openid, email, phone, profile ]\n    qq:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=qq\n      union-id: false\n    weibo:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=weibo\n    gitee:\n      client-id: 91436b7940090d09c72c7daf85b959cfd5f215d67eea73acbf61b6b590751a98\n      client-secret: 02c6fcfd70342980cd8dd2f2c06c1a350645d76c754d7a264c4e125f9ba915ac\n      redirect-uri: ${justauth.address}/social-callback?source=gitee\n    dingtalk:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=dingtalk\n    baidu:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=baidu\n    csdn:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=csdn\n    coding:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=coding\n      coding-group-name: xx\n    oschina:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=oschina\n    alipay_wallet:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=alipay_wallet\n      alipay-public-key: MIIB**************DAQAB\n    wechat_open:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_open\n    wechat_mp:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_mp\n    wechat_enterprise:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=wechat_enterprise\n      agent-id: 1000002\n    gitlab:\n      client-id: 10**********6\n      client-secret: 1f7d08**********5b7**********29e\n      redirect-uri: ${justauth.address}/social-callback?source=gitlab\n', '362c28d8864626b864d682b5f1c4a73a', '2022-01-09 15:23:00', '2025-08-07 23:30:15', 'nacos', '0:0:0:0:0:0:0:1', '', '356d484c-399c-4a23-9419-e200e8edbff9', '认证中心', '', '', 'yaml', '', '');
@@ -26,6 +26,7 @@ package leyramu.framework.lersosa.pulsar.api;
 import leyramu.framework.lersosa.pulsar.api.domain.bo.RemoteMarkBo;
 import leyramu.framework.lersosa.pulsar.api.domain.vo.RemoteMarkVo;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -46,6 +47,15 @@ public interface RemoteMarkService {
      */
     Boolean updateMatchById(Long id, Integer flag);
 
+    /**
+     * 根据 ID 批量更新匹配信息.
+     *
+     * @param ids  脉冲星ID集合
+     * @param flag 脉冲星匹配结果标识
+     * @return 更新的条数
+     */
+    Integer updateMatchByIds(Collection<Long> ids, Integer flag);
+
     /**
      * 根据条件查询列表.
      *
@@ -25,6 +25,10 @@ package leyramu.framework.lersosa.pulsar.api;
 
 import leyramu.framework.lersosa.pulsar.api.domain.bo.RemotePulsarMatchBo;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 远程脉星业务层 接口.
  *
@@ -49,4 +53,20 @@ public interface RemotePulsarService {
      * @return Boolean
      */
     Boolean getPulsarInfo(String name);
+
+    /**
+     * 批量新增已知脉冲星.
+     *
+     * @param remotePulsars 脉冲星列表
+     * @return 是否新增成功
+     */
+    Boolean saveMatchBatchByBo(List<RemotePulsarMatchBo> remotePulsars);
+
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    Set<String> selectExistNames(Collection<String> names);
 }
@@ -28,6 +28,7 @@ import leyramu.framework.lersosa.resource.api.domain.RemoteFile;
 import leyramu.framework.lersosa.resource.api.model.OssUrlDTO;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -47,6 +48,26 @@ public interface RemoteFileService {
      */
     RemoteFile upload(String name, String originalFilename, String contentType, byte[] file) throws ServiceException;
 
+    /**
+     * 登记已由调用方直接写入对象存储的文件.
+     *
+     * @param service          存储服务商配置键
+     * @param name             对象键
+     * @param originalFilename 原名
+     * @param url              文件地址
+     * @return 结果
+     */
+    RemoteFile record(String service, String name, String originalFilename, String url) throws ServiceException;
+
+    /**
+     * 批量登记已由调用方直接写入对象存储的文件.
+     *
+     * @param service 存储服务商配置键
+     * @param files   文件信息 (对象键、地址与原名)
+     * @return 回填主键与后缀后的文件信息
+     */
+    List<RemoteFile> recordBatch(String service, List<RemoteFile> files) throws ServiceException;
+
     /**
      * 通过ossId查询对应的url.
      *
@@ -55,6 +76,14 @@ public interface RemoteFileService {
      */
     String selectUrlByIds(String ossIds);
 
+    /**
+     * 通过ossId批量查询对应的url.
+     *
+     * @param ossIds ossId集合
+     * @return ossId与url的映射
+     */
+    Map<Long, String> selectUrlsByIds(List<Long> ossIds);
+
     /**
      * 通过ossId查询列表.
      *
@@ -29,6 +29,7 @@ import leyramu.framework.lersosa.resource.api.model.OssUrlDTO;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -54,6 +55,31 @@ public class RemoteFileServiceMock implements RemoteFileService {
         return null;
     }
 
+    /**
+     * 登记已写入对象存储的文件.
+     *
+     * @param service 存储服务商配置键
+     * @return 结果
+     */
+    @Override
+    public RemoteFile record(String service, String name, String originalFilename, String url) {
+        log.warn("服务调用异常 -> 降级处理");
+        return null;
+    }
+
+    /**
+     * 批量登记已写入对象存储的文件.
+     *
+     * @param service 存储服务商配置键
+     * @param files   文件信息
+     * @return 结果
+     */
+    @Override
+    public List<RemoteFile> recordBatch(String service, List<RemoteFile> files) {
+        log.warn("服务调用异常 -> 降级处理");
+        return List.of();
+    }
+
     /**
      * 通过ossId查询对应的url.
      *
@@ -66,6 +92,18 @@ public class RemoteFileServiceMock implements RemoteFileService {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * 通过ossId批量查询对应的url.
+     *
+     * @param ossIds ossId集合
+     * @return ossId与url的映射
+     */
+    @Override
+    public Map<Long, String> selectUrlsByIds(List<Long> ossIds) {
+        log.warn("服务调用异常 -> 降级处理");
+        return Map.of();
+    }
+
     /**
      * 通过ossId查询列表.
      *
@@ -23,6 +23,9 @@
 
 package leyramu.framework.lersosa.system.api;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 数据权限服务.
  *
@@ -47,4 +50,20 @@ public interface RemoteDataScopeService {
      * @return 返回部门及其下级的权限语句，如果没有找到则返回 null
      */
     String getDeptAndChild(Long deptId);
+
+    /**
+     * 获取租户下全部部门的上级关系.
+     *
+     * @param tenantId 租户ID
+     * @return key 为部门ID value 为上级部门ID
+     */
+    Map<Long, Long> selectDeptParentMap(String tenantId);
+
+    /**
+     * 获取租户下全部角色的自定义数据权限部门.
+     *
+     * @param tenantId 租户ID
+     * @return key 为角色ID value 为部门ID集合
+     */
+    Map<Long, List<Long>> selectRoleDeptMap(String tenantId);
 }
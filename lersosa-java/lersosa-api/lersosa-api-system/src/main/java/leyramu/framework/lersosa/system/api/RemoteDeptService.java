@@ -23,6 +23,9 @@
 
 package leyramu.framework.lersosa.system.api;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 部门服务.
  *
@@ -39,4 +42,12 @@ public interface RemoteDeptService {
      * @return 部门名称串逗号分隔
      */
     String selectDeptNameByIds(String deptIds);
+
+    /**
+     * 通过部门ID批量查询部门名称.
+     *
+     * @param deptIds 部门ID集合
+     * @return 部门ID与部门名称的映射
+     */
+    Map<Long, String> selectDeptNamesByIds(List<Long> deptIds);
 }
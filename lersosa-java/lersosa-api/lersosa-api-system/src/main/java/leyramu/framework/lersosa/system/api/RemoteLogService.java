@@ -26,6 +26,8 @@ package leyramu.framework.lersosa.system.api;
 import leyramu.framework.lersosa.system.api.domain.bo.RemoteLogininforBo;
 import leyramu.framework.lersosa.system.api.domain.bo.RemoteOperLogBo;
 
+import java.util.List;
+
 /**
  * 日志服务.
  *
@@ -42,6 +44,13 @@ public interface RemoteLogService {
      */
     void saveLog(RemoteOperLogBo sysOperLog);
 
+    /**
+     * 批量保存系统日志.
+     *
+     * @param sysOperLogs 日志实体集合
+     */
+    void saveLogBatch(List<RemoteOperLogBo> sysOperLogs);
+
     /**
      * 保存访问记录.
      *
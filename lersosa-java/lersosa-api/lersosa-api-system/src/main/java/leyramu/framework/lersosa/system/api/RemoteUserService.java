@@ -31,6 +31,7 @@ import leyramu.framework.lersosa.system.api.model.LoginUser;
 import leyramu.framework.lersosa.system.api.model.XcxLoginUser;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 用户服务.
@@ -118,6 +119,22 @@ public interface RemoteUserService {
      */
     String selectNicknameByIds(String userIds);
 
+    /**
+     * 通过用户ID批量查询用户账户.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户账户的映射
+     */
+    Map<Long, String> selectUserNamesByIds(List<Long> userIds);
+
+    /**
+     * 通过用户ID批量查询用户昵称.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户昵称的映射
+     */
+    Map<Long, String> selectNicknamesByIds(List<Long> userIds);
+
     /**
      * 通过用户ID查询用户手机号.
      *
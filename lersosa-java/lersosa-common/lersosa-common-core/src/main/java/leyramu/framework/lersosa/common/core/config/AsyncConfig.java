@@ -26,11 +26,15 @@ package leyramu.framework.lersosa.common.core.config;
 import cn.hutool.core.util.ArrayUtil;
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -47,17 +51,28 @@ import java.util.concurrent.ThreadPoolExecutor;
  */
 @Slf4j
 @AutoConfiguration
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    /**
+     * 任务装饰器 (如租户上下文传递).
+     */
+    private final ObjectProvider<TaskDecorator> taskDecorator;
+
     /**
      * 自定义 @Async 注解使用系统线程池.
      */
     @Override
     public Executor getAsyncExecutor() {
         if (SpringUtils.isVirtual()) {
-            return new VirtualThreadTaskExecutor("async-");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            taskDecorator.ifUnique(executor::setTaskDecorator);
+            return executor;
         }
-        return SpringUtils.getBean("scheduledExecutorService");
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(SpringUtils.getBean("scheduledExecutorService"));
+        taskDecorator.ifUnique(executor::setTaskDecorator);
+        return executor;
     }
 
     /**
@@ -88,6 +103,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Async-FileService-");
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskDecorator.ifUnique(executor::setTaskDecorator);
         executor.initialize();
         return executor;
     }
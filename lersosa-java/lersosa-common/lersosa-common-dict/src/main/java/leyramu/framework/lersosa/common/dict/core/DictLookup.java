@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.dict.core;
+
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.system.api.domain.vo.RemoteDictDataVo;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 字典查找表 (加载字典时一次性构建, 不可变; 版本号用于判断是否已被刷新).
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public final class DictLookup {
+
+    /**
+     * 多值翻译结果的最大缓存条数.
+     */
+    private static final int MAX_MULTI_CACHE_SIZE = 1024;
+
+    /**
+     * 构建时的版本号.
+     */
+    @Getter
+    private final long version;
+
+    /**
+     * 字典值 与 字典标签 (按字典排序).
+     */
+    @Getter
+    private final Map<String, String> labelByValue;
+
+    /**
+     * 字典标签 与 字典值.
+     */
+    private final Map<String, String> valueByLabel;
+
+    /**
+     * 默认分隔符下的多值翻译结果.
+     */
+    private final Map<String, String> multiLabelCache = new ConcurrentHashMap<>();
+    private final Map<String, String> multiValueCache = new ConcurrentHashMap<>();
+
+    private DictLookup(long version, Map<String, String> labelByValue, Map<String, String> valueByLabel) {
+        this.version = version;
+        this.labelByValue = Collections.unmodifiableMap(labelByValue);
+        this.valueByLabel = Collections.unmodifiableMap(valueByLabel);
+    }
+
+    /**
+     * 构建查找表 (重复的值或标签以排在前面的为准).
+     *
+     * @param version 版本号
+     * @param datas   字典数据
+     * @return 查找表
+     */
+    public static DictLookup of(long version, List<RemoteDictDataVo> datas) {
+        int size = datas == null ? 0 : datas.size();
+        Map<String, String> labelByValue = new LinkedHashMap<>(size);
+        Map<String, String> valueByLabel = new HashMap<>(size);
+        if (datas != null) {
+            for (RemoteDictDataVo data : datas) {
+                if (data == null || data.getDictValue() == null || data.getDictLabel() == null) {
+                    continue;
+                }
+                labelByValue.putIfAbsent(data.getDictValue(), data.getDictLabel());
+                valueByLabel.putIfAbsent(data.getDictLabel(), data.getDictValue());
+            }
+        }
+        return new DictLookup(version, labelByValue, valueByLabel);
+    }
+
+    /**
+     * 根据字典值获取字典标签.
+     *
+     * @param dictValue 字典值 (多个值以分隔符拼接)
+     * @param separator 分隔符
+     * @return 字典标签 未匹配时为空字符串
+     */
+    public String getLabel(String dictValue, String separator) {
+        return translate(labelByValue, multiLabelCache, dictValue, separator);
+    }
+
+    /**
+     * 根据字典标签获取字典值.
+     *
+     * @param dictLabel 字典标签 (多个标签以分隔符拼接)
+     * @param separator 分隔符
+     * @return 字典值 未匹配时为空字符串
+     */
+    public String getValue(String dictLabel, String separator) {
+        return translate(valueByLabel, multiValueCache, dictLabel, separator);
+    }
+
+    private static String translate(Map<String, String> mapping, Map<String, String> cache, String text, String separator) {
+        if (text == null) {
+            return StringUtils.EMPTY;
+        }
+        if (StringUtils.isEmpty(separator) || !text.contains(separator)) {
+            return mapping.getOrDefault(text, StringUtils.EMPTY);
+        }
+        boolean cacheable = StringUtils.SEPARATOR.equals(separator);
+        if (cacheable) {
+            String cached = cache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String result = translateMulti(mapping, text, separator);
+        if (cacheable && cache.size() < MAX_MULTI_CACHE_SIZE) {
+            cache.put(text, result);
+        }
+        return result;
+    }
+
+    private static String translateMulti(Map<String, String> mapping, String text, String separator) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = text.indexOf(separator, start)) >= 0) {
+            parts.add(text.substring(start, end));
+            start = end + separator.length();
+        }
+        parts.add(text.substring(start));
+        // 与 String#split 保持一致 丢弃末尾的空串
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        StringJoiner joiner = new StringJoiner(separator);
+        for (int i = 0; i < size; i++) {
+            joiner.add(mapping.getOrDefault(parts.get(i), StringUtils.EMPTY));
+        }
+        return joiner.toString();
+    }
+}
@@ -24,20 +24,24 @@
 package leyramu.framework.lersosa.common.dict.service.impl;
 
 import com.github.benmanes.caffeine.cache.Cache;
-import leyramu.framework.lersosa.common.core.constant.CacheConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import leyramu.framework.lersosa.common.core.service.DictService;
-import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.dict.core.DictLookup;
+import leyramu.framework.lersosa.common.dict.utils.DictUtils;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import leyramu.framework.lersosa.system.api.RemoteDictService;
-import leyramu.framework.lersosa.system.api.domain.vo.RemoteDictDataVo;
-import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 字典服务服务.
@@ -47,14 +51,45 @@ import java.util.stream.Collectors;
  * @since 2024/11/6
  */
 @Service
-@RequiredArgsConstructor
 public class DictServiceImpl implements DictService {
 
-    private final Cache<Object, Object> ceffeine;
+    /**
+     * 租户:字典类型 与 查找表.
+     */
+    private final Cache<String, DictLookup> lookupCache = Caffeine.newBuilder()
+        .maximumSize(2000)
+        // 兜底过期 正常情况下由刷新通知失效
+        .expireAfterWrite(30, TimeUnit.MINUTES)
+        .build();
+
+    /**
+     * 字典类型 与 版本号(每次刷新递增).
+     */
+    private final Map<String, Long> versionMap = new ConcurrentHashMap<>();
+
+    /**
+     * 全量刷新版本号.
+     */
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    /**
+     * 刷新通知监听器ID.
+     */
+    private int refreshListenerId;
 
     @DubboReference
     private RemoteDictService remoteDictService;
 
+    @PostConstruct
+    public void subscribe() {
+        refreshListenerId = RedisUtils.subscribe(DictUtils.DICT_REFRESH_TOPIC, String.class, this::refresh);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        RedisUtils.unsubscribe(DictUtils.DICT_REFRESH_TOPIC, refreshListenerId);
+    }
+
     /**
      * 根据字典类型和字典值获取字典标签.
      *
@@ -63,19 +98,9 @@ public class DictServiceImpl implements DictService {
      * @param separator 分隔符
      * @return 字典标签
      */
-    @SuppressWarnings("unchecked")
     @Override
     public String getDictLabel(String dictType, String dictValue, String separator) {
-        // 优先从本地缓存获取
-        List<RemoteDictDataVo> datas = (List<RemoteDictDataVo>) ceffeine.get(CacheConstants.SYS_DICT_KEY + "remote:" + dictType, _ -> remoteDictService.selectDictDataByType(dictType));
-        Map<String, String> map = StreamUtils.toMap(datas, RemoteDictDataVo::getDictValue, RemoteDictDataVo::getDictLabel);
-        if (StringUtils.containsAny(dictValue, separator)) {
-            return Arrays.stream(dictValue.split(separator))
-                .map(v -> map.getOrDefault(v, StringUtils.EMPTY))
-                .collect(Collectors.joining(separator));
-        } else {
-            return map.getOrDefault(dictValue, StringUtils.EMPTY);
-        }
+        return getLookup(dictType).getLabel(dictValue, separator);
     }
 
     /**
@@ -86,24 +111,47 @@ public class DictServiceImpl implements DictService {
      * @param separator 分隔符
      * @return 字典值
      */
-    @SuppressWarnings("unchecked")
     @Override
     public String getDictValue(String dictType, String dictLabel, String separator) {
-        // 优先从本地缓存获取
-        List<RemoteDictDataVo> datas = (List<RemoteDictDataVo>) ceffeine.get(CacheConstants.SYS_DICT_KEY + "remote:" + dictType, _ -> remoteDictService.selectDictDataByType(dictType));
-        Map<String, String> map = StreamUtils.toMap(datas, RemoteDictDataVo::getDictLabel, RemoteDictDataVo::getDictValue);
-        if (StringUtils.containsAny(dictLabel, separator)) {
-            return Arrays.stream(dictLabel.split(separator))
-                .map(l -> map.getOrDefault(l, StringUtils.EMPTY))
-                .collect(Collectors.joining(separator));
-        } else {
-            return map.getOrDefault(dictLabel, StringUtils.EMPTY);
-        }
+        return getLookup(dictType).getValue(dictLabel, separator);
     }
 
     @Override
     public Map<String, String> getAllDictByDictType(String dictType) {
-        List<RemoteDictDataVo> list = remoteDictService.selectDictDataByType(dictType);
-        return StreamUtils.toMap(list, RemoteDictDataVo::getDictValue, RemoteDictDataVo::getDictLabel);
+        return getLookup(dictType).getLabelByValue();
+    }
+
+    /**
+     * 刷新字典查找表.
+     *
+     * @param dictType 字典类型 为空时刷新全部
+     */
+    public void refresh(String dictType) {
+        if (StringUtils.isBlank(dictType)) {
+            globalVersion.incrementAndGet();
+            lookupCache.invalidateAll();
+            return;
+        }
+        versionMap.merge(dictType, 1L, Long::sum);
+        String suffix = ":" + dictType;
+        lookupCache.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    /**
+     * 获取字典查找表 (优先从本地缓存获取, 版本落后于最近一次刷新时重建).
+     */
+    private DictLookup getLookup(String dictType) {
+        long version = globalVersion.get() + versionMap.getOrDefault(dictType, 0L);
+        String key = Objects.toString(TenantHelper.getTenantId(), "") + ":" + dictType;
+        DictLookup lookup = lookupCache.get(key, _ -> load(dictType, version));
+        if (lookup.getVersion() < version) {
+            lookup = load(dictType, version);
+            lookupCache.put(key, lookup);
+        }
+        return lookup;
+    }
+
+    private DictLookup load(String dictType, long version) {
+        return DictLookup.of(version, remoteDictService.selectDictDataByType(dictType));
     }
 }
@@ -24,10 +24,15 @@
 package leyramu.framework.lersosa.common.dict.utils;
 
 import leyramu.framework.lersosa.common.core.constant.CacheNames;
+import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import leyramu.framework.lersosa.system.api.domain.vo.RemoteDictDataVo;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 字典工具类.
@@ -39,6 +44,11 @@ import java.util.List;
 @SuppressWarnings("unused")
 public class DictUtils {
 
+    /**
+     * 字典查找表刷新通知 (消息为字典类型 空字符串表示全部).
+     */
+    public static final String DICT_REFRESH_TOPIC = GlobalConstants.GLOBAL_REDIS_KEY + "sys_dict:refresh";
+
     /**
      * 设置字典缓存.
      *
@@ -74,4 +84,23 @@ public class DictUtils {
     public static void clearDictCache() {
         CacheUtils.clear(CacheNames.SYS_DICT);
     }
+
+    /**
+     * 通知所有节点刷新字典查找表 (存在事务时在提交后发送).
+     *
+     * @param dictType 字典类型 为空时刷新全部
+     */
+    public static void refreshDictLookup(String dictType) {
+        String message = Objects.toString(dictType, "");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    RedisUtils.publish(DICT_REFRESH_TOPIC, message);
+                }
+            });
+        } else {
+            RedisUtils.publish(DICT_REFRESH_TOPIC, message);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.dict.core;
+
+import leyramu.framework.lersosa.system.api.domain.vo.RemoteDictDataVo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 字典查找表测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("字典查找表测试")
+public class DictLookupTest {
+
+    @DisplayName("测试与调整前的翻译结果一致")
+    @Test
+    public void testSameAsLegacy() {
+        List<RemoteDictDataVo> datas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RemoteDictDataVo data = new RemoteDictDataVo();
+            data.setDictValue(String.valueOf(i));
+            data.setDictLabel("label" + i);
+            datas.add(data);
+        }
+        DictLookup lookup = DictLookup.of(0L, datas);
+        for (String text : List.of("", "1", "11", "1,3", "1,3,", "1,,3", ",1", "1,x,9", "1|3")) {
+            assertEquals(legacy(datas, text), lookup.getLabel(text, ","), text);
+        }
+    }
+
+    /**
+     * 调整前的翻译方式.
+     */
+    private static String legacy(List<RemoteDictDataVo> datas, String text) {
+        Map<String, String> map = datas.stream()
+            .collect(Collectors.toMap(RemoteDictDataVo::getDictValue, RemoteDictDataVo::getDictLabel));
+        if (text.contains(",")) {
+            return Arrays.stream(text.split(","))
+                .map(v -> map.getOrDefault(v, ""))
+                .collect(Collectors.joining(","));
+        }
+        return map.getOrDefault(text, "");
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.dict.service.impl;
+
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import leyramu.framework.lersosa.common.core.service.DictService;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.core.utils.StreamUtils;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.excel.annotation.ExcelDictFormat;
+import leyramu.framework.lersosa.common.excel.convert.ExcelDictConvert;
+import leyramu.framework.lersosa.common.excel.utils.ExcelUtil;
+import leyramu.framework.lersosa.system.api.RemoteDictService;
+import leyramu.framework.lersosa.system.api.domain.vo.RemoteDictDataVo;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Excel 导出字典翻译基准测试.
+ * <p>
+ * 通过 ExcelUtil 导出 10 万行数据(3 个字典列, 其中一列为逗号分隔的多值), 每个单元格经 ExcelDictConvert 翻译,
+ * 对比调整前每次翻译重建映射并按正则拆分多值, 与调整后预构建查找表的整体导出耗时.
+ * 远程字典服务以模拟实现代替, 输出写入空流, 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExcelDictExportBenchmark {
+
+    /**
+     * 导出行数.
+     */
+    @Param({"100000"})
+    private int rows;
+
+    /**
+     * 字典服务实现 legacy 为调整前逐单元格重建映射 cached 为调整后的查找表.
+     */
+    @Param({"legacy", "cached"})
+    private String impl;
+
+    private GenericApplicationContext context;
+
+    private List<ExportRow> list;
+
+    @Setup
+    public void setup() {
+        RemoteDictService remoteDictService = mock(RemoteDictService.class, withSettings().stubOnly());
+        when(remoteDictService.selectDictDataByType(anyString())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case "sys_user_sex" -> dictData(3);
+            case "sys_normal_disable" -> dictData(2);
+            default -> dictData(50);
+        });
+        DictService dictService;
+        if ("legacy".equals(impl)) {
+            dictService = new LegacyDictService(remoteDictService);
+        } else {
+            dictService = new DictServiceImpl();
+            ReflectionTestUtils.setField(dictService, "remoteDictService", remoteDictService);
+        }
+        context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("benchmark", Map.of("tenant.enable", "false")));
+        context.getBeanFactory().registerSingleton("dictService", dictService);
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+
+        Random random = new Random(0);
+        list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ExportRow row = new ExportRow();
+            row.setId((long) i);
+            row.setName("name" + i);
+            row.setSex(String.valueOf(random.nextInt(3)));
+            row.setStatus(String.valueOf(random.nextInt(2)));
+            row.setTags(random.nextInt(50) + "," + random.nextInt(50) + "," + random.nextInt(50));
+            list.add(row);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void export() {
+        ExcelUtil.exportExcel(list, "benchmark", ExportRow.class, OutputStream.nullOutputStream());
+    }
+
+    private static List<RemoteDictDataVo> dictData(int size) {
+        List<RemoteDictDataVo> datas = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RemoteDictDataVo data = new RemoteDictDataVo();
+            data.setDictValue(String.valueOf(i));
+            data.setDictLabel("label" + i);
+            datas.add(data);
+        }
+        return datas;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ExcelDictExportBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * 导出行.
+     */
+    @Data
+    public static class ExportRow {
+
+        @ExcelProperty("编号")
+        private Long id;
+
+        @ExcelProperty("名称")
+        private String name;
+
+        @ExcelProperty(value = "性别", converter = ExcelDictConvert.class)
+        @ExcelDictFormat(dictType = "sys_user_sex")
+        private String sex;
+
+        @ExcelProperty(value = "状态", converter = ExcelDictConvert.class)
+        @ExcelDictFormat(dictType = "sys_normal_disable")
+        private String status;
+
+        @ExcelProperty(value = "标签", converter = ExcelDictConvert.class)
+        @ExcelDictFormat(dictType = "sys_tag")
+        private String tags;
+    }
+
+    /**
+     * 调整前的字典服务实现(缓存字典数据列表 每次翻译重建映射).
+     */
+    private static class LegacyDictService implements DictService {
+
+        private final Cache<Object, Object> ceffeine = Caffeine.newBuilder().build();
+
+        private final RemoteDictService remoteDictService;
+
+        LegacyDictService(RemoteDictService remoteDictService) {
+            this.remoteDictService = remoteDictService;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public String getDictLabel(String dictType, String dictValue, String separator) {
+            List<RemoteDictDataVo> datas = (List<RemoteDictDataVo>) ceffeine.get("remote:" + dictType, _ -> remoteDictService.selectDictDataByType(dictType));
+            Map<String, String> map = StreamUtils.toMap(datas, RemoteDictDataVo::getDictValue, RemoteDictDataVo::getDictLabel);
+            if (StringUtils.containsAny(dictValue, separator)) {
+                return Arrays.stream(dictValue.split(separator))
+                    .map(v -> map.getOrDefault(v, StringUtils.EMPTY))
+                    .collect(Collectors.joining(separator));
+            } else {
+                return map.getOrDefault(dictValue, StringUtils.EMPTY);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public String getDictValue(String dictType, String dictLabel, String separator) {
+            List<RemoteDictDataVo> datas = (List<RemoteDictDataVo>) ceffeine.get("remote:" + dictType, _ -> remoteDictService.selectDictDataByType(dictType));
+            Map<String, String> map = StreamUtils.toMap(datas, RemoteDictDataVo::getDictLabel, RemoteDictDataVo::getDictValue);
+            if (StringUtils.containsAny(dictLabel, separator)) {
+                return Arrays.stream(dictLabel.split(separator))
+                    .map(l -> map.getOrDefault(l, StringUtils.EMPTY))
+                    .collect(Collectors.joining(separator));
+            } else {
+                return map.getOrDefault(dictLabel, StringUtils.EMPTY);
+            }
+        }
+
+        @Override
+        public Map<String, String> getAllDictByDictType(String dictType) {
+            List<RemoteDictDataVo> list = remoteDictService.selectDictDataByType(dictType);
+            return StreamUtils.toMap(list, RemoteDictDataVo::getDictValue, RemoteDictDataVo::getDictLabel);
+        }
+    }
+}
@@ -1,3389 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// NO CHECKED-IN PROTOBUF GENCODE
-// source: File.proto
-// Protobuf Java Version: 4.27.2
-
-package leyramu.framework.lersosa.common.grpc.lib.file;
-
-public final class FileOuterClass {
-  private FileOuterClass() {}
-  static {
-    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-      /* major= */ 4,
-      /* minor= */ 27,
-      /* patch= */ 2,
-      /* suffix= */ "",
-      FileOuterClass.class.getName());
-  }
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  public interface FileChunkOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileChunk)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>bytes data = 1;</code>
-     * @return The data.
-     */
-    com.google.protobuf.ByteString getData();
-
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The fileName.
-     */
-    java.lang.String getFileName();
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The bytes for fileName.
-     */
-    com.google.protobuf.ByteString
-        getFileNameBytes();
-
-    /**
-     * <code>string mime_type = 3;</code>
-     * @return The mimeType.
-     */
-    java.lang.String getMimeType();
-    /**
-     * <code>string mime_type = 3;</code>
-     * @return The bytes for mimeType.
-     */
-    com.google.protobuf.ByteString
-        getMimeTypeBytes();
-  }
-  /**
-   * Protobuf type {@code FileChunk}
-   */
-  public static final class FileChunk extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileChunk)
-      FileChunkOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        FileChunk.class.getName());
-    }
-    // Use FileChunk.newBuilder() to construct.
-    private FileChunk(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private FileChunk() {
-      data_ = com.google.protobuf.ByteString.EMPTY;
-      fileName_ = "";
-      mimeType_ = "";
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileChunk_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileChunk_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder.class);
-    }
-
-    public static final int DATA_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-    /**
-     * <code>bytes data = 1;</code>
-     * @return The data.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
-    }
-
-    public static final int FILE_NAME_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object fileName_ = "";
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The fileName.
-     */
-    @java.lang.Override
-    public java.lang.String getFileName() {
-      java.lang.Object ref = fileName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        fileName_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The bytes for fileName.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getFileNameBytes() {
-      java.lang.Object ref = fileName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int MIME_TYPE_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object mimeType_ = "";
-    /**
-     * <code>string mime_type = 3;</code>
-     * @return The mimeType.
-     */
-    @java.lang.Override
-    public java.lang.String getMimeType() {
-      java.lang.Object ref = mimeType_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        mimeType_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string mime_type = 3;</code>
-     * @return The bytes for mimeType.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getMimeTypeBytes() {
-      java.lang.Object ref = mimeType_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        mimeType_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!data_.isEmpty()) {
-        output.writeBytes(1, data_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, fileName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mimeType_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, mimeType_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!data_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, data_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, fileName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(mimeType_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, mimeType_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk other = (leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk) obj;
-
-      if (!getData()
-          .equals(other.getData())) return false;
-      if (!getFileName()
-          .equals(other.getFileName())) return false;
-      if (!getMimeType()
-          .equals(other.getMimeType())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
-      hash = (37 * hash) + FILE_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getFileName().hashCode();
-      hash = (37 * hash) + MIME_TYPE_FIELD_NUMBER;
-      hash = (53 * hash) + getMimeType().hashCode();
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code FileChunk}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileChunk)
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileChunk_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileChunk_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        data_ = com.google.protobuf.ByteString.EMPTY;
-        fileName_ = "";
-        mimeType_ = "";
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileChunk_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk build() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk result = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.data_ = data_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.fileName_ = fileName_;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.mimeType_ = mimeType_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance()) return this;
-        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
-          setData(other.getData());
-        }
-        if (!other.getFileName().isEmpty()) {
-          fileName_ = other.fileName_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (!other.getMimeType().isEmpty()) {
-          mimeType_ = other.mimeType_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                data_ = input.readBytes();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              case 18: {
-                fileName_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
-                mimeType_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes data = 1;</code>
-       * @return The data.
-       */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
-      }
-      /**
-       * <code>bytes data = 1;</code>
-       * @param value The data to set.
-       * @return This builder for chaining.
-       */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        data_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>bytes data = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearData() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        data_ = getDefaultInstance().getData();
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object fileName_ = "";
-      /**
-       * <code>string file_name = 2;</code>
-       * @return The fileName.
-       */
-      public java.lang.String getFileName() {
-        java.lang.Object ref = fileName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          fileName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @return The bytes for fileName.
-       */
-      public com.google.protobuf.ByteString
-          getFileNameBytes() {
-        java.lang.Object ref = fileName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @param value The fileName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        fileName_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFileName() {
-        fileName_ = getDefaultInstance().getFileName();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @param value The bytes for fileName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        fileName_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object mimeType_ = "";
-      /**
-       * <code>string mime_type = 3;</code>
-       * @return The mimeType.
-       */
-      public java.lang.String getMimeType() {
-        java.lang.Object ref = mimeType_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          mimeType_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string mime_type = 3;</code>
-       * @return The bytes for mimeType.
-       */
-      public com.google.protobuf.ByteString
-          getMimeTypeBytes() {
-        java.lang.Object ref = mimeType_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          mimeType_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string mime_type = 3;</code>
-       * @param value The mimeType to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMimeType(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        mimeType_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string mime_type = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearMimeType() {
-        mimeType_ = getDefaultInstance().getMimeType();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string mime_type = 3;</code>
-       * @param value The bytes for mimeType to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMimeTypeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        mimeType_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:FileChunk)
-    }
-
-    // @@protoc_insertion_point(class_scope:FileChunk)
-    private static final leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<FileChunk>
-        PARSER = new com.google.protobuf.AbstractParser<FileChunk>() {
-      @java.lang.Override
-      public FileChunk parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<FileChunk> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<FileChunk> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface FileDataReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileDataReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int64 oss_id = 1;</code>
-     * @return The ossId.
-     */
-    long getOssId();
-
-    /**
-     * <code>string name = 2;</code>
-     * @return The name.
-     */
-    java.lang.String getName();
-    /**
-     * <code>string name = 2;</code>
-     * @return The bytes for name.
-     */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    /**
-     * <code>string url = 3;</code>
-     * @return The url.
-     */
-    java.lang.String getUrl();
-    /**
-     * <code>string url = 3;</code>
-     * @return The bytes for url.
-     */
-    com.google.protobuf.ByteString
-        getUrlBytes();
-
-    /**
-     * <code>string original_name = 4;</code>
-     * @return The originalName.
-     */
-    java.lang.String getOriginalName();
-    /**
-     * <code>string original_name = 4;</code>
-     * @return The bytes for originalName.
-     */
-    com.google.protobuf.ByteString
-        getOriginalNameBytes();
-
-    /**
-     * <code>string file_suffix = 5;</code>
-     * @return The fileSuffix.
-     */
-    java.lang.String getFileSuffix();
-    /**
-     * <code>string file_suffix = 5;</code>
-     * @return The bytes for fileSuffix.
-     */
-    com.google.protobuf.ByteString
-        getFileSuffixBytes();
-  }
-  /**
-   * Protobuf type {@code FileDataReply}
-   */
-  public static final class FileDataReply extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileDataReply)
-      FileDataReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        FileDataReply.class.getName());
-    }
-    // Use FileDataReply.newBuilder() to construct.
-    private FileDataReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private FileDataReply() {
-      name_ = "";
-      url_ = "";
-      originalName_ = "";
-      fileSuffix_ = "";
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileDataReply_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileDataReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder.class);
-    }
-
-    public static final int OSS_ID_FIELD_NUMBER = 1;
-    private long ossId_ = 0L;
-    /**
-     * <code>int64 oss_id = 1;</code>
-     * @return The ossId.
-     */
-    @java.lang.Override
-    public long getOssId() {
-      return ossId_;
-    }
-
-    public static final int NAME_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object name_ = "";
-    /**
-     * <code>string name = 2;</code>
-     * @return The name.
-     */
-    @java.lang.Override
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        name_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string name = 2;</code>
-     * @return The bytes for name.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int URL_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object url_ = "";
-    /**
-     * <code>string url = 3;</code>
-     * @return The url.
-     */
-    @java.lang.Override
-    public java.lang.String getUrl() {
-      java.lang.Object ref = url_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        url_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string url = 3;</code>
-     * @return The bytes for url.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getUrlBytes() {
-      java.lang.Object ref = url_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        url_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int ORIGINAL_NAME_FIELD_NUMBER = 4;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object originalName_ = "";
-    /**
-     * <code>string original_name = 4;</code>
-     * @return The originalName.
-     */
-    @java.lang.Override
-    public java.lang.String getOriginalName() {
-      java.lang.Object ref = originalName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        originalName_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string original_name = 4;</code>
-     * @return The bytes for originalName.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getOriginalNameBytes() {
-      java.lang.Object ref = originalName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        originalName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int FILE_SUFFIX_FIELD_NUMBER = 5;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object fileSuffix_ = "";
-    /**
-     * <code>string file_suffix = 5;</code>
-     * @return The fileSuffix.
-     */
-    @java.lang.Override
-    public java.lang.String getFileSuffix() {
-      java.lang.Object ref = fileSuffix_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        fileSuffix_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string file_suffix = 5;</code>
-     * @return The bytes for fileSuffix.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getFileSuffixBytes() {
-      java.lang.Object ref = fileSuffix_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileSuffix_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (ossId_ != 0L) {
-        output.writeInt64(1, ossId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(url_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, url_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(originalName_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, originalName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileSuffix_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 5, fileSuffix_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (ossId_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, ossId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(url_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, url_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(originalName_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, originalName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileSuffix_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, fileSuffix_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply other = (leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply) obj;
-
-      if (getOssId()
-          != other.getOssId()) return false;
-      if (!getName()
-          .equals(other.getName())) return false;
-      if (!getUrl()
-          .equals(other.getUrl())) return false;
-      if (!getOriginalName()
-          .equals(other.getOriginalName())) return false;
-      if (!getFileSuffix()
-          .equals(other.getFileSuffix())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + OSS_ID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getOssId());
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + URL_FIELD_NUMBER;
-      hash = (53 * hash) + getUrl().hashCode();
-      hash = (37 * hash) + ORIGINAL_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getOriginalName().hashCode();
-      hash = (37 * hash) + FILE_SUFFIX_FIELD_NUMBER;
-      hash = (53 * hash) + getFileSuffix().hashCode();
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code FileDataReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileDataReply)
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileDataReply_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileDataReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        ossId_ = 0L;
-        name_ = "";
-        url_ = "";
-        originalName_ = "";
-        fileSuffix_ = "";
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileDataReply_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply build() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply result = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.ossId_ = ossId_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.name_ = name_;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.url_ = url_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.originalName_ = originalName_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.fileSuffix_ = fileSuffix_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.getDefaultInstance()) return this;
-        if (other.getOssId() != 0L) {
-          setOssId(other.getOssId());
-        }
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (!other.getUrl().isEmpty()) {
-          url_ = other.url_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (!other.getOriginalName().isEmpty()) {
-          originalName_ = other.originalName_;
-          bitField0_ |= 0x00000008;
-          onChanged();
-        }
-        if (!other.getFileSuffix().isEmpty()) {
-          fileSuffix_ = other.fileSuffix_;
-          bitField0_ |= 0x00000010;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                ossId_ = input.readInt64();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 8
-              case 18: {
-                name_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
-                url_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 34: {
-                originalName_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 34
-              case 42: {
-                fileSuffix_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 42
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private long ossId_ ;
-      /**
-       * <code>int64 oss_id = 1;</code>
-       * @return The ossId.
-       */
-      @java.lang.Override
-      public long getOssId() {
-        return ossId_;
-      }
-      /**
-       * <code>int64 oss_id = 1;</code>
-       * @param value The ossId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOssId(long value) {
-
-        ossId_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int64 oss_id = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOssId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        ossId_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object name_ = "";
-      /**
-       * <code>string name = 2;</code>
-       * @return The name.
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string name = 2;</code>
-       * @return The bytes for name.
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string name = 2;</code>
-       * @param value The name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        name_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearName() {
-        name_ = getDefaultInstance().getName();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 2;</code>
-       * @param value The bytes for name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        name_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object url_ = "";
-      /**
-       * <code>string url = 3;</code>
-       * @return The url.
-       */
-      public java.lang.String getUrl() {
-        java.lang.Object ref = url_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          url_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string url = 3;</code>
-       * @return The bytes for url.
-       */
-      public com.google.protobuf.ByteString
-          getUrlBytes() {
-        java.lang.Object ref = url_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          url_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string url = 3;</code>
-       * @param value The url to set.
-       * @return This builder for chaining.
-       */
-      public Builder setUrl(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        url_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string url = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearUrl() {
-        url_ = getDefaultInstance().getUrl();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string url = 3;</code>
-       * @param value The bytes for url to set.
-       * @return This builder for chaining.
-       */
-      public Builder setUrlBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        url_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object originalName_ = "";
-      /**
-       * <code>string original_name = 4;</code>
-       * @return The originalName.
-       */
-      public java.lang.String getOriginalName() {
-        java.lang.Object ref = originalName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          originalName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string original_name = 4;</code>
-       * @return The bytes for originalName.
-       */
-      public com.google.protobuf.ByteString
-          getOriginalNameBytes() {
-        java.lang.Object ref = originalName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          originalName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string original_name = 4;</code>
-       * @param value The originalName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOriginalName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        originalName_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string original_name = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearOriginalName() {
-        originalName_ = getDefaultInstance().getOriginalName();
-        bitField0_ = (bitField0_ & ~0x00000008);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string original_name = 4;</code>
-       * @param value The bytes for originalName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setOriginalNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        originalName_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object fileSuffix_ = "";
-      /**
-       * <code>string file_suffix = 5;</code>
-       * @return The fileSuffix.
-       */
-      public java.lang.String getFileSuffix() {
-        java.lang.Object ref = fileSuffix_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          fileSuffix_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string file_suffix = 5;</code>
-       * @return The bytes for fileSuffix.
-       */
-      public com.google.protobuf.ByteString
-          getFileSuffixBytes() {
-        java.lang.Object ref = fileSuffix_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileSuffix_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string file_suffix = 5;</code>
-       * @param value The fileSuffix to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileSuffix(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        fileSuffix_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_suffix = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFileSuffix() {
-        fileSuffix_ = getDefaultInstance().getFileSuffix();
-        bitField0_ = (bitField0_ & ~0x00000010);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_suffix = 5;</code>
-       * @param value The bytes for fileSuffix to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileSuffixBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        fileSuffix_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:FileDataReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:FileDataReply)
-    private static final leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<FileDataReply>
-        PARSER = new com.google.protobuf.AbstractParser<FileDataReply>() {
-      @java.lang.Override
-      public FileDataReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<FileDataReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<FileDataReply> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface FileRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileRequest)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     * @return Whether the fileChunk field is set.
-     */
-    boolean hasFileChunk();
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     * @return The fileChunk.
-     */
-    leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getFileChunk();
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder getFileChunkOrBuilder();
-  }
-  /**
-   * Protobuf type {@code FileRequest}
-   */
-  public static final class FileRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileRequest)
-      FileRequestOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        FileRequest.class.getName());
-    }
-    // Use FileRequest.newBuilder() to construct.
-    private FileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private FileRequest() {
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileRequest_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileRequest_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.Builder.class);
-    }
-
-    private int bitField0_;
-    public static final int FILE_CHUNK_FIELD_NUMBER = 1;
-    private leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk fileChunk_;
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     * @return Whether the fileChunk field is set.
-     */
-    @java.lang.Override
-    public boolean hasFileChunk() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     * @return The fileChunk.
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getFileChunk() {
-      return fileChunk_ == null ? leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance() : fileChunk_;
-    }
-    /**
-     * <code>.FileChunk file_chunk = 1;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder getFileChunkOrBuilder() {
-      return fileChunk_ == null ? leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance() : fileChunk_;
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeMessage(1, getFileChunk());
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getFileChunk());
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest other = (leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest) obj;
-
-      if (hasFileChunk() != other.hasFileChunk()) return false;
-      if (hasFileChunk()) {
-        if (!getFileChunk()
-            .equals(other.getFileChunk())) return false;
-      }
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasFileChunk()) {
-        hash = (37 * hash) + FILE_CHUNK_FIELD_NUMBER;
-        hash = (53 * hash) + getFileChunk().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code FileRequest}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileRequest)
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequestOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileRequest_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileRequest_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage
-                .alwaysUseFieldBuilders) {
-          getFileChunkFieldBuilder();
-        }
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        fileChunk_ = null;
-        if (fileChunkBuilder_ != null) {
-          fileChunkBuilder_.dispose();
-          fileChunkBuilder_ = null;
-        }
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileRequest_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest build() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest result = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest result) {
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.fileChunk_ = fileChunkBuilder_ == null
-              ? fileChunk_
-              : fileChunkBuilder_.build();
-          to_bitField0_ |= 0x00000001;
-        }
-        result.bitField0_ |= to_bitField0_;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest.getDefaultInstance()) return this;
-        if (other.hasFileChunk()) {
-          mergeFileChunk(other.getFileChunk());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                input.readMessage(
-                    getFileChunkFieldBuilder().getBuilder(),
-                    extensionRegistry);
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk fileChunk_;
-      private com.google.protobuf.SingleFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder> fileChunkBuilder_;
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       * @return Whether the fileChunk field is set.
-       */
-      public boolean hasFileChunk() {
-        return ((bitField0_ & 0x00000001) != 0);
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       * @return The fileChunk.
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk getFileChunk() {
-        if (fileChunkBuilder_ == null) {
-          return fileChunk_ == null ? leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance() : fileChunk_;
-        } else {
-          return fileChunkBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public Builder setFileChunk(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk value) {
-        if (fileChunkBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          fileChunk_ = value;
-        } else {
-          fileChunkBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public Builder setFileChunk(
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder builderForValue) {
-        if (fileChunkBuilder_ == null) {
-          fileChunk_ = builderForValue.build();
-        } else {
-          fileChunkBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public Builder mergeFileChunk(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk value) {
-        if (fileChunkBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0) &&
-            fileChunk_ != null &&
-            fileChunk_ != leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance()) {
-            getFileChunkBuilder().mergeFrom(value);
-          } else {
-            fileChunk_ = value;
-          }
-        } else {
-          fileChunkBuilder_.mergeFrom(value);
-        }
-        if (fileChunk_ != null) {
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        return this;
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public Builder clearFileChunk() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        fileChunk_ = null;
-        if (fileChunkBuilder_ != null) {
-          fileChunkBuilder_.dispose();
-          fileChunkBuilder_ = null;
-        }
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder getFileChunkBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getFileChunkFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder getFileChunkOrBuilder() {
-        if (fileChunkBuilder_ != null) {
-          return fileChunkBuilder_.getMessageOrBuilder();
-        } else {
-          return fileChunk_ == null ?
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.getDefaultInstance() : fileChunk_;
-        }
-      }
-      /**
-       * <code>.FileChunk file_chunk = 1;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder> 
-          getFileChunkFieldBuilder() {
-        if (fileChunkBuilder_ == null) {
-          fileChunkBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunk.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileChunkOrBuilder>(
-                  getFileChunk(),
-                  getParentForChildren(),
-                  isClean());
-          fileChunk_ = null;
-        }
-        return fileChunkBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:FileRequest)
-    }
-
-    // @@protoc_insertion_point(class_scope:FileRequest)
-    private static final leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<FileRequest>
-        PARSER = new com.google.protobuf.AbstractParser<FileRequest>() {
-      @java.lang.Override
-      public FileRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<FileRequest> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<FileRequest> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileRequest getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface FileReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:FileReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int32 code = 1;</code>
-     * @return The code.
-     */
-    int getCode();
-
-    /**
-     * <code>string message = 2;</code>
-     * @return The message.
-     */
-    java.lang.String getMessage();
-    /**
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
-     */
-    com.google.protobuf.ByteString
-        getMessageBytes();
-
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> 
-        getDataList();
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getData(int index);
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    int getDataCount();
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder> 
-        getDataOrBuilderList();
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder getDataOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code FileReply}
-   */
-  public static final class FileReply extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:FileReply)
-      FileReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        FileReply.class.getName());
-    }
-    // Use FileReply.newBuilder() to construct.
-    private FileReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private FileReply() {
-      message_ = "";
-      data_ = java.util.Collections.emptyList();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileReply_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.Builder.class);
-    }
-
-    public static final int CODE_FIELD_NUMBER = 1;
-    private int code_ = 0;
-    /**
-     * <code>int32 code = 1;</code>
-     * @return The code.
-     */
-    @java.lang.Override
-    public int getCode() {
-      return code_;
-    }
-
-    public static final int MESSAGE_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object message_ = "";
-    /**
-     * <code>string message = 2;</code>
-     * @return The message.
-     */
-    @java.lang.Override
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        message_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        message_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int DATA_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> data_;
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    @java.lang.Override
-    public java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> getDataList() {
-      return data_;
-    }
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    @java.lang.Override
-    public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder> 
-        getDataOrBuilderList() {
-      return data_;
-    }
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    @java.lang.Override
-    public int getDataCount() {
-      return data_.size();
-    }
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getData(int index) {
-      return data_.get(index);
-    }
-    /**
-     * <code>repeated .FileDataReply data = 3;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder getDataOrBuilder(
-        int index) {
-      return data_.get(index);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (code_ != 0) {
-        output.writeInt32(1, code_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, message_);
-      }
-      for (int i = 0; i < data_.size(); i++) {
-        output.writeMessage(3, data_.get(i));
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (code_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, code_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, message_);
-      }
-      for (int i = 0; i < data_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, data_.get(i));
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply other = (leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply) obj;
-
-      if (getCode()
-          != other.getCode()) return false;
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
-      if (!getDataList()
-          .equals(other.getDataList())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + CODE_FIELD_NUMBER;
-      hash = (53 * hash) + getCode();
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
-      if (getDataCount() > 0) {
-        hash = (37 * hash) + DATA_FIELD_NUMBER;
-        hash = (53 * hash) + getDataList().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code FileReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:FileReply)
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileReply_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.class, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        code_ = 0;
-        message_ = "";
-        if (dataBuilder_ == null) {
-          data_ = java.util.Collections.emptyList();
-        } else {
-          data_ = null;
-          dataBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.internal_static_FileReply_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply build() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply result = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply(this);
-        buildPartialRepeatedFields(result);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartialRepeatedFields(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply result) {
-        if (dataBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) != 0)) {
-            data_ = java.util.Collections.unmodifiableList(data_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.data_ = data_;
-        } else {
-          result.data_ = dataBuilder_.build();
-        }
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.code_ = code_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.message_ = message_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply.getDefaultInstance()) return this;
-        if (other.getCode() != 0) {
-          setCode(other.getCode());
-        }
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (dataBuilder_ == null) {
-          if (!other.data_.isEmpty()) {
-            if (data_.isEmpty()) {
-              data_ = other.data_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureDataIsMutable();
-              data_.addAll(other.data_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.data_.isEmpty()) {
-            if (dataBuilder_.isEmpty()) {
-              dataBuilder_.dispose();
-              dataBuilder_ = null;
-              data_ = other.data_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              dataBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getDataFieldBuilder() : null;
-            } else {
-              dataBuilder_.addAllMessages(other.data_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                code_ = input.readInt32();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 8
-              case 18: {
-                message_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
-                leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply m =
-                    input.readMessage(
-                        leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.parser(),
-                        extensionRegistry);
-                if (dataBuilder_ == null) {
-                  ensureDataIsMutable();
-                  data_.add(m);
-                } else {
-                  dataBuilder_.addMessage(m);
-                }
-                break;
-              } // case 26
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private int code_ ;
-      /**
-       * <code>int32 code = 1;</code>
-       * @return The code.
-       */
-      @java.lang.Override
-      public int getCode() {
-        return code_;
-      }
-      /**
-       * <code>int32 code = 1;</code>
-       * @param value The code to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCode(int value) {
-
-        code_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 code = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCode() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        code_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object message_ = "";
-      /**
-       * <code>string message = 2;</code>
-       * @return The message.
-       */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          message_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @return The bytes for message.
-       */
-      public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          message_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @param value The message to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMessage(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        message_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearMessage() {
-        message_ = getDefaultInstance().getMessage();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @param value The bytes for message to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        message_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> data_ =
-        java.util.Collections.emptyList();
-      private void ensureDataIsMutable() {
-        if (!((bitField0_ & 0x00000004) != 0)) {
-          data_ = new java.util.ArrayList<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply>(data_);
-          bitField0_ |= 0x00000004;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder> dataBuilder_;
-
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> getDataList() {
-        if (dataBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(data_);
-        } else {
-          return dataBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public int getDataCount() {
-        if (dataBuilder_ == null) {
-          return data_.size();
-        } else {
-          return dataBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply getData(int index) {
-        if (dataBuilder_ == null) {
-          return data_.get(index);
-        } else {
-          return dataBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder setData(
-          int index, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply value) {
-        if (dataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDataIsMutable();
-          data_.set(index, value);
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder setData(
-          int index, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          ensureDataIsMutable();
-          data_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          dataBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder addData(leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply value) {
-        if (dataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDataIsMutable();
-          data_.add(value);
-          onChanged();
-        } else {
-          dataBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder addData(
-          int index, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply value) {
-        if (dataBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDataIsMutable();
-          data_.add(index, value);
-          onChanged();
-        } else {
-          dataBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder addData(
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          ensureDataIsMutable();
-          data_.add(builderForValue.build());
-          onChanged();
-        } else {
-          dataBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder addData(
-          int index, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder builderForValue) {
-        if (dataBuilder_ == null) {
-          ensureDataIsMutable();
-          data_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          dataBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder addAllData(
-          java.lang.Iterable<? extends leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply> values) {
-        if (dataBuilder_ == null) {
-          ensureDataIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, data_);
-          onChanged();
-        } else {
-          dataBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder clearData() {
-        if (dataBuilder_ == null) {
-          data_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          dataBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public Builder removeData(int index) {
-        if (dataBuilder_ == null) {
-          ensureDataIsMutable();
-          data_.remove(index);
-          onChanged();
-        } else {
-          dataBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder getDataBuilder(
-          int index) {
-        return getDataFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder getDataOrBuilder(
-          int index) {
-        if (dataBuilder_ == null) {
-          return data_.get(index);  } else {
-          return dataBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder> 
-           getDataOrBuilderList() {
-        if (dataBuilder_ != null) {
-          return dataBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(data_);
-        }
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder addDataBuilder() {
-        return getDataFieldBuilder().addBuilder(
-            leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder addDataBuilder(
-          int index) {
-        return getDataFieldBuilder().addBuilder(
-            index, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .FileDataReply data = 3;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder> 
-           getDataBuilderList() {
-        return getDataFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder> 
-          getDataFieldBuilder() {
-        if (dataBuilder_ == null) {
-          dataBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReply.Builder, leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileDataReplyOrBuilder>(
-                  data_,
-                  ((bitField0_ & 0x00000004) != 0),
-                  getParentForChildren(),
-                  isClean());
-          data_ = null;
-        }
-        return dataBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:FileReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:FileReply)
-    private static final leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<FileReply>
-        PARSER = new com.google.protobuf.AbstractParser<FileReply>() {
-      @java.lang.Override
-      public FileReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<FileReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<FileReply> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass.FileReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_FileChunk_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_FileChunk_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_FileDataReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_FileDataReply_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_FileRequest_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_FileRequest_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_FileReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_FileReply_fieldAccessorTable;
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
-  }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\nFile.proto\"?\n\tFileChunk\022\014\n\004data\030\001 \001(\014\022" +
-      "\021\n\tfile_name\030\002 \001(\t\022\021\n\tmime_type\030\003 \001(\t\"f\n" +
-      "\rFileDataReply\022\016\n\006oss_id\030\001 \001(\003\022\014\n\004name\030\002" +
-      " \001(\t\022\013\n\003url\030\003 \001(\t\022\025\n\roriginal_name\030\004 \001(\t" +
-      "\022\023\n\013file_suffix\030\005 \001(\t\"-\n\013FileRequest\022\036\n\n" +
-      "file_chunk\030\001 \001(\0132\n.FileChunk\"H\n\tFileRepl" +
-      "y\022\014\n\004code\030\001 \001(\005\022\017\n\007message\030\002 \001(\t\022\034\n\004data" +
-      "\030\003 \003(\0132\016.FileDataReply22\n\004File\022*\n\nUpload" +
-      "File\022\014.FileRequest\032\n.FileReply\"\000(\001B0\n.le" +
-      "yramu.framework.lersosa.common.grpc.lib." +
-      "fileb\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-    internal_static_FileChunk_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_FileChunk_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_FileChunk_descriptor,
-        new java.lang.String[] { "Data", "FileName", "MimeType", });
-    internal_static_FileDataReply_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_FileDataReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_FileDataReply_descriptor,
-        new java.lang.String[] { "OssId", "Name", "Url", "OriginalName", "FileSuffix", });
-    internal_static_FileRequest_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_FileRequest_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_FileRequest_descriptor,
-        new java.lang.String[] { "FileChunk", });
-    internal_static_FileReply_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_FileReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_FileReply_descriptor,
-        new java.lang.String[] { "Code", "Message", "Data", });
-    descriptor.resolveAllFeaturesImmutable();
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
@@ -1,4903 +0,0 @@
-// Generated by the protocol buffer compiler.  DO NOT EDIT!
-// NO CHECKED-IN PROTOBUF GENCODE
-// source: Pulsar.proto
-// Protobuf Java Version: 4.27.2
-
-package leyramu.framework.lersosa.common.grpc.lib.pulsar;
-
-public final class PulsarOuterClass {
-  private PulsarOuterClass() {}
-  static {
-    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-      /* major= */ 4,
-      /* minor= */ 27,
-      /* patch= */ 2,
-      /* suffix= */ "",
-      PulsarOuterClass.class.getName());
-  }
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistryLite registry) {
-  }
-
-  public static void registerAllExtensions(
-      com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions(
-        (com.google.protobuf.ExtensionRegistryLite) registry);
-  }
-  public interface PulsarMatcherRequestListOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PulsarMatcherRequestList)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> 
-        getPulsarList();
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getPulsar(int index);
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    int getPulsarCount();
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder> 
-        getPulsarOrBuilderList();
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder getPulsarOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code PulsarMatcherRequestList}
-   */
-  public static final class PulsarMatcherRequestList extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PulsarMatcherRequestList)
-      PulsarMatcherRequestListOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        PulsarMatcherRequestList.class.getName());
-    }
-    // Use PulsarMatcherRequestList.newBuilder() to construct.
-    private PulsarMatcherRequestList(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private PulsarMatcherRequestList() {
-      pulsar_ = java.util.Collections.emptyList();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequestList_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequestList_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.Builder.class);
-    }
-
-    public static final int PULSAR_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> pulsar_;
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> getPulsarList() {
-      return pulsar_;
-    }
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder> 
-        getPulsarOrBuilderList() {
-      return pulsar_;
-    }
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public int getPulsarCount() {
-      return pulsar_.size();
-    }
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getPulsar(int index) {
-      return pulsar_.get(index);
-    }
-    /**
-     * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder getPulsarOrBuilder(
-        int index) {
-      return pulsar_.get(index);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      for (int i = 0; i < pulsar_.size(); i++) {
-        output.writeMessage(1, pulsar_.get(i));
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      for (int i = 0; i < pulsar_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pulsar_.get(i));
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList other = (leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList) obj;
-
-      if (!getPulsarList()
-          .equals(other.getPulsarList())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (getPulsarCount() > 0) {
-        hash = (37 * hash) + PULSAR_FIELD_NUMBER;
-        hash = (53 * hash) + getPulsarList().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PulsarMatcherRequestList}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PulsarMatcherRequestList)
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestListOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequestList_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequestList_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        if (pulsarBuilder_ == null) {
-          pulsar_ = java.util.Collections.emptyList();
-        } else {
-          pulsar_ = null;
-          pulsarBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequestList_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList build() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList result = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList(this);
-        buildPartialRepeatedFields(result);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartialRepeatedFields(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList result) {
-        if (pulsarBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            pulsar_ = java.util.Collections.unmodifiableList(pulsar_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.pulsar_ = pulsar_;
-        } else {
-          result.pulsar_ = pulsarBuilder_.build();
-        }
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList result) {
-        int from_bitField0_ = bitField0_;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList.getDefaultInstance()) return this;
-        if (pulsarBuilder_ == null) {
-          if (!other.pulsar_.isEmpty()) {
-            if (pulsar_.isEmpty()) {
-              pulsar_ = other.pulsar_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensurePulsarIsMutable();
-              pulsar_.addAll(other.pulsar_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.pulsar_.isEmpty()) {
-            if (pulsarBuilder_.isEmpty()) {
-              pulsarBuilder_.dispose();
-              pulsarBuilder_ = null;
-              pulsar_ = other.pulsar_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              pulsarBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getPulsarFieldBuilder() : null;
-            } else {
-              pulsarBuilder_.addAllMessages(other.pulsar_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest m =
-                    input.readMessage(
-                        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.parser(),
-                        extensionRegistry);
-                if (pulsarBuilder_ == null) {
-                  ensurePulsarIsMutable();
-                  pulsar_.add(m);
-                } else {
-                  pulsarBuilder_.addMessage(m);
-                }
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> pulsar_ =
-        java.util.Collections.emptyList();
-      private void ensurePulsarIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          pulsar_ = new java.util.ArrayList<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest>(pulsar_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder> pulsarBuilder_;
-
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> getPulsarList() {
-        if (pulsarBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(pulsar_);
-        } else {
-          return pulsarBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public int getPulsarCount() {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.size();
-        } else {
-          return pulsarBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getPulsar(int index) {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.get(index);
-        } else {
-          return pulsarBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder setPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.set(index, value);
-          onChanged();
-        } else {
-          pulsarBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder setPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.add(value);
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.add(index, value);
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.add(builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder addAllPulsar(
-          java.lang.Iterable<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest> values) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, pulsar_);
-          onChanged();
-        } else {
-          pulsarBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder clearPulsar() {
-        if (pulsarBuilder_ == null) {
-          pulsar_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          pulsarBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public Builder removePulsar(int index) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.remove(index);
-          onChanged();
-        } else {
-          pulsarBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder getPulsarBuilder(
-          int index) {
-        return getPulsarFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder getPulsarOrBuilder(
-          int index) {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.get(index);  } else {
-          return pulsarBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder> 
-           getPulsarOrBuilderList() {
-        if (pulsarBuilder_ != null) {
-          return pulsarBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(pulsar_);
-        }
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder addPulsarBuilder() {
-        return getPulsarFieldBuilder().addBuilder(
-            leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder addPulsarBuilder(
-          int index) {
-        return getPulsarFieldBuilder().addBuilder(
-            index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .PulsarMatcherRequest pulsar = 1;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder> 
-           getPulsarBuilderList() {
-        return getPulsarFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder> 
-          getPulsarFieldBuilder() {
-        if (pulsarBuilder_ == null) {
-          pulsarBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder>(
-                  pulsar_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          pulsar_ = null;
-        }
-        return pulsarBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:PulsarMatcherRequestList)
-    }
-
-    // @@protoc_insertion_point(class_scope:PulsarMatcherRequestList)
-    private static final leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PulsarMatcherRequestList>
-        PARSER = new com.google.protobuf.AbstractParser<PulsarMatcherRequestList>() {
-      @java.lang.Override
-      public PulsarMatcherRequestList parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<PulsarMatcherRequestList> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PulsarMatcherRequestList> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestList getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PulsarScoresRequestListOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PulsarScoresRequestList)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> 
-        getPulsarList();
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getPulsar(int index);
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    int getPulsarCount();
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder> 
-        getPulsarOrBuilderList();
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder getPulsarOrBuilder(
-        int index);
-  }
-  /**
-   * Protobuf type {@code PulsarScoresRequestList}
-   */
-  public static final class PulsarScoresRequestList extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PulsarScoresRequestList)
-      PulsarScoresRequestListOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        PulsarScoresRequestList.class.getName());
-    }
-    // Use PulsarScoresRequestList.newBuilder() to construct.
-    private PulsarScoresRequestList(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private PulsarScoresRequestList() {
-      pulsar_ = java.util.Collections.emptyList();
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequestList_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequestList_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.Builder.class);
-    }
-
-    public static final int PULSAR_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> pulsar_;
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> getPulsarList() {
-      return pulsar_;
-    }
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder> 
-        getPulsarOrBuilderList() {
-      return pulsar_;
-    }
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public int getPulsarCount() {
-      return pulsar_.size();
-    }
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getPulsar(int index) {
-      return pulsar_.get(index);
-    }
-    /**
-     * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-     */
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder getPulsarOrBuilder(
-        int index) {
-      return pulsar_.get(index);
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      for (int i = 0; i < pulsar_.size(); i++) {
-        output.writeMessage(1, pulsar_.get(i));
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      for (int i = 0; i < pulsar_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pulsar_.get(i));
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList other = (leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList) obj;
-
-      if (!getPulsarList()
-          .equals(other.getPulsarList())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (getPulsarCount() > 0) {
-        hash = (37 * hash) + PULSAR_FIELD_NUMBER;
-        hash = (53 * hash) + getPulsarList().hashCode();
-      }
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PulsarScoresRequestList}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PulsarScoresRequestList)
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestListOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequestList_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequestList_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        if (pulsarBuilder_ == null) {
-          pulsar_ = java.util.Collections.emptyList();
-        } else {
-          pulsar_ = null;
-          pulsarBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequestList_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList build() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList result = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList(this);
-        buildPartialRepeatedFields(result);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartialRepeatedFields(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList result) {
-        if (pulsarBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            pulsar_ = java.util.Collections.unmodifiableList(pulsar_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.pulsar_ = pulsar_;
-        } else {
-          result.pulsar_ = pulsarBuilder_.build();
-        }
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList result) {
-        int from_bitField0_ = bitField0_;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList.getDefaultInstance()) return this;
-        if (pulsarBuilder_ == null) {
-          if (!other.pulsar_.isEmpty()) {
-            if (pulsar_.isEmpty()) {
-              pulsar_ = other.pulsar_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensurePulsarIsMutable();
-              pulsar_.addAll(other.pulsar_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.pulsar_.isEmpty()) {
-            if (pulsarBuilder_.isEmpty()) {
-              pulsarBuilder_.dispose();
-              pulsarBuilder_ = null;
-              pulsar_ = other.pulsar_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              pulsarBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getPulsarFieldBuilder() : null;
-            } else {
-              pulsarBuilder_.addAllMessages(other.pulsar_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest m =
-                    input.readMessage(
-                        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.parser(),
-                        extensionRegistry);
-                if (pulsarBuilder_ == null) {
-                  ensurePulsarIsMutable();
-                  pulsar_.add(m);
-                } else {
-                  pulsarBuilder_.addMessage(m);
-                }
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> pulsar_ =
-        java.util.Collections.emptyList();
-      private void ensurePulsarIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          pulsar_ = new java.util.ArrayList<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest>(pulsar_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder> pulsarBuilder_;
-
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> getPulsarList() {
-        if (pulsarBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(pulsar_);
-        } else {
-          return pulsarBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public int getPulsarCount() {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.size();
-        } else {
-          return pulsarBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getPulsar(int index) {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.get(index);
-        } else {
-          return pulsarBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder setPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.set(index, value);
-          onChanged();
-        } else {
-          pulsarBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder setPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.add(value);
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest value) {
-        if (pulsarBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePulsarIsMutable();
-          pulsar_.add(index, value);
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.add(builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder addPulsar(
-          int index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder builderForValue) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          pulsarBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder addAllPulsar(
-          java.lang.Iterable<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest> values) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, pulsar_);
-          onChanged();
-        } else {
-          pulsarBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder clearPulsar() {
-        if (pulsarBuilder_ == null) {
-          pulsar_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          pulsarBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public Builder removePulsar(int index) {
-        if (pulsarBuilder_ == null) {
-          ensurePulsarIsMutable();
-          pulsar_.remove(index);
-          onChanged();
-        } else {
-          pulsarBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder getPulsarBuilder(
-          int index) {
-        return getPulsarFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder getPulsarOrBuilder(
-          int index) {
-        if (pulsarBuilder_ == null) {
-          return pulsar_.get(index);  } else {
-          return pulsarBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public java.util.List<? extends leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder> 
-           getPulsarOrBuilderList() {
-        if (pulsarBuilder_ != null) {
-          return pulsarBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(pulsar_);
-        }
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder addPulsarBuilder() {
-        return getPulsarFieldBuilder().addBuilder(
-            leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder addPulsarBuilder(
-          int index) {
-        return getPulsarFieldBuilder().addBuilder(
-            index, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .PulsarScoresRequest pulsar = 1;</code>
-       */
-      public java.util.List<leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder> 
-           getPulsarBuilderList() {
-        return getPulsarFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder> 
-          getPulsarFieldBuilder() {
-        if (pulsarBuilder_ == null) {
-          pulsarBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder>(
-                  pulsar_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          pulsar_ = null;
-        }
-        return pulsarBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:PulsarScoresRequestList)
-    }
-
-    // @@protoc_insertion_point(class_scope:PulsarScoresRequestList)
-    private static final leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PulsarScoresRequestList>
-        PARSER = new com.google.protobuf.AbstractParser<PulsarScoresRequestList>() {
-      @java.lang.Override
-      public PulsarScoresRequestList parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<PulsarScoresRequestList> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PulsarScoresRequestList> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestList getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PulsarMatcherRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PulsarMatcherRequest)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
-     */
-    long getId();
-
-    /**
-     * <code>string tenant_id = 2;</code>
-     * @return The tenantId.
-     */
-    java.lang.String getTenantId();
-    /**
-     * <code>string tenant_id = 2;</code>
-     * @return The bytes for tenantId.
-     */
-    com.google.protobuf.ByteString
-        getTenantIdBytes();
-
-    /**
-     * <code>string name = 3;</code>
-     * @return The name.
-     */
-    java.lang.String getName();
-    /**
-     * <code>string name = 3;</code>
-     * @return The bytes for name.
-     */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    /**
-     * <code>string period = 4;</code>
-     * @return The period.
-     */
-    java.lang.String getPeriod();
-    /**
-     * <code>string period = 4;</code>
-     * @return The bytes for period.
-     */
-    com.google.protobuf.ByteString
-        getPeriodBytes();
-
-    /**
-     * <code>string dispersion_measure = 5;</code>
-     * @return The dispersionMeasure.
-     */
-    java.lang.String getDispersionMeasure();
-    /**
-     * <code>string dispersion_measure = 5;</code>
-     * @return The bytes for dispersionMeasure.
-     */
-    com.google.protobuf.ByteString
-        getDispersionMeasureBytes();
-
-    /**
-     * <code>string ra_deg = 6;</code>
-     * @return The raDeg.
-     */
-    java.lang.String getRaDeg();
-    /**
-     * <code>string ra_deg = 6;</code>
-     * @return The bytes for raDeg.
-     */
-    com.google.protobuf.ByteString
-        getRaDegBytes();
-
-    /**
-     * <code>string dec_deg = 7;</code>
-     * @return The decDeg.
-     */
-    java.lang.String getDecDeg();
-    /**
-     * <code>string dec_deg = 7;</code>
-     * @return The bytes for decDeg.
-     */
-    com.google.protobuf.ByteString
-        getDecDegBytes();
-
-    /**
-     * <code>double galactic_longitude = 8;</code>
-     * @return The galacticLongitude.
-     */
-    double getGalacticLongitude();
-
-    /**
-     * <code>double galactic_latitude = 9;</code>
-     * @return The galacticLatitude.
-     */
-    double getGalacticLatitude();
-
-    /**
-     * <code>string profiles_shape = 10;</code>
-     * @return The profilesShape.
-     */
-    java.lang.String getProfilesShape();
-    /**
-     * <code>string profiles_shape = 10;</code>
-     * @return The bytes for profilesShape.
-     */
-    com.google.protobuf.ByteString
-        getProfilesShapeBytes();
-
-    /**
-     * <code>double folding_period = 11;</code>
-     * @return The foldingPeriod.
-     */
-    double getFoldingPeriod();
-
-    /**
-     * <code>string discoverer = 12;</code>
-     * @return The discoverer.
-     */
-    java.lang.String getDiscoverer();
-    /**
-     * <code>string discoverer = 12;</code>
-     * @return The bytes for discoverer.
-     */
-    com.google.protobuf.ByteString
-        getDiscovererBytes();
-  }
-  /**
-   * Protobuf type {@code PulsarMatcherRequest}
-   */
-  public static final class PulsarMatcherRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PulsarMatcherRequest)
-      PulsarMatcherRequestOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        PulsarMatcherRequest.class.getName());
-    }
-    // Use PulsarMatcherRequest.newBuilder() to construct.
-    private PulsarMatcherRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private PulsarMatcherRequest() {
-      tenantId_ = "";
-      name_ = "";
-      period_ = "";
-      dispersionMeasure_ = "";
-      raDeg_ = "";
-      decDeg_ = "";
-      profilesShape_ = "";
-      discoverer_ = "";
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequest_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequest_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder.class);
-    }
-
-    public static final int ID_FIELD_NUMBER = 1;
-    private long id_ = 0L;
-    /**
-     * <code>int64 id = 1;</code>
-     * @return The id.
-     */
-    @java.lang.Override
-    public long getId() {
-      return id_;
-    }
-
-    public static final int TENANT_ID_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object tenantId_ = "";
-    /**
-     * <code>string tenant_id = 2;</code>
-     * @return The tenantId.
-     */
-    @java.lang.Override
-    public java.lang.String getTenantId() {
-      java.lang.Object ref = tenantId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        tenantId_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string tenant_id = 2;</code>
-     * @return The bytes for tenantId.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getTenantIdBytes() {
-      java.lang.Object ref = tenantId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        tenantId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int NAME_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object name_ = "";
-    /**
-     * <code>string name = 3;</code>
-     * @return The name.
-     */
-    @java.lang.Override
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        name_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string name = 3;</code>
-     * @return The bytes for name.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int PERIOD_FIELD_NUMBER = 4;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object period_ = "";
-    /**
-     * <code>string period = 4;</code>
-     * @return The period.
-     */
-    @java.lang.Override
-    public java.lang.String getPeriod() {
-      java.lang.Object ref = period_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        period_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string period = 4;</code>
-     * @return The bytes for period.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getPeriodBytes() {
-      java.lang.Object ref = period_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        period_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int DISPERSION_MEASURE_FIELD_NUMBER = 5;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object dispersionMeasure_ = "";
-    /**
-     * <code>string dispersion_measure = 5;</code>
-     * @return The dispersionMeasure.
-     */
-    @java.lang.Override
-    public java.lang.String getDispersionMeasure() {
-      java.lang.Object ref = dispersionMeasure_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        dispersionMeasure_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string dispersion_measure = 5;</code>
-     * @return The bytes for dispersionMeasure.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getDispersionMeasureBytes() {
-      java.lang.Object ref = dispersionMeasure_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        dispersionMeasure_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int RA_DEG_FIELD_NUMBER = 6;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object raDeg_ = "";
-    /**
-     * <code>string ra_deg = 6;</code>
-     * @return The raDeg.
-     */
-    @java.lang.Override
-    public java.lang.String getRaDeg() {
-      java.lang.Object ref = raDeg_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        raDeg_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string ra_deg = 6;</code>
-     * @return The bytes for raDeg.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getRaDegBytes() {
-      java.lang.Object ref = raDeg_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        raDeg_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int DEC_DEG_FIELD_NUMBER = 7;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object decDeg_ = "";
-    /**
-     * <code>string dec_deg = 7;</code>
-     * @return The decDeg.
-     */
-    @java.lang.Override
-    public java.lang.String getDecDeg() {
-      java.lang.Object ref = decDeg_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        decDeg_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string dec_deg = 7;</code>
-     * @return The bytes for decDeg.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getDecDegBytes() {
-      java.lang.Object ref = decDeg_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        decDeg_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int GALACTIC_LONGITUDE_FIELD_NUMBER = 8;
-    private double galacticLongitude_ = 0D;
-    /**
-     * <code>double galactic_longitude = 8;</code>
-     * @return The galacticLongitude.
-     */
-    @java.lang.Override
-    public double getGalacticLongitude() {
-      return galacticLongitude_;
-    }
-
-    public static final int GALACTIC_LATITUDE_FIELD_NUMBER = 9;
-    private double galacticLatitude_ = 0D;
-    /**
-     * <code>double galactic_latitude = 9;</code>
-     * @return The galacticLatitude.
-     */
-    @java.lang.Override
-    public double getGalacticLatitude() {
-      return galacticLatitude_;
-    }
-
-    public static final int PROFILES_SHAPE_FIELD_NUMBER = 10;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object profilesShape_ = "";
-    /**
-     * <code>string profiles_shape = 10;</code>
-     * @return The profilesShape.
-     */
-    @java.lang.Override
-    public java.lang.String getProfilesShape() {
-      java.lang.Object ref = profilesShape_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        profilesShape_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string profiles_shape = 10;</code>
-     * @return The bytes for profilesShape.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getProfilesShapeBytes() {
-      java.lang.Object ref = profilesShape_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        profilesShape_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int FOLDING_PERIOD_FIELD_NUMBER = 11;
-    private double foldingPeriod_ = 0D;
-    /**
-     * <code>double folding_period = 11;</code>
-     * @return The foldingPeriod.
-     */
-    @java.lang.Override
-    public double getFoldingPeriod() {
-      return foldingPeriod_;
-    }
-
-    public static final int DISCOVERER_FIELD_NUMBER = 12;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object discoverer_ = "";
-    /**
-     * <code>string discoverer = 12;</code>
-     * @return The discoverer.
-     */
-    @java.lang.Override
-    public java.lang.String getDiscoverer() {
-      java.lang.Object ref = discoverer_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        discoverer_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string discoverer = 12;</code>
-     * @return The bytes for discoverer.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getDiscovererBytes() {
-      java.lang.Object ref = discoverer_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        discoverer_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (id_ != 0L) {
-        output.writeInt64(1, id_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tenantId_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, tenantId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(period_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, period_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dispersionMeasure_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 5, dispersionMeasure_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(raDeg_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 6, raDeg_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(decDeg_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 7, decDeg_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(galacticLongitude_) != 0) {
-        output.writeDouble(8, galacticLongitude_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(galacticLatitude_) != 0) {
-        output.writeDouble(9, galacticLatitude_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(profilesShape_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 10, profilesShape_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(foldingPeriod_) != 0) {
-        output.writeDouble(11, foldingPeriod_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(discoverer_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 12, discoverer_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (id_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, id_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tenantId_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, tenantId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(name_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(period_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, period_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dispersionMeasure_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, dispersionMeasure_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(raDeg_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, raDeg_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(decDeg_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, decDeg_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(galacticLongitude_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(8, galacticLongitude_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(galacticLatitude_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(9, galacticLatitude_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(profilesShape_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(10, profilesShape_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(foldingPeriod_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(11, foldingPeriod_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(discoverer_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(12, discoverer_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest other = (leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest) obj;
-
-      if (getId()
-          != other.getId()) return false;
-      if (!getTenantId()
-          .equals(other.getTenantId())) return false;
-      if (!getName()
-          .equals(other.getName())) return false;
-      if (!getPeriod()
-          .equals(other.getPeriod())) return false;
-      if (!getDispersionMeasure()
-          .equals(other.getDispersionMeasure())) return false;
-      if (!getRaDeg()
-          .equals(other.getRaDeg())) return false;
-      if (!getDecDeg()
-          .equals(other.getDecDeg())) return false;
-      if (java.lang.Double.doubleToLongBits(getGalacticLongitude())
-          != java.lang.Double.doubleToLongBits(
-              other.getGalacticLongitude())) return false;
-      if (java.lang.Double.doubleToLongBits(getGalacticLatitude())
-          != java.lang.Double.doubleToLongBits(
-              other.getGalacticLatitude())) return false;
-      if (!getProfilesShape()
-          .equals(other.getProfilesShape())) return false;
-      if (java.lang.Double.doubleToLongBits(getFoldingPeriod())
-          != java.lang.Double.doubleToLongBits(
-              other.getFoldingPeriod())) return false;
-      if (!getDiscoverer()
-          .equals(other.getDiscoverer())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + ID_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getId());
-      hash = (37 * hash) + TENANT_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getTenantId().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + PERIOD_FIELD_NUMBER;
-      hash = (53 * hash) + getPeriod().hashCode();
-      hash = (37 * hash) + DISPERSION_MEASURE_FIELD_NUMBER;
-      hash = (53 * hash) + getDispersionMeasure().hashCode();
-      hash = (37 * hash) + RA_DEG_FIELD_NUMBER;
-      hash = (53 * hash) + getRaDeg().hashCode();
-      hash = (37 * hash) + DEC_DEG_FIELD_NUMBER;
-      hash = (53 * hash) + getDecDeg().hashCode();
-      hash = (37 * hash) + GALACTIC_LONGITUDE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getGalacticLongitude()));
-      hash = (37 * hash) + GALACTIC_LATITUDE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getGalacticLatitude()));
-      hash = (37 * hash) + PROFILES_SHAPE_FIELD_NUMBER;
-      hash = (53 * hash) + getProfilesShape().hashCode();
-      hash = (37 * hash) + FOLDING_PERIOD_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getFoldingPeriod()));
-      hash = (37 * hash) + DISCOVERER_FIELD_NUMBER;
-      hash = (53 * hash) + getDiscoverer().hashCode();
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PulsarMatcherRequest}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PulsarMatcherRequest)
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequestOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequest_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequest_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        id_ = 0L;
-        tenantId_ = "";
-        name_ = "";
-        period_ = "";
-        dispersionMeasure_ = "";
-        raDeg_ = "";
-        decDeg_ = "";
-        galacticLongitude_ = 0D;
-        galacticLatitude_ = 0D;
-        profilesShape_ = "";
-        foldingPeriod_ = 0D;
-        discoverer_ = "";
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarMatcherRequest_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest build() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest result = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.id_ = id_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.tenantId_ = tenantId_;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.name_ = name_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.period_ = period_;
-        }
-        if (((from_bitField0_ & 0x00000010) != 0)) {
-          result.dispersionMeasure_ = dispersionMeasure_;
-        }
-        if (((from_bitField0_ & 0x00000020) != 0)) {
-          result.raDeg_ = raDeg_;
-        }
-        if (((from_bitField0_ & 0x00000040) != 0)) {
-          result.decDeg_ = decDeg_;
-        }
-        if (((from_bitField0_ & 0x00000080) != 0)) {
-          result.galacticLongitude_ = galacticLongitude_;
-        }
-        if (((from_bitField0_ & 0x00000100) != 0)) {
-          result.galacticLatitude_ = galacticLatitude_;
-        }
-        if (((from_bitField0_ & 0x00000200) != 0)) {
-          result.profilesShape_ = profilesShape_;
-        }
-        if (((from_bitField0_ & 0x00000400) != 0)) {
-          result.foldingPeriod_ = foldingPeriod_;
-        }
-        if (((from_bitField0_ & 0x00000800) != 0)) {
-          result.discoverer_ = discoverer_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest.getDefaultInstance()) return this;
-        if (other.getId() != 0L) {
-          setId(other.getId());
-        }
-        if (!other.getTenantId().isEmpty()) {
-          tenantId_ = other.tenantId_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (!other.getPeriod().isEmpty()) {
-          period_ = other.period_;
-          bitField0_ |= 0x00000008;
-          onChanged();
-        }
-        if (!other.getDispersionMeasure().isEmpty()) {
-          dispersionMeasure_ = other.dispersionMeasure_;
-          bitField0_ |= 0x00000010;
-          onChanged();
-        }
-        if (!other.getRaDeg().isEmpty()) {
-          raDeg_ = other.raDeg_;
-          bitField0_ |= 0x00000020;
-          onChanged();
-        }
-        if (!other.getDecDeg().isEmpty()) {
-          decDeg_ = other.decDeg_;
-          bitField0_ |= 0x00000040;
-          onChanged();
-        }
-        if (other.getGalacticLongitude() != 0D) {
-          setGalacticLongitude(other.getGalacticLongitude());
-        }
-        if (other.getGalacticLatitude() != 0D) {
-          setGalacticLatitude(other.getGalacticLatitude());
-        }
-        if (!other.getProfilesShape().isEmpty()) {
-          profilesShape_ = other.profilesShape_;
-          bitField0_ |= 0x00000200;
-          onChanged();
-        }
-        if (other.getFoldingPeriod() != 0D) {
-          setFoldingPeriod(other.getFoldingPeriod());
-        }
-        if (!other.getDiscoverer().isEmpty()) {
-          discoverer_ = other.discoverer_;
-          bitField0_ |= 0x00000800;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                id_ = input.readInt64();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 8
-              case 18: {
-                tenantId_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
-                name_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 34: {
-                period_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 34
-              case 42: {
-                dispersionMeasure_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000010;
-                break;
-              } // case 42
-              case 50: {
-                raDeg_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000020;
-                break;
-              } // case 50
-              case 58: {
-                decDeg_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000040;
-                break;
-              } // case 58
-              case 65: {
-                galacticLongitude_ = input.readDouble();
-                bitField0_ |= 0x00000080;
-                break;
-              } // case 65
-              case 73: {
-                galacticLatitude_ = input.readDouble();
-                bitField0_ |= 0x00000100;
-                break;
-              } // case 73
-              case 82: {
-                profilesShape_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000200;
-                break;
-              } // case 82
-              case 89: {
-                foldingPeriod_ = input.readDouble();
-                bitField0_ |= 0x00000400;
-                break;
-              } // case 89
-              case 98: {
-                discoverer_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000800;
-                break;
-              } // case 98
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private long id_ ;
-      /**
-       * <code>int64 id = 1;</code>
-       * @return The id.
-       */
-      @java.lang.Override
-      public long getId() {
-        return id_;
-      }
-      /**
-       * <code>int64 id = 1;</code>
-       * @param value The id to set.
-       * @return This builder for chaining.
-       */
-      public Builder setId(long value) {
-
-        id_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int64 id = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = 0L;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object tenantId_ = "";
-      /**
-       * <code>string tenant_id = 2;</code>
-       * @return The tenantId.
-       */
-      public java.lang.String getTenantId() {
-        java.lang.Object ref = tenantId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          tenantId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string tenant_id = 2;</code>
-       * @return The bytes for tenantId.
-       */
-      public com.google.protobuf.ByteString
-          getTenantIdBytes() {
-        java.lang.Object ref = tenantId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          tenantId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string tenant_id = 2;</code>
-       * @param value The tenantId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTenantId(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        tenantId_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string tenant_id = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearTenantId() {
-        tenantId_ = getDefaultInstance().getTenantId();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string tenant_id = 2;</code>
-       * @param value The bytes for tenantId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTenantIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        tenantId_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object name_ = "";
-      /**
-       * <code>string name = 3;</code>
-       * @return The name.
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string name = 3;</code>
-       * @return The bytes for name.
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string name = 3;</code>
-       * @param value The name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        name_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearName() {
-        name_ = getDefaultInstance().getName();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 3;</code>
-       * @param value The bytes for name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        name_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object period_ = "";
-      /**
-       * <code>string period = 4;</code>
-       * @return The period.
-       */
-      public java.lang.String getPeriod() {
-        java.lang.Object ref = period_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          period_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string period = 4;</code>
-       * @return The bytes for period.
-       */
-      public com.google.protobuf.ByteString
-          getPeriodBytes() {
-        java.lang.Object ref = period_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          period_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string period = 4;</code>
-       * @param value The period to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPeriod(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        period_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string period = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPeriod() {
-        period_ = getDefaultInstance().getPeriod();
-        bitField0_ = (bitField0_ & ~0x00000008);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string period = 4;</code>
-       * @param value The bytes for period to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPeriodBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        period_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object dispersionMeasure_ = "";
-      /**
-       * <code>string dispersion_measure = 5;</code>
-       * @return The dispersionMeasure.
-       */
-      public java.lang.String getDispersionMeasure() {
-        java.lang.Object ref = dispersionMeasure_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          dispersionMeasure_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string dispersion_measure = 5;</code>
-       * @return The bytes for dispersionMeasure.
-       */
-      public com.google.protobuf.ByteString
-          getDispersionMeasureBytes() {
-        java.lang.Object ref = dispersionMeasure_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          dispersionMeasure_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string dispersion_measure = 5;</code>
-       * @param value The dispersionMeasure to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDispersionMeasure(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        dispersionMeasure_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string dispersion_measure = 5;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearDispersionMeasure() {
-        dispersionMeasure_ = getDefaultInstance().getDispersionMeasure();
-        bitField0_ = (bitField0_ & ~0x00000010);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string dispersion_measure = 5;</code>
-       * @param value The bytes for dispersionMeasure to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDispersionMeasureBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        dispersionMeasure_ = value;
-        bitField0_ |= 0x00000010;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object raDeg_ = "";
-      /**
-       * <code>string ra_deg = 6;</code>
-       * @return The raDeg.
-       */
-      public java.lang.String getRaDeg() {
-        java.lang.Object ref = raDeg_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          raDeg_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string ra_deg = 6;</code>
-       * @return The bytes for raDeg.
-       */
-      public com.google.protobuf.ByteString
-          getRaDegBytes() {
-        java.lang.Object ref = raDeg_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          raDeg_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string ra_deg = 6;</code>
-       * @param value The raDeg to set.
-       * @return This builder for chaining.
-       */
-      public Builder setRaDeg(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        raDeg_ = value;
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string ra_deg = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearRaDeg() {
-        raDeg_ = getDefaultInstance().getRaDeg();
-        bitField0_ = (bitField0_ & ~0x00000020);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string ra_deg = 6;</code>
-       * @param value The bytes for raDeg to set.
-       * @return This builder for chaining.
-       */
-      public Builder setRaDegBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        raDeg_ = value;
-        bitField0_ |= 0x00000020;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object decDeg_ = "";
-      /**
-       * <code>string dec_deg = 7;</code>
-       * @return The decDeg.
-       */
-      public java.lang.String getDecDeg() {
-        java.lang.Object ref = decDeg_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          decDeg_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string dec_deg = 7;</code>
-       * @return The bytes for decDeg.
-       */
-      public com.google.protobuf.ByteString
-          getDecDegBytes() {
-        java.lang.Object ref = decDeg_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          decDeg_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string dec_deg = 7;</code>
-       * @param value The decDeg to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDecDeg(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        decDeg_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string dec_deg = 7;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearDecDeg() {
-        decDeg_ = getDefaultInstance().getDecDeg();
-        bitField0_ = (bitField0_ & ~0x00000040);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string dec_deg = 7;</code>
-       * @param value The bytes for decDeg to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDecDegBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        decDeg_ = value;
-        bitField0_ |= 0x00000040;
-        onChanged();
-        return this;
-      }
-
-      private double galacticLongitude_ ;
-      /**
-       * <code>double galactic_longitude = 8;</code>
-       * @return The galacticLongitude.
-       */
-      @java.lang.Override
-      public double getGalacticLongitude() {
-        return galacticLongitude_;
-      }
-      /**
-       * <code>double galactic_longitude = 8;</code>
-       * @param value The galacticLongitude to set.
-       * @return This builder for chaining.
-       */
-      public Builder setGalacticLongitude(double value) {
-
-        galacticLongitude_ = value;
-        bitField0_ |= 0x00000080;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>double galactic_longitude = 8;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearGalacticLongitude() {
-        bitField0_ = (bitField0_ & ~0x00000080);
-        galacticLongitude_ = 0D;
-        onChanged();
-        return this;
-      }
-
-      private double galacticLatitude_ ;
-      /**
-       * <code>double galactic_latitude = 9;</code>
-       * @return The galacticLatitude.
-       */
-      @java.lang.Override
-      public double getGalacticLatitude() {
-        return galacticLatitude_;
-      }
-      /**
-       * <code>double galactic_latitude = 9;</code>
-       * @param value The galacticLatitude to set.
-       * @return This builder for chaining.
-       */
-      public Builder setGalacticLatitude(double value) {
-
-        galacticLatitude_ = value;
-        bitField0_ |= 0x00000100;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>double galactic_latitude = 9;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearGalacticLatitude() {
-        bitField0_ = (bitField0_ & ~0x00000100);
-        galacticLatitude_ = 0D;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object profilesShape_ = "";
-      /**
-       * <code>string profiles_shape = 10;</code>
-       * @return The profilesShape.
-       */
-      public java.lang.String getProfilesShape() {
-        java.lang.Object ref = profilesShape_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          profilesShape_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string profiles_shape = 10;</code>
-       * @return The bytes for profilesShape.
-       */
-      public com.google.protobuf.ByteString
-          getProfilesShapeBytes() {
-        java.lang.Object ref = profilesShape_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          profilesShape_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string profiles_shape = 10;</code>
-       * @param value The profilesShape to set.
-       * @return This builder for chaining.
-       */
-      public Builder setProfilesShape(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        profilesShape_ = value;
-        bitField0_ |= 0x00000200;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string profiles_shape = 10;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearProfilesShape() {
-        profilesShape_ = getDefaultInstance().getProfilesShape();
-        bitField0_ = (bitField0_ & ~0x00000200);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string profiles_shape = 10;</code>
-       * @param value The bytes for profilesShape to set.
-       * @return This builder for chaining.
-       */
-      public Builder setProfilesShapeBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        profilesShape_ = value;
-        bitField0_ |= 0x00000200;
-        onChanged();
-        return this;
-      }
-
-      private double foldingPeriod_ ;
-      /**
-       * <code>double folding_period = 11;</code>
-       * @return The foldingPeriod.
-       */
-      @java.lang.Override
-      public double getFoldingPeriod() {
-        return foldingPeriod_;
-      }
-      /**
-       * <code>double folding_period = 11;</code>
-       * @param value The foldingPeriod to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFoldingPeriod(double value) {
-
-        foldingPeriod_ = value;
-        bitField0_ |= 0x00000400;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>double folding_period = 11;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFoldingPeriod() {
-        bitField0_ = (bitField0_ & ~0x00000400);
-        foldingPeriod_ = 0D;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object discoverer_ = "";
-      /**
-       * <code>string discoverer = 12;</code>
-       * @return The discoverer.
-       */
-      public java.lang.String getDiscoverer() {
-        java.lang.Object ref = discoverer_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          discoverer_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string discoverer = 12;</code>
-       * @return The bytes for discoverer.
-       */
-      public com.google.protobuf.ByteString
-          getDiscovererBytes() {
-        java.lang.Object ref = discoverer_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          discoverer_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string discoverer = 12;</code>
-       * @param value The discoverer to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDiscoverer(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        discoverer_ = value;
-        bitField0_ |= 0x00000800;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string discoverer = 12;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearDiscoverer() {
-        discoverer_ = getDefaultInstance().getDiscoverer();
-        bitField0_ = (bitField0_ & ~0x00000800);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string discoverer = 12;</code>
-       * @param value The bytes for discoverer to set.
-       * @return This builder for chaining.
-       */
-      public Builder setDiscovererBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        discoverer_ = value;
-        bitField0_ |= 0x00000800;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:PulsarMatcherRequest)
-    }
-
-    // @@protoc_insertion_point(class_scope:PulsarMatcherRequest)
-    private static final leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PulsarMatcherRequest>
-        PARSER = new com.google.protobuf.AbstractParser<PulsarMatcherRequest>() {
-      @java.lang.Override
-      public PulsarMatcherRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<PulsarMatcherRequest> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PulsarMatcherRequest> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarMatcherRequest getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PulsarScoresRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PulsarScoresRequest)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>string tenant_id = 1;</code>
-     * @return The tenantId.
-     */
-    java.lang.String getTenantId();
-    /**
-     * <code>string tenant_id = 1;</code>
-     * @return The bytes for tenantId.
-     */
-    com.google.protobuf.ByteString
-        getTenantIdBytes();
-
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The fileName.
-     */
-    java.lang.String getFileName();
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The bytes for fileName.
-     */
-    com.google.protobuf.ByteString
-        getFileNameBytes();
-
-    /**
-     * <code>string file_url = 3;</code>
-     * @return The fileUrl.
-     */
-    java.lang.String getFileUrl();
-    /**
-     * <code>string file_url = 3;</code>
-     * @return The bytes for fileUrl.
-     */
-    com.google.protobuf.ByteString
-        getFileUrlBytes();
-
-    /**
-     * <code>double score = 4;</code>
-     * @return The score.
-     */
-    double getScore();
-  }
-  /**
-   * Protobuf type {@code PulsarScoresRequest}
-   */
-  public static final class PulsarScoresRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PulsarScoresRequest)
-      PulsarScoresRequestOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        PulsarScoresRequest.class.getName());
-    }
-    // Use PulsarScoresRequest.newBuilder() to construct.
-    private PulsarScoresRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private PulsarScoresRequest() {
-      tenantId_ = "";
-      fileName_ = "";
-      fileUrl_ = "";
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequest_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequest_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder.class);
-    }
-
-    public static final int TENANT_ID_FIELD_NUMBER = 1;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object tenantId_ = "";
-    /**
-     * <code>string tenant_id = 1;</code>
-     * @return The tenantId.
-     */
-    @java.lang.Override
-    public java.lang.String getTenantId() {
-      java.lang.Object ref = tenantId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        tenantId_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string tenant_id = 1;</code>
-     * @return The bytes for tenantId.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getTenantIdBytes() {
-      java.lang.Object ref = tenantId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        tenantId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int FILE_NAME_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object fileName_ = "";
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The fileName.
-     */
-    @java.lang.Override
-    public java.lang.String getFileName() {
-      java.lang.Object ref = fileName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        fileName_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string file_name = 2;</code>
-     * @return The bytes for fileName.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getFileNameBytes() {
-      java.lang.Object ref = fileName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int FILE_URL_FIELD_NUMBER = 3;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object fileUrl_ = "";
-    /**
-     * <code>string file_url = 3;</code>
-     * @return The fileUrl.
-     */
-    @java.lang.Override
-    public java.lang.String getFileUrl() {
-      java.lang.Object ref = fileUrl_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        fileUrl_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string file_url = 3;</code>
-     * @return The bytes for fileUrl.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getFileUrlBytes() {
-      java.lang.Object ref = fileUrl_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileUrl_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int SCORE_FIELD_NUMBER = 4;
-    private double score_ = 0D;
-    /**
-     * <code>double score = 4;</code>
-     * @return The score.
-     */
-    @java.lang.Override
-    public double getScore() {
-      return score_;
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tenantId_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, tenantId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, fileName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileUrl_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, fileUrl_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(score_) != 0) {
-        output.writeDouble(4, score_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tenantId_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tenantId_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileName_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, fileName_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(fileUrl_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, fileUrl_);
-      }
-      if (java.lang.Double.doubleToRawLongBits(score_) != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeDoubleSize(4, score_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest other = (leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest) obj;
-
-      if (!getTenantId()
-          .equals(other.getTenantId())) return false;
-      if (!getFileName()
-          .equals(other.getFileName())) return false;
-      if (!getFileUrl()
-          .equals(other.getFileUrl())) return false;
-      if (java.lang.Double.doubleToLongBits(getScore())
-          != java.lang.Double.doubleToLongBits(
-              other.getScore())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + TENANT_ID_FIELD_NUMBER;
-      hash = (53 * hash) + getTenantId().hashCode();
-      hash = (37 * hash) + FILE_NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getFileName().hashCode();
-      hash = (37 * hash) + FILE_URL_FIELD_NUMBER;
-      hash = (53 * hash) + getFileUrl().hashCode();
-      hash = (37 * hash) + SCORE_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          java.lang.Double.doubleToLongBits(getScore()));
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PulsarScoresRequest}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PulsarScoresRequest)
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequestOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequest_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequest_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        tenantId_ = "";
-        fileName_ = "";
-        fileUrl_ = "";
-        score_ = 0D;
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarScoresRequest_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest build() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest result = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.tenantId_ = tenantId_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.fileName_ = fileName_;
-        }
-        if (((from_bitField0_ & 0x00000004) != 0)) {
-          result.fileUrl_ = fileUrl_;
-        }
-        if (((from_bitField0_ & 0x00000008) != 0)) {
-          result.score_ = score_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest.getDefaultInstance()) return this;
-        if (!other.getTenantId().isEmpty()) {
-          tenantId_ = other.tenantId_;
-          bitField0_ |= 0x00000001;
-          onChanged();
-        }
-        if (!other.getFileName().isEmpty()) {
-          fileName_ = other.fileName_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        if (!other.getFileUrl().isEmpty()) {
-          fileUrl_ = other.fileUrl_;
-          bitField0_ |= 0x00000004;
-          onChanged();
-        }
-        if (other.getScore() != 0D) {
-          setScore(other.getScore());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                tenantId_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 10
-              case 18: {
-                fileName_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              case 26: {
-                fileUrl_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000004;
-                break;
-              } // case 26
-              case 33: {
-                score_ = input.readDouble();
-                bitField0_ |= 0x00000008;
-                break;
-              } // case 33
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private java.lang.Object tenantId_ = "";
-      /**
-       * <code>string tenant_id = 1;</code>
-       * @return The tenantId.
-       */
-      public java.lang.String getTenantId() {
-        java.lang.Object ref = tenantId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          tenantId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string tenant_id = 1;</code>
-       * @return The bytes for tenantId.
-       */
-      public com.google.protobuf.ByteString
-          getTenantIdBytes() {
-        java.lang.Object ref = tenantId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          tenantId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string tenant_id = 1;</code>
-       * @param value The tenantId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTenantId(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        tenantId_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string tenant_id = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearTenantId() {
-        tenantId_ = getDefaultInstance().getTenantId();
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string tenant_id = 1;</code>
-       * @param value The bytes for tenantId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setTenantIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        tenantId_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object fileName_ = "";
-      /**
-       * <code>string file_name = 2;</code>
-       * @return The fileName.
-       */
-      public java.lang.String getFileName() {
-        java.lang.Object ref = fileName_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          fileName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @return The bytes for fileName.
-       */
-      public com.google.protobuf.ByteString
-          getFileNameBytes() {
-        java.lang.Object ref = fileName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileName_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @param value The fileName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileName(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        fileName_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFileName() {
-        fileName_ = getDefaultInstance().getFileName();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_name = 2;</code>
-       * @param value The bytes for fileName to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        fileName_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object fileUrl_ = "";
-      /**
-       * <code>string file_url = 3;</code>
-       * @return The fileUrl.
-       */
-      public java.lang.String getFileUrl() {
-        java.lang.Object ref = fileUrl_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          fileUrl_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string file_url = 3;</code>
-       * @return The bytes for fileUrl.
-       */
-      public com.google.protobuf.ByteString
-          getFileUrlBytes() {
-        java.lang.Object ref = fileUrl_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileUrl_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string file_url = 3;</code>
-       * @param value The fileUrl to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileUrl(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        fileUrl_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_url = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearFileUrl() {
-        fileUrl_ = getDefaultInstance().getFileUrl();
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string file_url = 3;</code>
-       * @param value The bytes for fileUrl to set.
-       * @return This builder for chaining.
-       */
-      public Builder setFileUrlBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        fileUrl_ = value;
-        bitField0_ |= 0x00000004;
-        onChanged();
-        return this;
-      }
-
-      private double score_ ;
-      /**
-       * <code>double score = 4;</code>
-       * @return The score.
-       */
-      @java.lang.Override
-      public double getScore() {
-        return score_;
-      }
-      /**
-       * <code>double score = 4;</code>
-       * @param value The score to set.
-       * @return This builder for chaining.
-       */
-      public Builder setScore(double value) {
-
-        score_ = value;
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>double score = 4;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearScore() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        score_ = 0D;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:PulsarScoresRequest)
-    }
-
-    // @@protoc_insertion_point(class_scope:PulsarScoresRequest)
-    private static final leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PulsarScoresRequest>
-        PARSER = new com.google.protobuf.AbstractParser<PulsarScoresRequest>() {
-      @java.lang.Override
-      public PulsarScoresRequest parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<PulsarScoresRequest> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PulsarScoresRequest> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarScoresRequest getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface PulsarReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:PulsarReply)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>int32 code = 1;</code>
-     * @return The code.
-     */
-    int getCode();
-
-    /**
-     * <code>string message = 2;</code>
-     * @return The message.
-     */
-    java.lang.String getMessage();
-    /**
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
-     */
-    com.google.protobuf.ByteString
-        getMessageBytes();
-  }
-  /**
-   * Protobuf type {@code PulsarReply}
-   */
-  public static final class PulsarReply extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:PulsarReply)
-      PulsarReplyOrBuilder {
-  private static final long serialVersionUID = 0L;
-    static {
-      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 27,
-        /* patch= */ 2,
-        /* suffix= */ "",
-        PulsarReply.class.getName());
-    }
-    // Use PulsarReply.newBuilder() to construct.
-    private PulsarReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private PulsarReply() {
-      message_ = "";
-    }
-
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarReply_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarReply_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.Builder.class);
-    }
-
-    public static final int CODE_FIELD_NUMBER = 1;
-    private int code_ = 0;
-    /**
-     * <code>int32 code = 1;</code>
-     * @return The code.
-     */
-    @java.lang.Override
-    public int getCode() {
-      return code_;
-    }
-
-    public static final int MESSAGE_FIELD_NUMBER = 2;
-    @SuppressWarnings("serial")
-    private volatile java.lang.Object message_ = "";
-    /**
-     * <code>string message = 2;</code>
-     * @return The message.
-     */
-    @java.lang.Override
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        message_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string message = 2;</code>
-     * @return The bytes for message.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        message_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (code_ != 0) {
-        output.writeInt32(1, code_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, message_);
-      }
-      getUnknownFields().writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (code_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, code_);
-      }
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(message_)) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, message_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
-
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply)) {
-        return super.equals(obj);
-      }
-      leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply other = (leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply) obj;
-
-      if (getCode()
-          != other.getCode()) return false;
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
-      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
-      return true;
-    }
-
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + CODE_FIELD_NUMBER;
-      hash = (53 * hash) + getCode();
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
-      hash = (29 * hash) + getUnknownFields().hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input);
-    }
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code PulsarReply}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:PulsarReply)
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReplyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarReply_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarReply_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.class, leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.Builder.class);
-      }
-
-      // Construct using leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        bitField0_ = 0;
-        code_ = 0;
-        message_ = "";
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.internal_static_PulsarReply_descriptor;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply getDefaultInstanceForType() {
-        return leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.getDefaultInstance();
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply build() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      @java.lang.Override
-      public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply buildPartial() {
-        leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply result = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply(this);
-        if (bitField0_ != 0) { buildPartial0(result); }
-        onBuilt();
-        return result;
-      }
-
-      private void buildPartial0(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply result) {
-        int from_bitField0_ = bitField0_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.code_ = code_;
-        }
-        if (((from_bitField0_ & 0x00000002) != 0)) {
-          result.message_ = message_;
-        }
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply) {
-          return mergeFrom((leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply other) {
-        if (other == leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply.getDefaultInstance()) return this;
-        if (other.getCode() != 0) {
-          setCode(other.getCode());
-        }
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
-          bitField0_ |= 0x00000002;
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                code_ = input.readInt32();
-                bitField0_ |= 0x00000001;
-                break;
-              } // case 8
-              case 18: {
-                message_ = input.readStringRequireUtf8();
-                bitField0_ |= 0x00000002;
-                break;
-              } // case 18
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private int code_ ;
-      /**
-       * <code>int32 code = 1;</code>
-       * @return The code.
-       */
-      @java.lang.Override
-      public int getCode() {
-        return code_;
-      }
-      /**
-       * <code>int32 code = 1;</code>
-       * @param value The code to set.
-       * @return This builder for chaining.
-       */
-      public Builder setCode(int value) {
-
-        code_ = value;
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 code = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearCode() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        code_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object message_ = "";
-      /**
-       * <code>string message = 2;</code>
-       * @return The message.
-       */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          message_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @return The bytes for message.
-       */
-      public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          message_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @param value The message to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMessage(
-          java.lang.String value) {
-        if (value == null) { throw new NullPointerException(); }
-        message_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearMessage() {
-        message_ = getDefaultInstance().getMessage();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string message = 2;</code>
-       * @param value The bytes for message to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMessageBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) { throw new NullPointerException(); }
-        checkByteStringIsUtf8(value);
-        message_ = value;
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return this;
-      }
-
-      // @@protoc_insertion_point(builder_scope:PulsarReply)
-    }
-
-    // @@protoc_insertion_point(class_scope:PulsarReply)
-    private static final leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply();
-    }
-
-    public static leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<PulsarReply>
-        PARSER = new com.google.protobuf.AbstractParser<PulsarReply>() {
-      @java.lang.Override
-      public PulsarReply parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
-        }
-        return builder.buildPartial();
-      }
-    };
-
-    public static com.google.protobuf.Parser<PulsarReply> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<PulsarReply> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass.PulsarReply getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_PulsarMatcherRequestList_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PulsarMatcherRequestList_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_PulsarScoresRequestList_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PulsarScoresRequestList_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_PulsarMatcherRequest_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PulsarMatcherRequest_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_PulsarScoresRequest_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PulsarScoresRequest_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_PulsarReply_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_PulsarReply_fieldAccessorTable;
-
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
-  }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\014Pulsar.proto\"A\n\030PulsarMatcherRequestLi" +
-      "st\022%\n\006pulsar\030\001 \003(\0132\025.PulsarMatcherReques" +
-      "t\"?\n\027PulsarScoresRequestList\022$\n\006pulsar\030\001" +
-      " \003(\0132\024.PulsarScoresRequest\"\213\002\n\024PulsarMat" +
-      "cherRequest\022\n\n\002id\030\001 \001(\003\022\021\n\ttenant_id\030\002 \001" +
-      "(\t\022\014\n\004name\030\003 \001(\t\022\016\n\006period\030\004 \001(\t\022\032\n\022disp" +
-      "ersion_measure\030\005 \001(\t\022\016\n\006ra_deg\030\006 \001(\t\022\017\n\007" +
-      "dec_deg\030\007 \001(\t\022\032\n\022galactic_longitude\030\010 \001(" +
-      "\001\022\031\n\021galactic_latitude\030\t \001(\001\022\026\n\016profiles" +
-      "_shape\030\n \001(\t\022\026\n\016folding_period\030\013 \001(\001\022\022\n\n" +
-      "discoverer\030\014 \001(\t\"\\\n\023PulsarScoresRequest\022" +
-      "\021\n\ttenant_id\030\001 \001(\t\022\021\n\tfile_name\030\002 \001(\t\022\020\n" +
-      "\010file_url\030\003 \001(\t\022\r\n\005score\030\004 \001(\001\",\n\013Pulsar" +
-      "Reply\022\014\n\004code\030\001 \001(\005\022\017\n\007message\030\002 \001(\t2~\n\006" +
-      "Pulsar\022:\n\rPulsarMatcher\022\031.PulsarMatcherR" +
-      "equestList\032\014.PulsarReply\"\000\0228\n\014PulsarScor" +
-      "es\022\030.PulsarScoresRequestList\032\014.PulsarRep" +
-      "ly\"\000B2\n0leyramu.framework.lersosa.common" +
-      ".grpc.lib.pulsarb\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-    internal_static_PulsarMatcherRequestList_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_PulsarMatcherRequestList_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PulsarMatcherRequestList_descriptor,
-        new java.lang.String[] { "Pulsar", });
-    internal_static_PulsarScoresRequestList_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_PulsarScoresRequestList_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PulsarScoresRequestList_descriptor,
-        new java.lang.String[] { "Pulsar", });
-    internal_static_PulsarMatcherRequest_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_PulsarMatcherRequest_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PulsarMatcherRequest_descriptor,
-        new java.lang.String[] { "Id", "TenantId", "Name", "Period", "DispersionMeasure", "RaDeg", "DecDeg", "GalacticLongitude", "GalacticLatitude", "ProfilesShape", "FoldingPeriod", "Discoverer", });
-    internal_static_PulsarScoresRequest_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_PulsarScoresRequest_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PulsarScoresRequest_descriptor,
-        new java.lang.String[] { "TenantId", "FileName", "FileUrl", "Score", });
-    internal_static_PulsarReply_descriptor =
-      getDescriptor().getMessageTypes().get(4);
-    internal_static_PulsarReply_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_PulsarReply_descriptor,
-        new java.lang.String[] { "Code", "Message", });
-    descriptor.resolveAllFeaturesImmutable();
-  }
-
-  // @@protoc_insertion_point(outer_class_scope)
-}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.log.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 操作日志 配置项.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Data
+@ConfigurationProperties("log.oper")
+public class OperLogProperties {
+
+    /**
+     * 队列容量 (超出后丢弃并计数).
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * 单批最大条数.
+     */
+    private int batchSize = 200;
+
+    /**
+     * 最长攒批时间 (毫秒).
+     */
+    private long flushInterval = 1000;
+
+    /**
+     * 投递失败后的最大重试次数 (耗尽后写入兜底日志).
+     */
+    private int maxRetries = 3;
+
+    /**
+     * 首次重试间隔 (毫秒, 之后每次翻倍).
+     */
+    private long retryInterval = 1000;
+
+    /**
+     * 最多保留等待重试的批次数 (超出后最早的批次写入兜底日志).
+     */
+    private int retryCapacity = 50;
+}
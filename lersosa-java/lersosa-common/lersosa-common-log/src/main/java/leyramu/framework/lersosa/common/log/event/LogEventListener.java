@@ -40,9 +40,11 @@ import leyramu.framework.lersosa.system.api.domain.bo.RemoteOperLogBo;
 import leyramu.framework.lersosa.system.api.domain.vo.RemoteClientVo;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.dubbo.config.annotation.DubboReference;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
 import java.util.Objects;
 
 /**
@@ -60,6 +62,8 @@ public class LogEventListener {
     private RemoteLogService remoteLogService;
     @DubboReference
     private RemoteClientService remoteClientService;
+    @Autowired
+    private OperLogPipeline operLogPipeline;
 
     /**
      * 保存系统日志记录.
@@ -67,7 +71,11 @@ public class LogEventListener {
     @EventListener
     public void saveLog(OperLogEvent operLogEvent) {
         RemoteOperLogBo sysOperLog = BeanUtil.toBean(operLogEvent, RemoteOperLogBo.class);
-        remoteLogService.saveLog(sysOperLog);
+        // 以事件发生时间为准, 避免攒批后落库时间失真
+        if (ObjectUtil.isNull(sysOperLog.getOperTime())) {
+            sysOperLog.setOperTime(new Date());
+        }
+        operLogPipeline.offer(sysOperLog);
     }
 
     /**
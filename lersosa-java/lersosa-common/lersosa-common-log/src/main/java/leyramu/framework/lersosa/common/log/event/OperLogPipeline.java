@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.log.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import leyramu.framework.lersosa.common.json.utils.JsonUtils;
+import leyramu.framework.lersosa.common.log.config.OperLogProperties;
+import leyramu.framework.lersosa.system.api.RemoteLogService;
+import leyramu.framework.lersosa.system.api.domain.bo.RemoteOperLogBo;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 操作日志 异步批量投递管道.
+ * <p>
+ * 请求线程只负责无锁入队, 由后台线程按条数或时间攒批后一次性调用远程服务落库.
+ * 队列满时直接丢弃并计数, 保证日志链路不会反压到业务请求.
+ * 投递失败的批次按退避间隔有限次重试, 重试耗尽、重试队列溢出或停机时仍未成功的日志以 JSON 写入 oper-log-spill 日志兜底.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+public class OperLogPipeline implements InitializingBean, DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * 兜底落盘日志(可在日志配置中单独输出到文件 便于事后补录).
+     */
+    private static final Logger SPILL_LOG = LoggerFactory.getLogger("oper-log-spill");
+
+    private final OperLogProperties properties;
+
+    private final ConcurrentLinkedQueue<RemoteOperLogBo> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * 等待重试的批次(仅后台线程访问).
+     */
+    private final ArrayDeque<RetryBatch> retries = new ArrayDeque<>();
+
+    private final AtomicInteger retrying = new AtomicInteger();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder shipped = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder spilled = new LongAdder();
+
+    @DubboReference
+    private RemoteLogService remoteLogService;
+
+    private volatile boolean running;
+
+    private volatile Thread drainer;
+
+    public OperLogPipeline(OperLogProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        Gauge.builder("lersosa.log.oper.pending", size, AtomicInteger::get)
+            .description("等待投递的操作日志条数")
+            .register(registry);
+        Gauge.builder("lersosa.log.oper.retrying", retrying, AtomicInteger::get)
+            .description("等待重试的操作日志条数")
+            .register(registry);
+        FunctionCounter.builder("lersosa.log.oper.dropped", dropped, LongAdder::sum)
+            .description("队列已满被丢弃的操作日志条数")
+            .register(registry);
+        FunctionCounter.builder("lersosa.log.oper.shipped", shipped, LongAdder::sum)
+            .description("已成功投递的操作日志条数")
+            .register(registry);
+        FunctionCounter.builder("lersosa.log.oper.failed", failed, LongAdder::sum)
+            .description("投递失败的操作日志条数(每次失败的尝试均计入)")
+            .register(registry);
+        FunctionCounter.builder("lersosa.log.oper.spilled", spilled, LongAdder::sum)
+            .description("放弃投递并写入兜底日志的操作日志条数")
+            .register(registry);
+    }
+
+    /**
+     * 日志入队.
+     *
+     * @param operLog 操作日志
+     * @return 队列已满被丢弃时返回 false
+     */
+    public boolean offer(RemoteOperLogBo operLog) {
+        int capacity = properties.getQueueCapacity();
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        queue.offer(operLog);
+        // 刚好攒满一批时唤醒后台线程, 其余情况由定时刷新兜底
+        if (current + 1 == properties.getBatchSize()) {
+            LockSupport.unpark(drainer);
+        }
+        return true;
+    }
+
+    /**
+     * 当前积压条数.
+     */
+    public int getPendingCount() {
+        return size.get();
+    }
+
+    /**
+     * 等待重试的条数.
+     */
+    public int getRetryingCount() {
+        return retrying.get();
+    }
+
+    /**
+     * 因队列已满被丢弃的条数.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 已成功投递的条数.
+     */
+    public long getShippedCount() {
+        return shipped.sum();
+    }
+
+    /**
+     * 投递失败的条数(每次失败的尝试均计入).
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * 放弃投递并写入兜底日志的条数.
+     */
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        Thread thread = new Thread(this::drain, "oper-log-drainer");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void drain() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.getFlushInterval(), 1));
+        long deadline = System.nanoTime() + interval;
+        long reportedDropped = 0;
+        while (running || size.get() > 0 || !retries.isEmpty()) {
+            boolean stopping = !running;
+            long remaining = deadline - System.nanoTime();
+            if (size.get() >= properties.getBatchSize() || remaining <= 0 || stopping) {
+                retry(stopping);
+                flush(stopping);
+                deadline = System.nanoTime() + interval;
+                long droppedNow = dropped.sum();
+                if (droppedNow != reportedDropped) {
+                    log.warn("操作日志队列已满, 累计丢弃 {} 条", droppedNow);
+                    reportedDropped = droppedNow;
+                }
+                continue;
+            }
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private void flush(boolean stopping) {
+        int batchSize = Math.max(properties.getBatchSize(), 1);
+        List<RemoteOperLogBo> batch = new ArrayList<>(Math.min(size.get(), batchSize));
+        RemoteOperLogBo operLog;
+        while (batch.size() < batchSize && (operLog = queue.poll()) != null) {
+            batch.add(operLog);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        size.addAndGet(-batch.size());
+        if (!ship(batch)) {
+            retryLater(batch, 1, stopping);
+        }
+    }
+
+    /**
+     * 重试已到期的批次(停机时不再等待退避 每批最后尝试一次), 遇到失败即停止本轮重试.
+     */
+    private void retry(boolean stopping) {
+        RetryBatch retry;
+        while ((retry = retries.peek()) != null && (stopping || retry.retryAt() - System.nanoTime() <= 0)) {
+            retries.poll();
+            retrying.addAndGet(-retry.logs().size());
+            if (!ship(retry.logs())) {
+                retryLater(retry.logs(), retry.attempts() + 1, stopping);
+                if (!stopping) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean ship(List<RemoteOperLogBo> batch) {
+        try {
+            remoteLogService.saveLogBatch(batch);
+            shipped.add(batch.size());
+            return true;
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.warn("操作日志批量投递失败, 本批 {} 条, 累计失败 {} 条, 累计丢弃 {} 条: {}",
+                batch.size(), failed.sum(), dropped.sum(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 按指数退避安排重试, 超过重试次数、停机中或重试队列已满时写入兜底日志.
+     *
+     * @param batch    失败的批次
+     * @param attempts 已失败的次数
+     * @param stopping 是否停机中
+     */
+    private void retryLater(List<RemoteOperLogBo> batch, int attempts, boolean stopping) {
+        if (stopping || attempts > properties.getMaxRetries()) {
+            spill(batch);
+            return;
+        }
+        if (retries.size() >= Math.max(properties.getRetryCapacity(), 1)) {
+            RetryBatch oldest = retries.poll();
+            retrying.addAndGet(-oldest.logs().size());
+            spill(oldest.logs());
+        }
+        long backoff = TimeUnit.MILLISECONDS.toNanos(properties.getRetryInterval()) << Math.min(attempts - 1, 10);
+        retries.add(new RetryBatch(batch, attempts, System.nanoTime() + backoff));
+        retrying.addAndGet(batch.size());
+    }
+
+    private void spill(List<RemoteOperLogBo> batch) {
+        spilled.add(batch.size());
+        log.error("操作日志投递放弃, 本批 {} 条写入兜底日志, 累计 {} 条", batch.size(), spilled.sum());
+        for (RemoteOperLogBo operLog : batch) {
+            SPILL_LOG.error(JsonUtils.toJsonString(operLog));
+        }
+    }
+
+    /**
+     * 等待重试的批次.
+     *
+     * @param logs     操作日志
+     * @param attempts 已失败的次数
+     * @param retryAt  下次重试时间(System.nanoTime)
+     */
+    private record RetryBatch(List<RemoteOperLogBo> logs, int attempts, long retryAt) {
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.log.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.log.config.OperLogProperties;
+import leyramu.framework.lersosa.system.api.RemoteLogService;
+import leyramu.framework.lersosa.system.api.domain.bo.RemoteOperLogBo;
+import org.junit.jupiter.api.*;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 操作日志投递管道测试.
+ * <p>
+ * 校验并发入队时容量计数不超卖, 后台线程按批投递且不丢不重, 以及失败批次的重试与兜底.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("操作日志投递管道测试")
+public class OperLogPipelineTest {
+
+    private static final long WAIT_MILLIS = 10000;
+
+    private static GenericApplicationContext context;
+
+    private SimpleMeterRegistry registry;
+
+    /**
+     * 远程服务收到的批次.
+     */
+    private List<List<RemoteOperLogBo>> batches;
+
+    @BeforeAll
+    public static void createContext() {
+        context = new GenericApplicationContext();
+        context.registerBean(ObjectMapper.class);
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+    }
+
+    @AfterAll
+    public static void closeContext() {
+        context.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    @DisplayName("并发入队不超过队列容量 超出部分全部计入丢弃")
+    public void concurrentOfferRespectsCapacity() throws Exception {
+        int capacity = 1000;
+        int threads = 16;
+        int perThread = 10000;
+        OperLogProperties properties = properties(capacity, Integer.MAX_VALUE, 0);
+        // 不启动后台线程 入队的日志全部保留在队列中
+        OperLogPipeline pipeline = pipeline(properties, remoteLogService(0));
+
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    if (pipeline.offer(operLog(base + i))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(capacity, accepted.get());
+        assertEquals(capacity, pipeline.getPendingCount());
+        assertEquals((long) threads * perThread - capacity, pipeline.getDroppedCount());
+        assertEquals(pipeline.getDroppedCount(), registry.get("lersosa.log.oper.dropped").functionCounter().count());
+
+        // 停机时积压的日志全部投递 计数归零
+        pipeline.afterPropertiesSet();
+        pipeline.destroy();
+        assertEquals(capacity, pipeline.getShippedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(capacity, shippedIds().size());
+    }
+
+    @Test
+    @DisplayName("后台线程按批投递 不丢不重且单批不超过批量大小")
+    public void drainShipsEveryLogOnceInBatches() throws Exception {
+        int batchSize = 50;
+        int total = 12345;
+        OperLogPipeline pipeline = pipeline(properties(100000, batchSize, 0), remoteLogService(0));
+        pipeline.afterPropertiesSet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = thread; i < total; i += 4) {
+                    assertTrue(pipeline.offer(operLog(i)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        pipeline.destroy();
+
+        assertEquals(total, pipeline.getShippedCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(0, pipeline.getDroppedCount());
+        assertEquals(total, registry.get("lersosa.log.oper.shipped").functionCounter().count());
+        assertTrue(batches.stream().allMatch(batch -> !batch.isEmpty() && batch.size() <= batchSize));
+        Set<Long> ids = shippedIds();
+        assertEquals(total, ids.size());
+        assertEquals(total, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("投递失败的批次在退避后重试成功")
+    public void failedBatchesAreRetried() throws Exception {
+        int total = 500;
+        OperLogPipeline pipeline = pipeline(properties(10000, 100, 3), remoteLogService(2));
+        pipeline.afterPropertiesSet();
+        for (int i = 0; i < total; i++) {
+            assertTrue(pipeline.offer(operLog(i)));
+        }
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (pipeline.getShippedCount() < total && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        pipeline.destroy();
+
+        assertEquals(total, pipeline.getShippedCount());
+        assertTrue(pipeline.getFailedCount() > 0);
+        assertEquals(0, pipeline.getSpilledCount());
+        assertEquals(0, pipeline.getRetryingCount());
+        assertEquals(total, shippedIds().size());
+    }
+
+    @Test
+    @DisplayName("重试耗尽或停机时仍失败的日志写入兜底日志")
+    public void exhaustedBatchesAreSpilled() throws Exception {
+        int total = 300;
+        OperLogPipeline pipeline = pipeline(properties(10000, 100, 1), remoteLogService(Integer.MAX_VALUE));
+        pipeline.afterPropertiesSet();
+        for (int i = 0; i < total; i++) {
+            assertTrue(pipeline.offer(operLog(i)));
+        }
+        pipeline.destroy();
+
+        assertEquals(0, pipeline.getShippedCount());
+        assertEquals(total, pipeline.getSpilledCount());
+        assertEquals(0, pipeline.getPendingCount());
+        assertEquals(0, pipeline.getRetryingCount());
+        assertEquals(total, registry.get("lersosa.log.oper.spilled").functionCounter().count());
+    }
+
+    private OperLogPipeline pipeline(OperLogProperties properties, RemoteLogService remoteLogService) {
+        OperLogPipeline pipeline = new OperLogPipeline(properties, registry);
+        ReflectionTestUtils.setField(pipeline, "remoteLogService", remoteLogService);
+        return pipeline;
+    }
+
+    private static OperLogProperties properties(int capacity, int batchSize, int maxRetries) {
+        OperLogProperties properties = new OperLogProperties();
+        properties.setQueueCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setFlushInterval(5);
+        properties.setMaxRetries(maxRetries);
+        properties.setRetryInterval(1);
+        return properties;
+    }
+
+    /**
+     * 前 failures 次调用抛出异常 之后记录收到的批次.
+     */
+    private RemoteLogService remoteLogService(int failures) {
+        AtomicInteger calls = new AtomicInteger();
+        RemoteLogService remoteLogService = mock(RemoteLogService.class);
+        doAnswer(invocation -> {
+            if (calls.getAndIncrement() < failures) {
+                throw new IllegalStateException("remote unavailable");
+            }
+            batches.add(List.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(remoteLogService).saveLogBatch(anyList());
+        return remoteLogService;
+    }
+
+    private Set<Long> shippedIds() {
+        Set<Long> ids = new HashSet<>();
+        for (List<RemoteOperLogBo> batch : batches) {
+            for (RemoteOperLogBo operLog : batch) {
+                assertTrue(ids.add(operLog.getOperId()), "重复投递: " + operLog.getOperId());
+            }
+        }
+        return ids;
+    }
+
+    private static RemoteOperLogBo operLog(long id) {
+        RemoteOperLogBo operLog = new RemoteOperLogBo();
+        operLog.setOperId(id);
+        operLog.setTitle("test");
+        return operLog;
+    }
+}
@@ -35,6 +35,7 @@ import leyramu.framework.lersosa.common.core.factory.YmlPropertySourceFactory;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.mybatis.handler.InjectionMetaObjectHandler;
 import leyramu.framework.lersosa.common.mybatis.handler.MybatisExceptionHandler;
+import leyramu.framework.lersosa.common.mybatis.handler.PlusDataPermissionHandler;
 import leyramu.framework.lersosa.common.mybatis.interceptor.PlusDataPermissionInterceptor;
 import leyramu.framework.lersosa.common.mybatis.service.SysDataScopeService;
 import org.mybatis.spring.annotation.MapperScan;
@@ -58,7 +59,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 public class MybatisPlusConfiguration {
 
     @Bean
-    public MybatisPlusInterceptor mybatisPlusInterceptor() {
+    public MybatisPlusInterceptor mybatisPlusInterceptor(PlusDataPermissionHandler dataPermissionHandler) {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
         // 多租户插件 必须放到第一位
         try {
@@ -67,7 +68,7 @@ public class MybatisPlusConfiguration {
         } catch (BeansException ignore) {
         }
         // 数据权限处理
-        interceptor.addInnerInterceptor(dataPermissionInterceptor());
+        interceptor.addInnerInterceptor(dataPermissionInterceptor(dataPermissionHandler));
         // 分页插件
         interceptor.addInnerInterceptor(paginationInnerInterceptor());
         // 乐观锁插件
@@ -75,11 +76,19 @@ public class MybatisPlusConfiguration {
         return interceptor;
     }
 
+    /**
+     * 数据权限处理器(由容器管理生命周期 以便订阅与退订缓存失效通知).
+     */
+    @Bean
+    public PlusDataPermissionHandler dataPermissionHandler() {
+        return new PlusDataPermissionHandler(SpringUtils.getProperty("mybatis-plus.mapperPackage"));
+    }
+
     /**
      * 数据权限拦截器.
      */
-    public PlusDataPermissionInterceptor dataPermissionInterceptor() {
-        return new PlusDataPermissionInterceptor(SpringUtils.getProperty("mybatis-plus.mapperPackage"));
+    public PlusDataPermissionInterceptor dataPermissionInterceptor(PlusDataPermissionHandler dataPermissionHandler) {
+        return new PlusDataPermissionInterceptor(dataPermissionHandler);
     }
 
     /**
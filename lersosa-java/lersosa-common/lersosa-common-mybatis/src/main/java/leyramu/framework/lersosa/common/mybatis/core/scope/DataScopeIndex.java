@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.mybatis.core.scope;
+
+import cn.hutool.core.collection.CollUtil;
+import leyramu.framework.lersosa.common.core.utils.StreamUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 租户数据权限索引(部门树与角色自定义部门).
+ *
+ * <p>部门树按先序遍历展开为数组 每个部门的子树对应一段连续区间 查询部门及以下只需一次二分查找和一次区间拷贝.
+ * 实例不可变 可在多线程间共享.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public final class DataScopeIndex {
+
+    /**
+     * 无数据时的占位条件.
+     */
+    private static final String NONE = "-1";
+
+    /**
+     * 升序排列的部门ID.
+     */
+    private final long[] ids;
+
+    /**
+     * ids 下标对应的先序位置.
+     */
+    private final int[] position;
+
+    /**
+     * 先序遍历后的部门ID.
+     */
+    private final long[] preorder;
+
+    /**
+     * 先序位置对应子树的结束位置(不含).
+     */
+    private final int[] subtreeEnd;
+
+    /**
+     * 角色ID 与 自定义部门条件.
+     */
+    private final Map<Long, String> roleCustom;
+
+    private DataScopeIndex(long[] ids, int[] position, long[] preorder, int[] subtreeEnd, Map<Long, String> roleCustom) {
+        this.ids = ids;
+        this.position = position;
+        this.preorder = preorder;
+        this.subtreeEnd = subtreeEnd;
+        this.roleCustom = roleCustom;
+    }
+
+    /**
+     * 构建索引.
+     *
+     * @param deptParentMap 部门ID 与 上级部门ID
+     * @param roleDeptMap   角色ID 与 自定义部门ID
+     * @return 索引
+     */
+    public static DataScopeIndex build(Map<Long, Long> deptParentMap, Map<Long, List<Long>> roleDeptMap) {
+        int size = deptParentMap.size();
+        long[] ids = deptParentMap.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        // 按上级部门分组的子节点(CSR 结构)
+        int[] parent = new int[size];
+        int[] childCount = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            Long parentId = deptParentMap.get(ids[i]);
+            parent[i] = parentId == null ? -1 : Arrays.binarySearch(ids, parentId);
+            if (parent[i] >= 0) {
+                childCount[parent[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childCount[i + 1] += childCount[i];
+        }
+        int[] children = new int[size];
+        int[] cursor = Arrays.copyOf(childCount, size);
+        for (int i = 0; i < size; i++) {
+            if (parent[i] >= 0) {
+                children[cursor[parent[i]]++] = i;
+            }
+        }
+
+        int[] position = new int[size];
+        Arrays.fill(position, -1);
+        long[] preorder = new long[size];
+        int[] subtreeEnd = new int[size];
+        int[] stack = new int[size];
+        int[] next = new int[size];
+        int order = 0;
+        for (int root = 0; root < size; root++) {
+            if (parent[root] >= 0 || position[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            stack[depth] = root;
+            next[depth] = childCount[root];
+            position[root] = order;
+            preorder[order++] = ids[root];
+            while (depth >= 0) {
+                int node = stack[depth];
+                if (next[depth] < childCount[node + 1]) {
+                    int child = children[next[depth]++];
+                    if (position[child] >= 0) {
+                        continue;
+                    }
+                    position[child] = order;
+                    preorder[order++] = ids[child];
+                    stack[++depth] = child;
+                    next[depth] = childCount[child];
+                } else {
+                    subtreeEnd[position[node]] = order;
+                    depth--;
+                }
+            }
+        }
+        // 上级链路成环的部门不可达 只保留自身
+        for (int i = 0; i < size; i++) {
+            if (position[i] < 0) {
+                position[i] = order;
+                preorder[order] = ids[i];
+                subtreeEnd[order] = ++order;
+            }
+        }
+
+        Map<Long, String> roleCustom = new HashMap<>(roleDeptMap.size());
+        roleDeptMap.forEach((roleId, deptIds) -> {
+            if (CollUtil.isNotEmpty(deptIds)) {
+                roleCustom.put(roleId, StreamUtils.join(deptIds, String::valueOf));
+            }
+        });
+        return new DataScopeIndex(ids, position, preorder, subtreeEnd, roleCustom);
+    }
+
+    /**
+     * 获取部门及以下部门条件.
+     *
+     * @param deptId 部门ID
+     * @return 以逗号分隔的部门ID
+     */
+    public String getDeptAndChild(Long deptId) {
+        if (deptId == null) {
+            return NONE;
+        }
+        int index = Arrays.binarySearch(ids, deptId);
+        if (index < 0) {
+            return String.valueOf(deptId);
+        }
+        int start = position[index];
+        int end = subtreeEnd[start];
+        StringBuilder builder = new StringBuilder((end - start) * 20);
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                builder.append(',');
+            }
+            builder.append(preorder[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 获取角色自定义部门条件.
+     *
+     * @param roleId 角色ID
+     * @return 以逗号分隔的部门ID
+     */
+    public String getRoleCustom(Long roleId) {
+        if (roleId == null) {
+            return NONE;
+        }
+        return roleCustom.getOrDefault(roleId, NONE);
+    }
+}
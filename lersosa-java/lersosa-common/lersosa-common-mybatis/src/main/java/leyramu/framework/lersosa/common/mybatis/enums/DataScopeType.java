@@ -46,7 +46,7 @@ public enum DataScopeType {
     /**
      * 自定数据权限.
      */
-    CUSTOM("2", " #{#deptName} IN ( #{@sdss.getRoleCustom( #user.roleId )} ) ", " 1 = 0 "),
+    CUSTOM("2", " #{#deptName} IN ( #{@sdss.getRoleCustom( #user.tenantId, #user.roleId )} ) ", " 1 = 0 "),
 
     /**
      * 部门数据权限.
@@ -56,7 +56,7 @@ public enum DataScopeType {
     /**
      * 部门及以下数据权限.
      */
-    DEPT_AND_CHILD("4", " #{#deptName} IN ( #{@sdss.getDeptAndChild( #user.deptId )} )", " 1 = 0 "),
+    DEPT_AND_CHILD("4", " #{#deptName} IN ( #{@sdss.getDeptAndChild( #user.tenantId, #user.deptId )} )", " 1 = 0 "),
 
     /**
      * 仅本人数据权限.
@@ -26,6 +26,10 @@ package leyramu.framework.lersosa.common.mybatis.handler;
 import cn.hutool.core.annotation.AnnotationUtil;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.ObjectUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.core.utils.StreamUtils;
@@ -34,6 +38,7 @@ import leyramu.framework.lersosa.common.mybatis.annotation.DataColumn;
 import leyramu.framework.lersosa.common.mybatis.annotation.DataPermission;
 import leyramu.framework.lersosa.common.mybatis.enums.DataScopeType;
 import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import leyramu.framework.lersosa.common.satoken.utils.LoginHelper;
 import leyramu.framework.lersosa.system.api.model.LoginUser;
 import leyramu.framework.lersosa.system.api.model.RoleDTO;
@@ -60,9 +65,13 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -82,6 +91,14 @@ public class PlusDataPermissionHandler {
      */
     private final Map<String, DataPermission> dataPermissionCacheMap = new ConcurrentHashMap<>();
 
+    /**
+     * 数据过滤条件缓存 key 为 角色集合/语句/操作类型 value 为已解析的条件表达式(无过滤条件时为空).
+     */
+    private final Cache<DataScopeKey, Optional<Expression>> dataScopeCache = Caffeine.newBuilder()
+        .maximumSize(10000)
+        .expireAfterWrite(Duration.ofMinutes(30))
+        .build();
+
     /**
      * spel 解析器.
      */
@@ -91,6 +108,15 @@ public class PlusDataPermissionHandler {
      * bean解析器 用于处理 spel 表达式中对 bean 的调用.
      */
     private final BeanResolver beanResolver = new BeanFactoryResolver(SpringUtils.getBeanFactory());
+    /**
+     * 预编译的 sql 模板.
+     */
+    private final Map<DataScopeType, org.springframework.expression.Expression> sqlTemplateMap = new EnumMap<>(DataScopeType.class);
+
+    /**
+     * 失效通知监听器ID.
+     */
+    private int invalidateListenerId;
 
     /**
      * 构造方法，扫描指定包下的 Mapper 类并初始化缓存.
@@ -99,6 +125,24 @@ public class PlusDataPermissionHandler {
      */
     public PlusDataPermissionHandler(String mapperPackage) {
         scanMapperClasses(mapperPackage);
+        for (DataScopeType type : DataScopeType.values()) {
+            if (StringUtils.isNotBlank(type.getSqlTemplate())) {
+                sqlTemplateMap.put(type, parser.parseExpression(type.getSqlTemplate(), parserContext));
+            }
+        }
+    }
+
+    /**
+     * 角色数据权限或部门结构变更时 清空所有节点的缓存.
+     */
+    @PostConstruct
+    public void subscribe() {
+        invalidateListenerId = RedisUtils.subscribe(DataPermissionHelper.DATA_SCOPE_TOPIC, String.class, _ -> dataScopeCache.invalidateAll());
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        RedisUtils.unsubscribe(DataPermissionHelper.DATA_SCOPE_TOPIC, invalidateListenerId);
     }
 
     /**
@@ -122,25 +166,82 @@ public class PlusDataPermissionHandler {
         if (LoginHelper.isSuperAdmin() || LoginHelper.isTenantAdmin()) {
             return where;
         }
-        // 构造数据过滤条件的 SQL 片段
+        // 构造数据过滤条件的 SQL 片段 同一角色集合与语句只解析一次
+        DataScopeKey key = buildCacheKey(dataPermission, mappedStatementId, isSelect, currentUser);
+        Optional<Expression> dataFilter = key == null
+            ? buildDataFilterExpression(dataPermission, isSelect)
+            : dataScopeCache.get(key, _ -> buildDataFilterExpression(dataPermission, isSelect));
+        if (dataFilter.isEmpty()) {
+            return where;
+        }
+        if (ObjectUtil.isNotNull(where)) {
+            return new AndExpression(where, dataFilter.get());
+        } else {
+            return dataFilter.get();
+        }
+    }
+
+    /**
+     * 构建并解析数据过滤条件.
+     *
+     * @param dataPermission 数据权限注解
+     * @param isSelect       是否为查询语句
+     * @return 带括号的条件表达式 无过滤条件时为空
+     */
+    private Optional<Expression> buildDataFilterExpression(DataPermission dataPermission, boolean isSelect) {
         String dataFilterSql = buildDataFilter(dataPermission, isSelect);
         if (StringUtils.isBlank(dataFilterSql)) {
-            return where;
+            return Optional.empty();
         }
         try {
             Expression expression = CCJSqlParserUtil.parseExpression(dataFilterSql);
             // 数据权限使用单独的括号 防止与其他条件冲突
-            ParenthesedExpressionList<Expression> parenthesis = new ParenthesedExpressionList<>(expression);
-            if (ObjectUtil.isNotNull(where)) {
-                return new AndExpression(where, parenthesis);
-            } else {
-                return parenthesis;
-            }
+            return Optional.of(new ParenthesedExpressionList<>(expression));
         } catch (JSQLParserException e) {
             throw new ServiceException("数据权限解析异常 => " + e.getMessage());
         }
     }
 
+    /**
+     * 构建数据过滤条件缓存 key.
+     *
+     * <p>key 只包含会影响生成结果的数据 角色集合(角色ID与数据范围) 部门/本人范围对应的部门ID/用户ID 以及注解权限标识的命中情况.
+     * 上下文中存在自定义变量时不缓存.
+     *
+     * @param dataPermission    数据权限注解
+     * @param mappedStatementId Mapper 方法的 ID
+     * @param isSelect          是否为查询语句
+     * @param user              当前登录用户
+     * @return 缓存 key 不可缓存时返回 null
+     */
+    private DataScopeKey buildCacheKey(DataPermission dataPermission, String mappedStatementId, boolean isSelect, LoginUser user) {
+        if (DataPermissionHelper.getContext().size() > 1 || CollUtil.isEmpty(user.getRoles())) {
+            return null;
+        }
+        StringBuilder scope = new StringBuilder();
+        boolean dept = false;
+        boolean self = false;
+        for (RoleDTO role : StreamUtils.sorted(user.getRoles(), Comparator.comparing(RoleDTO::getRoleId))) {
+            scope.append(role.getRoleId()).append(':').append(role.getDataScope()).append(',');
+            DataScopeType type = DataScopeType.findCode(role.getDataScope());
+            dept |= type == DataScopeType.DEPT || type == DataScopeType.DEPT_AND_CHILD;
+            self |= type == DataScopeType.SELF;
+        }
+        if (dept) {
+            scope.append('d').append(user.getDeptId());
+        }
+        if (self) {
+            scope.append('u').append(user.getUserId());
+        }
+        scope.append('p');
+        for (DataColumn dataColumn : dataPermission.value()) {
+            if (StringUtils.isNotBlank(dataColumn.permission())) {
+                scope.append(CollUtil.contains(user.getMenuPermission(), dataColumn.permission()) ? '1' : '0');
+            }
+        }
+        return new DataScopeKey(mappedStatementId, isSelect, scope.toString());
+    }
+
     /**
      * 构建数据过滤条件的 SQL 语句.
      *
@@ -195,7 +296,7 @@ public class PlusDataPermissionHandler {
                 }
 
                 // 解析sql模板并填充
-                String sql = parser.parseExpression(type.getSqlTemplate(), parserContext).getValue(context, String.class);
+                String sql = sqlTemplateMap.get(type).getValue(context, String.class);
                 conditions.add(joinStr + sql);
                 isSuccess = true;
             }
@@ -295,4 +396,14 @@ public class PlusDataPermissionHandler {
     public boolean invalid(String mapperId) {
         return getDataPermission(mapperId) == null;
     }
+
+    /**
+     * 数据过滤条件缓存 key.
+     *
+     * @param mappedStatementId Mapper 方法的 ID
+     * @param select            是否为查询语句
+     * @param scope             角色集合及相关用户数据
+     */
+    private record DataScopeKey(String mappedStatementId, boolean select, String scope) {
+    }
 }
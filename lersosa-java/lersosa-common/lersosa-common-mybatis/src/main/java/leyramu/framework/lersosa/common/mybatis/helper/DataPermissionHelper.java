@@ -29,12 +29,17 @@ import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.util.ObjectUtil;
 import com.baomidou.mybatisplus.core.plugins.IgnoreStrategy;
 import com.baomidou.mybatisplus.core.plugins.InterceptorIgnoreHelper;
+import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
 import leyramu.framework.lersosa.common.core.utils.reflect.ReflectUtils;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Stack;
 import java.util.function.Supplier;
 
@@ -51,6 +56,11 @@ public class DataPermissionHelper {
 
     public static final String DATA_PERMISSION_KEY = "data:permission";
 
+    /**
+     * 数据权限缓存失效通知通道.
+     */
+    public static final String DATA_SCOPE_TOPIC = GlobalConstants.GLOBAL_REDIS_KEY + "data_scope:invalidate";
+
     private static final ThreadLocal<Stack<Integer>> REENTRANT_IGNORE = ThreadLocal.withInitial(Stack::new);
 
     /**
@@ -170,4 +180,23 @@ public class DataPermissionHelper {
             disableIgnore();
         }
     }
+
+    /**
+     * 通知所有节点清空租户的数据权限缓存(角色自定义部门或部门结构变更后调用 存在事务时在提交后发送).
+     *
+     * @param tenantId 租户ID
+     */
+    public static void clearDataScopeCache(String tenantId) {
+        String message = Objects.toString(tenantId, "");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    RedisUtils.publish(DATA_SCOPE_TOPIC, message);
+                }
+            });
+        } else {
+            RedisUtils.publish(DATA_SCOPE_TOPIC, message);
+        }
+    }
 }
@@ -61,12 +61,12 @@ public class PlusDataPermissionInterceptor extends BaseMultiTableInnerIntercepto
     private final PlusDataPermissionHandler dataPermissionHandler;
 
     /**
-     * 构造函数，初始化 PlusDataPermissionHandler 实例.
+     * 构造函数，使用容器管理的 PlusDataPermissionHandler 实例.
      *
-     * @param mapperPackage 扫描的映射器包
+     * @param dataPermissionHandler 数据权限处理器
      */
-    public PlusDataPermissionInterceptor(String mapperPackage) {
-        this.dataPermissionHandler = new PlusDataPermissionHandler(mapperPackage);
+    public PlusDataPermissionInterceptor(PlusDataPermissionHandler dataPermissionHandler) {
+        this.dataPermissionHandler = dataPermissionHandler;
     }
 
     /**
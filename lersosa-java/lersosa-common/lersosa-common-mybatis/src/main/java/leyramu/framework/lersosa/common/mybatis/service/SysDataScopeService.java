@@ -23,13 +23,28 @@
 
 package leyramu.framework.lersosa.common.mybatis.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import leyramu.framework.lersosa.common.mybatis.core.scope.DataScopeIndex;
+import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import leyramu.framework.lersosa.system.api.RemoteDataScopeService;
 import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 数据权限 实现.
  *
+ * <p>按租户在本地维护部门树与角色自定义部门索引 数据权限条件直接在本地计算.
+ * 部门或角色数据权限变更时通过 {@link DataPermissionHelper#clearDataScopeCache(String)} 推送失效 并以版本号防止加载期间的失效被覆盖.
+ *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
  * @since 2024/11/6
@@ -37,26 +52,141 @@ import org.springframework.stereotype.Service;
 @Service("sdss")
 public class SysDataScopeService {
 
+    /**
+     * 索引最长有效期(兜底 防止失效通知丢失).
+     */
+    private static final long EXPIRE_NANOS = Duration.ofMinutes(30).toNanos();
+
+    /**
+     * 租户 与 索引.
+     */
+    private final Map<String, Snapshot> snapshotMap = new ConcurrentHashMap<>();
+
+    /**
+     * 租户 与 版本号(每次失效递增).
+     */
+    private final Map<String, Long> versionMap = new ConcurrentHashMap<>();
+
+    /**
+     * 租户 与 加载中的索引.
+     */
+    private final Map<String, CompletableFuture<Snapshot>> loadingMap = new ConcurrentHashMap<>();
+
+    /**
+     * 失效通知监听器ID.
+     */
+    private int invalidateListenerId;
+
     @DubboReference
     private RemoteDataScopeService remoteDataScopeService;
 
+    @PostConstruct
+    public void subscribe() {
+        invalidateListenerId = RedisUtils.subscribe(DataPermissionHelper.DATA_SCOPE_TOPIC, String.class, this::invalidate);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        RedisUtils.unsubscribe(DataPermissionHelper.DATA_SCOPE_TOPIC, invalidateListenerId);
+    }
+
     /**
      * 获取角色自定义权限语句.
      *
-     * @param roleId 角色ID
-     * @return 返回角色的自定义权限语句，如果没有找到则返回 null
+     * @param tenantId 租户ID
+     * @param roleId   角色ID
+     * @return 返回角色的自定义权限语句，如果没有找到则返回 -1
      */
-    public String getRoleCustom(Long roleId) {
-        return remoteDataScopeService.getRoleCustom(roleId);
+    public String getRoleCustom(String tenantId, Long roleId) {
+        return getIndex(tenantId).getRoleCustom(roleId);
     }
 
     /**
      * 获取部门和下级权限语句.
      *
-     * @param deptId 部门ID
-     * @return 返回部门及其下级的权限语句，如果没有找到则返回 null
+     * @param tenantId 租户ID
+     * @param deptId   部门ID
+     * @return 返回部门及其下级的权限语句，如果没有找到则返回 -1
+     */
+    public String getDeptAndChild(String tenantId, Long deptId) {
+        return getIndex(tenantId).getDeptAndChild(deptId);
+    }
+
+    /**
+     * 使租户索引失效.
+     *
+     * @param tenantId 租户ID
      */
-    public String getDeptAndChild(Long deptId) {
-        return remoteDataScopeService.getDeptAndChild(deptId);
+    public void invalidate(String tenantId) {
+        String key = Objects.toString(tenantId, "");
+        versionMap.merge(key, 1L, Long::sum);
+        snapshotMap.remove(key);
+    }
+
+    private DataScopeIndex getIndex(String tenantId) {
+        String key = Objects.toString(tenantId, "");
+        while (true) {
+            long version = versionMap.getOrDefault(key, 0L);
+            Snapshot snapshot = snapshotMap.get(key);
+            if (snapshot != null && snapshot.isValid(version)) {
+                return snapshot.index();
+            }
+            // 同一租户只有一个线程发起远程加载 其余线程等待结果 远程调用不持有任何 Map 锁
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            CompletableFuture<Snapshot> loading = loadingMap.putIfAbsent(key, created);
+            if (loading == null) {
+                return load(key, tenantId, version, created).index();
+            }
+            Snapshot loaded = await(loading);
+            // 加载开始后又发生了失效 重新加载
+            if (loaded.version() >= version) {
+                return loaded.index();
+            }
+        }
+    }
+
+    private Snapshot load(String key, String tenantId, long version, CompletableFuture<Snapshot> future) {
+        Snapshot loaded;
+        try {
+            DataScopeIndex index = DataScopeIndex.build(
+                remoteDataScopeService.selectDeptParentMap(tenantId),
+                remoteDataScopeService.selectRoleDeptMap(tenantId));
+            loaded = new Snapshot(version, System.nanoTime(), index);
+            // 原子替换 并发加载时保留版本号更新的快照
+            snapshotMap.merge(key, loaded, (old, current) -> old.version() > current.version() ? old : current);
+        } catch (RuntimeException | Error e) {
+            loadingMap.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        // 先移除再完成 等待线程发现版本过旧时可直接发起新的加载
+        loadingMap.remove(key, future);
+        future.complete(loaded);
+        return loaded;
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 租户索引快照.
+     *
+     * @param version  加载时的版本号
+     * @param loadTime 加载时间
+     * @param index    索引
+     */
+    private record Snapshot(long version, long loadTime, DataScopeIndex index) {
+
+        boolean isValid(long currentVersion) {
+            return version == currentVersion && System.nanoTime() - loadTime < EXPIRE_NANOS;
+        }
     }
 }
@@ -62,4 +62,14 @@ public interface OssConstant {
      * https 状态.
      */
     String IS_HTTPS = "Y";
+
+    /**
+     * 默认分片大小 (10MB).
+     */
+    long DEFAULT_PART_SIZE = 10 * 1024 * 1024L;
+
+    /**
+     * 默认最大并发连接数.
+     */
+    int DEFAULT_MAX_CONCURRENCY = 16;
 }
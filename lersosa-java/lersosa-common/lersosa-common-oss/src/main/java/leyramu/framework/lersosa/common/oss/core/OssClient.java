@@ -23,8 +23,8 @@
 
 package leyramu.framework.lersosa.common.oss.core;
 
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ObjectUtil;
 import leyramu.framework.lersosa.common.core.constant.Constants;
 import leyramu.framework.lersosa.common.core.utils.DateUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
@@ -39,12 +39,14 @@ import lombok.Getter;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.BlockingInputStreamAsyncRequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.crt.S3CrtHttpConfiguration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -52,13 +54,23 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.*;
 import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 
 import java.io.*;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * S3 存储协议 所有兼容S3协议的云厂商均支持.
@@ -67,7 +79,7 @@ import java.time.Duration;
  * @version 1.0.0
  * @since 2024/11/6
  */
-public class OssClient {
+public class OssClient implements AutoCloseable {
 
     /**
      * 服务商.
@@ -98,6 +110,26 @@ public class OssClient {
      */
     private final S3Presigner presigner;
 
+    /**
+     * 已被新实例替换 进行中的请求与租约结束后关闭.
+     */
+    private static final long RETIRED = 1L << 62;
+
+    /**
+     * 已关闭 不再接受新请求.
+     */
+    private static final long CLOSED = 1L << 61;
+
+    /**
+     * 低位为进行中的请求与租约数.
+     */
+    private static final long IN_FLIGHT_MASK = CLOSED - 1;
+
+    /**
+     * 生命周期状态 RETIRED | CLOSED | 进行中的请求与租约数, 三者只通过 CAS 整体更新.
+     */
+    private final AtomicLong state = new AtomicLong();
+
     /**
      * 构造方法.
      *
@@ -121,7 +153,9 @@ public class OssClient {
                 .endpointOverride(URI.create(getEndpoint()))
                 .region(of())
                 .targetThroughputInGbps(20.0)
-                .minimumPartSizeInBytes(10 * 1025 * 1024L)
+                // 分片大小与并发数决定流式上传时的内存上限 (约为 分片大小 x 并发数)
+                .minimumPartSizeInBytes(ObjectUtil.defaultIfNull(properties.getPartSize(), OssConstant.DEFAULT_PART_SIZE))
+                .maxConcurrency(ObjectUtil.defaultIfNull(properties.getMaxConcurrency(), OssConstant.DEFAULT_MAX_CONCURRENCY))
                 .checksumValidationEnabled(false)
                 .forcePathStyle(isStyle)
                 .httpConfiguration(S3CrtHttpConfiguration.builder()
@@ -274,6 +308,22 @@ public class OssClient {
      * @throws OssException 如果上传失败，抛出自定义异常
      */
     public UploadResult upload(Path filePath, String key, String md5Digest, String contentType) {
+        return upload(filePath, key, md5Digest, contentType, LoggingTransferListener.create());
+    }
+
+    /**
+     * 上传文件到 Amazon S3，并返回上传结果.
+     *
+     * @param filePath    本地文件路径
+     * @param key         在 Amazon S3 中的对象键
+     * @param md5Digest   本地文件的 MD5 哈希值（可选）
+     * @param contentType 文件内容类型
+     * @param listener    上传进度监听器
+     * @return UploadResult 包含上传后的文件信息
+     * @throws OssException 如果上传失败，抛出自定义异常
+     */
+    public UploadResult upload(Path filePath, String key, String md5Digest, String contentType, TransferListener listener) {
+        acquire();
         try {
             // 构建上传请求对象
             FileUpload fileUpload = transferManager.uploadFile(
@@ -286,7 +336,7 @@ public class OssClient {
                             // 因此根据具体的云服务提供商，你可能需要进行不同的配置（自行开启，阿里云有acl权限配置，腾讯云没有acl权限配置）
                             //.acl(getAccessPolicy().getObjectCannedACL())
                             .build())
-                    .addTransferListener(LoggingTransferListener.create())
+                    .addTransferListener(listener)
                     .source(filePath).build());
 
             // 等待上传完成并获取上传结果
@@ -301,6 +351,7 @@ public class OssClient {
         } finally {
             // 无论上传是否成功，最终都会删除临时文件
             FileUtils.del(filePath);
+            release();
         }
     }
 
@@ -315,12 +366,30 @@ public class OssClient {
      * @throws OssException 如果上传失败，抛出自定义异常
      */
     public UploadResult upload(InputStream inputStream, String key, Long length, String contentType) {
-        // 如果输入流不是 ByteArrayInputStream，则将其读取为字节数组再创建 ByteArrayInputStream
-        if (!(inputStream instanceof ByteArrayInputStream)) {
-            inputStream = new ByteArrayInputStream(IoUtil.readBytes(inputStream));
-        }
+        return upload(inputStream, key, length, contentType, LoggingTransferListener.create());
+    }
+
+    /**
+     * 流式上传 InputStream 到 Amazon S3.
+     * <p>
+     * 输入流不会整体读入内存: CRT 客户端按分片大小读取并发上传, 堆内存占用只与分片大小和并发数相关.
+     * 长度未知时传 null, 由 CRT 客户端自动走分片上传. 上传过程中同时计算内容 MD5.
+     *
+     * @param inputStream 要上传的输入流
+     * @param key         在 Amazon S3 中的对象键
+     * @param length      输入流的长度（未知时为 null）
+     * @param contentType 文件内容类型
+     * @param listener    上传进度监听器
+     * @return UploadResult 包含上传后的文件信息
+     * @throws OssException 如果上传失败，抛出自定义异常
+     */
+    public UploadResult upload(InputStream inputStream, String key, Long length, String contentType, TransferListener listener) {
+        acquire();
         try {
-            // 创建异步请求体（length如果为空会报错）
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            DigestInputStream digestStream = new DigestInputStream(inputStream, digest);
+
+            // 创建异步请求体 按订阅方的需求从输入流读取数据
             BlockingInputStreamAsyncRequestBody body = BlockingInputStreamAsyncRequestBody.builder()
                 .contentLength(length)
                 .subscribeTimeout(Duration.ofSeconds(30))
@@ -337,19 +406,136 @@ public class OssClient {
                             // 因此根据具体的云服务提供商，你可能需要进行不同的配置（自行开启，阿里云有acl权限配置，腾讯云没有acl权限配置）
                             //.acl(getAccessPolicy().getObjectCannedACL())
                             .build())
+                    .addTransferListener(listener)
                     .build());
 
-            // 将输入流写入请求体
-            body.writeInputStream(inputStream);
+            // 将输入流写入请求体（阻塞直到输入流读完）
+            body.writeInputStream(digestStream);
 
             // 等待文件上传操作完成
             CompletedUpload uploadResult = upload.completionFuture().join();
             String eTag = uploadResult.response().eTag();
 
             // 提取上传结果中的 ETag，并构建一个自定义的 UploadResult 对象
-            return UploadResult.builder().url(getUrl() + StringUtils.SLASH + key).filename(key).eTag(eTag).build();
+            return UploadResult.builder().url(getUrl() + StringUtils.SLASH + key).filename(key).eTag(eTag)
+                .checksum(HexFormat.of().formatHex(digest.digest())).build();
         } catch (Exception e) {
             throw new OssException("上传文件失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 创建分片上传任务.
+     * <p>
+     * 与 {@link #upload(InputStream, String, Long, String)} 不同, 分片由调用方逐个提交,
+     * 任务编号与各分片的 ETag 可由调用方持久化, 用于跨连接续传.
+     *
+     * @param key         在 Amazon S3 中的对象键
+     * @param contentType 文件内容类型
+     * @return 分片上传任务编号
+     * @throws OssException 如果创建失败，抛出自定义异常
+     */
+    public String createMultipartUpload(String key, String contentType) {
+        acquire();
+        try {
+            return client.createMultipartUpload(
+                    x -> x.bucket(properties.getBucketName())
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .join()
+                .uploadId();
+        } catch (Exception e) {
+            throw new OssException("创建分片上传失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 上传单个分片 (阻塞直到分片写入完成, 调用方可立即复用缓冲区).
+     *
+     * @param key        在 Amazon S3 中的对象键
+     * @param uploadId   分片上传任务编号
+     * @param partNumber 分片序号 (从 1 开始)
+     * @param data       分片数据缓冲区
+     * @param length     缓冲区中有效数据的长度
+     * @return 分片的 ETag
+     * @throws OssException 如果上传失败，抛出自定义异常
+     */
+    public String uploadPart(String key, String uploadId, int partNumber, byte[] data, int length) {
+        acquire();
+        try {
+            return client.uploadPart(
+                    x -> x.bucket(properties.getBucketName())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build(),
+                    AsyncRequestBody.fromByteBufferUnsafe(ByteBuffer.wrap(data, 0, length)))
+                .join()
+                .eTag();
+        } catch (Exception e) {
+            throw new OssException("上传分片失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 合并已上传的分片.
+     *
+     * @param key      在 Amazon S3 中的对象键
+     * @param uploadId 分片上传任务编号
+     * @param eTags    按分片序号排列的 ETag
+     * @return UploadResult 包含上传后的文件信息
+     * @throws OssException 如果合并失败，抛出自定义异常
+     */
+    public UploadResult completeMultipartUpload(String key, String uploadId, List<String> eTags) {
+        List<CompletedPart> parts = new ArrayList<>(eTags.size());
+        for (int i = 0; i < eTags.size(); i++) {
+            parts.add(CompletedPart.builder().partNumber(i + 1).eTag(eTags.get(i)).build());
+        }
+        acquire();
+        try {
+            String eTag = client.completeMultipartUpload(
+                    x -> x.bucket(properties.getBucketName())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .multipartUpload(y -> y.parts(parts))
+                        .build())
+                .join()
+                .eTag();
+            return UploadResult.builder().url(getUrl() + StringUtils.SLASH + key).filename(key).eTag(eTag).build();
+        } catch (Exception e) {
+            throw new OssException("合并分片失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 取消分片上传任务并释放已上传的分片.
+     *
+     * @param key      在 Amazon S3 中的对象键
+     * @param uploadId 分片上传任务编号
+     */
+    public void abortMultipartUpload(String key, String uploadId) {
+        acquire();
+        try {
+            client.abortMultipartUpload(
+                    x -> x.bucket(properties.getBucketName())
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build())
+                .join();
+        } catch (Exception e) {
+            throw new OssException("取消分片上传失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
         }
     }
 
@@ -363,18 +549,23 @@ public class OssClient {
     public Path fileDownload(String path) {
         // 构建临时文件
         Path tempFilePath = FileUtils.createTempFile().toPath();
-        // 使用 S3TransferManager 下载文件
-        FileDownload downloadFile = transferManager.downloadFile(
-            x -> x.getObjectRequest(
-                    y -> y.bucket(properties.getBucketName())
-                        .key(removeBaseUrl(path))
-                        .build())
-                .addTransferListener(LoggingTransferListener.create())
-                .destination(tempFilePath)
-                .build());
-        // 等待文件下载操作完成
-        downloadFile.completionFuture().join();
-        return tempFilePath;
+        acquire();
+        try {
+            // 使用 S3TransferManager 下载文件
+            FileDownload downloadFile = transferManager.downloadFile(
+                x -> x.getObjectRequest(
+                        y -> y.bucket(properties.getBucketName())
+                            .key(removeBaseUrl(path))
+                            .build())
+                    .addTransferListener(LoggingTransferListener.create())
+                    .destination(tempFilePath)
+                    .build());
+            // 等待文件下载操作完成
+            downloadFile.completionFuture().join();
+            return tempFilePath;
+        } finally {
+            release();
+        }
     }
 
     /**
@@ -386,6 +577,7 @@ public class OssClient {
      * @throws OssException 如果下载失败，抛出自定义异常
      */
     public long download(String key, OutputStream out) {
+        acquire();
         try {
             // 构建下载请求
             DownloadRequest<ResponseInputStream<GetObjectResponse>> downloadRequest = DownloadRequest.builder()
@@ -405,6 +597,8 @@ public class OssClient {
             }
         } catch (Exception e) {
             throw new OssException("文件下载失败，错误信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
         }
     }
 
@@ -414,33 +608,59 @@ public class OssClient {
      * @param path 指定路径
      */
     public void delete(String path) {
+        acquire();
         try {
             client.deleteObject(
                 x -> x.bucket(properties.getBucketName())
                     .key(removeBaseUrl(path))
-                    .build());
+                    .build())
+                .join();
         } catch (Exception e) {
             throw new OssException("删除文件失败，请检查配置信息:[" + e.getMessage() + "]");
+        } finally {
+            release();
         }
     }
 
     /**
-     * 获取私有URL链接.
+     * 获取私有URL链接 (有效期内复用已签名的URL).
      *
      * @param objectKey 对象KEY
      * @param second    授权时间
      */
     public String getPrivateUrl(String objectKey, Integer second) {
-        // 使用 AWS S3 预签名 URL 的生成器 获取对象的预签名 URL
-        URL url = presigner.presignGetObject(
-                x -> x.signatureDuration(Duration.ofSeconds(second))
-                    .getObjectRequest(
-                        y -> y.bucket(properties.getBucketName())
-                            .key(objectKey)
-                            .build())
-                    .build())
-            .url();
-        return url.toString();
+        return PresignedUrlCache.get(this, objectKey, second, key -> presign(key, second));
+    }
+
+    /**
+     * 批量获取私有URL链接 仅对缓存中不存在的对象重新签名.
+     *
+     * @param objectKeys 对象KEY集合
+     * @param second     授权时间
+     * @return 对象KEY 与 私有URL
+     */
+    public Map<String, String> getPrivateUrls(Collection<String> objectKeys, Integer second) {
+        return PresignedUrlCache.getAll(this, objectKeys, second, key -> presign(key, second));
+    }
+
+    /**
+     * 使用 AWS S3 预签名 URL 的生成器 获取对象的预签名 URL.
+     */
+    private String presign(String objectKey, Integer second) {
+        acquire();
+        try {
+            URL url = presigner.presignGetObject(
+                    x -> x.signatureDuration(Duration.ofSeconds(second))
+                        .getObjectRequest(
+                            y -> y.bucket(properties.getBucketName())
+                                .key(objectKey)
+                                .build())
+                        .build())
+                .url();
+            return url.toString();
+        } finally {
+            release();
+        }
     }
 
     /**
@@ -464,7 +684,6 @@ public class OssClient {
      * @return UploadResult 包含上传后的文件信息
      * @throws OssException 如果上传失败，抛出自定义异常
      */
-    @SuppressWarnings("unused")
     public UploadResult uploadSuffix(InputStream inputStream, String suffix, Long length, String contentType) {
         return upload(inputStream, getPath(properties.getPrefix(), suffix), length, contentType);
     }
@@ -570,6 +789,16 @@ public class OssClient {
         return header + endpoint + StringUtils.SLASH + properties.getBucketName();
     }
 
+    /**
+     * 使用配置的前缀生成唯一的文件路径.
+     *
+     * @param suffix 后缀
+     * @return 文件路径
+     */
+    public String getPath(String suffix) {
+        return getPath(properties.getPrefix(), suffix);
+    }
+
     /**
      * 生成一个符合特定规则的、唯一的文件路径。通过使用日期、UUID、前缀和后缀等元素的组合，确保了文件路径的独一无二性.
      *
@@ -622,4 +851,85 @@ public class OssClient {
     public AccessPolicyType getAccessPolicy() {
         return AccessPolicyType.getByType(properties.getAccessPolicy());
     }
+
+    /**
+     * 标记实例已被替换 在进行中的请求与租约全部结束后释放底层连接.
+     */
+    public void retire() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            if ((current & RETIRED) != 0) {
+                return;
+            }
+            next = closeIfIdle(current | RETIRED);
+        } while (!state.compareAndSet(current, next));
+        if ((current & CLOSED) == 0 && (next & CLOSED) != 0) {
+            shutdown();
+        }
+    }
+
+    /**
+     * 获取租约 (由 OssFactory 在返回实例前调用).
+     *
+     * @return 实例已被替换或已关闭时返回 false
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = state.get();
+            if ((current & (RETIRED | CLOSED)) != 0) {
+                return false;
+            }
+        } while (!state.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 归还 OssFactory 获取实例时取得的租约 已被替换的实例在最后一个租约归还后释放底层连接.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    private void acquire() {
+        long current;
+        do {
+            current = state.get();
+            if ((current & CLOSED) != 0) {
+                throw new OssException("存储配置已变更, 请重试");
+            }
+        } while (!state.compareAndSet(current, current + 1));
+    }
+
+    private void release() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            next = closeIfIdle(current - 1);
+        } while (!state.compareAndSet(current, next));
+        // 只有从 "已替换且仍有请求" 转换到 "已替换且无请求" 的一方负责关闭
+        if ((current & CLOSED) == 0 && (next & CLOSED) != 0) {
+            shutdown();
+        }
+    }
+
+    /**
+     * 已替换且没有进行中的请求与租约时 附加关闭标记.
+     */
+    private static long closeIfIdle(long state) {
+        return (state & RETIRED) != 0 && (state & IN_FLIGHT_MASK) == 0 ? state | CLOSED : state;
+    }
+
+    /**
+     * 仅由完成关闭状态转换的线程调用一次.
+     */
+    private void shutdown() {
+        transferManager.close();
+        client.close();
+        presigner.close();
+    }
 }
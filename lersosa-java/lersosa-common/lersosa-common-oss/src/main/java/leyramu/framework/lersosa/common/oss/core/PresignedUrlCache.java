@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.oss.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 预签名 URL 缓存.
+ * <p>
+ * 同一对象在签名有效期内重复获取时直接复用已签名的 URL, 缓存时间为签名有效期减去安全余量,
+ * 保证返回给前端的 URL 至少还有余量时长可用. 以客户端实例区分缓存, 配置变更重建客户端后旧签名自然失效.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PresignedUrlCache {
+
+    /**
+     * 安全余量上限 (秒).
+     */
+    private static final int MAX_MARGIN_SECONDS = 60;
+
+    private static final Cache<Key, String> CACHE = CaffeineCacheMetrics.monitor(Metrics.globalRegistry,
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(Expiry.<Key, String>creating((key, _) -> Duration.ofSeconds(ttlSeconds(key.second()))))
+            .recordStats()
+            .build(), "oss.presigned.url");
+
+    /**
+     * 获取单个对象的预签名 URL.
+     *
+     * @param client    客户端
+     * @param objectKey 对象KEY
+     * @param second    签名有效期 (秒)
+     * @param presigner 缓存未命中时的签名函数
+     * @return 预签名 URL
+     */
+    static String get(OssClient client, String objectKey, int second, Function<String, String> presigner) {
+        if (ttlSeconds(second) <= 0) {
+            return presigner.apply(objectKey);
+        }
+        return CACHE.get(new Key(client, objectKey, second), key -> presigner.apply(key.objectKey()));
+    }
+
+    /**
+     * 批量获取预签名 URL 仅对未命中的对象签名.
+     *
+     * @param client     客户端
+     * @param objectKeys 对象KEY集合
+     * @param second     签名有效期 (秒)
+     * @param presigner  缓存未命中时的签名函数
+     * @return 对象KEY 与 预签名 URL
+     */
+    static Map<String, String> getAll(OssClient client, Collection<String> objectKeys, int second,
+                                      Function<String, String> presigner) {
+        Map<String, String> result = new LinkedHashMap<>(objectKeys.size());
+        if (ttlSeconds(second) <= 0) {
+            objectKeys.forEach(objectKey -> result.put(objectKey, presigner.apply(objectKey)));
+            return result;
+        }
+        List<Key> keys = new ArrayList<>(objectKeys.size());
+        objectKeys.forEach(objectKey -> keys.add(new Key(client, objectKey, second)));
+        CACHE.getAll(keys, missing -> {
+            Map<Key, String> signed = new HashMap<>();
+            missing.forEach(key -> signed.put(key, presigner.apply(key.objectKey())));
+            return signed;
+        }).forEach((key, url) -> result.put(key.objectKey(), url));
+        return result;
+    }
+
+    /**
+     * 缓存时长 = 签名有效期 - 安全余量 (有效期的四分之一, 不超过60秒).
+     */
+    private static long ttlSeconds(int second) {
+        return second - Math.min(second / 4, MAX_MARGIN_SECONDS);
+    }
+
+    /**
+     * 缓存KEY 客户端按实例区分.
+     */
+    private record Key(OssClient client, String objectKey, int second) {
+    }
+}
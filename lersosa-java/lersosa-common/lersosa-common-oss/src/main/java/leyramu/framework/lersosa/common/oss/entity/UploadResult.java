@@ -51,4 +51,9 @@ public class UploadResult {
      * 已上传对象的实体标记（用来校验文件）.
      */
     private String eTag;
+
+    /**
+     * 上传过程中计算的内容 MD5 (十六进制).
+     */
+    private String checksum;
 }
@@ -23,7 +23,9 @@
 
 package leyramu.framework.lersosa.common.oss.factory;
 
+import com.baomidou.mybatisplus.core.plugins.InterceptorIgnoreHelper;
 import leyramu.framework.lersosa.common.core.constant.CacheNames;
+import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.json.utils.JsonUtils;
 import leyramu.framework.lersosa.common.oss.constant.OssConstant;
@@ -32,15 +34,19 @@ import leyramu.framework.lersosa.common.oss.exception.OssException;
 import leyramu.framework.lersosa.common.oss.properties.OssProperties;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 文件上传Factory.
+ * <p>
+ * 已创建的客户端按 租户:配置KEY 缓存, 读取路径只查本地 Map, 不再每次访问 Redis 与解析配置;
+ * 配置变更时由 {@link #refresh(String)} 在集群内广播, 各节点的 OssConfigRefreshListener 移除旧客户端,
+ * 旧客户端在全部租约归还后关闭. 获取到的实例已持有租约, 使用完毕后需调用 {@link OssClient#close()} 归还.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
@@ -49,17 +55,30 @@ import java.util.concurrent.locks.ReentrantLock;
 @Slf4j
 public class OssFactory {
 
+    /**
+     * 配置变更通知频道 消息内容为配置KEY.
+     */
+    public static final String CONFIG_REFRESH_TOPIC = GlobalConstants.GLOBAL_REDIS_KEY + "oss:config:refresh";
+
     private static final Map<String, OssClient> CLIENT_CACHE = new ConcurrentHashMap<>();
-    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    /**
+     * 默认配置KEY (本地缓存 变更时清空).
+     */
+    private static volatile String defaultConfigKey;
 
     /**
      * 获取默认实例.
      */
     public static OssClient instance() {
-        // 获取redis 默认类型
-        String configKey = RedisUtils.getCacheObject(OssConstant.DEFAULT_CONFIG_KEY);
-        if (StringUtils.isEmpty(configKey)) {
-            throw new OssException("文件存储服务类型无法找到!");
+        String configKey = defaultConfigKey;
+        if (configKey == null) {
+            // 获取redis 默认类型
+            configKey = RedisUtils.getCacheObject(OssConstant.DEFAULT_CONFIG_KEY);
+            if (StringUtils.isEmpty(configKey)) {
+                throw new OssException("文件存储服务类型无法找到!");
+            }
+            defaultConfigKey = configKey;
         }
         return instance(configKey);
     }
@@ -67,32 +86,61 @@ public class OssFactory {
     /**
      * 根据类型获取实例.
      */
-    public static synchronized OssClient instance(String configKey) {
-        String json = CacheUtils.get(CacheNames.SYS_OSS_CONFIG, configKey);
-        if (json == null) {
-            throw new OssException("系统异常, '" + configKey + "'配置信息不存在!");
-        }
-        OssProperties properties = JsonUtils.parseObject(json, OssProperties.class);
-        // 使用租户标识避免多个租户相同key实例覆盖
-        String key = configKey;
-        if (StringUtils.isNotBlank(Objects.requireNonNull(properties).getTenantId())) {
-            key = properties.getTenantId() + ":" + configKey;
-        }
-        OssClient client = CLIENT_CACHE.get(key);
-        // 客户端不存在或配置不相同则重新构建
-        if (client == null || client.checkPropertiesSame(properties)) {
-            LOCK.lock();
-            try {
-                client = CLIENT_CACHE.get(key);
-                if (client == null || client.checkPropertiesSame(properties)) {
-                    CLIENT_CACHE.put(key, new OssClient(configKey, properties));
-                    log.info("创建OSS实例 key => {}", configKey);
-                    return CLIENT_CACHE.get(key);
-                }
-            } finally {
-                LOCK.unlock();
+    public static OssClient instance(String configKey) {
+        // 与租户缓存管理器使用相同的租户范围 避免多个租户相同key实例覆盖
+        String tenantId = InterceptorIgnoreHelper.willIgnoreTenantLine("") ? null : TenantHelper.getTenantId();
+        String key = StringUtils.isNotBlank(tenantId) ? tenantId + ":" + configKey : configKey;
+        // 取到的实例恰好被替换时 重新获取一次
+        for (int attempt = 0; attempt < 2; attempt++) {
+            OssClient client = CLIENT_CACHE.get(key);
+            if (client == null) {
+                client = create(key, configKey);
             }
+            if (client.tryAcquire()) {
+                return client;
+            }
+            CLIENT_CACHE.remove(key, client);
         }
-        return client;
+        throw new OssException("存储配置已变更, 请重试");
+    }
+
+    private static OssClient create(String key, String configKey) {
+        // 仅首次创建时按key加锁
+        return CLIENT_CACHE.computeIfAbsent(key, _ -> {
+            String json = CacheUtils.get(CacheNames.SYS_OSS_CONFIG, configKey);
+            if (json == null) {
+                throw new OssException("系统异常, '" + configKey + "'配置信息不存在!");
+            }
+            OssProperties properties = JsonUtils.parseObject(json, OssProperties.class);
+            log.info("创建OSS实例 key => {}", key);
+            return new OssClient(configKey, Objects.requireNonNull(properties));
+        });
+    }
+
+    /**
+     * 通知集群内所有节点配置已变更 (新增/修改/删除配置或切换默认配置后调用).
+     *
+     * @param configKey 配置KEY
+     */
+    public static void refresh(String configKey) {
+        RedisUtils.publish(CONFIG_REFRESH_TOPIC, configKey);
+    }
+
+    /**
+     * 移除指定配置KEY的全部租户实例 旧实例在全部租约归还后关闭.
+     *
+     * @param configKey 配置KEY
+     */
+    public static void evict(String configKey) {
+        defaultConfigKey = null;
+        CLIENT_CACHE.entrySet().removeIf(entry -> {
+            OssClient client = entry.getValue();
+            if (!client.getConfigKey().equals(configKey)) {
+                return false;
+            }
+            log.info("移除OSS实例 key => {}", entry.getKey());
+            client.retire();
+            return true;
+        });
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.oss.listener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OSS 配置变更监听器.
+ * <p>
+ * 订阅 {@link OssFactory#CONFIG_REFRESH_TOPIC}, 收到配置KEY后移除本节点对应的客户端实例.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+public class OssConfigRefreshListener {
+
+    private int listenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerId = RedisUtils.subscribe(OssFactory.CONFIG_REFRESH_TOPIC, String.class, OssFactory::evict);
+        log.info("初始化OSS配置变更监听器成功");
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        RedisUtils.unsubscribe(OssFactory.CONFIG_REFRESH_TOPIC, listenerId);
+    }
+}
@@ -84,4 +84,14 @@ public class OssProperties {
      * 桶权限类型(0private 1public 2custom).
      */
     private String accessPolicy;
+
+    /**
+     * 分片上传的分片大小 (字节) 为空时使用默认值.
+     */
+    private Long partSize;
+
+    /**
+     * 最大并发连接数 为空时使用默认值.
+     */
+    private Integer maxConcurrency;
 }
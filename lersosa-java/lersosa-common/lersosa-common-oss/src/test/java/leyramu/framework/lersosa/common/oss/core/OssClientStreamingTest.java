@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.oss.core;
+
+import leyramu.framework.lersosa.common.oss.entity.UploadResult;
+import leyramu.framework.lersosa.common.oss.properties.OssProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * OssClient 流式上传集成测试.
+ * <p>
+ * 上传一个大于当前 JVM 最大堆内存的对象, 若上传过程中整体缓冲到堆内会直接 OutOfMemoryError.
+ * 需要一个可访问的 MinIO (可使用 docker/docker-compose-dev.yml 启动), 通过以下环境变量配置, 未配置时跳过:
+ * OSS_TEST_ENDPOINT (如 127.0.0.1:9000), OSS_TEST_ACCESS_KEY, OSS_TEST_SECRET_KEY, OSS_TEST_BUCKET.
+ * 建议以较小的堆运行, 如 -Xmx256m.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("OssClient 流式上传集成测试")
+@EnabledIfEnvironmentVariable(named = "OSS_TEST_ENDPOINT", matches = ".+")
+public class OssClientStreamingTest {
+
+    private static final String CONTENT_TYPE = "application/octet-stream";
+
+    private OssClient client;
+
+    private String key;
+
+    @BeforeEach
+    public void setUp() {
+        OssProperties properties = new OssProperties();
+        properties.setEndpoint(System.getenv("OSS_TEST_ENDPOINT"));
+        properties.setAccessKey(Objects.requireNonNullElse(System.getenv("OSS_TEST_ACCESS_KEY"), "minioadmin"));
+        properties.setSecretKey(Objects.requireNonNullElse(System.getenv("OSS_TEST_SECRET_KEY"), "minioadmin"));
+        properties.setBucketName(Objects.requireNonNullElse(System.getenv("OSS_TEST_BUCKET"), "lersosa-test"));
+        properties.setRegion("us-east-1");
+        properties.setIsHttps("N");
+        properties.setAccessPolicy("1");
+        properties.setPrefix("it");
+        client = new OssClient("it", properties);
+        key = "it/streaming-" + System.nanoTime() + ".bin";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        try {
+            client.delete(key);
+        } finally {
+            client.retire();
+        }
+    }
+
+    @Test
+    @DisplayName("已知长度上传大于堆内存的对象")
+    public void uploadLargerThanHeapWithLength() throws Exception {
+        long size = objectSize();
+        UploadResult result = client.upload(new PatternInputStream(size), key, size, CONTENT_TYPE);
+
+        String expected = md5(new PatternInputStream(size));
+        assertEquals(expected, result.getChecksum());
+        assertDownloaded(size, expected);
+    }
+
+    @Test
+    @DisplayName("未知长度上传大于堆内存的对象")
+    public void uploadLargerThanHeapWithoutLength() throws Exception {
+        long size = objectSize();
+        UploadResult result = client.upload(new PatternInputStream(size), key, null, CONTENT_TYPE);
+
+        String expected = md5(new PatternInputStream(size));
+        assertEquals(expected, result.getChecksum());
+        assertDownloaded(size, expected);
+    }
+
+    /**
+     * 对象大小 = 最大堆内存 + 64MB.
+     */
+    private static long objectSize() {
+        return Runtime.getRuntime().maxMemory() + 64L * 1024 * 1024;
+    }
+
+    private void assertDownloaded(long size, String expected) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        long written = client.download(key, new OutputStream() {
+            @Override
+            public void write(int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                digest.update(b, off, len);
+            }
+        });
+        assertEquals(size, written);
+        assertEquals(expected, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static String md5(InputStream in) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("MD5");
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 按位置生成内容的输入流 不占用与长度成比例的内存.
+     */
+    private static final class PatternInputStream extends InputStream {
+
+        private final long size;
+
+        private long position;
+
+        private PatternInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            return next();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(len, size - position);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) next();
+            }
+            return count;
+        }
+
+        private int next() {
+            long p = position++;
+            return (int) ((p * 31 + (p >>> 13)) & 0xFF);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.oss.core;
+
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
+import leyramu.framework.lersosa.common.oss.properties.OssProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OssFactory 高并发获取实例基准测试.
+ * <p>
+ * 64 个线程同时获取实例, 对比只查本地 Map 不持有租约 (修复前的读取路径) 与 instance 获取并归还租约的耗时,
+ * keys 为 1 时全部线程争用同一个实例的租约计数. 实例预先放入缓存, 不访问 Redis 与对象存储,
+ * 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class OssFactoryContentionBenchmark {
+
+    private static final String CONFIG_KEY = "minio";
+
+    @Param({"1", "16"})
+    private int keys;
+
+    private GenericApplicationContext context;
+
+    private Map<String, OssClient> clientCache;
+
+    private String[] configKeys;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        context = new GenericApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty("tenant.enable", "false"));
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+
+        clientCache = (Map<String, OssClient>) ReflectionTestUtils.getField(OssFactory.class, "CLIENT_CACHE");
+        configKeys = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            configKeys[i] = CONFIG_KEY + i;
+            clientCache.put(configKeys[i], new OssClient(configKeys[i], properties()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (String configKey : configKeys) {
+            OssFactory.evict(configKey);
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public String cachedLookup() {
+        return clientCache.get(configKey()).getConfigKey();
+    }
+
+    @Benchmark
+    public String leasedInstance() {
+        try (OssClient client = OssFactory.instance(configKey())) {
+            return client.getConfigKey();
+        }
+    }
+
+    private String configKey() {
+        return configKeys[keys == 1 ? 0 : ThreadLocalRandom.current().nextInt(keys)];
+    }
+
+    private static OssProperties properties() {
+        OssProperties properties = new OssProperties();
+        properties.setEndpoint("127.0.0.1:9000");
+        properties.setAccessKey("minioadmin");
+        properties.setSecretKey("minioadmin");
+        properties.setBucketName("lersosa");
+        properties.setRegion("us-east-1");
+        properties.setIsHttps("N");
+        properties.setAccessPolicy("1");
+        return properties;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(OssFactoryContentionBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.oss.core;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 预签名 URL 缓存基准测试.
+ * <p>
+ * 对比每次调用都重新签名与经 PresignedUrlCache 复用签名的耗时, 分为单个对象与一页对象批量获取两种场景.
+ * 签名在本地完成不访问网络, 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresignedUrlCacheBenchmark {
+
+    private static final int SECOND = 3600;
+
+    private static final String BUCKET = "lersosa";
+
+    @Param({"1", "100"})
+    private int size;
+
+    private S3Presigner presigner;
+
+    private OssClient client;
+
+    private List<String> objectKeys;
+
+    @Setup
+    public void setup() {
+        presigner = S3Presigner.builder()
+            .region(Region.US_EAST_1)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("minioadmin", "minioadmin")))
+            .endpointOverride(URI.create("http://127.0.0.1:9000"))
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            .build();
+        // 仅作为缓存KEY区分客户端实例
+        client = Mockito.mock(OssClient.class);
+        objectKeys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            objectKeys.add("2024/11/06/" + i + ".png");
+        }
+        // 预热缓存 测量的是命中时的耗时
+        PresignedUrlCache.getAll(client, objectKeys, SECOND, this::presign);
+    }
+
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public Map<String, String> uncached() {
+        Map<String, String> result = new LinkedHashMap<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            result.put(objectKey, presign(objectKey));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> cached() {
+        if (size == 1) {
+            String objectKey = objectKeys.getFirst();
+            return Map.of(objectKey, PresignedUrlCache.get(client, objectKey, SECOND, this::presign));
+        }
+        return PresignedUrlCache.getAll(client, objectKeys, SECOND, this::presign);
+    }
+
+    private String presign(String objectKey) {
+        return presigner.presignGetObject(
+                x -> x.signatureDuration(Duration.ofSeconds(SECOND))
+                    .getObjectRequest(y -> y.bucket(BUCKET).key(objectKey).build())
+                    .build())
+            .url()
+            .toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PresignedUrlCacheBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
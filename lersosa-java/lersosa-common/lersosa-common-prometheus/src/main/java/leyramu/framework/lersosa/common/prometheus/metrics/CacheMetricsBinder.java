@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+
+package leyramu.framework.lersosa.common.prometheus.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import leyramu.framework.lersosa.common.redis.manager.CaffeineCacheDecorator;
+import leyramu.framework.lersosa.common.redis.manager.PlusSpringCacheManager;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.redisson.spring.cache.RedissonCache;
+import org.redisson.spring.cache.RedissonCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存监控指标(按缓存组与层级 local/redis 区分).
+ * <p>
+ * 缓存组为动态创建, 通过 {@link PlusSpringCacheManager#addCacheListener} 在创建时绑定指标
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private static final String TAG_CACHE = "cache";
+    private static final String TAG_CACHE_MANAGER = "cacheManager";
+    private static final String TAG_TIER = "tier";
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cacheManagers.forEach((beanName, cacheManager) -> {
+            if (cacheManager instanceof PlusSpringCacheManager plusCacheManager) {
+                plusCacheManager.addCacheListener((name, cache) -> bindCache(registry, beanName, name, cache));
+            }
+        });
+    }
+
+    private void bindCache(MeterRegistry registry, String cacheManager, String name, Cache cache) {
+        if (cache instanceof CaffeineCacheDecorator nearCache) {
+            Tags tags = Tags.of(TAG_CACHE_MANAGER, cacheManager, TAG_TIER, "local");
+            CaffeineCacheMetrics.monitor(registry, nearCache.getLocalCache(), name, tags);
+            bindLoadMetrics(registry, nearCache.getLocalCache(), tags.and(TAG_CACHE, name));
+            cache = nearCache.getTargetCache();
+        }
+        if (cache instanceof RedissonCache redissonCache) {
+            RedissonCacheMetrics.monitor(registry, redissonCache, Tags.of(TAG_CACHE_MANAGER, cacheManager, TAG_TIER, "redis"));
+        }
+    }
+
+    /**
+     * 本地缓存的加载即为回源 redis, 手动加载方式不会被 {@link CaffeineCacheMetrics} 统计, 这里单独绑定.
+     */
+    private void bindLoadMetrics(MeterRegistry registry, com.github.benmanes.caffeine.cache.Cache<?, ?> cache, Tags tags) {
+        FunctionCounter.builder("cache.load", cache, c -> c.stats().loadSuccessCount())
+            .tags(tags)
+            .tag("result", "success")
+            .description("The number of times cache lookup methods have successfully loaded a new value")
+            .register(registry);
+        FunctionCounter.builder("cache.load", cache, c -> c.stats().loadFailureCount())
+            .tags(tags)
+            .tag("result", "failure")
+            .description("The number of times cache lookup methods threw an exception while loading a new value")
+            .register(registry);
+        // 累计耗时只增不减 以计时器(次数 + 总耗时)导出, 才能按 rate 计算平均加载耗时
+        FunctionTimer.builder("cache.load.duration", cache, c -> c.stats().loadCount(), c -> c.stats().totalLoadTime(), TimeUnit.NANOSECONDS)
+            .tags(tags)
+            .description("The time the cache has spent loading new values")
+            .register(registry);
+    }
+}
@@ -25,6 +25,7 @@ package leyramu.framework.lersosa.common.redis.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import leyramu.framework.lersosa.common.redis.config.properties.RedissonProperties;
 import leyramu.framework.lersosa.common.redis.manager.PlusSpringCacheManager;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.cache.CacheManager;
@@ -63,7 +64,9 @@ public class CacheConfiguration {
      * 自定义缓存管理器 整合spring-cache.
      */
     @Bean
-    public CacheManager cacheManager() {
-        return new PlusSpringCacheManager();
+    public CacheManager cacheManager(RedissonProperties redissonProperties) {
+        PlusSpringCacheManager cacheManager = new PlusSpringCacheManager();
+        cacheManager.setNearCacheConfig(redissonProperties.getNearCacheConfig());
+        return cacheManager;
     }
 }
@@ -65,6 +65,11 @@ public class RedissonProperties {
      */
     private ClusterServersConfig clusterServersConfig;
 
+    /**
+     * 本地二级缓存配置.
+     */
+    private NearCacheConfig nearCacheConfig = new NearCacheConfig();
+
     @Data
     @NoArgsConstructor
     public static class SingleServerConfig {
@@ -155,4 +160,34 @@ public class RedissonProperties {
          */
         private SubscriptionMode subscriptionMode;
     }
+
+    @Data
+    @NoArgsConstructor
+    public static class NearCacheConfig {
+
+        /**
+         * 是否开启本地二级缓存(关闭后直接读写 redis).
+         */
+        private boolean enabled = true;
+
+        /**
+         * 本地缓存默认存活时间，单位：毫秒(cacheName 未指定 ttl 时使用).
+         */
+        private long ttl = 30000;
+
+        /**
+         * 本地缓存最大存活时间，单位：毫秒(兜底失效广播丢失的情况).
+         */
+        private long maxTtl = 1800000;
+
+        /**
+         * 本地缓存默认最大条数(cacheName 未指定 maxSize 时使用).
+         */
+        private int maxSize = 1000;
+
+        /**
+         * 失效广播通道.
+         */
+        private String topic = "global:cache:invalidate";
+    }
 }
@@ -21,16 +21,21 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
+
 package leyramu.framework.lersosa.common.redis.manager;
 
-import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import lombok.NonNull;
 import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 /**
  * Cache 装饰器模式(用于扩展 Caffeine 一级缓存).
+ * <p>
+ * 每个缓存组持有独立的 Caffeine 实例, 写入与删除先落 redis 再失效本地缓存, 并通过广播通知其他节点失效
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
@@ -38,15 +43,26 @@ import java.util.concurrent.Callable;
  */
 public class CaffeineCacheDecorator implements Cache {
 
-    private static final com.github.benmanes.caffeine.cache.Cache<Object, Object>
-        CAFFEINE = SpringUtils.getBean("caffeine");
-
     private final String name;
     private final Cache cache;
-
-    public CaffeineCacheDecorator(String name, Cache cache) {
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> caffeine;
+    private final Consumer<String> broadcaster;
+
+    /**
+     * 构造本地二级缓存.
+     *
+     * @param name        缓存组名称
+     * @param cache       redis 缓存
+     * @param caffeine    本地缓存
+     * @param broadcaster 失效广播(参数为缓存key 为空表示清空)
+     */
+    public CaffeineCacheDecorator(String name, Cache cache,
+                                  com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> caffeine,
+                                  Consumer<String> broadcaster) {
         this.name = name;
         this.cache = cache;
+        this.caffeine = caffeine;
+        this.broadcaster = broadcaster;
     }
 
     @Override
@@ -61,45 +77,78 @@ public class CaffeineCacheDecorator implements Cache {
         return cache.getNativeCache();
     }
 
+    /**
+     * 获取 redis 缓存实例.
+     */
+    public Cache getTargetCache() {
+        return cache;
+    }
+
+    /**
+     * 获取本地缓存实例.
+     */
+    public com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> getLocalCache() {
+        return caffeine;
+    }
+
     public String getUniqueKey(Object key) {
-        return name + ":" + key;
+        return String.valueOf(key);
     }
 
     @Override
     public ValueWrapper get(@NonNull Object key) {
-        Object o = CAFFEINE.get(getUniqueKey(key), _ -> cache.get(key));
-        return (ValueWrapper) o;
+        return caffeine.get(getUniqueKey(key), _ -> cache.get(key));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(@NonNull Object key, Class<T> type) {
-        Object o = CAFFEINE.get(getUniqueKey(key), _ -> cache.get(key, type));
-        return (T) o;
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper = caffeine.get(getUniqueKey(key), _ -> new SimpleValueWrapper(cache.get(key, valueLoader)));
+        return wrapper == null ? null : (T) wrapper.get();
     }
 
     @Override
     public void put(@NonNull Object key, Object value) {
-        CAFFEINE.invalidate(getUniqueKey(key));
         cache.put(key, value);
+        invalidateAndBroadcast(key);
     }
 
     @Override
     public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
-        CAFFEINE.invalidate(getUniqueKey(key));
-        return cache.putIfAbsent(key, value);
+        ValueWrapper wrapper = cache.putIfAbsent(key, value);
+        if (wrapper == null) {
+            invalidateAndBroadcast(key);
+        }
+        return wrapper;
     }
 
     @Override
     public void evict(@NonNull Object key) {
-        evictIfPresent(key);
+        cache.evict(key);
+        invalidateAndBroadcast(key);
     }
 
     @Override
     public boolean evictIfPresent(@NonNull Object key) {
         boolean b = cache.evictIfPresent(key);
         if (b) {
-            CAFFEINE.invalidate(getUniqueKey(key));
+            invalidateAndBroadcast(key);
+        } else {
+            caffeine.invalidate(getUniqueKey(key));
         }
         return b;
     }
@@ -107,17 +156,43 @@ public class CaffeineCacheDecorator implements Cache {
     @Override
     public void clear() {
         cache.clear();
+        caffeine.invalidateAll();
+        broadcaster.accept(null);
     }
 
     @Override
     public boolean invalidate() {
-        return cache.invalidate();
+        boolean b = cache.invalidate();
+        caffeine.invalidateAll();
+        broadcaster.accept(null);
+        return b;
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
-        Object o = CAFFEINE.get(getUniqueKey(key), _ -> cache.get(key, valueLoader));
-        return (T) o;
+    /**
+     * 处理其他节点的失效广播(仅失效本地缓存).
+     *
+     * @param key 缓存key 为空表示清空
+     */
+    public void invalidateLocal(String key) {
+        if (key == null) {
+            caffeine.invalidateAll();
+        } else {
+            caffeine.invalidate(key);
+        }
+    }
+
+    /**
+     * 批量写入后失效本地缓存并广播到其他节点.
+     *
+     * @param keys 缓存key集合
+     */
+    public void invalidateAndBroadcastAll(Collection<?> keys) {
+        keys.forEach(this::invalidateAndBroadcast);
+    }
+
+    private void invalidateAndBroadcast(Object key) {
+        String uniqueKey = getUniqueKey(key);
+        caffeine.invalidate(uniqueKey);
+        broadcaster.accept(uniqueKey);
     }
 }
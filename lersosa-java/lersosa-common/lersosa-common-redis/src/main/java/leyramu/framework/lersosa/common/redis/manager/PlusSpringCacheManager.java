@@ -23,42 +23,67 @@
 
 package leyramu.framework.lersosa.common.redis.manager;
 
+import cn.hutool.core.util.IdUtil;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import leyramu.framework.lersosa.common.redis.config.properties.RedissonProperties;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import lombok.NonNull;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RMap;
 import org.redisson.api.RMapCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.BaseStatusListener;
 import org.redisson.spring.cache.CacheConfig;
+import org.redisson.spring.cache.NullValue;
 import org.redisson.spring.cache.RedissonCache;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.util.StringUtils;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 /**
  * 重写 cacheName 处理方法 支持多参数.
+ * <p>
+ * cacheName 格式: name#ttl#maxIdle#maxSize, 参数同时作用于 redis 缓存与本地 Caffeine 二级缓存,
+ * 本地缓存通过 redis 主题广播失效, 保证集群内各节点一致
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
  * @since 2024/11/6
  */
+@Slf4j
 @SuppressWarnings("unchecked")
 public class PlusSpringCacheManager implements CacheManager {
 
+    /**
+     * 当前节点标识.
+     */
+    private static final String NODE_ID = IdUtil.fastSimpleUUID();
+
     Map<String, CacheConfig> configMap = new ConcurrentHashMap<>();
     ConcurrentMap<String, Cache> instanceMap = new ConcurrentHashMap<>();
+    ConcurrentMap<String, CaffeineCacheDecorator> nearCacheMap = new ConcurrentHashMap<>();
+    ConcurrentMap<String, Cache> targetMap = new ConcurrentHashMap<>();
+    ConcurrentMap<String, RMap<Object, Object>> nativeMap = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, Cache>> cacheListeners = new CopyOnWriteArrayList<>();
     private boolean dynamic = true;
     @Setter
     private boolean allowNullValues = true;
     @Setter
     private boolean transactionAware = true;
+    @Setter
+    private RedissonProperties.NearCacheConfig nearCacheConfig = new RedissonProperties.NearCacheConfig();
+    private volatile RTopic topic;
 
     /**
      * Creates CacheManager supplied by Redisson instance.
@@ -117,34 +142,194 @@ public class PlusSpringCacheManager implements CacheManager {
         return createMapCache(name, config);
     }
 
-    private Cache createMap(String name, CacheConfig ignoredConfig) {
+    private Cache createMap(String name, CacheConfig config) {
         RMap<Object, Object> map = RedisUtils.getClient().getMap(name);
 
-        Cache cache = new CaffeineCacheDecorator(name, new RedissonCache(map, allowNullValues));
+        return registerCache(name, map, new RedissonCache(map, allowNullValues), config);
+    }
+
+    private Cache createMapCache(String name, CacheConfig config) {
+        RMapCache<Object, Object> map = RedisUtils.getClient().getMapCache(name);
+
+        Cache oldCache = instanceMap.get(name);
+        Cache cache = registerCache(name, map, new RedissonCache(map, config, allowNullValues), config);
+        if (oldCache == null) {
+            // 仅在未设置时写入 避免多节点并发启动时相互覆盖
+            map.trySetMaxSize(config.getMaxSize());
+        }
+        return cache;
+    }
+
+    private Cache registerCache(String name, RMap<Object, Object> map, Cache redisCache, CacheConfig config) {
+        Cache cache = redisCache;
+        CaffeineCacheDecorator nearCache = null;
+        if (nearCacheConfig.isEnabled()) {
+            subscribeInvalidate();
+            nearCache = new CaffeineCacheDecorator(name, redisCache, createCaffeine(config), key -> publishInvalidate(name, key));
+            cache = nearCache;
+        }
         if (transactionAware) {
             cache = new TransactionAwareCacheDecorator(cache);
         }
+        // 先登记 redis 映射 保证缓存对外可见时批量读写已可用
+        nativeMap.putIfAbsent(name, map);
         Cache oldCache = instanceMap.putIfAbsent(name, cache);
         if (oldCache != null) {
-            cache = oldCache;
+            return oldCache;
         }
+        if (nearCache != null) {
+            nearCacheMap.put(name, nearCache);
+        }
+        Cache target = nearCache != null ? nearCache : redisCache;
+        targetMap.put(name, target);
+        cacheListeners.forEach(listener -> listener.accept(name, target));
         return cache;
     }
 
-    private Cache createMapCache(String name, CacheConfig config) {
-        RMapCache<Object, Object> map = RedisUtils.getClient().getMapCache(name);
+    /**
+     * 按 cacheName 参数构建本地缓存(存活时间不超过 redis 缓存且不超过配置的上限).
+     */
+    private com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> createCaffeine(CacheConfig config) {
+        long ttl = config.getTTL() > 0 ? config.getTTL() : nearCacheConfig.getTtl();
+        if (nearCacheConfig.getMaxTtl() > 0) {
+            ttl = Math.min(ttl, nearCacheConfig.getMaxTtl());
+        }
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            // 记录命中率与加载耗时 供监控使用
+            .recordStats()
+            .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+            .maximumSize(config.getMaxSize() > 0 ? config.getMaxSize() : nearCacheConfig.getMaxSize());
+        if (config.getMaxIdleTime() > 0) {
+            builder.expireAfterAccess(config.getMaxIdleTime(), TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
 
-        Cache cache = new CaffeineCacheDecorator(name, new RedissonCache(map, config, allowNullValues));
-        if (transactionAware) {
-            cache = new TransactionAwareCacheDecorator(cache);
+    /**
+     * 订阅本地缓存失效主题(重连后清空全部本地缓存 避免错过广播).
+     */
+    private void subscribeInvalidate() {
+        if (topic != null) {
+            return;
         }
-        Cache oldCache = instanceMap.putIfAbsent(name, cache);
-        if (oldCache != null) {
-            cache = oldCache;
+        synchronized (this) {
+            if (topic != null) {
+                return;
+            }
+            RTopic rTopic = RedisUtils.getClient().getTopic(nearCacheConfig.getTopic());
+            rTopic.addListener(CacheInvalidateMessage.class, (_, message) -> {
+                if (NODE_ID.equals(message.getOrigin())) {
+                    return;
+                }
+                CaffeineCacheDecorator nearCache = nearCacheMap.get(message.getCacheName());
+                if (nearCache != null) {
+                    nearCache.invalidateLocal(message.getKey());
+                }
+            });
+            rTopic.addListener(new BaseStatusListener() {
+                @Override
+                public void onSubscribe(String channel) {
+                    nearCacheMap.values().forEach(nearCache -> nearCache.invalidateLocal(null));
+                }
+            });
+            topic = rTopic;
+        }
+    }
+
+    private void publishInvalidate(String name, String key) {
+        topic.publishAsync(new CacheInvalidateMessage(NODE_ID, name, key)).whenComplete((_, e) -> {
+            if (e != null) {
+                log.error("本地缓存失效广播发送失败 cacheName:{} key:{}", name, key, e);
+            }
+        });
+    }
+
+    /**
+     * 注册缓存创建监听(已创建的缓存会立即回调).
+     *
+     * @param listener 监听器 参数为缓存组名称与未经事务装饰的缓存实例
+     */
+    public void addCacheListener(BiConsumer<String, Cache> listener) {
+        cacheListeners.add(listener);
+        targetMap.forEach(listener);
+    }
+
+    /**
+     * 批量读取缓存: 先查本地缓存, 未命中部分一次 redis 批量读取并回填本地缓存.
+     *
+     * @param name 缓存组名称
+     * @param keys 缓存key集合
+     * @return 命中的key与值 (值为 null 表示缓存了空值), 未命中的key不在结果中
+     */
+    public <K> Map<K, Object> getAll(String name, Collection<K> keys) {
+        Map<K, Object> result = new HashMap<>(keys.size());
+        if (keys.isEmpty()) {
+            return result;
+        }
+        Cache cache = unwrap(getCache(name));
+        CaffeineCacheDecorator nearCache = cache instanceof CaffeineCacheDecorator decorator ? decorator : null;
+        Set<K> misses = new LinkedHashSet<>();
+        for (K key : keys) {
+            Cache.ValueWrapper wrapper = nearCache == null ? null : nearCache.getLocalCache().getIfPresent(nearCache.getUniqueKey(key));
+            if (wrapper != null) {
+                result.put(key, wrapper.get());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+        Map<Object, Object> loaded = nativeMap.get(cache.getName()).getAll(new HashSet<>(misses));
+        for (K key : misses) {
+            Object stored = loaded.get(key);
+            if (stored == null) {
+                continue;
+            }
+            Object value = stored instanceof NullValue ? null : stored;
+            result.put(key, value);
+            if (nearCache != null) {
+                nearCache.getLocalCache().put(nearCache.getUniqueKey(key), new SimpleValueWrapper(value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量写入缓存: 一次 redis 批量写入并使用缓存组配置的存活时间 (用于查询后回填),
+     * 写入的key同时失效本节点与其他节点的本地缓存.
+     *
+     * @param name   缓存组名称
+     * @param values 缓存key与值 (值为 null 时按允许空值的配置缓存空值)
+     */
+    public void putAll(String name, Map<?, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Cache cache = unwrap(getCache(name));
+        Map<Object, Object> stored = new HashMap<>(values.size());
+        values.forEach((key, value) -> {
+            if (value != null || allowNullValues) {
+                stored.put(key, value == null ? NullValue.INSTANCE : value);
+            }
+        });
+        RMap<Object, Object> map = nativeMap.get(cache.getName());
+        CacheConfig config = configMap.get(cache.getName());
+        if (map instanceof RMapCache<Object, Object> mapCache && config != null && config.getTTL() > 0) {
+            mapCache.putAll(stored, config.getTTL(), TimeUnit.MILLISECONDS);
         } else {
-            map.setMaxSize(config.getMaxSize());
+            map.putAll(stored);
         }
-        return cache;
+        if (cache instanceof CaffeineCacheDecorator nearCache) {
+            nearCache.invalidateAndBroadcastAll(stored.keySet());
+        }
+    }
+
+    /**
+     * 去掉事务装饰 得到本地缓存装饰器或 redis 缓存.
+     */
+    private static Cache unwrap(Cache cache) {
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
     }
 
     @Override
@@ -24,11 +24,15 @@
 package leyramu.framework.lersosa.common.redis.utils;
 
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.redis.manager.PlusSpringCacheManager;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -55,6 +59,43 @@ public class CacheUtils {
         return wrapper != null ? (T) wrapper.get() : null;
     }
 
+    /**
+     * 批量获取缓存值 (本地缓存 + 一次 redis 批量读取).
+     *
+     * @param cacheNames 缓存组名称
+     * @param keys       缓存key集合
+     * @return 命中的key与值 (值为 null 表示缓存了空值), 未命中的key不在结果中
+     */
+    public static <K, T> Map<K, T> getAll(String cacheNames, Collection<K> keys) {
+        if (CACHE_MANAGER instanceof PlusSpringCacheManager manager) {
+            return (Map<K, T>) manager.getAll(cacheNames, keys);
+        }
+        Cache cache = Objects.requireNonNull(CACHE_MANAGER.getCache(cacheNames));
+        Map<K, T> result = new HashMap<>(keys.size());
+        for (K key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null) {
+                result.put(key, (T) wrapper.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 批量保存缓存值 (一次 redis 批量写入).
+     *
+     * @param cacheNames 缓存组名称
+     * @param values     缓存key与值
+     */
+    public static void putAll(String cacheNames, Map<?, ?> values) {
+        if (CACHE_MANAGER instanceof PlusSpringCacheManager manager) {
+            manager.putAll(cacheNames, values);
+            return;
+        }
+        Cache cache = Objects.requireNonNull(CACHE_MANAGER.getCache(cacheNames));
+        values.forEach(cache::put);
+    }
+
     /**
      * 保存缓存值.
      *
@@ -26,16 +26,19 @@ package leyramu.framework.lersosa.common.redis.utils;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.redisson.Redisson;
 import org.redisson.api.*;
+import org.redisson.api.options.KeysScanOptions;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.decoder.ListScanResult;
+import org.redisson.command.CommandAsyncExecutor;
+import org.redisson.connection.MasterSlaveEntry;
 
 import java.time.Duration;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * redis 工具类.
@@ -50,6 +53,32 @@ public class RedisUtils {
 
     private static final RedissonClient CLIENT = SpringUtils.getBean(RedissonClient.class);
 
+    /**
+     * 存在则设置并保留 TTL(兼容 5.X 不支持 KEEPTTL 的情况).
+     */
+    private static final String SET_IF_EXISTS_KEEP_TTL_SCRIPT = """
+        local ttl = redis.call('pttl', KEYS[1])
+        if ttl == -2 then
+            return 0
+        end
+        if ttl > 0 then
+            redis.call('set', KEYS[1], ARGV[1], 'px', ttl)
+        else
+            redis.call('set', KEYS[1], ARGV[1])
+        end
+        return 1
+        """;
+
+    /**
+     * 值等于期望值时续期.
+     */
+    private static final String EXPIRE_IF_EQUALS_SCRIPT = """
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('pexpire', KEYS[1], ARGV[2])
+        end
+        return 0
+        """;
+
     /**
      * 限流.
      *
@@ -106,10 +135,22 @@ public class RedisUtils {
      * @param channelKey 通道key
      * @param clazz      消息类型
      * @param consumer   自定义处理
+     * @return 监听器ID
+     */
+    public static <T> int subscribe(String channelKey, Class<T> clazz, Consumer<T> consumer) {
+        RTopic topic = CLIENT.getTopic(channelKey);
+        return topic.addListener(clazz, (channel, msg) -> consumer.accept(msg));
+    }
+
+    /**
+     * 取消订阅.
+     *
+     * @param channelKey 通道key
+     * @param listenerId 监听器ID
      */
-    public static <T> void subscribe(String channelKey, Class<T> clazz, Consumer<T> consumer) {
+    public static void unsubscribe(String channelKey, int listenerId) {
         RTopic topic = CLIENT.getTopic(channelKey);
-        topic.addListener(clazz, (channel, msg) -> consumer.accept(msg));
+        topic.removeListener(listenerId);
     }
 
     /**
@@ -187,6 +228,31 @@ public class RedisUtils {
         return bucket.setIfExists(value, duration);
     }
 
+    /**
+     * 如果存在则设置 并保留当前对象 TTL 有效期(单次原子操作 替代 hasKey + set 两次往返).
+     *
+     * @param key   缓存的键值
+     * @param value 缓存的值
+     * @return set成功或失败
+     */
+    public static <T> boolean setObjectIfExists(final String key, final T value) {
+        return CLIENT.getScript().eval(RScript.Mode.READ_WRITE, SET_IF_EXISTS_KEEP_TTL_SCRIPT,
+            RScript.ReturnType.BOOLEAN, List.of(key), value);
+    }
+
+    /**
+     * 仅当缓存值等于期望值时续期 (单次原子操作, 用于续期租约).
+     *
+     * @param key      缓存的键值
+     * @param value    期望的值
+     * @param duration 超时时间
+     * @return 续期成功或失败 (键不存在或值已变更)
+     */
+    public static <T> boolean expireIfEquals(final String key, final T value, final Duration duration) {
+        return CLIENT.getScript().eval(RScript.Mode.READ_WRITE, EXPIRE_IF_EQUALS_SCRIPT,
+            RScript.ReturnType.BOOLEAN, List.of(key), value, duration.toMillis());
+    }
+
     /**
      * 注册对象监听器.
      *
@@ -243,6 +309,22 @@ public class RedisUtils {
         return rBucket.remainTimeToLive();
     }
 
+    /**
+     * 批量获得key剩余存活时间(一次管道往返).
+     *
+     * @param keys 缓存键值集合
+     * @return key与剩余存活时间
+     */
+    public static Map<String, Long> getTimeToLive(final Collection<String> keys) {
+        RBatch batch = CLIENT.createBatch();
+        Map<String, RFuture<Long>> futures = new LinkedHashMap<>(keys.size());
+        keys.forEach(key -> futures.put(key, batch.getBucket(key).remainTimeToLiveAsync()));
+        batch.execute();
+        Map<String, Long> result = new LinkedHashMap<>(keys.size());
+        futures.forEach((key, future) -> result.put(key, future.toCompletableFuture().join()));
+        return result;
+    }
+
     /**
      * 删除单个对象.
      *
@@ -263,6 +345,20 @@ public class RedisUtils {
         batch.execute();
     }
 
+    /**
+     * 批量获得缓存的基本对象(一次 MGET 往返).
+     *
+     * @param keys 缓存键值集合
+     * @return 存在的key与对应的数据
+     */
+    public static <T> Map<String, T> getMultiCacheObject(final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return new LinkedHashMap<>(0);
+        }
+        RBuckets buckets = CLIENT.getBuckets();
+        return buckets.get(keys.toArray(new String[0]));
+    }
+
     /**
      * 检查缓存对象是否存在.
      *
@@ -488,6 +584,125 @@ public class RedisUtils {
         return rMap.getAll(hKeys);
     }
 
+    /**
+     * 追加缓存 ZSet 数据.
+     *
+     * @param key   缓存的键值
+     * @param value 待缓存的数据
+     * @param score 分值
+     */
+    public static <T> boolean addCacheZSet(final String key, final T value, final double score) {
+        RScoredSortedSet<T> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.add(score, value);
+    }
+
+    /**
+     * 批量追加缓存 ZSet 数据(单次 ZADD).
+     *
+     * @param key    缓存的键值
+     * @param values 待缓存的数据与分值
+     */
+    public static <T> int addCacheZSet(final String key, final Map<T, Double> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        RScoredSortedSet<T> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.addAll(values);
+    }
+
+    /**
+     * 向多个 ZSet 追加同一数据 只保留分值最大的 maxSize 条并刷新过期时间(单次批量往返).
+     *
+     * @param keys     缓存的键值集合
+     * @param value    待缓存的数据
+     * @param score    分值
+     * @param maxSize  每个 ZSet 保留的最大数量
+     * @param duration 过期时间
+     */
+    public static <T> void addCacheZSet(final Collection<String> keys, final T value, final double score,
+                                        final int maxSize, final Duration duration) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        RBatch batch = CLIENT.createBatch();
+        for (String key : keys) {
+            RScoredSortedSetAsync<T> rZSet = batch.getScoredSortedSet(key);
+            rZSet.addAsync(score, value);
+            rZSet.removeRangeByRankAsync(0, -maxSize - 1);
+            rZSet.expireAsync(duration);
+        }
+        batch.execute();
+    }
+
+    /**
+     * 删除 ZSet 中的数据.
+     *
+     * @param key   缓存的键值
+     * @param value 待删除的数据
+     */
+    public static <T> boolean delCacheZSetValue(final String key, final T value) {
+        RScoredSortedSet<T> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.remove(value);
+    }
+
+    /**
+     * 获取 ZSet 中分值在区间内的数据(闭区间 按分值升序).
+     *
+     * @param key      缓存的键值
+     * @param minScore 最小分值
+     * @param maxScore 最大分值
+     * @return 数据集合
+     */
+    public static <T> Collection<T> getCacheZSetRangeByScore(final String key, final double minScore, final double maxScore) {
+        RScoredSortedSet<T> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.valueRange(minScore, true, maxScore, true);
+    }
+
+    /**
+     * 分页获取 ZSet 中分值在区间内的数据(闭区间 ZRANGEBYSCORE ... LIMIT).
+     *
+     * @param key      缓存的键值
+     * @param minScore 最小分值
+     * @param maxScore 最大分值
+     * @param offset   跳过的数量
+     * @param count    获取的数量, -1 表示不限
+     * @param asc      是否按分值升序
+     * @return 数据集合
+     */
+    public static <T> Collection<T> getCacheZSetRangeByScore(final String key, final double minScore, final double maxScore,
+                                                             final int offset, final int count, final boolean asc) {
+        RScoredSortedSet<T> rZSet = CLIENT.getScoredSortedSet(key);
+        return asc
+            ? rZSet.valueRange(minScore, true, maxScore, true, offset, count)
+            : rZSet.valueRangeReversed(minScore, true, maxScore, true, offset, count);
+    }
+
+    /**
+     * 统计 ZSet 中分值在区间内的数据数量(闭区间).
+     *
+     * @param key      缓存的键值
+     * @param minScore 最小分值
+     * @param maxScore 最大分值
+     * @return 数量
+     */
+    public static int countCacheZSetByScore(final String key, final double minScore, final double maxScore) {
+        RScoredSortedSet<Object> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.count(minScore, true, maxScore, true);
+    }
+
+    /**
+     * 删除 ZSet 中分值在区间内的数据(闭区间).
+     *
+     * @param key      缓存的键值
+     * @param minScore 最小分值
+     * @param maxScore 最大分值
+     * @return 删除的数量
+     */
+    public static int delCacheZSetRangeByScore(final String key, final double minScore, final double maxScore) {
+        RScoredSortedSet<Object> rZSet = CLIENT.getScoredSortedSet(key);
+        return rZSet.removeRangeByScore(minScore, true, maxScore, true);
+    }
+
     /**
      * 设置原子值.
      *
@@ -539,9 +754,46 @@ public class RedisUtils {
      * @return 对象列表
      */
     public static Collection<String> keys(final String pattern) {
-        Stream<String> stream = CLIENT.getKeys().getKeysStream()
-            .filter(key -> key.matches(pattern.replace("*", ".*")));
-        return stream.collect(Collectors.toList());
+        return CLIENT.getKeys().getKeysStream(KeysScanOptions.defaults().pattern(pattern))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 按游标增量扫描 key(SCAN MATCH COUNT 全局匹配忽略租户 自行拼接租户id).
+     * <p>
+     * 集群模式下按节点地址顺序依次遍历各主节点, 游标格式为 节点序号:节点游标
+     *
+     * @param pattern 匹配模式
+     * @param cursor  游标, 首次传 {@link ScanPage#START}
+     * @param count   每次扫描的建议数量
+     * @return 本次扫描结果, 游标为 {@link ScanPage#START} 表示遍历结束
+     */
+    public static ScanPage scan(final String pattern, final String cursor, final int count) {
+        CommandAsyncExecutor executor = ((Redisson) CLIENT).getCommandExecutor();
+        NameMapper nameMapper = executor.getServiceManager().getConfig().getNameMapper();
+        List<MasterSlaveEntry> entries = executor.getConnectionManager().getEntrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getClient().getAddr().toString()))
+            .toList();
+        int separator = cursor.indexOf(':');
+        int node = separator < 0 ? 0 : Integer.parseInt(cursor.substring(0, separator));
+        if (node >= entries.size()) {
+            return new ScanPage(ScanPage.START, List.of());
+        }
+        MasterSlaveEntry entry = entries.get(node);
+        // 固定在主节点上扫描 保证同一游标始终落在同一实例
+        ListScanResult<String> result = executor.get(executor.readAsync(
+            entry.getClient(), entry, StringCodec.INSTANCE, RedisCommands.SCAN,
+            cursor.substring(separator + 1), "MATCH", nameMapper.map(pattern), "COUNT", count));
+        List<String> keys = result.getValues().stream().map(nameMapper::unmap).toList();
+        String next;
+        if (!ScanPage.START.equals(result.getPos())) {
+            next = node + ":" + result.getPos();
+        } else if (node + 1 < entries.size()) {
+            next = (node + 1) + ":" + ScanPage.START;
+        } else {
+            next = ScanPage.START;
+        }
+        return new ScanPage(next, keys);
     }
 
     /**
@@ -562,4 +814,18 @@ public class RedisUtils {
         RKeys rKeys = CLIENT.getKeys();
         return rKeys.countExists(key) > 0;
     }
+
+    /**
+     * 增量扫描结果.
+     *
+     * @param cursor 下次扫描使用的游标
+     * @param keys   本次扫描到的 key(可能为空 也可能与之前的结果重复)
+     */
+    public record ScanPage(String cursor, List<String> keys) {
+
+        /**
+         * 起始与结束游标.
+         */
+        public static final String START = "0";
+    }
 }
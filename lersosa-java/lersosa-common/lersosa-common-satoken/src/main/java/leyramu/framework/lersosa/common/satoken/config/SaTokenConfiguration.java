@@ -28,10 +28,12 @@ import cn.dev33.satoken.jwt.StpLogicJwtForSimple;
 import cn.dev33.satoken.stp.StpInterface;
 import cn.dev33.satoken.stp.StpLogic;
 import leyramu.framework.lersosa.common.core.factory.YmlPropertySourceFactory;
+import leyramu.framework.lersosa.common.satoken.config.properties.SaTokenCacheProperties;
 import leyramu.framework.lersosa.common.satoken.core.dao.PlusSaTokenDao;
 import leyramu.framework.lersosa.common.satoken.core.service.SaPermissionImpl;
 import leyramu.framework.lersosa.common.satoken.handler.SaTokenExceptionHandler;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
 
@@ -43,6 +45,7 @@ import org.springframework.context.annotation.PropertySource;
  * @since 2024/11/6
  */
 @AutoConfiguration
+@EnableConfigurationProperties(SaTokenCacheProperties.class)
 @PropertySource(value = "classpath:common-satoken.yml", factory = YmlPropertySourceFactory.class)
 public class SaTokenConfiguration {
 
@@ -63,8 +66,8 @@ public class SaTokenConfiguration {
      * 自定义dao层存储.
      */
     @Bean
-    public SaTokenDao saTokenDao() {
-        return new PlusSaTokenDao();
+    public SaTokenDao saTokenDao(SaTokenCacheProperties saTokenCacheProperties) {
+        return new PlusSaTokenDao(saTokenCacheProperties);
     }
 
     /**
@@ -25,41 +25,93 @@ package leyramu.framework.lersosa.common.satoken.core.dao;
 
 import cn.dev33.satoken.dao.SaTokenDao;
 import cn.dev33.satoken.util.SaFoxUtil;
+import cn.hutool.core.util.IdUtil;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import leyramu.framework.lersosa.common.redis.manager.CacheInvalidateMessage;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.satoken.config.properties.SaTokenCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.BaseStatusListener;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Sa-Token持久层接口(使用框架自带RedisUtils实现 协议统一).
+ * <p>
+ * token、session、token-session 类 key 额外维护一个按过期时间排序的 ZSet 索引, 搜索时无需遍历全部 key.
+ * 本地 Caffeine 会话缓存在任意写入与删除后失效, 并通过 redis 主题广播到所有节点
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
  * @since 2024/11/6
  */
+@Slf4j
 public class PlusSaTokenDao implements SaTokenDao {
 
-    private static final Cache<String, Object> CAFFEINE = Caffeine.newBuilder()
-        // 设置最后一次写入或访问后经过固定时间过期
-        .expireAfterWrite(5, TimeUnit.SECONDS)
-        // 初始的缓存空间大小
-        .initialCapacity(100)
-        // 缓存的最大条数
-        .maximumSize(1000)
-        .build();
+    /**
+     * 当前节点标识.
+     */
+    private static final String NODE_ID = IdUtil.fastSimpleUUID();
+
+    /**
+     * 失效广播中的缓存组名称.
+     */
+    private static final String CACHE_NAME = "satoken";
+
+    /**
+     * 需要建立索引的 key 片段.
+     */
+    private static final String[] INDEX_SEGMENTS = {":token:", ":session:", ":token-session:"};
+
+    /**
+     * 索引 key 后缀.
+     */
+    private static final String INDEX_SUFFIX = "-index";
+
+    /**
+     * 游标扫描与补建索引时每批处理的 key 数量.
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * 本节点的索引补建任务(成功完成后保留 失败则移除以便下次重试).
+     */
+    private static final Map<String, CompletableFuture<Void>> INDEX_REBUILDS = new ConcurrentHashMap<>();
+
+    private final SaTokenCacheProperties cacheProperties;
+
+    private final Cache<String, Object> caffeine;
+
+    private volatile RTopic topic;
+
+    public PlusSaTokenDao() {
+        this(new SaTokenCacheProperties());
+    }
+
+    public PlusSaTokenDao(SaTokenCacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+        this.caffeine = Caffeine.newBuilder()
+            // 设置写入后经过固定时间过期(兜底失效广播丢失的情况)
+            .expireAfterWrite(cacheProperties.getTtl(), TimeUnit.MILLISECONDS)
+            // 初始的缓存空间大小
+            .initialCapacity(100)
+            // 缓存的最大条数
+            .maximumSize(cacheProperties.getMaxSize())
+            .build();
+    }
 
     /**
      * 获取Value，如无返空.
      */
     @Override
     public String get(String key) {
-        Object o = CAFFEINE.get(key, _ -> RedisUtils.getCacheObject(key));
-        return (String) o;
+        return (String) getLocal(key);
     }
 
     /**
@@ -76,7 +128,8 @@ public class PlusSaTokenDao implements SaTokenDao {
         } else {
             RedisUtils.setCacheObject(key, value, Duration.ofSeconds(timeout));
         }
-        CAFFEINE.invalidate(key);
+        addIndex(key, timeout);
+        invalidate(key);
     }
 
     /**
@@ -84,9 +137,8 @@ public class PlusSaTokenDao implements SaTokenDao {
      */
     @Override
     public void update(String key, String value) {
-        if (RedisUtils.hasKey(key)) {
-            RedisUtils.setCacheObject(key, value, true);
-            CAFFEINE.invalidate(key);
+        if (RedisUtils.setObjectIfExists(key, value)) {
+            invalidate(key);
         }
     }
 
@@ -96,6 +148,8 @@ public class PlusSaTokenDao implements SaTokenDao {
     @Override
     public void delete(String key) {
         RedisUtils.deleteObject(key);
+        removeIndex(key);
+        invalidate(key);
     }
 
     /**
@@ -113,6 +167,7 @@ public class PlusSaTokenDao implements SaTokenDao {
     @Override
     public void updateTimeout(String key, long timeout) {
         RedisUtils.expire(key, Duration.ofSeconds(timeout));
+        addIndex(key, timeout);
     }
 
 
@@ -121,7 +176,7 @@ public class PlusSaTokenDao implements SaTokenDao {
      */
     @Override
     public Object getObject(String key) {
-        return CAFFEINE.get(key, _ -> RedisUtils.getCacheObject(key));
+        return getLocal(key);
     }
 
     /**
@@ -138,7 +193,8 @@ public class PlusSaTokenDao implements SaTokenDao {
         } else {
             RedisUtils.setCacheObject(key, object, Duration.ofSeconds(timeout));
         }
-        CAFFEINE.invalidate(key);
+        addIndex(key, timeout);
+        invalidate(key);
     }
 
     /**
@@ -146,9 +202,8 @@ public class PlusSaTokenDao implements SaTokenDao {
      */
     @Override
     public void updateObject(String key, Object object) {
-        if (RedisUtils.hasKey(key)) {
-            RedisUtils.setCacheObject(key, object, true);
-            CAFFEINE.invalidate(key);
+        if (RedisUtils.setObjectIfExists(key, object)) {
+            invalidate(key);
         }
     }
 
@@ -158,6 +213,8 @@ public class PlusSaTokenDao implements SaTokenDao {
     @Override
     public void deleteObject(String key) {
         RedisUtils.deleteObject(key);
+        removeIndex(key);
+        invalidate(key);
     }
 
     /**
@@ -175,20 +232,203 @@ public class PlusSaTokenDao implements SaTokenDao {
     @Override
     public void updateObjectTimeout(String key, long timeout) {
         RedisUtils.expire(key, Duration.ofSeconds(timeout));
+        addIndex(key, timeout);
     }
 
 
     /**
      * 搜索数据.
      */
-    @SuppressWarnings("unchecked")
     @Override
     public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
-        String keyStr = prefix + "*" + keyword + "*";
-        return (List<String>) CAFFEINE.get(keyStr, _ -> {
-            Collection<String> keys = RedisUtils.keys(keyStr);
-            List<String> list = new ArrayList<>(keys);
-            return SaFoxUtil.searchList(list, start, size, sortType);
+        String indexKey = getIndexKey(prefix);
+        if (indexKey == null) {
+            // 非会话类数据 退化为游标 SCAN MATCH
+            return SaFoxUtil.searchList(scanData(prefix + "*" + keyword + "*", start, size, sortType), start, size, sortType);
+        }
+        awaitIndex(indexKey, prefix);
+        long now = System.currentTimeMillis();
+        // 惰性清理已过期的索引成员
+        RedisUtils.delCacheZSetRangeByScore(indexKey, 0, now);
+        if (SaFoxUtil.isEmpty(keyword)) {
+            // 无关键字时直接由 ZRANGEBYSCORE ... LIMIT 分页 无需加载整个索引
+            return new ArrayList<>(RedisUtils.getCacheZSetRangeByScore(indexKey, now, Long.MAX_VALUE,
+                Math.max(start, 0), size < 0 ? -1 : size, sortType));
+        }
+        Collection<String> keys = RedisUtils.getCacheZSetRangeByScore(indexKey, now, Long.MAX_VALUE);
+        List<String> list = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (key.substring(prefix.length()).contains(keyword)) {
+                list.add(key);
+            }
+        }
+        return SaFoxUtil.searchList(list, start, size, sortType);
+    }
+
+    /**
+     * 统计会话类数据的数量(与 {@link #searchData} 的结果总数一致 用于分页).
+     *
+     * @param prefix 前缀
+     * @return 未过期的数据数量, 非会话类前缀返回 -1
+     */
+    public long countData(String prefix) {
+        String indexKey = getIndexKey(prefix);
+        if (indexKey == null) {
+            return -1;
+        }
+        awaitIndex(indexKey, prefix);
+        return RedisUtils.countCacheZSetByScore(indexKey, System.currentTimeMillis(), Long.MAX_VALUE);
+    }
+
+    /**
+     * 按游标扫描匹配的 key(SCAN 结果本身无序, 正序时取满当前页即可提前结束).
+     */
+    private List<String> scanData(String pattern, int start, int size, boolean sortType) {
+        Set<String> keys = new LinkedHashSet<>();
+        long limit = sortType && size >= 0 ? (long) Math.max(start, 0) + size : Long.MAX_VALUE;
+        String cursor = RedisUtils.ScanPage.START;
+        do {
+            RedisUtils.ScanPage page = RedisUtils.scan(pattern, cursor, REBUILD_BATCH_SIZE);
+            // SCAN 可能返回重复的 key
+            keys.addAll(page.keys());
+            cursor = page.cursor();
+        } while (!RedisUtils.ScanPage.START.equals(cursor) && keys.size() < limit);
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 优先从本地缓存获取.
+     */
+    private Object getLocal(String key) {
+        if (!cacheProperties.isEnabled()) {
+            return RedisUtils.getCacheObject(key);
+        }
+        subscribeInvalidate();
+        return caffeine.get(key, _ -> RedisUtils.getCacheObject(key));
+    }
+
+    /**
+     * 失效本地缓存并广播到其他节点.
+     */
+    private void invalidate(String key) {
+        if (!cacheProperties.isEnabled()) {
+            return;
+        }
+        caffeine.invalidate(key);
+        subscribeInvalidate();
+        topic.publishAsync(new CacheInvalidateMessage(NODE_ID, CACHE_NAME, key)).whenComplete((_, e) -> {
+            if (e != null) {
+                log.error("会话缓存失效广播发送失败 key:{}", key, e);
+            }
+        });
+    }
+
+    /**
+     * 订阅会话缓存失效主题(重连后清空本地缓存 避免错过广播).
+     */
+    private void subscribeInvalidate() {
+        if (topic != null) {
+            return;
+        }
+        synchronized (this) {
+            if (topic != null) {
+                return;
+            }
+            RTopic rTopic = RedisUtils.getClient().getTopic(cacheProperties.getTopic());
+            rTopic.addListener(CacheInvalidateMessage.class, (_, message) -> {
+                if (!NODE_ID.equals(message.getOrigin())) {
+                    caffeine.invalidate(message.getKey());
+                }
+            });
+            rTopic.addListener(new BaseStatusListener() {
+                @Override
+                public void onSubscribe(String channel) {
+                    caffeine.invalidateAll();
+                }
+            });
+            topic = rTopic;
+        }
+    }
+
+    /**
+     * 获取 key 所属的索引 key(非会话类 key 返回 null).
+     *
+     * @param key 缓存的键值 例如 Authorization:login:token:xxx 对应索引 Authorization:login:token-index
+     */
+    protected String getIndexKey(String key) {
+        for (String segment : INDEX_SEGMENTS) {
+            int index = key.indexOf(segment);
+            if (index >= 0) {
+                return key.substring(0, index + segment.length() - 1) + INDEX_SUFFIX;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 写入或刷新索引 分值为过期时间戳.
+     */
+    private void addIndex(String key, long timeout) {
+        String indexKey = getIndexKey(key);
+        if (indexKey == null) {
+            return;
+        }
+        long expireAt = timeout == NEVER_EXPIRE ? Long.MAX_VALUE : System.currentTimeMillis() + timeout * 1000;
+        RedisUtils.addCacheZSet(indexKey, key, expireAt);
+    }
+
+    private void removeIndex(String key) {
+        String indexKey = getIndexKey(key);
+        if (indexKey != null) {
+            RedisUtils.delCacheZSetValue(indexKey, key);
+        }
+    }
+
+    /**
+     * 等待索引补建完成(每个节点每个索引仅成功执行一次, 并发调用共用同一次补建).
+     */
+    private void awaitIndex(String indexKey, String prefix) {
+        CompletableFuture<Void> rebuild = new CompletableFuture<>();
+        CompletableFuture<Void> running = INDEX_REBUILDS.putIfAbsent(indexKey, rebuild);
+        if (running != null) {
+            running.join();
+            return;
+        }
+        try {
+            rebuildIndex(indexKey, prefix);
+            rebuild.complete(null);
+        } catch (RuntimeException e) {
+            INDEX_REBUILDS.remove(indexKey, rebuild);
+            rebuild.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 为启用索引前写入的历史数据补建索引(按游标分批扫描 读取剩余存活时间并批量写入索引).
+     */
+    private void rebuildIndex(String indexKey, String prefix) {
+        String cursor = RedisUtils.ScanPage.START;
+        do {
+            RedisUtils.ScanPage page = RedisUtils.scan(prefix + "*", cursor, REBUILD_BATCH_SIZE);
+            rebuildIndex(indexKey, page.keys());
+            cursor = page.cursor();
+        } while (!RedisUtils.ScanPage.START.equals(cursor));
+    }
+
+    private void rebuildIndex(String indexKey, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Double> scores = new HashMap<>(keys.size());
+        RedisUtils.getTimeToLive(keys).forEach((key, timeToLive) -> {
+            if (timeToLive == -1) {
+                scores.put(key, (double) Long.MAX_VALUE);
+            } else if (timeToLive > 0) {
+                scores.put(key, (double) (now + timeToLive));
+            }
         });
+        RedisUtils.addCacheZSet(indexKey, scores);
     }
 }
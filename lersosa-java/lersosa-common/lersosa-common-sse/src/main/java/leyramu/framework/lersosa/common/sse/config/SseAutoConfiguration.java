@@ -23,14 +23,19 @@
 
 package leyramu.framework.lersosa.common.sse.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import leyramu.framework.lersosa.common.sse.controller.SseController;
 import leyramu.framework.lersosa.common.sse.core.SseEmitterManager;
 import leyramu.framework.lersosa.common.sse.listener.SseTopicListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * SSE 自动装配.
  *
@@ -44,13 +49,15 @@ import org.springframework.context.annotation.Bean;
 public class SseAutoConfiguration {
 
     @Bean
-    public SseEmitterManager sseEmitterManager() {
-        return new SseEmitterManager();
+    public SseEmitterManager sseEmitterManager(SseProperties sseProperties, ObjectProvider<MeterRegistry> meterRegistry,
+                                               ScheduledExecutorService scheduledExecutorService) {
+        return new SseEmitterManager(sseProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            scheduledExecutorService);
     }
 
     @Bean
-    public SseTopicListener sseTopicListener() {
-        return new SseTopicListener(new SseEmitterManager());
+    public SseTopicListener sseTopicListener(SseEmitterManager sseEmitterManager) {
+        return new SseTopicListener(sseEmitterManager);
     }
 
     @Bean
@@ -43,4 +43,29 @@ public class SseProperties {
      * 路径.
      */
     private String path;
+
+    /**
+     * 单个连接发送缓冲的最大事件数 溢出时丢弃最早的事件.
+     */
+    private int bufferCapacity = 256;
+
+    /**
+     * Redis 中每个用户 (以及群发) 保留用于断线重放的最近事件数.
+     */
+    private int replaySize = 100;
+
+    /**
+     * 心跳间隔 (秒) 同时用于清理失效连接.
+     */
+    private long heartbeatInterval = 30;
+
+    /**
+     * 单个事件写出超时时间 (毫秒) 超时的连接在心跳时被清理.
+     */
+    private long sendTimeout = 10000;
+
+    /**
+     * Redis 中重放事件的保留时间 (秒) 每次发布后重新计时.
+     */
+    private long replayRetention = 300;
 }
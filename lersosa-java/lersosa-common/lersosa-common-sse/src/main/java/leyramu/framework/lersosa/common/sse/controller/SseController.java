@@ -33,6 +33,7 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -54,12 +55,14 @@ public class SseController implements DisposableBean {
 
     /**
      * 建立 SSE 连接.
+     *
+     * @param lastEventId 客户端重连时携带的最后事件ID 用于补发断线期间的消息
      */
     @GetMapping(value = "${sse.path}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connect() {
+    public SseEmitter connect(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         String tokenValue = StpUtil.getTokenValue();
         Long userId = LoginHelper.getUserId();
-        return sseEmitterManager.connect(userId, tokenValue);
+        return sseEmitterManager.connect(userId, tokenValue, lastEventId);
     }
 
     /**
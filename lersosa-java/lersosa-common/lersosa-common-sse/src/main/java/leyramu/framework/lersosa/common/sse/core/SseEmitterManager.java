@@ -23,32 +23,106 @@
 
 package leyramu.framework.lersosa.common.sse.core;
 
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.StrUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.sse.config.SseProperties;
 import leyramu.framework.lersosa.common.sse.dto.SseMessageDto;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
  * 管理 Server-Sent Events (SSE) 连接.
+ * <p>
+ * 调用方 (包括 Redis 订阅线程) 只把事件放入每个连接自己的有界缓冲, 由独立线程池写出,
+ * 单个慢连接或已断开的连接不会阻塞其他用户.
+ * <p>
+ * 发布的事件由 Redis 分配全局递增序号作为事件ID, 并在发布到主题之前记入 Redis 中按用户 (及群发)
+ * 保存的重放 ZSet, 客户端携带 Last-Event-ID 重连到任意节点都能补发断线期间的事件, 无需粘性路由.
+ * 仅在本机发送 (sendMessage) 的事件不带ID, 不参与重放.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
  * @since 2024/11/6
  */
 @Slf4j
-public class SseEmitterManager {
+public class SseEmitterManager implements DisposableBean {
 
     /**
      * 订阅的频道.
      */
     private final static String SSE_TOPIC = "global:sse";
 
-    private final static Map<Long, Map<String, SseEmitter>> USER_TOKEN_EMITTERS = new ConcurrentHashMap<>();
+    /**
+     * 事件序号.
+     */
+    private final static String SSE_SEQUENCE = "global:sse:sequence";
+
+    /**
+     * 用户重放事件 ZSet 前缀 (分值为序号).
+     */
+    private final static String SSE_REPLAY = "global:sse:replay:";
+
+    /**
+     * 群发重放事件 ZSet.
+     */
+    private final static String SSE_REPLAY_ALL = SSE_REPLAY + "all";
+
+    private final Map<Long, UserChannel> userChannels = new ConcurrentHashMap<>();
+
+    private final SseProperties properties;
+
+    private final ExecutorService executor;
+
+    private final ScheduledFuture<?> heartbeat;
+
+    /**
+     * 全部连接中待发送的事件数.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Counter droppedCounter;
+
+    private final Counter reapedCounter;
+
+    public SseEmitterManager(SseProperties properties, MeterRegistry registry, ScheduledExecutorService scheduledExecutorService) {
+        this.properties = properties;
+        this.executor = SpringUtils.isVirtual()
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
+            new BasicThreadFactory.Builder().namingPattern("sse-send-%d").daemon(true).build());
+        Gauge.builder("lersosa.sse.connections", connections, AtomicInteger::get)
+            .description("当前节点 SSE 连接数")
+            .register(registry);
+        Gauge.builder("lersosa.sse.buffer.depth", pending, AtomicLong::get)
+            .description("全部连接待发送的事件数")
+            .register(registry);
+        this.droppedCounter = Counter.builder("lersosa.sse.dropped")
+            .description("缓冲溢出被丢弃的事件数")
+            .register(registry);
+        this.reapedCounter = Counter.builder("lersosa.sse.reaped")
+            .description("被清理的失效连接数")
+            .register(registry);
+        long interval = Math.max(properties.getHeartbeatInterval(), 1);
+        this.heartbeat = scheduledExecutorService.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.SECONDS);
+    }
 
     /**
      * 建立与指定用户的 SSE 连接.
@@ -58,26 +132,47 @@ public class SseEmitterManager {
      * @return 返回一个 SseEmitter 实例，客户端可以通过该实例接收 SSE 事件
      */
     public SseEmitter connect(Long userId, String token) {
-        // 从 USER_TOKEN_EMITTERS 中获取或创建当前用户的 SseEmitter 映射表（ConcurrentHashMap）
-        // 每个用户可以有多个 SSE 连接，通过 token 进行区分
-        Map<String, SseEmitter> emitters = USER_TOKEN_EMITTERS.computeIfAbsent(userId, _ -> new ConcurrentHashMap<>());
+        return connect(userId, token, null);
+    }
 
+    /**
+     * 建立与指定用户的 SSE 连接 并补发 lastEventId 之后的事件.
+     *
+     * @param userId      用户的唯一标识符，用于区分不同用户的连接
+     * @param token       用户的唯一令牌，用于识别具体的连接
+     * @param lastEventId 客户端最后收到的事件ID (Last-Event-ID 请求头) 可为空
+     * @return 返回一个 SseEmitter 实例，客户端可以通过该实例接收 SSE 事件
+     */
+    public SseEmitter connect(Long userId, String token, String lastEventId) {
         // 创建一个新的 SseEmitter 实例，超时时间设置为 0 表示无限制
         SseEmitter emitter = new SseEmitter(0L);
+        long lastSequence = parseSequence(lastEventId);
+        Connection[] registered = new Connection[2];
+        // 登记连接与心跳移除空用户都在 compute 内完成 新连接不会挂到已被移除的用户上
+        userChannels.compute(userId, (_, channel) -> {
+            UserChannel current = channel != null ? channel : new UserChannel();
+            registered[0] = new Connection(current, token, emitter, lastSequence >= 0);
+            registered[1] = current.connections.put(token, registered[0]);
+            return current;
+        });
+        Connection connection = registered[0];
+        Connection previous = registered[1];
+        connections.incrementAndGet();
 
-        emitters.put(token, emitter);
+        // 当 emitter 完成、超时或发生错误时，移除对应的连接
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(_ -> connection.close());
 
-        // 当 emitter 完成、超时或发生错误时，从映射表中移除对应的 token
-        emitter.onCompletion(() -> emitters.remove(token));
-        emitter.onTimeout(() -> emitters.remove(token));
-        emitter.onError((_) -> emitters.remove(token));
-
-        try {
-            // 向客户端发送一条连接成功的事件
-            emitter.send(SseEmitter.event().comment("connected"));
-        } catch (IOException e) {
-            // 如果发送消息失败，则从映射表中移除 emitter
-            emitters.remove(token);
+        // 向客户端发送一条连接成功的事件
+        connection.offer(SseEmitter.event().comment("connected").build());
+        if (lastSequence >= 0) {
+            connection.replay(loadReplay(userId, lastSequence));
+        }
+        if (previous != null) {
+            // 同一令牌重复连接 替换旧连接 结束旧连接可能阻塞 在锁外交给发送线程执行
+            previous.close();
+            previous.completeAsync();
         }
         return emitter;
     }
@@ -89,13 +184,14 @@ public class SseEmitterManager {
      * @param token  用户的唯一令牌，用于识别具体的连接
      */
     public void disconnect(Long userId, String token) {
-        Map<String, SseEmitter> emitters = USER_TOKEN_EMITTERS.get(userId);
-        if (emitters != null) {
-            try {
-                emitters.get(token).send(SseEmitter.event().comment("disconnected"));
-            } catch (Exception ignore) {
-            }
-            emitters.remove(token);
+        UserChannel channel = userChannels.get(userId);
+        if (channel == null) {
+            return;
+        }
+        Connection connection = channel.connections.get(token);
+        if (connection != null) {
+            connection.offer(SseEmitter.event().comment("disconnected").build());
+            connection.completeAfterDrain();
         }
     }
 
@@ -109,34 +205,47 @@ public class SseEmitterManager {
     }
 
     /**
-     * 向指定的用户会话发送消息.
+     * 把从主题收到的消息投递到本机连接 (仅入队 不阻塞订阅线程).
+     *
+     * @param message 带序号的SSE消息对象
+     */
+    public void sendMessage(SseMessageDto message) {
+        // 如果key不为空就按照key发消息 如果为空就群发
+        if (CollUtil.isNotEmpty(message.getUserIds())) {
+            for (Long userId : message.getUserIds()) {
+                UserChannel channel = userChannels.get(userId);
+                if (channel != null) {
+                    channel.publish(message.getSequence(), message.getMessage());
+                }
+            }
+        } else {
+            for (UserChannel channel : userChannels.values()) {
+                channel.publish(message.getSequence(), message.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 向指定的用户会话发送消息 (仅入队 不阻塞调用线程 不参与重放).
      *
      * @param userId  要发送消息的用户id
      * @param message 要发送的消息内容
      */
     public void sendMessage(Long userId, String message) {
-        Map<String, SseEmitter> emitters = USER_TOKEN_EMITTERS.get(userId);
-        if (emitters != null) {
-            for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
-                try {
-                    entry.getValue().send(SseEmitter.event()
-                        .name("message")
-                        .data(message));
-                } catch (Exception e) {
-                    emitters.remove(entry.getKey());
-                }
-            }
+        UserChannel channel = userChannels.get(userId);
+        if (channel != null) {
+            channel.publish(null, message);
         }
     }
 
     /**
-     * 本机全用户会话发送消息.
+     * 本机全用户会话发送消息 (不参与重放).
      *
      * @param message 要发送的消息内容
      */
     public void sendMessage(String message) {
-        for (Long userId : USER_TOKEN_EMITTERS.keySet()) {
-            sendMessage(userId, message);
+        for (UserChannel channel : userChannels.values()) {
+            channel.publish(null, message);
         }
     }
 
@@ -149,6 +258,7 @@ public class SseEmitterManager {
         SseMessageDto broadcastMessage = new SseMessageDto();
         broadcastMessage.setMessage(sseMessageDto.getMessage());
         broadcastMessage.setUserIds(sseMessageDto.getUserIds());
+        broadcastMessage.setSequence(record(sseMessageDto.getUserIds(), sseMessageDto.getMessage()));
         RedisUtils.publish(SSE_TOPIC, broadcastMessage, _ -> log.info("SSE发送主题订阅消息topic:{} session keys:{} message:{}",
             SSE_TOPIC, sseMessageDto.getUserIds(), sseMessageDto.getMessage()));
     }
@@ -161,6 +271,285 @@ public class SseEmitterManager {
     public void publishAll(String message) {
         SseMessageDto broadcastMessage = new SseMessageDto();
         broadcastMessage.setMessage(message);
+        broadcastMessage.setSequence(record(null, message));
         RedisUtils.publish(SSE_TOPIC, broadcastMessage, _ -> log.info("SSE发送主题订阅消息topic:{} message:{}", SSE_TOPIC, message));
     }
+
+    @Override
+    public void destroy() {
+        heartbeat.cancel(false);
+        executor.shutdown();
+    }
+
+    /**
+     * 心跳: 向每个连接发送注释事件, 写出失败的连接在发送线程中被移除;
+     * 写出卡住超过超时时间的连接以及已无连接的用户在此处清理.
+     */
+    private void heartbeat() {
+        long now = System.nanoTime();
+        long sendTimeout = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeout());
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        userChannels.forEach((userId, channel) -> {
+            for (Connection connection : channel.connections.values()) {
+                long start = connection.sendStartNanos;
+                if (start != 0 && now - start > sendTimeout) {
+                    log.warn("SSE连接写出超时 清理连接 userId:{}", userId);
+                    reapedCounter.increment();
+                    connection.close();
+                    // 写线程仍卡在 send 上 结束连接交给发送线程 避免阻塞心跳线程
+                    connection.completeAsync();
+                } else {
+                    connection.offer(ping);
+                }
+            }
+            // 判空与移除在同一个 computeIfPresent 内 与 connect 的登记互斥
+            userChannels.computeIfPresent(userId, (_, current) -> current.connections.isEmpty() ? null : current);
+        });
+    }
+
+    /**
+     * 分配全局序号并把事件记入重放 ZSet 需在发布到主题之前完成 保证任意节点收到重连时都能读到.
+     *
+     * @param userIds 目标用户 为空表示群发
+     * @param message 消息内容
+     * @return 序号
+     */
+    private long record(List<Long> userIds, String message) {
+        long sequence = RedisUtils.incrAtomicValue(SSE_SEQUENCE);
+        SseMessageDto event = new SseMessageDto();
+        event.setMessage(message);
+        event.setSequence(sequence);
+        List<String> keys = CollUtil.isEmpty(userIds)
+            ? List.of(SSE_REPLAY_ALL)
+            : userIds.stream().map(userId -> SSE_REPLAY + userId).toList();
+        RedisUtils.addCacheZSet(keys, event, sequence, properties.getReplaySize(),
+            Duration.ofSeconds(properties.getReplayRetention()));
+        return sequence;
+    }
+
+    /**
+     * 读取序号大于 lastSequence 且仍保留的事件 (用户定向事件与群发事件按序号合并).
+     *
+     * @param userId       用户id
+     * @param lastSequence 客户端最后收到的序号
+     * @return 按序号升序的事件
+     */
+    private List<SseMessageDto> loadReplay(Long userId, long lastSequence) {
+        try {
+            List<SseMessageDto> events = new ArrayList<>(RedisUtils.<SseMessageDto>getCacheZSetRangeByScore(
+                SSE_REPLAY + userId, lastSequence + 1, Double.POSITIVE_INFINITY));
+            events.addAll(RedisUtils.<SseMessageDto>getCacheZSetRangeByScore(
+                SSE_REPLAY_ALL, lastSequence + 1, Double.POSITIVE_INFINITY));
+            events.sort(Comparator.comparing(SseMessageDto::getSequence));
+            return events;
+        } catch (Exception e) {
+            log.warn("SSE读取重放事件失败 userId:{}", userId, e);
+            return List.of();
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        if (StrUtil.isBlank(lastEventId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Set<ResponseBodyEmitter.DataWithMediaType> event(Long sequence, String message) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (sequence != null) {
+            builder.id(String.valueOf(sequence));
+        }
+        return builder.name("message").data(message).build();
+    }
+
+    /**
+     * 单个用户在本机的全部连接.
+     */
+    private static final class UserChannel {
+
+        private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+        private void publish(Long sequence, String message) {
+            Set<ResponseBodyEmitter.DataWithMediaType> data = event(sequence, message);
+            for (Connection connection : connections.values()) {
+                connection.deliver(sequence, data);
+            }
+        }
+    }
+
+    /**
+     * 等待重放期间暂存的实时事件.
+     *
+     * @param sequence 序号 可为空
+     * @param data     事件内容
+     */
+    private record LiveEvent(Long sequence, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+
+    /**
+     * 单个 SSE 连接的有界发送缓冲 (同一时刻最多一个写线程).
+     */
+    private final class Connection {
+
+        private final UserChannel channel;
+
+        private final String token;
+
+        private final SseEmitter emitter;
+
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 当前事件开始写出的时间 0 表示空闲.
+         */
+        private volatile long sendStartNanos;
+
+        /**
+         * 缓冲写完后结束连接.
+         */
+        private volatile boolean completing;
+
+        /**
+         * 重放完成前到达的实时事件 为空表示不在等待重放.
+         */
+        private List<LiveEvent> held;
+
+        /**
+         * 已重放的序号 之后到达的同序号实时事件不再重复发送.
+         */
+        private Set<Long> replayed;
+
+        private Connection(UserChannel channel, String token, SseEmitter emitter, boolean awaitReplay) {
+            this.channel = channel;
+            this.token = token;
+            this.emitter = emitter;
+            this.held = awaitReplay ? new ArrayList<>() : null;
+        }
+
+        /**
+         * 投递实时事件 重放完成前先暂存 保证重放事件在前且不重复.
+         */
+        private synchronized void deliver(Long sequence, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            if (held != null) {
+                held.add(new LiveEvent(sequence, data));
+                return;
+            }
+            if (sequence != null && replayed != null && replayed.remove(sequence)) {
+                return;
+            }
+            offer(data);
+        }
+
+        /**
+         * 发送重放事件 再放行等待期间暂存的实时事件.
+         */
+        private synchronized void replay(List<SseMessageDto> events) {
+            replayed = new HashSet<>();
+            for (SseMessageDto event : events) {
+                replayed.add(event.getSequence());
+                offer(event(event.getSequence(), event.getMessage()));
+            }
+            List<LiveEvent> live = held;
+            held = null;
+            for (LiveEvent event : live) {
+                deliver(event.sequence(), event.data());
+            }
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            if (closed.get()) {
+                return;
+            }
+            if (size.incrementAndGet() > properties.getBufferCapacity() && queue.poll() != null) {
+                size.decrementAndGet();
+                pending.decrementAndGet();
+                droppedCounter.increment();
+            }
+            pending.incrementAndGet();
+            queue.offer(data);
+            schedule();
+        }
+
+        private void completeAfterDrain() {
+            completing = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> data;
+                while ((data = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    pending.decrementAndGet();
+                    if (!closed.get()) {
+                        write(data);
+                    }
+                }
+                if (completing && !closed.get()) {
+                    close();
+                    emitter.complete();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 释放标记后仍有新事件入队 重新调度
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void write(Set<ResponseBodyEmitter.DataWithMediaType> data) {
+            sendStartNanos = System.nanoTime();
+            try {
+                emitter.send(data);
+            } catch (Exception e) {
+                // 客户端已断开 移除连接
+                reapedCounter.increment();
+                close();
+            } finally {
+                sendStartNanos = 0;
+            }
+        }
+
+        private void completeAsync() {
+            try {
+                executor.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                log.debug("SSE发送线程池已停止 跳过结束连接");
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            channel.connections.remove(token, this);
+            connections.decrementAndGet();
+            while (queue.poll() != null) {
+                size.decrementAndGet();
+                pending.decrementAndGet();
+            }
+        }
+    }
 }
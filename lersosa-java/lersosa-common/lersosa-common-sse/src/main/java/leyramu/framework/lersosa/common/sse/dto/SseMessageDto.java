@@ -51,4 +51,9 @@ public class SseMessageDto implements Serializable {
      * 需要发送的消息.
      */
     private String message;
+
+    /**
+     * 事件序号 由发布方从 Redis 分配 全局递增 用作 SSE 事件ID.
+     */
+    private Long sequence;
 }
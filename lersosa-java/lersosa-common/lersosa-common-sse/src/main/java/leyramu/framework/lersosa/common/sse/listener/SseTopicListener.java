@@ -23,7 +23,6 @@
 
 package leyramu.framework.lersosa.common.sse.listener;
 
-import cn.hutool.core.collection.CollUtil;
 import leyramu.framework.lersosa.common.sse.core.SseEmitterManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,12 +52,7 @@ public class SseTopicListener implements ApplicationRunner, Ordered {
     public void run(ApplicationArguments args) {
         sseEmitterManager.subscribeMessage((message) -> {
             log.info("SSE主题订阅收到消息session keys={} message={}", message.getUserIds(), message.getMessage());
-            // 如果key不为空就按照key发消息 如果为空就群发
-            if (CollUtil.isNotEmpty(message.getUserIds())) {
-                message.getUserIds().forEach(key -> sseEmitterManager.sendMessage(key, message.getMessage()));
-            } else {
-                sseEmitterManager.sendMessage(message.getMessage());
-            }
+            sseEmitterManager.sendMessage(message);
         });
         log.info("初始化SSE主题订阅监听器成功");
     }
@@ -30,7 +30,9 @@ import leyramu.framework.lersosa.common.core.utils.reflect.ReflectUtils;
 import leyramu.framework.lersosa.common.mybatis.config.MybatisPlusConfiguration;
 import leyramu.framework.lersosa.common.redis.config.RedisConfiguration;
 import leyramu.framework.lersosa.common.redis.config.properties.RedissonProperties;
+import leyramu.framework.lersosa.common.satoken.config.properties.SaTokenCacheProperties;
 import leyramu.framework.lersosa.common.tenant.core.TenantSaTokenDao;
+import leyramu.framework.lersosa.common.tenant.core.TenantTaskDecorator;
 import leyramu.framework.lersosa.common.tenant.handle.PlusTenantLineHandler;
 import leyramu.framework.lersosa.common.tenant.handle.TenantKeyPrefixHandler;
 import leyramu.framework.lersosa.common.tenant.manager.TenantSpringCacheManager;
@@ -45,6 +47,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
 
 /**
  * 租户配置类.
@@ -85,8 +88,10 @@ public class TenantConfiguration {
      */
     @Primary
     @Bean
-    public CacheManager tenantCacheManager() {
-        return new TenantSpringCacheManager();
+    public CacheManager tenantCacheManager(RedissonProperties redissonProperties) {
+        TenantSpringCacheManager cacheManager = new TenantSpringCacheManager();
+        cacheManager.setNearCacheConfig(redissonProperties.getNearCacheConfig());
+        return cacheManager;
     }
 
     /**
@@ -94,8 +99,16 @@ public class TenantConfiguration {
      */
     @Primary
     @Bean
-    public SaTokenDao tenantSaTokenDao() {
-        return new TenantSaTokenDao();
+    public SaTokenDao tenantSaTokenDao(SaTokenCacheProperties saTokenCacheProperties) {
+        return new TenantSaTokenDao(saTokenCacheProperties);
+    }
+
+    /**
+     * 租户上下文任务装饰器.
+     */
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return new TenantTaskDecorator();
     }
 
     @ConditionalOnBean(MybatisPlusConfiguration.class)
@@ -24,10 +24,9 @@
 package leyramu.framework.lersosa.common.tenant.core;
 
 import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
-import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.satoken.config.properties.SaTokenCacheProperties;
 import leyramu.framework.lersosa.common.satoken.core.dao.PlusSaTokenDao;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -39,6 +38,10 @@ import java.util.List;
  */
 public class TenantSaTokenDao extends PlusSaTokenDao {
 
+    public TenantSaTokenDao(SaTokenCacheProperties cacheProperties) {
+        super(cacheProperties);
+    }
+
     @Override
     public String get(String key) {
         return super.get(GlobalConstants.GLOBAL_REDIS_KEY + key);
@@ -54,12 +57,7 @@ public class TenantSaTokenDao extends PlusSaTokenDao {
      */
     @Override
     public void update(String key, String value) {
-        long expire = getTimeout(key);
-        // -2 = 无此键
-        if (expire == NOT_VALUE_EXPIRE) {
-            return;
-        }
-        this.set(key, value, expire);
+        super.update(GlobalConstants.GLOBAL_REDIS_KEY + key, value);
     }
 
     /**
@@ -95,7 +93,7 @@ public class TenantSaTokenDao extends PlusSaTokenDao {
             }
             return;
         }
-        RedisUtils.expire(GlobalConstants.GLOBAL_REDIS_KEY + key, Duration.ofSeconds(timeout));
+        super.updateTimeout(GlobalConstants.GLOBAL_REDIS_KEY + key, timeout);
     }
 
 
@@ -120,12 +118,7 @@ public class TenantSaTokenDao extends PlusSaTokenDao {
      */
     @Override
     public void updateObject(String key, Object object) {
-        long expire = getObjectTimeout(key);
-        // -2 = 无此键
-        if (expire == NOT_VALUE_EXPIRE) {
-            return;
-        }
-        this.setObject(key, object, expire);
+        super.updateObject(GlobalConstants.GLOBAL_REDIS_KEY + key, object);
     }
 
     /**
@@ -161,7 +154,7 @@ public class TenantSaTokenDao extends PlusSaTokenDao {
             }
             return;
         }
-        RedisUtils.expire(GlobalConstants.GLOBAL_REDIS_KEY + key, Duration.ofSeconds(timeout));
+        super.updateObjectTimeout(GlobalConstants.GLOBAL_REDIS_KEY + key, timeout);
     }
 
 
@@ -172,4 +165,12 @@ public class TenantSaTokenDao extends PlusSaTokenDao {
     public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
         return super.searchData(GlobalConstants.GLOBAL_REDIS_KEY + prefix, keyword, start, size, sortType);
     }
+
+    /**
+     * 统计会话类数据的数量.
+     */
+    @Override
+    public long countData(String prefix) {
+        return super.countData(GlobalConstants.GLOBAL_REDIS_KEY + prefix);
+    }
 }
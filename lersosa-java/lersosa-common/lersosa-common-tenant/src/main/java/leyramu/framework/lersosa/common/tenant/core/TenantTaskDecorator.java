@@ -21,24 +21,22 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
-package leyramu.framework.lersosa.grpc.pulsar.handler;
+package leyramu.framework.lersosa.common.tenant.core;
 
-import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import org.springframework.core.task.TaskDecorator;
 
 /**
- * 脉冲星匹配数据处理链路.
+ * 租户上下文任务装饰器 (提交任务时捕获租户 在执行线程上恢复).
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
- * @since 2025/3/18
+ * @since 2024/11/6
  */
-public interface PulsarHandlerChain {
+public class TenantTaskDecorator implements TaskDecorator {
 
-    /**
-     * 执行链路.
-     *
-     * @param pulsarMatcherRequest 脉冲星匹配数据
-     * @return 是否执行成功
-     */
-    boolean executeChain(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest);
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TenantContext.capture().wrap(runnable);
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.tenant.helper;
+
+import com.baomidou.mybatisplus.core.plugins.InterceptorIgnoreHelper;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 租户上下文.
+ * <p>
+ * 提交任务时通过 {@link #capture()} 捕获当前租户与忽略租户状态, 在执行线程上以作用域方式绑定, 退出作用域后还原线程原有状态.
+ * 线程池与 ForkJoin 公共池复用线程时不会残留上一个任务的租户, 虚拟线程同样按作用域绑定, 不依赖可继承的线程变量.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TenantContext {
+
+    private static final ThreadLocal<TenantContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 租户编号.
+     */
+    private final String tenantId;
+
+    /**
+     * 是否忽略租户.
+     */
+    private final boolean ignore;
+
+    /**
+     * 捕获当前线程的租户上下文.
+     */
+    public static TenantContext capture() {
+        return new TenantContext(TenantHelper.getTenantId(), InterceptorIgnoreHelper.willIgnoreTenantLine(""));
+    }
+
+    /**
+     * 指定租户的上下文.
+     *
+     * @param tenantId 租户id
+     */
+    public static TenantContext of(String tenantId) {
+        return new TenantContext(tenantId, false);
+    }
+
+    /**
+     * 当前线程绑定的租户上下文 (未绑定时为 null).
+     */
+    public static TenantContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 在租户上下文中执行.
+     *
+     * @param handle 处理执行方法
+     */
+    public void run(Runnable handle) {
+        Scope scope = open();
+        try {
+            handle.run();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 在租户上下文中执行.
+     *
+     * @param handle 处理执行方法
+     */
+    public <T> T get(Supplier<T> handle) {
+        Scope scope = open();
+        try {
+            return handle.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 包装任务 执行时绑定本上下文.
+     *
+     * @param task 任务
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    /**
+     * 包装任务 执行时绑定本上下文.
+     *
+     * @param task 任务
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            Scope scope = open();
+            try {
+                return task.call();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * 包装并行流中的消费函数 每个元素在其执行线程上绑定本上下文.
+     *
+     * @param action 消费函数
+     */
+    public <T> Consumer<T> wrap(Consumer<T> action) {
+        return item -> run(() -> action.accept(item));
+    }
+
+    /**
+     * 绑定到当前线程 同时清除线程上残留的动态租户.
+     */
+    private Scope open() {
+        Scope scope = new Scope(CURRENT.get(), TenantHelper.swapDynamic(null), ignore);
+        CURRENT.set(this);
+        if (ignore) {
+            TenantHelper.enableIgnore();
+        }
+        return scope;
+    }
+
+    /**
+     * 绑定前的线程状态.
+     *
+     * @param previous        原租户上下文
+     * @param previousDynamic 原动态租户
+     * @param ignore          是否开启了忽略租户
+     */
+    private record Scope(TenantContext previous, String previousDynamic, boolean ignore) {
+
+        /**
+         * 还原线程状态.
+         */
+        void close() {
+            if (ignore) {
+                TenantHelper.disableIgnore();
+            }
+            TenantHelper.swapDynamic(previousDynamic);
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
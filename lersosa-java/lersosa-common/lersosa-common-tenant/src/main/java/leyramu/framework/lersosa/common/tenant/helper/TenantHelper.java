@@ -197,6 +197,21 @@ public class TenantHelper {
         RedisUtils.deleteObject(cacheKey);
     }
 
+    /**
+     * 替换当前线程的动态租户 返回原值 (供 {@link TenantContext} 绑定与还原).
+     *
+     * @param tenantId 租户id (为 null 时清除)
+     */
+    static String swapDynamic(String tenantId) {
+        String previous = TEMP_DYNAMIC_TENANT.get();
+        if (tenantId == null) {
+            TEMP_DYNAMIC_TENANT.remove();
+        } else {
+            TEMP_DYNAMIC_TENANT.set(tenantId);
+        }
+        return previous;
+    }
+
     /**
      * 在动态租户中执行.
      *
@@ -226,13 +241,20 @@ public class TenantHelper {
     }
 
     /**
-     * 获取当前租户id(动态租户优先).
+     * 获取当前租户id(线程内动态租户优先 其次为绑定的租户上下文).
      */
     public static String getTenantId() {
         if (!isEnable()) {
             return null;
         }
-        String tenantId = TenantHelper.getDynamic();
+        String tenantId = TEMP_DYNAMIC_TENANT.get();
+        TenantContext context = TenantContext.current();
+        if (StringUtils.isBlank(tenantId) && ObjectUtil.isNotNull(context)) {
+            tenantId = context.getTenantId();
+        }
+        if (StringUtils.isBlank(tenantId)) {
+            tenantId = TenantHelper.getDynamic();
+        }
         if (StringUtils.isBlank(tenantId)) {
             tenantId = LoginHelper.getTenantId();
         }
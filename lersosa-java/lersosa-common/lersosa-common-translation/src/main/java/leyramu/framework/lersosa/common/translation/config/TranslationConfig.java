@@ -29,6 +29,7 @@ import leyramu.framework.lersosa.common.translation.annotation.TranslationType;
 import leyramu.framework.lersosa.common.translation.core.TranslationInterface;
 import leyramu.framework.lersosa.common.translation.core.handler.TranslationBeanSerializerModifier;
 import leyramu.framework.lersosa.common.translation.core.handler.TranslationHandler;
+import leyramu.framework.lersosa.common.translation.core.handler.TranslationSerializerProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -69,5 +70,7 @@ public class TranslationConfig {
         objectMapper.setSerializerFactory(
             objectMapper.getSerializerFactory()
                 .withSerializerModifier(new TranslationBeanSerializerModifier()));
+        // 序列化前批量预取翻译结果
+        objectMapper.setSerializerProvider(new TranslationSerializerProvider());
     }
 }
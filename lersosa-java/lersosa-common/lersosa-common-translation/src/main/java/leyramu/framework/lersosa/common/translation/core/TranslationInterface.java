@@ -25,6 +25,10 @@ package leyramu.framework.lersosa.common.translation.core;
 
 import leyramu.framework.lersosa.common.translation.annotation.TranslationType;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 翻译接口 (实现类需标注 {@link TranslationType} 注解标明翻译类型).
  *
@@ -42,4 +46,19 @@ public interface TranslationInterface<T> {
      * @return 返回键对应的值
      */
     T translation(Object key, String other);
+
+    /**
+     * 批量翻译 (默认逐个翻译, 涉及远程调用的实现应重写为一次批量查询).
+     *
+     * @param keys  需要被翻译的键集合(已去重)
+     * @param other 其他参数
+     * @return 键与对应值的映射
+     */
+    default Map<Object, T> translationBatch(Set<Object> keys, String other) {
+        Map<Object, T> result = new HashMap<>(keys.size());
+        for (Object key : keys) {
+            result.put(key, translation(key, other));
+        }
+        return result;
+    }
 }
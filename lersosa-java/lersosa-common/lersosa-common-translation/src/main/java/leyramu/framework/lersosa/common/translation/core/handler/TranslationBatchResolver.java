@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.translation.core.handler;
+
+import cn.hutool.core.collection.CollUtil;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.core.utils.reflect.ReflectUtils;
+import leyramu.framework.lersosa.common.translation.annotation.Translation;
+import leyramu.framework.lersosa.common.translation.core.TranslationInterface;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 批量翻译解析器.
+ * <p>
+ * 在序列化前遍历整个响应对象, 按翻译类型收集全部待翻译的键, 每种类型只调用一次批量翻译,
+ * 之后由 {@link TranslationHandler} 直接从结果中取值, 避免逐字段远程调用.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+public class TranslationBatchResolver {
+
+    /**
+     * 仅遍历本项目内的类型.
+     */
+    private static final String BASE_PACKAGE = "leyramu.";
+
+    private static final int MAX_DEPTH = 8;
+
+    private static final Map<Class<?>, ClassMeta> META_CACHE = new ConcurrentHashMap<>();
+
+    private TranslationBatchResolver() {
+    }
+
+    /**
+     * 预取对象图中的全部翻译结果.
+     *
+     * @param root 待序列化的根对象
+     * @return 翻译结果 无需翻译时返回 null
+     */
+    public static TranslationContext resolve(Object root) {
+        if (root == null || TranslationHandler.TRANSLATION_MAPPER.isEmpty()) {
+            return null;
+        }
+        Map<TranslationContext.Group, Set<Object>> keys = new HashMap<>();
+        collect(root, 0, keys, Collections.newSetFromMap(new IdentityHashMap<>()));
+        if (keys.isEmpty()) {
+            return null;
+        }
+        TranslationContext context = new TranslationContext();
+        keys.forEach((group, groupKeys) -> {
+            TranslationInterface<?> trans = TranslationHandler.TRANSLATION_MAPPER.get(group.type());
+            try {
+                context.put(group, trans.translationBatch(groupKeys, group.other()));
+            } catch (Exception e) {
+                // 批量失败时不放入结果 由序列化阶段逐条翻译兜底
+                log.warn("{} 批量翻译失败: {}", group.type(), e.getMessage());
+            }
+        });
+        return context;
+    }
+
+    private static void collect(Object value, int depth, Map<TranslationContext.Group, Set<Object>> keys, Set<Object> visited) {
+        if (value == null || depth > MAX_DEPTH) {
+            return;
+        }
+        if (value instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                collect(element, depth + 1, keys, visited);
+            }
+            return;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Object element : map.values()) {
+                collect(element, depth + 1, keys, visited);
+            }
+            return;
+        }
+        if (value instanceof Object[] array) {
+            for (Object element : array) {
+                collect(element, depth + 1, keys, visited);
+            }
+            return;
+        }
+        Class<?> clazz = value.getClass();
+        if (!isProjectType(clazz)) {
+            return;
+        }
+        ClassMeta meta = META_CACHE.computeIfAbsent(clazz, TranslationBatchResolver::buildMeta);
+        if (meta.isEmpty() || !visited.add(value)) {
+            return;
+        }
+        for (TranslationField field : meta.translations()) {
+            Translation translation = field.translation();
+            if (!TranslationHandler.TRANSLATION_MAPPER.containsKey(translation.type())) {
+                continue;
+            }
+            Object key = StringUtils.isNotBlank(translation.mapper())
+                ? ReflectUtils.invokeGetter(value, translation.mapper())
+                : read(field.accessor(), value);
+            if (key != null) {
+                keys.computeIfAbsent(new TranslationContext.Group(translation.type(), translation.other()),
+                    _ -> new HashSet<>()).add(key);
+            }
+        }
+        for (Field field : meta.children()) {
+            collect(read(field, value), depth + 1, keys, visited);
+        }
+    }
+
+    private static ClassMeta buildMeta(Class<?> clazz) {
+        List<TranslationField> translations = new ArrayList<>();
+        List<Field> children = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                Translation translation = field.getAnnotation(Translation.class);
+                if (translation != null) {
+                    if (field.trySetAccessible()) {
+                        translations.add(new TranslationField(field, translation));
+                    }
+                } else if (isTraversable(field.getType()) && field.trySetAccessible()) {
+                    children.add(field);
+                }
+            }
+        }
+        // 标注在 getter 上的翻译
+        for (Method method : clazz.getMethods()) {
+            Translation translation = method.getAnnotation(Translation.class);
+            if (translation != null && method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())) {
+                translations.add(new TranslationField(method, translation));
+            }
+        }
+        return new ClassMeta(translations, children);
+    }
+
+    private static boolean isTraversable(Class<?> type) {
+        return type == Object.class
+            || Collection.class.isAssignableFrom(type)
+            || Map.class.isAssignableFrom(type)
+            || type.isArray() && !type.getComponentType().isPrimitive()
+            || isProjectType(type);
+    }
+
+    private static boolean isProjectType(Class<?> type) {
+        return !type.isEnum() && type.getName().startsWith(BASE_PACKAGE);
+    }
+
+    private static Object read(AccessibleObject accessor, Object target) {
+        try {
+            return accessor instanceof Method method ? method.invoke(target) : ((Field) accessor).get(target);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private record TranslationField(AccessibleObject accessor, Translation translation) {
+    }
+
+    private record ClassMeta(List<TranslationField> translations, List<Field> children) {
+
+        boolean isEmpty() {
+            return CollUtil.isEmpty(translations) && CollUtil.isEmpty(children);
+        }
+    }
+}
@@ -21,57 +21,46 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
-package leyramu.framework.lersosa.grpc.pulsar.processor;
+package leyramu.framework.lersosa.common.translation.core.handler;
 
-import leyramu.framework.lersosa.common.core.utils.SpringUtils;
-import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
-import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
-import leyramu.framework.lersosa.grpc.pulsar.command.query.PulsarGetCmdExe;
-import leyramu.framework.lersosa.grpc.pulsar.handler.PulsarMatchHandler;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.stereotype.Component;
+import leyramu.framework.lersosa.common.translation.annotation.Translation;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * 存在性检查处理器.
+ * 单次序列化内的批量翻译结果.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
- * @since 2025/3/18
+ * @since 2024/11/6
  */
-@Component
-@RequiredArgsConstructor
-public class NewCheckProcessor implements PulsarMatchHandler {
+public class TranslationContext {
 
     /**
-     * 脉冲星查询命令执行器.
+     * 序列化属性键.
      */
-    private final PulsarGetCmdExe pulsarGetCmdExe;
+    public static final String ATTRIBUTE = TranslationContext.class.getName();
+
+    private final Map<Group, Map<Object, ?>> results = new HashMap<>();
+
+    void put(Group group, Map<Object, ?> result) {
+        results.put(group, result);
+    }
 
     /**
-     * 处理方法.
+     * 获取指定翻译注解对应的批量结果.
      *
-     * @param pulsarMatcherRequest 脉冲星匹配信息
-     * @return 是否处理成功
+     * @param translation 翻译注解
+     * @return 键与翻译结果的映射 未预取时返回 null
      */
-    @Override
-    public Boolean handle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return SpringUtils.getAopProxy(this).doHandle(pulsarMatcherRequest);
+    public Map<Object, ?> get(Translation translation) {
+        return results.get(new Group(translation.type(), translation.other()));
     }
 
     /**
-     * 处理器.
-     *
-     * @param pulsarMatcherRequest 脉冲星匹配信息
-     * @return 是否处理成功
+     * 翻译分组 (相同类型与其他条件的键合并为一次批量翻译).
      */
-    @Cacheable(
-        cacheNames = "pulsar:recorder:info",
-        key = "#pulsarMatcherRequest.name",
-        sync = true
-    )
-    @NgxCacheCls
-    public Boolean doHandle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return pulsarGetCmdExe.getNewPulsarInfo(pulsarMatcherRequest.getName());
+    record Group(String type, String other) {
     }
 }
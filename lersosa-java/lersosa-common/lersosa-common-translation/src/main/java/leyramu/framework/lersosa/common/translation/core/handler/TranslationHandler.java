@@ -71,7 +71,11 @@ public class TranslationHandler extends JsonSerializer<Object> implements Contex
                 gen.writeNull();
                 return;
             }
-            Object result = trans.translation(value, translation.other());
+            // 优先使用序列化前批量预取的结果
+            TranslationContext context = (TranslationContext) serializers.getAttribute(TranslationContext.ATTRIBUTE);
+            Map<Object, ?> resolved = ObjectUtil.isNull(context) ? null : context.get(translation);
+            Object result = resolved != null && resolved.containsKey(value)
+                ? resolved.get(value) : trans.translation(value, translation.other());
             gen.writeObject(result);
         } else {
             gen.writeObject(value);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.translation.core.handler;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.CacheProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 翻译序列化提供者 (在根对象序列化前执行批量翻译, 结果以单次序列化属性的形式交给 {@link TranslationHandler}).
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public class TranslationSerializerProvider extends DefaultSerializerProvider {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public TranslationSerializerProvider() {
+        super();
+    }
+
+    protected TranslationSerializerProvider(TranslationSerializerProvider src) {
+        super(src);
+    }
+
+    protected TranslationSerializerProvider(TranslationSerializerProvider src, CacheProvider cacheProvider) {
+        super(src, cacheProvider);
+    }
+
+    protected TranslationSerializerProvider(SerializerProvider src, SerializationConfig config, SerializerFactory f) {
+        super(src, config, f);
+    }
+
+    @Override
+    public DefaultSerializerProvider copy() {
+        return new TranslationSerializerProvider(this);
+    }
+
+    @Override
+    public DefaultSerializerProvider withCaches(CacheProvider cacheProvider) {
+        return new TranslationSerializerProvider(this, cacheProvider);
+    }
+
+    @Override
+    public TranslationSerializerProvider createInstance(SerializationConfig config, SerializerFactory jsf) {
+        return new TranslationSerializerProvider(this, config, jsf);
+    }
+
+    @Override
+    public void serializeValue(JsonGenerator gen, Object value) throws IOException {
+        prepare(value);
+        super.serializeValue(gen, value);
+    }
+
+    @Override
+    public void serializeValue(JsonGenerator gen, Object value, JavaType rootType) throws IOException {
+        prepare(value);
+        super.serializeValue(gen, value, rootType);
+    }
+
+    @Override
+    public void serializeValue(JsonGenerator gen, Object value, JavaType rootType, JsonSerializer<Object> ser) throws IOException {
+        prepare(value);
+        super.serializeValue(gen, value, rootType, ser);
+    }
+
+    @Override
+    public void serializePolymorphic(JsonGenerator gen, Object value, JavaType rootType,
+                                     JsonSerializer<Object> valueSer, TypeSerializer typeSer) throws IOException {
+        prepare(value);
+        super.serializePolymorphic(gen, value, rootType, valueSer, typeSer);
+    }
+
+    private void prepare(Object value) {
+        if (getAttribute(TranslationContext.ATTRIBUTE) != null) {
+            return;
+        }
+        TranslationContext context = TranslationBatchResolver.resolve(value);
+        if (context != null) {
+            setAttribute(TranslationContext.ATTRIBUTE, context);
+        }
+    }
+}
@@ -30,6 +30,9 @@ import leyramu.framework.lersosa.system.api.RemoteDeptService;
 import lombok.AllArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 部门翻译实现.
  *
@@ -48,4 +51,10 @@ public class DeptNameTranslationImpl implements TranslationInterface<String> {
     public String translation(Object key, String other) {
         return remoteDeptService.selectDeptNameByIds(key.toString());
     }
+
+    @Override
+    public Map<Object, String> translationBatch(Set<Object> keys, String other) {
+        Map<Long, String> names = remoteDeptService.selectDeptNamesByIds(IdsTranslationSupport.splitIds(keys));
+        return IdsTranslationSupport.joinByKey(keys, names);
+    }
 }
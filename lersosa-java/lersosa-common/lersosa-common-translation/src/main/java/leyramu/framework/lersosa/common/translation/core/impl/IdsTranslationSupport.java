@@ -21,57 +21,64 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
-package leyramu.framework.lersosa.grpc.pulsar.processor;
+package leyramu.framework.lersosa.common.translation.core.impl;
 
-import leyramu.framework.lersosa.common.core.utils.SpringUtils;
-import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
-import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
-import leyramu.framework.lersosa.grpc.pulsar.command.PulsarModifyCmdExe;
-import leyramu.framework.lersosa.grpc.pulsar.handler.PulsarMatchHandler;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.stereotype.Component;
+import cn.hutool.core.convert.Convert;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+
+import java.util.*;
 
 /**
- * 修改脉冲星状态处理器.
+ * ID串 (逗号分隔) 批量翻译辅助类.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
- * @since 2025/3/18
+ * @since 2024/11/6
  */
-@Component
-@RequiredArgsConstructor
-public class ModifyPulsarProcessor implements PulsarMatchHandler {
+final class IdsTranslationSupport {
 
-    /**
-     * 修改脉冲星状态命令执行器.
-     */
-    private final PulsarModifyCmdExe pulsarModifyCmdExe;
+    private IdsTranslationSupport() {
+    }
 
     /**
-     * 处理脉冲星匹配结果.
+     * 汇总全部键中的ID.
      *
-     * @param pulsarMatcherRequest 脉冲星匹配结果
-     * @return true 表示处理成功，false 表示处理失败
+     * @param keys 翻译键集合
+     * @return 去重后的ID集合
      */
-    @Override
-    public Boolean handle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return SpringUtils.getAopProxy(this).doHandle(pulsarMatcherRequest);
+    static List<Long> splitIds(Collection<Object> keys) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Object key : keys) {
+            ids.addAll(parse(key));
+        }
+        return new ArrayList<>(ids);
     }
 
     /**
-     * 处理器.
+     * 按键拼接批量查询结果 (与逐条翻译时的拼接规则保持一致).
      *
-     * @param pulsarMatcherRequest 脉冲星匹配结果
-     * @return true 表示处理成功，false 表示处理失败
+     * @param keys   翻译键集合
+     * @param values ID与值的映射
+     * @return 键与拼接结果的映射
      */
-    @CacheEvict(
-        cacheNames = {"pulsar:mark:list", "pulsar:mark:chartE"},
-        allEntries = true
-    )
-    @NgxCacheCls
-    public Boolean doHandle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return pulsarModifyCmdExe.updateMatchById(pulsarMatcherRequest.getId(),
-            "notfound".equals(pulsarMatcherRequest.getName()) ? 4 : 3);
+    static Map<Object, String> joinByKey(Collection<Object> keys, Map<Long, String> values) {
+        Map<Object, String> result = new HashMap<>(keys.size());
+        for (Object key : keys) {
+            List<String> list = new ArrayList<>();
+            for (Long id : parse(key)) {
+                String value = values.get(id);
+                if (StringUtils.isNotBlank(value)) {
+                    list.add(value);
+                }
+            }
+            result.put(key, String.join(StringUtils.SEPARATOR, list));
+        }
+        return result;
+    }
+
+    private static List<Long> parse(Object key) {
+        List<Long> ids = StringUtils.splitTo(key.toString(), Convert::toLong);
+        ids.removeIf(Objects::isNull);
+        return ids;
     }
 }
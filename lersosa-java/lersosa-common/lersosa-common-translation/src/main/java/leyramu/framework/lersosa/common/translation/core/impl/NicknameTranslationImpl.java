@@ -30,6 +30,10 @@ import leyramu.framework.lersosa.system.api.RemoteUserService;
 import lombok.AllArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 用户昵称翻译实现.
  *
@@ -53,4 +57,14 @@ public class NicknameTranslationImpl implements TranslationInterface<String> {
         }
         return null;
     }
+
+    @Override
+    public Map<Object, String> translationBatch(Set<Object> keys, String other) {
+        Set<Object> supported = new HashSet<>(keys);
+        supported.removeIf(key -> !(key instanceof Long || key instanceof String));
+        Map<Long, String> nicknames = remoteUserService.selectNicknamesByIds(IdsTranslationSupport.splitIds(supported));
+        Map<Object, String> result = IdsTranslationSupport.joinByKey(supported, nicknames);
+        keys.forEach(key -> result.putIfAbsent(key, null));
+        return result;
+    }
 }
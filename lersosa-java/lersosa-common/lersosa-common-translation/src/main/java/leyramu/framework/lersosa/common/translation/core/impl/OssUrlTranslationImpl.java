@@ -30,6 +30,9 @@ import leyramu.framework.lersosa.resource.api.RemoteFileService;
 import lombok.AllArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * OSS翻译实现.
  *
@@ -48,4 +51,10 @@ public class OssUrlTranslationImpl implements TranslationInterface<String> {
     public String translation(Object key, String other) {
         return remoteFileService.selectUrlByIds(key.toString());
     }
+
+    @Override
+    public Map<Object, String> translationBatch(Set<Object> keys, String other) {
+        Map<Long, String> urls = remoteFileService.selectUrlsByIds(IdsTranslationSupport.splitIds(keys));
+        return IdsTranslationSupport.joinByKey(keys, urls);
+    }
 }
@@ -30,6 +30,8 @@ import leyramu.framework.lersosa.system.api.RemoteUserService;
 import lombok.AllArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 
+import java.util.*;
+
 /**
  * 用户名翻译实现.
  *
@@ -48,4 +50,14 @@ public class UserNameTranslationImpl implements TranslationInterface<String> {
     public String translation(Object key, String other) {
         return remoteUserService.selectUserNameById((Long) key);
     }
+
+    @Override
+    public Map<Object, String> translationBatch(Set<Object> keys, String other) {
+        List<Long> userIds = new ArrayList<>(keys.size());
+        keys.forEach(key -> userIds.add((Long) key));
+        Map<Long, String> userNames = remoteUserService.selectUserNamesByIds(userIds);
+        Map<Object, String> result = new HashMap<>(keys.size());
+        keys.forEach(key -> result.put(key, userNames.get(key)));
+        return result;
+    }
 }
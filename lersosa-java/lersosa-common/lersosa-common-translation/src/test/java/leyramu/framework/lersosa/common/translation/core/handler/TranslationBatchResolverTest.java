@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.translation.core.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import leyramu.framework.lersosa.common.translation.annotation.Translation;
+import leyramu.framework.lersosa.common.translation.constant.TransConstant;
+import leyramu.framework.lersosa.common.translation.core.impl.DeptNameTranslationImpl;
+import leyramu.framework.lersosa.common.translation.core.impl.OssUrlTranslationImpl;
+import leyramu.framework.lersosa.common.translation.core.impl.UserNameTranslationImpl;
+import leyramu.framework.lersosa.resource.api.RemoteFileService;
+import leyramu.framework.lersosa.system.api.RemoteDeptService;
+import leyramu.framework.lersosa.system.api.RemoteUserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 批量翻译远程调用次数测试.
+ * <p>
+ * 对同一页数据分别按逐字段翻译与批量翻译序列化, 记录两种方式的远程调用次数并校验输出一致.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("批量翻译远程调用次数测试")
+public class TranslationBatchResolverTest {
+
+    private RemoteUserService remoteUserService;
+
+    private RemoteDeptService remoteDeptService;
+
+    private RemoteFileService remoteFileService;
+
+    @BeforeEach
+    public void setUp() {
+        remoteUserService = mock(RemoteUserService.class);
+        when(remoteUserService.selectUserNameById(anyLong()))
+            .thenAnswer(invocation -> "user" + invocation.getArgument(0));
+        when(remoteUserService.selectUserNamesByIds(anyList()))
+            .thenAnswer(invocation -> names(invocation.getArgument(0), "user"));
+
+        remoteDeptService = mock(RemoteDeptService.class);
+        when(remoteDeptService.selectDeptNameByIds(anyString()))
+            .thenAnswer(invocation -> join(invocation.getArgument(0), "dept"));
+        when(remoteDeptService.selectDeptNamesByIds(anyList()))
+            .thenAnswer(invocation -> names(invocation.getArgument(0), "dept"));
+
+        remoteFileService = mock(RemoteFileService.class);
+        when(remoteFileService.selectUrlByIds(anyString()))
+            .thenAnswer(invocation -> join(invocation.getArgument(0), "https://oss/"));
+        when(remoteFileService.selectUrlsByIds(anyList()))
+            .thenAnswer(invocation -> names(invocation.getArgument(0), "https://oss/"));
+
+        TranslationHandler.TRANSLATION_MAPPER.put(TransConstant.USER_ID_TO_NAME, new UserNameTranslationImpl(remoteUserService));
+        TranslationHandler.TRANSLATION_MAPPER.put(TransConstant.DEPT_ID_TO_NAME, new DeptNameTranslationImpl(remoteDeptService));
+        TranslationHandler.TRANSLATION_MAPPER.put(TransConstant.OSS_ID_TO_URL, new OssUrlTranslationImpl(remoteFileService));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TranslationHandler.TRANSLATION_MAPPER.clear();
+    }
+
+    @DisplayName("测试大分页远程调用次数")
+    @Test
+    public void testRoundTrips() throws Exception {
+        for (int rows : new int[]{10, 500, 5000}) {
+            Page page = page(rows);
+
+            clearInvocations(remoteUserService, remoteDeptService, remoteFileService);
+            String expected = objectMapper(false).writeValueAsString(page);
+            int before = invocations();
+
+            clearInvocations(remoteUserService, remoteDeptService, remoteFileService);
+            String actual = objectMapper(true).writeValueAsString(page);
+            int after = invocations();
+
+            System.out.printf("行数: %d 翻译字段: 3 远程调用次数 逐字段: %d 批量: %d%n", rows, before, after);
+            assertEquals(expected, actual);
+            assertEquals(rows * 3, before);
+            assertEquals(3, after);
+        }
+    }
+
+    @DisplayName("测试批量翻译失败时逐条兜底")
+    @Test
+    public void testBatchFailureFallback() throws Exception {
+        when(remoteUserService.selectUserNamesByIds(anyList())).thenThrow(new IllegalStateException("timeout"));
+        Page page = page(20);
+        String expected = objectMapper(false).writeValueAsString(page);
+
+        clearInvocations(remoteUserService, remoteDeptService, remoteFileService);
+        assertEquals(expected, objectMapper(true).writeValueAsString(page));
+        verify(remoteUserService, times(20)).selectUserNameById(anyLong());
+        verify(remoteDeptService, never()).selectDeptNameByIds(anyString());
+        verify(remoteFileService, never()).selectUrlByIds(anyString());
+    }
+
+    private int invocations() {
+        return mockingDetails(remoteUserService).getInvocations().size()
+            + mockingDetails(remoteDeptService).getInvocations().size()
+            + mockingDetails(remoteFileService).getInvocations().size();
+    }
+
+    private static ObjectMapper objectMapper(boolean batch) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setSerializerFactory(
+            objectMapper.getSerializerFactory()
+                .withSerializerModifier(new TranslationBeanSerializerModifier()));
+        if (batch) {
+            objectMapper.setSerializerProvider(new TranslationSerializerProvider());
+        }
+        return objectMapper;
+    }
+
+    private static Page page(int rows) {
+        Page page = new Page();
+        page.total = rows;
+        page.rows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Row row = new Row();
+            row.id = (long) i;
+            row.createBy = (long) (i % 50);
+            row.deptIds = (i % 20) + "," + (i % 20 + 1);
+            row.ossIds = String.valueOf(i);
+            page.rows.add(row);
+        }
+        return page;
+    }
+
+    private static Map<Long, String> names(List<Long> ids, String prefix) {
+        return ids.stream().collect(Collectors.toMap(id -> id, id -> prefix + id));
+    }
+
+    private static String join(String ids, String prefix) {
+        return Arrays.stream(ids.split(",")).map(id -> prefix + id).collect(Collectors.joining(","));
+    }
+
+    /**
+     * 分页结果.
+     */
+    public static class Page {
+
+        public long total;
+
+        public List<Row> rows;
+    }
+
+    /**
+     * 含三个翻译字段的行数据.
+     */
+    public static class Row {
+
+        public Long id;
+
+        @Translation(type = TransConstant.USER_ID_TO_NAME)
+        public Long createBy;
+
+        @Translation(type = TransConstant.DEPT_ID_TO_NAME)
+        public String deptIds;
+
+        @Translation(type = TransConstant.OSS_ID_TO_URL)
+        public String ossIds;
+    }
+}
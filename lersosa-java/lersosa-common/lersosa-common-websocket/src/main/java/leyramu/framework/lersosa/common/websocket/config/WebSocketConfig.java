@@ -24,10 +24,15 @@
 package leyramu.framework.lersosa.common.websocket.config;
 
 import cn.hutool.core.util.StrUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import leyramu.framework.lersosa.common.websocket.config.properties.WebSocketProperties;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketRouter;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketSender;
 import leyramu.framework.lersosa.common.websocket.handler.PlusWebSocketHandler;
 import leyramu.framework.lersosa.common.websocket.interceptor.PlusWebSocketInterceptor;
 import leyramu.framework.lersosa.common.websocket.listener.WebSocketTopicListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -37,6 +42,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * WebSocket 配置.
  *
@@ -77,12 +84,26 @@ public class WebSocketConfig {
     }
 
     @Bean
-    public WebSocketHandler webSocketHandler() {
-        return new PlusWebSocketHandler();
+    public WebSocketHandler webSocketHandler(WebSocketRouter webSocketRouter) {
+        return new PlusWebSocketHandler(webSocketRouter);
+    }
+
+    @Bean
+    public WebSocketSender webSocketSender(WebSocketProperties webSocketProperties,
+                                           ObjectProvider<MeterRegistry> meterRegistry,
+                                           ScheduledExecutorService scheduledExecutorService) {
+        return new WebSocketSender(webSocketProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            scheduledExecutorService);
+    }
+
+    @Bean
+    public WebSocketRouter webSocketRouter(WebSocketProperties webSocketProperties,
+                                           ScheduledExecutorService scheduledExecutorService) {
+        return new WebSocketRouter(webSocketProperties, scheduledExecutorService);
     }
 
     @Bean
-    public WebSocketTopicListener topicListener() {
-        return new WebSocketTopicListener();
+    public WebSocketTopicListener topicListener(WebSocketRouter webSocketRouter) {
+        return new WebSocketTopicListener(webSocketRouter);
     }
 }
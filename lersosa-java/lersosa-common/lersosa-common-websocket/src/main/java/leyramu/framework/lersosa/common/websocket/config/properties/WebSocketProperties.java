@@ -23,6 +23,7 @@
 
 package leyramu.framework.lersosa.common.websocket.config.properties;
 
+import leyramu.framework.lersosa.common.websocket.enums.OverflowPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -48,4 +49,34 @@ public class WebSocketProperties {
      * 设置访问源地址.
      */
     private String allowedOrigins;
+
+    /**
+     * 单个会话发送队列的最大消息数.
+     */
+    private int sendQueueCapacity = 1000;
+
+    /**
+     * 发送队列溢出策略.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * 单条消息发送超时时间 (毫秒) 超时后关闭会话.
+     */
+    private long sendTimeLimit = 10000;
+
+    /**
+     * 在线记录续期间隔 (秒).
+     */
+    private long heartbeatInterval = 30;
+
+    /**
+     * 在线记录过期时间 (秒).
+     */
+    private long presenceTtl = 90;
+
+    /**
+     * 找不到在线记录的用户是否改走全局频道 (滚动升级期间旧版本节点不登记在线记录 全部节点升级后可关闭).
+     */
+    private boolean presenceFallback = true;
 }
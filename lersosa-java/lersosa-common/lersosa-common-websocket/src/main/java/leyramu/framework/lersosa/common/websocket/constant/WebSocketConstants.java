@@ -42,6 +42,16 @@ public interface WebSocketConstants {
      */
     String WEB_SOCKET_TOPIC = "global:websocket";
 
+    /**
+     * 节点专属频道前缀 (定向消息).
+     */
+    String WEB_SOCKET_NODE_TOPIC = "global:websocket:node:";
+
+    /**
+     * 用户在线节点记录的key前缀.
+     */
+    String WEB_SOCKET_PRESENCE_KEY = "global:websocket:presence:";
+
     /**
      * 前端心跳检查的命令.
      */
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.websocket.core;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.IdUtil;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.websocket.config.properties.WebSocketProperties;
+import leyramu.framework.lersosa.common.websocket.dto.WebSocketMessageDto;
+import leyramu.framework.lersosa.common.websocket.holder.WebSocketSessionHolder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static leyramu.framework.lersosa.common.websocket.constant.WebSocketConstants.WEB_SOCKET_NODE_TOPIC;
+import static leyramu.framework.lersosa.common.websocket.constant.WebSocketConstants.WEB_SOCKET_PRESENCE_KEY;
+import static leyramu.framework.lersosa.common.websocket.constant.WebSocketConstants.WEB_SOCKET_TOPIC;
+
+/**
+ * WebSocket 集群路由.
+ * <p>
+ * 每个节点在 Redis 中为本地在线用户登记 用户 -> 节点 的在线记录, 记录随心跳续期, 节点宕机后自动过期;
+ * 定向消息只发布到持有会话的节点专属频道, 群发仍走全局频道.
+ * 找不到在线记录的用户 (如会话位于尚未升级的旧版本节点) 按旧方式携带用户id发布到全局频道.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+public class WebSocketRouter implements InitializingBean, DisposableBean {
+
+    /**
+     * 当前节点ID.
+     */
+    @Getter
+    private final String nodeId = IdUtil.fastSimpleUUID();
+
+    private final long heartbeatInterval;
+
+    private final long presenceTtl;
+
+    private final boolean presenceFallback;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private ScheduledFuture<?> heartbeat;
+
+    public WebSocketRouter(WebSocketProperties properties, ScheduledExecutorService scheduledExecutorService) {
+        this.heartbeatInterval = Math.max(properties.getHeartbeatInterval(), 1);
+        // 至少容忍一次心跳丢失
+        this.presenceTtl = Math.max(properties.getPresenceTtl(), heartbeatInterval * 2);
+        this.presenceFallback = properties.isPresenceFallback();
+        this.scheduledExecutorService = scheduledExecutorService;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        heartbeat = scheduledExecutorService.scheduleWithFixedDelay(this::renew,
+            heartbeatInterval, heartbeatInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 登记用户在当前节点在线.
+     *
+     * @param sessionKey 用户id
+     */
+    public void online(Long sessionKey) {
+        RedisUtils.getClient().<String>getSetCache(presenceKey(sessionKey), StringCodec.INSTANCE)
+            .add(nodeId, presenceTtl, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 注销用户在当前节点的在线记录 (本节点已无该用户会话时).
+     *
+     * @param sessionKey 用户id
+     */
+    public void offline(Long sessionKey) {
+        if (WebSocketSessionHolder.existSession(sessionKey)) {
+            return;
+        }
+        RedisUtils.getClient().<String>getSetCache(presenceKey(sessionKey), StringCodec.INSTANCE).remove(nodeId);
+    }
+
+    /**
+     * 订阅发往当前节点的定向消息.
+     *
+     * @param consumer 处理WebSocket消息的消费者函数
+     */
+    public void subscribe(Consumer<WebSocketMessageDto> consumer) {
+        RedisUtils.subscribe(nodeTopic(nodeId), WebSocketMessageDto.class, consumer);
+    }
+
+    /**
+     * 将消息路由到持有会话的其他节点.
+     *
+     * @param sessionKeys 用户id列表
+     * @param message     要发送的消息内容
+     */
+    public void route(Collection<Long> sessionKeys, String message) {
+        Map<Long, Set<String>> presence = lookup(sessionKeys);
+        List<Long> unknown = new ArrayList<>();
+        presence.forEach((key, nodes) -> {
+            // 本节点已直接发送 仅在其他节点均无记录时改走全局频道
+            if (nodes.isEmpty() && !WebSocketSessionHolder.existSession(key)) {
+                unknown.add(key);
+            }
+        });
+        toRoutes(presence).forEach((node, keys) -> {
+            WebSocketMessageDto dto = new WebSocketMessageDto();
+            dto.setSessionKeys(keys);
+            dto.setMessage(message);
+            RedisUtils.publish(nodeTopic(node), dto, _ -> log.info("WebSocket发送节点消息node:{} session keys:{} message:{}",
+                node, keys, message));
+        });
+        if (presenceFallback && !unknown.isEmpty()) {
+            WebSocketMessageDto dto = new WebSocketMessageDto();
+            dto.setSessionKeys(unknown);
+            dto.setMessage(message);
+            RedisUtils.publish(WEB_SOCKET_TOPIC, dto, _ -> log.info("WebSocket未找到在线记录 发送主题订阅消息topic:{} session keys:{} message:{}",
+                WEB_SOCKET_TOPIC, unknown, message));
+        }
+    }
+
+    /**
+     * 一次批量查询用户所在的节点 (不含当前节点).
+     *
+     * @param sessionKeys 用户id列表
+     * @return 节点ID 与 该节点上的用户id
+     */
+    public Map<String, List<Long>> locate(Collection<Long> sessionKeys) {
+        return toRoutes(lookup(sessionKeys));
+    }
+
+    /**
+     * 一次批量查询用户的在线记录.
+     *
+     * @param sessionKeys 用户id列表
+     * @return 用户id 与 登记的节点ID (无记录时为空集合)
+     */
+    private Map<Long, Set<String>> lookup(Collection<Long> sessionKeys) {
+        if (CollUtil.isEmpty(sessionKeys)) {
+            return Map.of();
+        }
+        RBatch batch = RedisUtils.getClient().createBatch();
+        Map<Long, RFuture<Set<String>>> futures = new LinkedHashMap<>();
+        for (Long key : new LinkedHashSet<>(sessionKeys)) {
+            futures.put(key, batch.<String>getSetCache(presenceKey(key), StringCodec.INSTANCE).readAllAsync());
+        }
+        batch.execute();
+        Map<Long, Set<String>> presence = new LinkedHashMap<>(futures.size());
+        futures.forEach((key, future) -> presence.put(key, future.toCompletableFuture().join()));
+        return presence;
+    }
+
+    private Map<String, List<Long>> toRoutes(Map<Long, Set<String>> presence) {
+        Map<String, List<Long>> routes = new HashMap<>();
+        presence.forEach((key, nodes) -> {
+            for (String node : nodes) {
+                if (!nodeId.equals(node)) {
+                    routes.computeIfAbsent(node, _ -> new ArrayList<>()).add(key);
+                }
+            }
+        });
+        return routes;
+    }
+
+    /**
+     * 续期本节点全部在线用户的记录.
+     */
+    private void renew() {
+        Set<Long> sessionKeys = WebSocketSessionHolder.getSessionsAll();
+        if (sessionKeys.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = RedisUtils.getClient().createBatch();
+            for (Long key : sessionKeys) {
+                batch.<String>getSetCache(presenceKey(key), StringCodec.INSTANCE).addAsync(nodeId, presenceTtl, TimeUnit.SECONDS);
+            }
+            batch.execute();
+        } catch (Exception e) {
+            log.error("WebSocket在线记录续期失败 node:{}", nodeId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+        }
+        Set<Long> sessionKeys = WebSocketSessionHolder.getSessionsAll();
+        if (sessionKeys.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = RedisUtils.getClient().createBatch();
+            for (Long key : sessionKeys) {
+                batch.<String>getSetCache(presenceKey(key), StringCodec.INSTANCE).removeAsync(nodeId);
+            }
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("WebSocket在线记录清理失败 node:{} {}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String presenceKey(Long sessionKey) {
+        return WEB_SOCKET_PRESENCE_KEY + sessionKey;
+    }
+
+    private static String nodeTopic(String node) {
+        return WEB_SOCKET_NODE_TOPIC + node;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.websocket.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import leyramu.framework.lersosa.common.websocket.config.properties.WebSocketProperties;
+import leyramu.framework.lersosa.common.websocket.enums.OverflowPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 消息发送器.
+ * <p>
+ * 每个会话拥有独立的有界发送队列, 调用方只负责入队; 由虚拟线程按会话串行写出,
+ * 慢客户端只会阻塞自己的写线程, 不影响其他会话. 单条消息写出超时的会话在下一条消息入队时
+ * 或定时巡检时被关闭, 没有新消息的会话也不会一直占用写线程.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+public class WebSocketSender implements DisposableBean {
+
+    private final int capacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final long sendTimeLimitNanos;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ScheduledFuture<?> sweeper;
+
+    /**
+     * 会话ID 与 发送队列.
+     */
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 全部会话待发送的消息数.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Timer sendLatency;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter overflowClosedCounter;
+
+    private final Counter timeoutClosedCounter;
+
+    public WebSocketSender(WebSocketProperties properties, MeterRegistry registry, ScheduledExecutorService scheduledExecutorService) {
+        this.capacity = Math.max(properties.getSendQueueCapacity(), 1);
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeLimit());
+        // 巡检间隔取超时时间的一半 会话最迟在 1.5 倍超时时间内被关闭
+        long sweepInterval = Math.max(properties.getSendTimeLimit() / 2, 100);
+        this.sweeper = scheduledExecutorService.scheduleWithFixedDelay(this::sweep,
+            sweepInterval, sweepInterval, TimeUnit.MILLISECONDS);
+        Gauge.builder("lersosa.websocket.send.queue.depth", pending, AtomicLong::get)
+            .description("全部会话待发送的消息数")
+            .register(registry);
+        Gauge.builder("lersosa.websocket.send.queues", queues, Map::size)
+            .description("存在发送队列的会话数")
+            .register(registry);
+        this.sendLatency = Timer.builder("lersosa.websocket.send.latency")
+            .description("消息从入队到写出的耗时")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.droppedCounter = Counter.builder("lersosa.websocket.send.dropped")
+            .description("队列溢出被丢弃的消息数")
+            .register(registry);
+        this.failedCounter = Counter.builder("lersosa.websocket.send.failed")
+            .description("写出失败的消息数")
+            .register(registry);
+        this.overflowClosedCounter = Counter.builder("lersosa.websocket.send.closed")
+            .tag("reason", "overflow")
+            .register(registry);
+        this.timeoutClosedCounter = Counter.builder("lersosa.websocket.send.closed")
+            .tag("reason", "timeout")
+            .register(registry);
+    }
+
+    /**
+     * 消息入队 (不阻塞调用方).
+     *
+     * @param session WebSocket会话
+     * @param message 要发送的消息
+     * @return 会话已关闭或因溢出/超时被关闭时返回 false
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session == null || !session.isOpen()) {
+            log.warn("[send] session会话已经关闭");
+            return false;
+        }
+        return queues.computeIfAbsent(session.getId(), _ -> new SessionQueue(session)).offer(message);
+    }
+
+    /**
+     * 释放会话的发送队列 (连接关闭后调用).
+     *
+     * @param session WebSocket会话
+     */
+    public void release(WebSocketSession session) {
+        SessionQueue queue = queues.remove(session.getId());
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * 获取会话当前待发送的消息数.
+     *
+     * @param session WebSocket会话
+     * @return 待发送的消息数
+     */
+    public int getQueueDepth(WebSocketSession session) {
+        SessionQueue queue = queues.get(session.getId());
+        return queue == null ? 0 : queue.size.get();
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.cancel(false);
+        executor.shutdown();
+    }
+
+    /**
+     * 巡检全部会话 关闭写出超时的会话.
+     */
+    private void sweep() {
+        long now = System.nanoTime();
+        for (SessionQueue queue : queues.values()) {
+            if (queue.isSendTimeout(now)) {
+                queue.close("发送超时", timeoutClosedCounter);
+            }
+        }
+    }
+
+    private record Outbound(WebSocketMessage<?> message, long enqueueNanos) {
+    }
+
+    /**
+     * 单个会话的发送队列 (同一时刻最多一个写线程).
+     */
+    private final class SessionQueue {
+
+        private final WebSocketSession session;
+
+        private final Queue<Outbound> queue = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 当前消息开始写出的时间 0 表示空闲.
+         */
+        private volatile long sendStartNanos;
+
+        private SessionQueue(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private boolean offer(WebSocketMessage<?> message) {
+            if (closed.get()) {
+                return false;
+            }
+            if (isSendTimeout(System.nanoTime())) {
+                close("发送超时", timeoutClosedCounter);
+                return false;
+            }
+            if (size.incrementAndGet() > capacity) {
+                if (overflowPolicy == OverflowPolicy.CLOSE) {
+                    size.decrementAndGet();
+                    close("发送队列已满", overflowClosedCounter);
+                    return false;
+                }
+                if (queue.poll() != null) {
+                    size.decrementAndGet();
+                    pending.decrementAndGet();
+                    droppedCounter.increment();
+                }
+            }
+            pending.incrementAndGet();
+            queue.offer(new Outbound(message, System.nanoTime()));
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Outbound outbound;
+                while ((outbound = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    pending.decrementAndGet();
+                    write(outbound);
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 释放标记后仍有新消息入队 重新调度
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean isSendTimeout(long now) {
+            long start = sendStartNanos;
+            return start != 0 && now - start > sendTimeLimitNanos;
+        }
+
+        private void write(Outbound outbound) {
+            if (closed.get() || !session.isOpen()) {
+                return;
+            }
+            sendStartNanos = System.nanoTime();
+            try {
+                session.sendMessage(outbound.message());
+                sendLatency.record(System.nanoTime() - outbound.enqueueNanos(), TimeUnit.NANOSECONDS);
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[send] session({}) 发送消息({}) 异常", session.getId(), outbound.message(), e);
+            } finally {
+                sendStartNanos = 0;
+            }
+        }
+
+        private void clear() {
+            while (queue.poll() != null) {
+                size.decrementAndGet();
+                pending.decrementAndGet();
+            }
+        }
+
+        private void close(String reason, Counter counter) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            counter.increment();
+            queues.remove(session.getId(), this);
+            clear();
+            log.warn("[send] session({}) {}, 关闭连接", session.getId(), reason);
+            // 关闭帧的写出同样可能阻塞 交给写线程执行
+            try {
+                executor.execute(() -> {
+                    try {
+                        session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                    } catch (IOException e) {
+                        log.debug("[send] session({}) 关闭异常: {}", session.getId(), e.getMessage());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.debug("[send] session({}) 发送器已停止", session.getId());
+            }
+        }
+    }
+}
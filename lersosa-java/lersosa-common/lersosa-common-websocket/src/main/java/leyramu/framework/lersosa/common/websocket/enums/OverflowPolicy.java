@@ -21,24 +21,24 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
-package leyramu.framework.lersosa.grpc.pulsar.handler;
-
-import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+package leyramu.framework.lersosa.common.websocket.enums;
 
 /**
- * 脉冲星匹配处理器.
+ * WebSocket 发送队列溢出策略.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
- * @since 2025/3/18
+ * @since 2024/11/6
  */
-public interface PulsarMatchHandler {
+public enum OverflowPolicy {
+
+    /**
+     * 丢弃最早入队的消息.
+     */
+    DROP_OLDEST,
 
     /**
-     * 处理.
-     *
-     * @param pulsarMatcherRequest 脉冲星匹配数据
-     * @return 是否处理成功
+     * 关闭会话.
      */
-    Boolean handle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest);
+    CLOSE
 }
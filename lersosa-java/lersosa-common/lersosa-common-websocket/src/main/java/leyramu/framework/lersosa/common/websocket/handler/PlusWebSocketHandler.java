@@ -24,11 +24,13 @@
 package leyramu.framework.lersosa.common.websocket.handler;
 
 import cn.hutool.core.util.ObjectUtil;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketRouter;
 import leyramu.framework.lersosa.common.websocket.dto.WebSocketMessageDto;
 import leyramu.framework.lersosa.common.websocket.holder.WebSocketSessionHolder;
 import leyramu.framework.lersosa.common.websocket.utils.WebSocketUtils;
 import leyramu.framework.lersosa.system.api.model.LoginUser;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
@@ -46,8 +48,11 @@ import static leyramu.framework.lersosa.common.websocket.constant.WebSocketConst
  * @since 2024/11/6
  */
 @Slf4j
+@RequiredArgsConstructor
 public class PlusWebSocketHandler extends AbstractWebSocketHandler {
 
+    private final WebSocketRouter webSocketRouter;
+
     /**
      * 连接成功后.
      */
@@ -60,6 +65,7 @@ public class PlusWebSocketHandler extends AbstractWebSocketHandler {
             return;
         }
         WebSocketSessionHolder.addSession(loginUser.getUserId(), session);
+        webSocketRouter.online(loginUser.getUserId());
         log.info("[connect] sessionId: {},userId:{},userType:{}", session.getId(), loginUser.getUserId(), loginUser.getUserType());
     }
 
@@ -123,12 +129,15 @@ public class PlusWebSocketHandler extends AbstractWebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(WebSocketSession session, @NonNull CloseStatus status) {
+        WebSocketUtils.releaseSession(session);
         LoginUser loginUser = (LoginUser) session.getAttributes().get(LOGIN_USER_KEY);
         if (ObjectUtil.isNull(loginUser)) {
             log.info("[disconnect] invalid token received. sessionId: {}", session.getId());
             return;
         }
-        WebSocketSessionHolder.removeSession(loginUser.getUserId());
+        if (WebSocketSessionHolder.removeSession(loginUser.getUserId(), session)) {
+            webSocketRouter.offline(loginUser.getUserId());
+        }
         log.info("[disconnect] sessionId: {},userId:{},userType:{}", session.getId(), loginUser.getUserId(), loginUser.getUserType());
     }
 
@@ -41,7 +41,10 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class WebSocketSessionHolder {
 
-    private static final Map<Long, WebSocketSession> USER_SESSION_MAP = new ConcurrentHashMap<>();
+    /**
+     * 用户id 与 该用户在当前节点的全部会话 (多端登录).
+     */
+    private static final Map<Long, Set<WebSocketSession>> USER_SESSION_MAP = new ConcurrentHashMap<>();
 
     /**
      * 将WebSocket会话添加到用户会话Map中.
@@ -50,29 +53,35 @@ public class WebSocketSessionHolder {
      * @param session    要添加的WebSocket会话
      */
     public static void addSession(Long sessionKey, WebSocketSession session) {
-        USER_SESSION_MAP.put(sessionKey, session);
+        USER_SESSION_MAP.compute(sessionKey, (_, sessions) -> {
+            Set<WebSocketSession> result = sessions == null ? ConcurrentHashMap.newKeySet() : sessions;
+            result.add(session);
+            return result;
+        });
     }
 
     /**
-     * 从用户会话Map中移除指定会话键对应的WebSocket会话.
+     * 从用户会话Map中移除指定的WebSocket会话.
      *
-     * @param sessionKey 要移除的会话键
+     * @param sessionKey 会话键
+     * @param session    要移除的WebSocket会话
+     * @return 该用户在当前节点已无会话时返回true
      */
-    @SuppressWarnings("all")
-    public static void removeSession(Long sessionKey) {
-        if (USER_SESSION_MAP.containsKey(sessionKey)) {
-            USER_SESSION_MAP.remove(sessionKey);
-        }
+    public static boolean removeSession(Long sessionKey, WebSocketSession session) {
+        return USER_SESSION_MAP.computeIfPresent(sessionKey, (_, sessions) -> {
+            sessions.remove(session);
+            return sessions.isEmpty() ? null : sessions;
+        }) == null;
     }
 
     /**
      * 根据会话键从用户会话Map中获取WebSocket会话.
      *
      * @param sessionKey 要获取的会话键
-     * @return 与给定会话键对应的WebSocket会话，如果不存在则返回null
+     * @return 与给定会话键对应的全部WebSocket会话，如果不存在则返回空集合
      */
-    public static WebSocketSession getSessions(Long sessionKey) {
-        return USER_SESSION_MAP.get(sessionKey);
+    public static Set<WebSocketSession> getSessions(Long sessionKey) {
+        return USER_SESSION_MAP.getOrDefault(sessionKey, Set.of());
     }
 
     /**
@@ -24,8 +24,11 @@
 package leyramu.framework.lersosa.common.websocket.listener;
 
 import cn.hutool.core.collection.CollUtil;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketRouter;
+import leyramu.framework.lersosa.common.websocket.dto.WebSocketMessageDto;
 import leyramu.framework.lersosa.common.websocket.holder.WebSocketSessionHolder;
 import leyramu.framework.lersosa.common.websocket.utils.WebSocketUtils;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -39,8 +42,11 @@ import org.springframework.core.Ordered;
  * @since 2024/11/6
  */
 @Slf4j
+@RequiredArgsConstructor
 public class WebSocketTopicListener implements ApplicationRunner, Ordered {
 
+    private final WebSocketRouter webSocketRouter;
+
     /**
      * 在Spring Boot应用程序启动时初始化WebSocket主题订阅监听器.
      *
@@ -48,21 +54,29 @@ public class WebSocketTopicListener implements ApplicationRunner, Ordered {
      */
     @Override
     public void run(ApplicationArguments args) {
-        // 订阅WebSocket消息
+        // 订阅群发消息 (携带key的消息来自旧版本节点 仍按key发送)
         WebSocketUtils.subscribeMessage((message) -> {
             log.info("WebSocket主题订阅收到消息session keys={} message={}", message.getSessionKeys(), message.getMessage());
-            // 如果key不为空就按照key发消息 如果为空就群发
             if (CollUtil.isNotEmpty(message.getSessionKeys())) {
-                message.getSessionKeys().forEach(key -> {
-                    if (WebSocketSessionHolder.existSession(key)) {
-                        WebSocketUtils.sendMessage(key, message.getMessage());
-                    }
-                });
+                sendLocal(message);
             } else {
                 WebSocketSessionHolder.getSessionsAll().forEach(key -> WebSocketUtils.sendMessage(key, message.getMessage()));
             }
         });
-        log.info("初始化WebSocket主题订阅监听器成功");
+        // 订阅发往当前节点的定向消息
+        webSocketRouter.subscribe((message) -> {
+            log.info("WebSocket节点订阅收到消息session keys={} message={}", message.getSessionKeys(), message.getMessage());
+            sendLocal(message);
+        });
+        log.info("初始化WebSocket主题订阅监听器成功 node:{}", webSocketRouter.getNodeId());
+    }
+
+    private static void sendLocal(WebSocketMessageDto message) {
+        message.getSessionKeys().forEach(key -> {
+            if (WebSocketSessionHolder.existSession(key)) {
+                WebSocketUtils.sendMessage(key, message.getMessage());
+            }
+        });
     }
 
     @Override
@@ -23,8 +23,10 @@
 
 package leyramu.framework.lersosa.common.websocket.utils;
 
-import cn.hutool.core.collection.CollUtil;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketRouter;
+import leyramu.framework.lersosa.common.websocket.core.WebSocketSender;
 import leyramu.framework.lersosa.common.websocket.dto.WebSocketMessageDto;
 import leyramu.framework.lersosa.common.websocket.holder.WebSocketSessionHolder;
 import lombok.AccessLevel;
@@ -35,9 +37,6 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.Consumer;
 
 import static leyramu.framework.lersosa.common.websocket.constant.WebSocketConstants.WEB_SOCKET_TOPIC;
@@ -60,8 +59,10 @@ public class WebSocketUtils {
      * @param message    要发送的消息内容
      */
     public static void sendMessage(Long sessionKey, String message) {
-        WebSocketSession session = WebSocketSessionHolder.getSessions(sessionKey);
-        sendMessage(session, message);
+        TextMessage textMessage = new TextMessage(message);
+        for (WebSocketSession session : WebSocketSessionHolder.getSessions(sessionKey)) {
+            sendMessage(session, textMessage);
+        }
     }
 
     /**
@@ -75,27 +76,20 @@ public class WebSocketUtils {
 
     /**
      * 发布WebSocket订阅消息.
+     * <p>
+     * 当前服务内的会话直接发送, 其余会话按在线记录只发布到持有会话的节点.
      *
      * @param webSocketMessage 要发布的WebSocket消息对象
      */
     public static void publishMessage(WebSocketMessageDto webSocketMessage) {
-        List<Long> unsentSessionKeys = new ArrayList<>();
         // 当前服务内session,直接发送消息
         for (Long sessionKey : webSocketMessage.getSessionKeys()) {
             if (WebSocketSessionHolder.existSession(sessionKey)) {
                 WebSocketUtils.sendMessage(sessionKey, webSocketMessage.getMessage());
-                continue;
             }
-            unsentSessionKeys.add(sessionKey);
-        }
-        // 不在当前服务内session,发布订阅消息
-        if (CollUtil.isNotEmpty(unsentSessionKeys)) {
-            WebSocketMessageDto broadcastMessage = new WebSocketMessageDto();
-            broadcastMessage.setMessage(webSocketMessage.getMessage());
-            broadcastMessage.setSessionKeys(unsentSessionKeys);
-            RedisUtils.publish(WEB_SOCKET_TOPIC, broadcastMessage, _ -> log.info("WebSocket发送主题订阅消息topic:{} session keys:{} message:{}",
-                WEB_SOCKET_TOPIC, unsentSessionKeys, webSocketMessage.getMessage()));
         }
+        // 同一用户可能在其他节点还有会话,定向发布到对应节点
+        Holder.ROUTER.route(webSocketMessage.getSessionKeys(), webSocketMessage.getMessage());
     }
 
     /**
@@ -129,21 +123,34 @@ public class WebSocketUtils {
         sendMessage(session, new TextMessage(message));
     }
 
+    /**
+     * 释放WebSocket会话的发送队列.
+     *
+     * @param session WebSocket会话
+     */
+    public static void releaseSession(WebSocketSession session) {
+        Holder.SENDER.release(session);
+    }
+
     /**
      * 向指定的WebSocket会话发送WebSocket消息对象.
+     * <p>
+     * 消息进入会话自己的发送队列后立即返回, 由 {@link WebSocketSender} 异步写出.
      *
      * @param session WebSocket会话
      * @param message 要发送的WebSocket消息对象
      */
-    private synchronized static void sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
-        if (session == null || !session.isOpen()) {
-            log.warn("[send] session会话已经关闭");
-        } else {
-            try {
-                session.sendMessage(message);
-            } catch (IOException e) {
-                log.error("[send] session({}) 发送消息({}) 异常", session, message, e);
-            }
-        }
+    private static void sendMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        Holder.SENDER.send(session, message);
+    }
+
+    /**
+     * 延迟获取发送器与路由 (未启用 WebSocket 时不会触发).
+     */
+    private static final class Holder {
+
+        private static final WebSocketSender SENDER = SpringUtils.getBean(WebSocketSender.class);
+
+        private static final WebSocketRouter ROUTER = SpringUtils.getBean(WebSocketRouter.class);
     }
 }
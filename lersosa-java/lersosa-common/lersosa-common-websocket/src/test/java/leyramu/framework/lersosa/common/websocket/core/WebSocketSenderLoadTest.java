@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.common.websocket.core;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leyramu.framework.lersosa.common.websocket.config.properties.WebSocketProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocket 消息发送器压力测试.
+ * <p>
+ * 模拟 10k 会话中 1% 写出卡住的客户端, 记录一次广播的入队耗时与正常会话收到消息的延迟分布,
+ * 并验证卡住的会话在没有新消息时由定时巡检关闭.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("WebSocket 消息发送器压力测试")
+public class WebSocketSenderLoadTest {
+
+    private static final int SESSIONS = 10_000;
+
+    private static final int SLOW_SESSIONS = SESSIONS / 100;
+
+    private ScheduledExecutorService scheduledExecutorService;
+
+    private SimpleMeterRegistry registry;
+
+    private CountDownLatch stuck;
+
+    private final AtomicInteger closedCount = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        registry = new SimpleMeterRegistry();
+        stuck = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stuck.countDown();
+        scheduledExecutorService.shutdownNow();
+    }
+
+    @DisplayName("测试 10k 会话 1% 慢客户端的广播延迟")
+    @Test
+    public void testBroadcastWithSlowSessions() throws Exception {
+        WebSocketSender sender = sender(2000);
+        long[] received = new long[SESSIONS];
+        CountDownLatch delivered = new CountDownLatch(SESSIONS - SLOW_SESSIONS);
+        List<WebSocketSession> sessions = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            int index = i;
+            sessions.add(session("s" + i, i < SLOW_SESSIONS
+                ? _ -> {
+                    stuck.await();
+                    return null;
+                }
+                : _ -> {
+                    received[index] = System.nanoTime();
+                    delivered.countDown();
+                    return null;
+                }));
+        }
+
+        long start = System.nanoTime();
+        for (WebSocketSession session : sessions) {
+            sender.send(session, new TextMessage("broadcast"));
+        }
+        long enqueueNanos = System.nanoTime() - start;
+        assertTrue(delivered.await(10, TimeUnit.SECONDS), "正常会话未在 10s 内全部收到消息");
+
+        long[] latencies = Arrays.stream(received, SLOW_SESSIONS, SESSIONS).map(t -> t - start).sorted().toArray();
+        Timer timer = registry.get("lersosa.websocket.send.latency").timer();
+        System.out.printf("会话: %d 慢会话: %d 广播入队: %.1fms 送达 p50: %.1fms p99: %.1fms max: %.1fms 写出计时: %d 次 平均 %.3fms%n",
+            SESSIONS, SLOW_SESSIONS, millis(enqueueNanos), millis(percentile(latencies, 0.5)),
+            millis(percentile(latencies, 0.99)), millis(latencies[latencies.length - 1]),
+            timer.count(), timer.mean(TimeUnit.MILLISECONDS));
+        assertTrue(millis(percentile(latencies, 0.99)) < 2000, "慢客户端拖慢了正常会话");
+
+        // 慢会话没有后续消息 由巡检在 1.5 倍超时时间内关闭
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (closedCount.get() < SLOW_SESSIONS && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(SLOW_SESSIONS, closedCount.get());
+        assertEquals(SLOW_SESSIONS, (int) registry.get("lersosa.websocket.send.closed").tag("reason", "timeout").counter().count());
+        sender.destroy();
+    }
+
+    @DisplayName("测试无新消息时巡检关闭写出超时的会话")
+    @Test
+    public void testSweepClosesStuckSession() throws Exception {
+        WebSocketSender sender = sender(200);
+        WebSocketSession session = session("stuck", _ -> {
+            stuck.await();
+            return null;
+        });
+        assertTrue(sender.send(session, new TextMessage("first")));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (closedCount.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, closedCount.get());
+        verify(session, times(1)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        sender.destroy();
+    }
+
+    private WebSocketSender sender(long sendTimeLimit) {
+        WebSocketProperties properties = new WebSocketProperties();
+        properties.setSendTimeLimit(sendTimeLimit);
+        return new WebSocketSender(properties, registry, scheduledExecutorService);
+    }
+
+    private WebSocketSession session(String id, Answer<Void> onSend) throws IOException {
+        WebSocketSession session = mock(WebSocketSession.class);
+        AtomicBoolean open = new AtomicBoolean(true);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenAnswer(_ -> open.get());
+        doAnswer(onSend).when(session).sendMessage(any());
+        doAnswer(_ -> {
+            if (open.compareAndSet(true, false)) {
+                closedCount.incrementAndGet();
+            }
+            return null;
+        }).when(session).close(any(CloseStatus.class));
+        return session;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -45,4 +45,9 @@ public class CustomGatewayProperties {
      * 请求日志.
      */
     private Boolean requestLog;
+
+    /**
+     * 请求日志记录的最大请求体字节数(超出部分截断).
+     */
+    private Integer requestLogBodyLimit = 2048;
 }
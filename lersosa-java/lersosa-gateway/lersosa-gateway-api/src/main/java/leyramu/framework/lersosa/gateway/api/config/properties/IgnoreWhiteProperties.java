@@ -23,8 +23,14 @@
 
 package leyramu.framework.lersosa.gateway.api.config.properties;
 
+import leyramu.framework.lersosa.gateway.api.matcher.PathPatternTrie;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Configuration;
@@ -50,4 +56,27 @@ public class IgnoreWhiteProperties {
      * 放行白名单配置，网关不校验此处的白名单.
      */
     private List<String> whites = new ArrayList<>();
+
+    /**
+     * 白名单预编译匹配树(配置刷新时整体替换).
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile PathPatternTrie whitesMatcher = PathPatternTrie.empty();
+
+    public void setWhites(List<String> whites) {
+        this.whites = whites;
+        this.whitesMatcher = PathPatternTrie.compile(whites, true);
+    }
+
+    /**
+     * 判断请求路径是否在白名单内.
+     *
+     * @param path 请求路径
+     */
+    public boolean isWhite(String path) {
+        return whitesMatcher.matches(path);
+    }
 }
@@ -23,6 +23,7 @@
 
 package leyramu.framework.lersosa.gateway.api.filter;
 
+import cn.dev33.satoken.context.SaHolder;
 import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.httpauth.basic.SaHttpBasicUtil;
 import cn.dev33.satoken.reactor.context.SaReactorSyncHolder;
@@ -61,9 +62,9 @@ public class AuthFilter {
             .addExclude("/favicon.ico", "/actuator", "/actuator/**")
             // 鉴权方法：每次访问进入
             .setAuth(_ -> {
-                // 登录校验 -- 拦截所有路由
+                // 登录校验 -- 拦截所有路由(白名单使用预编译匹配树 一次遍历完成判断)
                 SaRouter.match("/**")
-                    .notMatch(ignoreWhite.getWhites())
+                    .notMatch(ignoreWhite.isWhite(SaHolder.getRequest().getRequestPath()))
                     .check(_ -> {
                         ServerHttpRequest request = SaReactorSyncHolder.getContext().getRequest();
                         // 检查是否登录 是否有token
@@ -23,6 +23,7 @@
 
 package leyramu.framework.lersosa.gateway.api.filter;
 
+import leyramu.framework.lersosa.gateway.api.matcher.PathPatternTrie;
 import leyramu.framework.lersosa.gateway.api.utils.WebFluxUtils;
 import lombok.Getter;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.regex.Pattern;
 
 /**
@@ -60,19 +62,88 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
     }
 
     public static class Config {
+
+        /**
+         * 正则元字符, 含有任意一个的条目按旧的正则规则匹配.
+         */
+        private static final String REGEX_META = "()[]|+^$\\";
+
         @Getter
         private List<String> blacklistUrl;
 
-        private final List<Pattern> blacklistUrlPattern = new ArrayList<>();
+        /**
+         * 黑名单预编译匹配(Ant 条目走匹配树, 其余条目合并为一个正则).
+         */
+        private volatile CompiledBlacklist blacklistUrlMatcher = CompiledBlacklist.EMPTY;
 
         public boolean matchBlacklist(String url) {
-            return !blacklistUrlPattern.isEmpty() && blacklistUrlPattern.stream().anyMatch(p -> p.matcher(url).find());
+            return blacklistUrlMatcher.matches(url);
         }
 
         public void setBlacklistUrl(List<String> blacklistUrl) {
             this.blacklistUrl = blacklistUrl;
-            this.blacklistUrlPattern.clear();
-            this.blacklistUrl.forEach(url -> this.blacklistUrlPattern.add(Pattern.compile(url.replaceAll("\\*\\*", "(.*?)"), Pattern.CASE_INSENSITIVE)));
+            this.blacklistUrlMatcher = CompiledBlacklist.compile(blacklistUrl);
+        }
+
+        /**
+         * 判断条目是否为 Ant 规则.
+         * <p>
+         * 以 / 开头且不含正则元字符的条目视为 Ant 规则, 与完整请求路径按 Ant 语义匹配(忽略大小写);
+         * 其余条目保持旧的匹配方式: {@code **} 替换为 {@code (.*?)} 后忽略大小写在路径中查找.
+         * 旧配置中依赖子串查找的 Ant 条目(如希望 {@code /actuator/**} 同时拦截 {@code /xxx/actuator/env})
+         * 需改写为 {@code /**}{@code /actuator/**}.
+         *
+         * @param url 黑名单条目
+         * @return 是否为 Ant 规则
+         */
+        static boolean isAntPattern(String url) {
+            if (!url.startsWith("/")) {
+                return false;
+            }
+            for (int i = 0; i < url.length(); i++) {
+                if (REGEX_META.indexOf(url.charAt(i)) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 预编译的黑名单匹配器, 构建完成后不可变.
+         *
+         * @param trie   Ant 条目匹配树
+         * @param legacy 其余条目合并后的正则, 无此类条目时为 null
+         */
+        private record CompiledBlacklist(PathPatternTrie trie, Pattern legacy) {
+
+            private static final CompiledBlacklist EMPTY = new CompiledBlacklist(PathPatternTrie.empty(), null);
+
+            private static CompiledBlacklist compile(List<String> blacklistUrl) {
+                if (blacklistUrl == null || blacklistUrl.isEmpty()) {
+                    return EMPTY;
+                }
+                List<String> antPatterns = new ArrayList<>();
+                StringJoiner legacy = new StringJoiner("|");
+                for (String url : blacklistUrl) {
+                    if (url == null) {
+                        continue;
+                    }
+                    if (isAntPattern(url)) {
+                        antPatterns.add(url);
+                    } else {
+                        // 逐条编译校验后再合并 任一条目 find() 命中即整体命中 与逐条匹配等价
+                        String regex = url.replaceAll("\\*\\*", "(.*?)");
+                        Pattern.compile(regex);
+                        legacy.add("(?:" + regex + ")");
+                    }
+                }
+                Pattern pattern = legacy.length() == 0 ? null : Pattern.compile(legacy.toString(), Pattern.CASE_INSENSITIVE);
+                return new CompiledBlacklist(PathPatternTrie.compile(antPatterns, false), pattern);
+            }
+
+            private boolean matches(String url) {
+                return trie.matches(url) || (legacy != null && legacy.matcher(url).find());
+            }
         }
     }
 }
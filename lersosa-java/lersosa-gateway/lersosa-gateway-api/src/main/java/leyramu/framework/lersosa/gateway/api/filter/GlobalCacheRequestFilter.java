@@ -23,17 +23,23 @@
 
 package leyramu.framework.lersosa.gateway.api.filter;
 
-import leyramu.framework.lersosa.gateway.api.utils.WebFluxUtils;
+import leyramu.framework.lersosa.gateway.api.config.properties.CustomGatewayProperties;
+import leyramu.framework.lersosa.gateway.api.log.RequestBodyRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
-import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * 全局缓存获取body请求数据（解决流不能重复读取问题）.
+ * 全局请求体旁路记录（流式转发 不缓存完整请求体）.
+ *
+ * <p>仅当日志需要请求体时生效 读取过程中复制有限长度的内容供 {@link GlobalLogFilter} 输出.
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
@@ -42,18 +48,26 @@ import reactor.core.publisher.Mono;
 @Component
 public class GlobalCacheRequestFilter implements GlobalFilter, Ordered {
 
+    @Autowired
+    private CustomGatewayProperties customGatewayProperties;
+    @Autowired
+    private GlobalLogFilter globalLogFilter;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        // 只缓存json类型请求
-        if (!WebFluxUtils.isJsonRequest(exchange)) {
+        // 只记录需要输出的json类型请求
+        if (!globalLogFilter.isRequestBodyRequired(exchange)) {
             return chain.filter(exchange);
         }
-        return ServerWebExchangeUtils.cacheRequestBody(exchange, (serverHttpRequest) -> {
-            if (serverHttpRequest == exchange.getRequest()) {
-                return chain.filter(exchange);
+        RequestBodyRecorder recorder = new RequestBodyRecorder(customGatewayProperties.getRequestLogBodyLimit());
+        exchange.getAttributes().put(RequestBodyRecorder.ATTR, recorder);
+        ServerHttpRequestDecorator request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return recorder.tee(super.getBody());
             }
-            return chain.filter(exchange.mutate().request(serverHttpRequest).build());
-        });
+        };
+        return chain.filter(exchange.mutate().request(request).build());
     }
 
     @Override
@@ -25,14 +25,21 @@ package leyramu.framework.lersosa.gateway.api.filter;
 
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.ObjectUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import leyramu.framework.lersosa.common.json.utils.JsonUtils;
 import leyramu.framework.lersosa.gateway.api.config.properties.ApiDecryptProperties;
 import leyramu.framework.lersosa.gateway.api.config.properties.CustomGatewayProperties;
+import leyramu.framework.lersosa.gateway.api.log.AsyncRequestLogger;
+import leyramu.framework.lersosa.gateway.api.log.RequestBodyRecorder;
 import leyramu.framework.lersosa.gateway.api.utils.WebFluxUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
@@ -40,9 +47,15 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 全局日志过滤器.
  *
+ * <p>耗时基于单调时钟 按路由输出直方图指标 日志异步写出.
+ *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 1.0.0
  * @since 2024/11/6
@@ -51,48 +64,101 @@ import reactor.core.publisher.Mono;
 @Component
 public class GlobalLogFilter implements GlobalFilter, Ordered {
 
-    private static final String START_TIME = "startTime";
+    private static final String REQUEST_TIMER = "lersosa.gateway.requests";
+
+    private static final String UNKNOWN_ROUTE = "unknown";
+
+    private final Map<String, Timer> routeTimers = new ConcurrentHashMap<>();
+
     @Autowired
     private CustomGatewayProperties customGatewayProperties;
     @Autowired
     private ApiDecryptProperties apiDecryptProperties;
+    @Autowired
+    private AsyncRequestLogger requestLogger;
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        if (!customGatewayProperties.getRequestLog()) {
+        boolean logEnabled = isRequestLogEnabled();
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (!logEnabled && meterRegistry == null) {
             return chain.filter(exchange);
         }
-        ServerHttpRequest request = exchange.getRequest();
-        String path = WebFluxUtils.getOriginalRequestUrl(exchange);
-        String url = request.getMethod().name() + " " + path;
+        long startTime = System.nanoTime();
+        String url = logEnabled ? exchange.getRequest().getMethod().name() + " " + WebFluxUtils.getOriginalRequestUrl(exchange) : null;
+        if (logEnabled) {
+            logRequest(exchange, url);
+        }
+
+        return chain.filter(exchange).doFinally(_ -> {
+            long executeTime = System.nanoTime() - startTime;
+            if (meterRegistry != null) {
+                routeTimer(meterRegistry, exchange).record(executeTime, TimeUnit.NANOSECONDS);
+            }
+            if (logEnabled) {
+                RequestBodyRecorder recorder = exchange.getAttribute(RequestBodyRecorder.ATTR);
+                if (recorder != null) {
+                    recorder.flush();
+                }
+                requestLogger.info(log, "[PLUS]结束请求 => URL[{}],耗时:[{}]毫秒", url, TimeUnit.NANOSECONDS.toMillis(executeTime));
+            }
+        });
+    }
+
+    /**
+     * 当前请求是否需要记录请求体 不需要时上游不做任何缓存.
+     *
+     * @param exchange HTTP请求
+     */
+    public boolean isRequestBodyRequired(ServerWebExchange exchange) {
+        return isRequestLogEnabled()
+            && WebFluxUtils.isJsonRequest(exchange)
+            && !isEncryptRequest(exchange.getRequest());
+    }
+
+    private boolean isRequestLogEnabled() {
+        return Boolean.TRUE.equals(customGatewayProperties.getRequestLog()) && log.isInfoEnabled();
+    }
 
+    private boolean isEncryptRequest(ServerHttpRequest request) {
+        return apiDecryptProperties.getEnabled()
+            && ObjectUtil.isNotNull(request.getHeaders().getFirst(apiDecryptProperties.getHeaderFlag()));
+    }
+
+    private void logRequest(ServerWebExchange exchange, String url) {
+        ServerHttpRequest request = exchange.getRequest();
         // 打印请求参数
         if (WebFluxUtils.isJsonRequest(exchange)) {
-            if (apiDecryptProperties.getEnabled()
-                && ObjectUtil.isNotNull(request.getHeaders().getFirst(apiDecryptProperties.getHeaderFlag()))) {
-                log.info("[PLUS]开始请求 => URL[{}],参数类型[encrypt]", url);
+            RequestBodyRecorder recorder = exchange.getAttribute(RequestBodyRecorder.ATTR);
+            if (isEncryptRequest(request)) {
+                requestLogger.info(log, "[PLUS]开始请求 => URL[{}],参数类型[encrypt]", url);
+            } else if (recorder != null) {
+                // 请求体为流式转发 读取结束后再输出
+                recorder.whenComplete(() -> requestLogger.info(log, "[PLUS]开始请求 => URL[{}],参数类型[json],参数:[{}]", url, recorder.getBody()));
             } else {
-                String jsonParam = WebFluxUtils.resolveBodyFromCacheRequest(exchange);
-                log.info("[PLUS]开始请求 => URL[{}],参数类型[json],参数:[{}]", url, jsonParam);
+                requestLogger.info(log, "[PLUS]开始请求 => URL[{}],参数类型[json]", url);
             }
         } else {
             MultiValueMap<String, String> parameterMap = request.getQueryParams();
             if (MapUtil.isNotEmpty(parameterMap)) {
                 String parameters = JsonUtils.toJsonString(parameterMap);
-                log.info("[PLUS]开始请求 => URL[{}],参数类型[param],参数:[{}]", url, parameters);
+                requestLogger.info(log, "[PLUS]开始请求 => URL[{}],参数类型[param],参数:[{}]", url, parameters);
             } else {
-                log.info("[PLUS]开始请求 => URL[{}],无参数", url);
+                requestLogger.info(log, "[PLUS]开始请求 => URL[{}],无参数", url);
             }
         }
+    }
 
-        exchange.getAttributes().put(START_TIME, System.currentTimeMillis());
-        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
-            Long startTime = exchange.getAttribute(START_TIME);
-            if (startTime != null) {
-                long executeTime = (System.currentTimeMillis() - startTime);
-                log.info("[PLUS]结束请求 => URL[{}],耗时:[{}]毫秒", url, executeTime);
-            }
-        }));
+    private Timer routeTimer(MeterRegistry meterRegistry, ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : UNKNOWN_ROUTE;
+        return routeTimers.computeIfAbsent(routeId, id -> Timer.builder(REQUEST_TIMER)
+            .description("网关请求耗时")
+            .tag("routeId", id)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
     }
 
     @Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.gateway.api.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求日志异步输出器.
+ *
+ * <p>事件循环线程只做一次非阻塞入队 由独立守护线程完成格式化与写入 队列满时直接丢弃并计数 不反压请求.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+@Component
+public class AsyncRequestLogger implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread worker;
+
+    public AsyncRequestLogger() {
+        this.worker = Thread.ofPlatform().name("gateway-request-log").daemon().start(this::drain);
+    }
+
+    /**
+     * 异步输出 info 日志.
+     *
+     * @param logger 目标日志
+     * @param format 日志格式
+     * @param args   参数(需为不可变对象)
+     */
+    public void info(Logger logger, String format, Object... args) {
+        if (!queue.offer(new LogRecord(logger, format, args))) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                write(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        LogRecord record;
+        while ((record = queue.poll()) != null) {
+            write(record);
+        }
+    }
+
+    private void write(LogRecord record) {
+        try {
+            record.logger().info(record.format(), record.args());
+            long count = dropped.sumThenReset();
+            if (count > 0) {
+                log.warn("请求日志队列已满 丢弃 {} 条日志", count);
+            }
+        } catch (Exception e) {
+            log.error("请求日志输出失败", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        worker.interrupt();
+    }
+
+    private record LogRecord(Logger logger, String format, Object[] args) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.gateway.api.log;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 请求体旁路记录器.
+ *
+ * <p>在请求体向下游转发的同时 将前 {@code limit} 个字节复制到固定大小的数组中 不持有任何 {@link DataBuffer} 引用.
+ * 超出部分只计数不复制 请求体读取结束(完成/异常/取消)后回调日志输出.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public class RequestBodyRecorder {
+
+    /**
+     * 交换机属性键.
+     */
+    public static final String ATTR = RequestBodyRecorder.class.getName();
+
+    private final byte[] head;
+
+    private final AtomicBoolean fired = new AtomicBoolean();
+
+    private int length;
+
+    private long total;
+
+    private volatile boolean completed;
+
+    private volatile Runnable action;
+
+    public RequestBodyRecorder(int limit) {
+        this.head = new byte[Math.max(limit, 0)];
+    }
+
+    /**
+     * 包装请求体 读取过程中旁路复制.
+     *
+     * @param body 原始请求体
+     * @return 包装后的请求体
+     */
+    public Flux<DataBuffer> tee(Flux<DataBuffer> body) {
+        return body.doOnNext(this::record).doFinally(_ -> {
+            completed = true;
+            fire();
+        });
+    }
+
+    /**
+     * 注册请求体读取完成后的回调 已完成则立即执行.
+     *
+     * @param action 回调
+     */
+    public void whenComplete(Runnable action) {
+        this.action = action;
+        if (completed) {
+            fire();
+        }
+    }
+
+    /**
+     * 请求结束时调用 请求体未被读取时以当前内容执行回调.
+     */
+    public void flush() {
+        fire();
+    }
+
+    /**
+     * 获取已记录的请求体(超出限制时追加截断说明).
+     */
+    public String getBody() {
+        String body = new String(head, 0, length, StandardCharsets.UTF_8);
+        if (total > length) {
+            return body + "...(已截断,共" + total + "字节)";
+        }
+        return body;
+    }
+
+    private void record(DataBuffer buffer) {
+        int readable = buffer.readableByteCount();
+        total += readable;
+        int copy = Math.min(readable, head.length - length);
+        if (copy > 0) {
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(head), length, copy);
+            length += copy;
+        }
+    }
+
+    private void fire() {
+        Runnable current = action;
+        if (current != null && fired.compareAndSet(false, true)) {
+            current.run();
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+
+package leyramu.framework.lersosa.gateway.api.matcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 预编译的 Ant 路径匹配树.
+ * <p>
+ * 按路径段构建前缀树, 匹配时同时推进所有可能的状态, 一次遍历请求路径即可得到是否命中任意规则,
+ * 耗时只与路径段数和同一层的通配分支数相关, 与规则总数无关.
+ * 语义与 AntPathMatcher 一致: {@code ?} 匹配单个字符, {@code *} 匹配段内任意字符, {@code **} 匹配零个或多个路径段,
+ * {@code {name}} 按 {@code *} 处理. 实例构建完成后不可变, 可安全地在多线程间共享
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public final class PathPatternTrie {
+
+    private static final String SEPARATOR = "/";
+
+    private static final String DOUBLE_STAR = "**";
+
+    private static final String STAR = "*";
+
+    private static final PathPatternTrie EMPTY = new PathPatternTrie(new Node(false), true, 0);
+
+    private final Node root;
+
+    private final boolean caseSensitive;
+
+    private final int size;
+
+    private PathPatternTrie(Node root, boolean caseSensitive, int size) {
+        this.root = root;
+        this.caseSensitive = caseSensitive;
+        this.size = size;
+    }
+
+    /**
+     * 空匹配树(不匹配任何路径).
+     */
+    public static PathPatternTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 构建匹配树.
+     *
+     * @param patterns      Ant 规则
+     * @param caseSensitive 是否区分大小写
+     * @return 匹配树
+     */
+    public static PathPatternTrie compile(Collection<String> patterns, boolean caseSensitive) {
+        if (patterns == null || patterns.isEmpty()) {
+            return EMPTY;
+        }
+        Node root = new Node(false);
+        int size = 0;
+        for (String pattern : patterns) {
+            // 与 AntPathMatcher 一致 请求路径均以 / 开头 不以 / 开头的规则永远不会命中
+            if (pattern == null || !pattern.startsWith(SEPARATOR)) {
+                continue;
+            }
+            String normalized = caseSensitive ? pattern : pattern.toLowerCase(Locale.ROOT);
+            Node node = root;
+            String last = null;
+            for (String segment : tokenize(normalized)) {
+                node = node.child(segment);
+                last = segment;
+            }
+            if (STAR.equals(last)) {
+                node.endsWithStar = true;
+            }
+            if (node.doubleStar) {
+                node.matchAny = true;
+            } else if (normalized.endsWith(SEPARATOR)) {
+                node.terminalWithSlash = true;
+            } else {
+                node.terminal = true;
+            }
+            size++;
+        }
+        return new PathPatternTrie(root, caseSensitive, size);
+    }
+
+    /**
+     * 规则数量.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断路径是否命中任意规则.
+     *
+     * @param path 请求路径
+     * @return 是否命中
+     */
+    public boolean matches(String path) {
+        if (size == 0 || path == null || !path.startsWith(SEPARATOR)) {
+            return false;
+        }
+        String normalized = caseSensitive ? path : path.toLowerCase(Locale.ROOT);
+        Set<Node> states = new LinkedHashSet<>();
+        closure(root, states);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length && !states.isEmpty()) {
+            int end = normalized.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                String segment = normalized.substring(start, end);
+                Set<Node> next = new LinkedHashSet<>();
+                for (Node state : states) {
+                    state.advance(segment, next);
+                }
+                states = next;
+            }
+            start = end + 1;
+        }
+        boolean endsWithSlash = normalized.endsWith(SEPARATOR);
+        for (Node state : states) {
+            if (state.matchAny) {
+                return true;
+            }
+            if (endsWithSlash ? state.terminalWithSlash : state.terminal) {
+                return true;
+            }
+            // AntPathMatcher: 在首个 ** 之前路径已结束且规则仅剩一个 * (不含 {name}) 时 以 / 结尾的路径视为命中
+            if (endsWithSlash && !state.afterDoubleStar && state.star != null && state.star.endsWithStar) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> tokenize(String pattern) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : pattern.split(SEPARATOR)) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static void closure(Node node, Set<Node> states) {
+        if (states.add(node) && node.doubleStarChild != null) {
+            closure(node.doubleStarChild, states);
+        }
+    }
+
+    /**
+     * 匹配树节点.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+
+        private final List<Glob> globs = new ArrayList<>();
+
+        private Node star;
+
+        private Node doubleStarChild;
+
+        private boolean doubleStar;
+
+        private final boolean afterDoubleStar;
+
+        private boolean terminal;
+
+        private boolean terminalWithSlash;
+
+        private boolean matchAny;
+
+        private boolean endsWithStar;
+
+        private Node(boolean afterDoubleStar) {
+            this.afterDoubleStar = afterDoubleStar;
+        }
+
+        private Node child(String segment) {
+            if (DOUBLE_STAR.equals(segment)) {
+                if (doubleStarChild == null) {
+                    doubleStarChild = new Node(true);
+                    doubleStarChild.doubleStar = true;
+                }
+                return doubleStarChild;
+            }
+            String glob = Glob.normalize(segment);
+            if (STAR.equals(glob)) {
+                if (star == null) {
+                    star = new Node(afterDoubleStar);
+                }
+                return star;
+            }
+            if (glob.indexOf('*') < 0 && glob.indexOf('?') < 0) {
+                return literals.computeIfAbsent(segment, _ -> new Node(afterDoubleStar));
+            }
+            for (Glob existing : globs) {
+                if (existing.pattern.equals(glob)) {
+                    return existing.node;
+                }
+            }
+            Glob created = new Glob(glob, new Node(afterDoubleStar));
+            globs.add(created);
+            return created.node;
+        }
+
+        private void advance(String segment, Set<Node> next) {
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                closure(literal, next);
+            }
+            if (star != null) {
+                closure(star, next);
+            }
+            for (Glob glob : globs) {
+                if (glob.matches(segment)) {
+                    closure(glob.node, next);
+                }
+            }
+            if (doubleStar) {
+                // ** 可以继续吞掉当前路径段
+                closure(this, next);
+            }
+        }
+    }
+
+    /**
+     * 段内通配规则.
+     */
+    private record Glob(String pattern, Node node) {
+
+        /**
+         * 将 {name} 形式的路径变量视为 *.
+         */
+        private static String normalize(String segment) {
+            if (segment.indexOf('{') < 0) {
+                return segment;
+            }
+            StringBuilder builder = new StringBuilder(segment.length());
+            int depth = 0;
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c == '{') {
+                    if (depth++ == 0) {
+                        builder.append('*');
+                    }
+                } else if (c == '}' && depth > 0) {
+                    depth--;
+                } else if (depth == 0) {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+
+        private boolean matches(String segment) {
+            int p = 0;
+            int s = 0;
+            int starIndex = -1;
+            int mark = 0;
+            while (s < segment.length()) {
+                if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == segment.charAt(s))) {
+                    p++;
+                    s++;
+                } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                    starIndex = p++;
+                    mark = s;
+                } else if (starIndex >= 0) {
+                    p = starIndex + 1;
+                    s = ++mark;
+                } else {
+                    return false;
+                }
+            }
+            while (p < pattern.length() && pattern.charAt(p) == '*') {
+                p++;
+            }
+            return p == pattern.length();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.gateway.api.filter;
+
+import leyramu.framework.lersosa.gateway.api.config.properties.IgnoreWhiteProperties;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 黑白名单匹配基准测试.
+ * <p>
+ * 黑名单对比调整前逐条正则 find() 与预编译匹配, 白名单对比调整前 AuthFilter 逐条 AntPathMatcher 匹配
+ * 与 {@link IgnoreWhiteProperties#isWhite} 的单次请求耗时, 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackListUrlFilterBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int size;
+
+    @Param({"/system/user/list", "/resource/oss/upload/1/2/3"})
+    private String path;
+
+    private List<Pattern> legacy;
+
+    private BlackListUrlFilter.Config config;
+
+    private AntPathMatcher antPathMatcher;
+
+    private List<String> whites;
+
+    private IgnoreWhiteProperties ignoreWhite;
+
+    @Setup
+    public void setup() {
+        List<String> blacklist = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            blacklist.add("/service" + i + (i % 2 == 0 ? "/**" : "/api/*/detail"));
+        }
+        legacy = blacklist.stream()
+            .map(url -> Pattern.compile(url.replaceAll("\\*\\*", "(.*?)"), Pattern.CASE_INSENSITIVE))
+            .toList();
+        config = new BlackListUrlFilter.Config();
+        config.setBlacklistUrl(blacklist);
+
+        whites = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            whites.add(switch (i % 3) {
+                case 0 -> "/service" + i + "/v3/api-docs";
+                case 1 -> "/service" + i + "/public/**";
+                default -> "/service" + i + "/*/captcha";
+            });
+        }
+        antPathMatcher = new AntPathMatcher();
+        ignoreWhite = new IgnoreWhiteProperties();
+        ignoreWhite.setWhites(whites);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        for (Pattern pattern : legacy) {
+            if (pattern.matcher(path).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return config.matchBlacklist(path);
+    }
+
+    /**
+     * 调整前 SaRouter.notMatch(List) 的白名单匹配方式.
+     */
+    @Benchmark
+    public boolean legacyWhitelist() {
+        for (String pattern : whites) {
+            if (antPathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean compiledWhitelist() {
+        return ignoreWhite.isWhite(path);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(BlackListUrlFilterBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.gateway.api.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 黑名单过滤器测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("黑名单过滤器测试")
+public class BlackListUrlFilterTest {
+
+    private static final List<String> PATHS = List.of(
+        "/", "/actuator", "/actuator/env", "/ACTUATOR/env", "/system/actuator/env", "/auth/code",
+        "/demo/test.html", "/demo/testXhtml", "/resource/oss/upload", "/v1/admin/user", "/v1/Admin");
+
+    @DisplayName("测试 Ant 规则识别")
+    @Test
+    public void testIsAntPattern() {
+        assertTrue(BlackListUrlFilter.Config.isAntPattern("/actuator/**"));
+        assertTrue(BlackListUrlFilter.Config.isAntPattern("/demo/*.html"));
+        assertTrue(BlackListUrlFilter.Config.isAntPattern("/user/{id}"));
+        assertFalse(BlackListUrlFilter.Config.isAntPattern("actuator"));
+        assertFalse(BlackListUrlFilter.Config.isAntPattern("/v\\d+/admin"));
+        assertFalse(BlackListUrlFilter.Config.isAntPattern("/(auth|system)/**"));
+        assertFalse(BlackListUrlFilter.Config.isAntPattern("^/auth$"));
+    }
+
+    @DisplayName("测试 Ant 规则按完整路径忽略大小写匹配")
+    @Test
+    public void testAntPattern() {
+        BlackListUrlFilter.Config config = config(List.of("/actuator/**", "/demo/*.html"));
+        assertTrue(config.matchBlacklist("/actuator"));
+        assertTrue(config.matchBlacklist("/ACTUATOR/env"));
+        assertTrue(config.matchBlacklist("/demo/test.html"));
+        assertFalse(config.matchBlacklist("/demo/testXhtml"));
+        assertFalse(config.matchBlacklist("/system/actuator/env"));
+        assertTrue(config(List.of("/**/actuator/**")).matchBlacklist("/system/actuator/env"));
+    }
+
+    @DisplayName("测试非 Ant 条目保持旧的正则匹配")
+    @Test
+    public void testLegacyPattern() {
+        List<List<String>> blacklists = List.of(
+            List.of("actuator"),
+            List.of("/v\\d+/admin", "oss/**"),
+            List.of("^/auth/code$", "(test|demo)\\.html"),
+            List.of("/actuator/**", "actuator", "/v\\d+/admin"));
+        for (List<String> blacklist : blacklists) {
+            BlackListUrlFilter.Config config = config(blacklist);
+            for (String path : PATHS) {
+                boolean expected = blacklist.stream()
+                    .filter(url -> !BlackListUrlFilter.Config.isAntPattern(url))
+                    .anyMatch(url -> legacyMatch(url, path))
+                    || blacklist.stream()
+                    .filter(BlackListUrlFilter.Config::isAntPattern)
+                    .anyMatch(url -> config(List.of(url)).matchBlacklist(path));
+                assertEquals(expected, config.matchBlacklist(path), () -> blacklist + " -> " + path);
+            }
+        }
+        assertTrue(config(List.of("actuator")).matchBlacklist("/system/actuator/env"));
+        assertTrue(config(List.of("/v\\d+/admin")).matchBlacklist("/v1/ADMIN/user"));
+    }
+
+    @DisplayName("测试非法正则在配置时报错")
+    @Test
+    public void testInvalidPattern() {
+        assertThrows(RuntimeException.class, () -> config(List.of("a)|(b")));
+    }
+
+    @DisplayName("测试空黑名单")
+    @Test
+    public void testEmpty() {
+        assertFalse(config(List.of()).matchBlacklist("/actuator"));
+        assertFalse(new BlackListUrlFilter.Config().matchBlacklist("/actuator"));
+    }
+
+    private static BlackListUrlFilter.Config config(List<String> blacklist) {
+        BlackListUrlFilter.Config config = new BlackListUrlFilter.Config();
+        config.setBlacklistUrl(blacklist);
+        return config;
+    }
+
+    /**
+     * 调整前的匹配方式.
+     */
+    private static boolean legacyMatch(String url, String path) {
+        return Pattern.compile(url.replaceAll("\\*\\*", "(.*?)"), Pattern.CASE_INSENSITIVE).matcher(path).find();
+    }
+}
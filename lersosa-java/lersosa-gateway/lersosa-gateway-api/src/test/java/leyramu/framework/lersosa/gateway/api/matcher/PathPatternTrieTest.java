@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.gateway.api.matcher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 路径匹配树测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("路径匹配树测试")
+public class PathPatternTrieTest {
+
+    private static final String[] SEGMENTS = {"auth", "code", "login", "v1", "user", "a.b", "ab", "x"};
+
+    private static final String[] PATTERN_SEGMENTS = {"auth", "code", "v1", "user", "*", "**", "?b", "a*", "*.b", "{id}"};
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @DisplayName("测试常见规则")
+    @Test
+    public void testCommonPatterns() {
+        PathPatternTrie trie = PathPatternTrie.compile(List.of("/auth/code", "/auth/**", "/resource/sms/*", "/*/v3/api-docs"), true);
+        assertTrue(trie.matches("/auth/code"));
+        assertTrue(trie.matches("/auth"));
+        assertTrue(trie.matches("/auth/login/x"));
+        assertTrue(trie.matches("/resource/sms/code"));
+        assertTrue(trie.matches("/system/v3/api-docs"));
+        assertFalse(trie.matches("/resource/sms/code/x"));
+        assertFalse(trie.matches("/Auth/code"));
+        assertFalse(trie.matches("auth/code"));
+        assertTrue(PathPatternTrie.compile(List.of("/Auth/**"), false).matches("/AUTH/code"));
+    }
+
+    @DisplayName("测试空规则")
+    @Test
+    public void testEmpty() {
+        assertFalse(PathPatternTrie.empty().matches("/auth"));
+        assertFalse(PathPatternTrie.compile(List.of(), true).matches("/auth"));
+        assertEquals(0, PathPatternTrie.compile(null, true).size());
+    }
+
+    @DisplayName("测试与 AntPathMatcher 结果一致")
+    @Test
+    public void testSameAsAntPathMatcher() {
+        Random random = new Random(20241106L);
+        for (int round = 0; round < 2000; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = random.nextInt(4) + 1; i > 0; i--) {
+                patterns.add(randomPath(random, PATTERN_SEGMENTS));
+            }
+            PathPatternTrie trie = PathPatternTrie.compile(patterns, true);
+            for (int i = 0; i < 20; i++) {
+                String path = randomPath(random, SEGMENTS);
+                boolean expected = patterns.stream().anyMatch(p -> antPathMatcher.match(p, path));
+                assertEquals(expected, trie.matches(path), () -> patterns + " -> " + path);
+            }
+        }
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = random.nextInt(4) + 1; i > 0; i--) {
+            builder.append('/').append(segments[random.nextInt(segments.length)]);
+        }
+        if (random.nextInt(5) == 0) {
+            builder.append('/');
+        }
+        return builder.toString();
+    }
+}
@@ -24,6 +24,13 @@
 package leyramu.framework.lersosa.grpc.file.command;
 
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.core.utils.file.FileUtils;
+import leyramu.framework.lersosa.common.oss.constant.OssConstant;
+import leyramu.framework.lersosa.common.oss.core.OssClient;
+import leyramu.framework.lersosa.common.oss.entity.UploadResult;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
+import leyramu.framework.lersosa.grpc.file.domain.FileSaveResult;
 import leyramu.framework.lersosa.resource.api.RemoteFileService;
 import leyramu.framework.lersosa.resource.api.domain.RemoteFile;
 import lombok.RequiredArgsConstructor;
@@ -32,20 +39,22 @@ import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.*;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
  * 文件保存命令执行器.
+ * <p>
+ * 压缩包按条目顺序从 {@link ZipInputStream} 读取, 不落盘解压: 小条目读入内存后交给有界的并行上传任务,
+ * 超过一个分片大小的条目在读取线程上直接流式写入对象存储. 文件信息按批次登记, 单个条目失败只记录原因,
+ * 失败记录统一以条目在压缩包中的完整路径为键 (不同目录下的同名文件互不覆盖).
  *
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
  * @version 2.1.0
@@ -56,6 +65,31 @@ import java.util.zip.ZipInputStream;
 @RequiredArgsConstructor
 public class FileSaveCmdExe {
 
+    /**
+     * 并行上传数.
+     */
+    private static final int UPLOAD_PARALLELISM = 8;
+
+    /**
+     * 等待上传的条目在内存中的总字节数上限.
+     */
+    private static final int MAX_BUFFERED_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * 读入内存的单个条目大小上限 超出时在读取线程上流式上传.
+     */
+    private static final int MAX_BUFFERED_ENTRY = (int) OssConstant.DEFAULT_PART_SIZE;
+
+    /**
+     * 每批登记的文件数.
+     */
+    private static final int RECORD_BATCH_SIZE = 200;
+
+    /**
+     * 进度日志间隔 (条目数).
+     */
+    private static final int PROGRESS_INTERVAL = 500;
+
     /**
      * 远程文件服务.
      */
@@ -66,155 +100,246 @@ public class FileSaveCmdExe {
      * 保存文件.
      *
      * @param pulsarFile 文件对象
-     * @return 文件对象
+     * @return 保存结果
      * @throws ServiceException 服务异常
      * @throws IOException      IO异常
      */
-    public List<RemoteFile> save(MultipartFile pulsarFile) throws ServiceException, IOException {
+    public FileSaveResult save(MultipartFile pulsarFile) throws ServiceException, IOException {
         // 检查文件是否为ZIP格式
         if (isZipFile(pulsarFile)) {
-            return handleZipFile(pulsarFile);
-        } else {
-            // 如果不是ZIP格式，直接上传
-            return Collections.singletonList(remoteFileService.upload(
-                pulsarFile.getName(),
-                pulsarFile.getOriginalFilename(),
-                pulsarFile.getContentType(),
-                pulsarFile.getBytes()
-            ));
+            try (InputStream inputStream = pulsarFile.getInputStream()) {
+                return saveArchive(inputStream);
+            }
+        }
+        // 如果不是ZIP格式，直接流式上传
+        try (OssClient client = OssFactory.instance()) {
+            String originalFilename = pulsarFile.getOriginalFilename();
+            UploadResult result;
+            try (InputStream inputStream = pulsarFile.getInputStream()) {
+                result = client.uploadSuffix(inputStream, suffix(originalFilename), pulsarFile.getSize(), pulsarFile.getContentType());
+            }
+            return FileSaveResult.of(remoteFileService.record(client.getConfigKey(), result.getFilename(), originalFilename, result.getUrl()));
         }
     }
 
     /**
-     * 处理ZIP格式的文件.
+     * 解压并保存压缩包中的文件.
      *
-     * @param pulsarFile 文件对象
-     * @return 文件对象列表
+     * @param inputStream 压缩包输入流
+     * @return 保存结果
      * @throws IOException IO异常
      */
-    private List<RemoteFile> handleZipFile(MultipartFile pulsarFile) throws IOException {
-        List<RemoteFile> remoteFiles = new ArrayList<>();
-        Path tempDir = null;
-
-        try {
-            // 创建临时目录用于解压
-            tempDir = Files.createTempDirectory("unzipped");
-            unzip(pulsarFile.getInputStream(), tempDir);
-
-            // 遍历解压后的文件并上传
-            File[] files = tempDir.toFile().listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    remoteFiles.add(uploadFile(file));
+    public FileSaveResult saveArchive(InputStream inputStream) throws IOException {
+        try (OssClient client = OssFactory.instance()) {
+            return saveArchive(inputStream, client);
+        }
+    }
+
+    /**
+     * 解压并保存压缩包中的文件到指定的存储服务.
+     *
+     * @param inputStream 压缩包输入流
+     * @param client      对象存储客户端
+     * @return 保存结果
+     * @throws IOException IO异常
+     */
+    public FileSaveResult saveArchive(InputStream inputStream, OssClient client) throws IOException {
+        ArchiveIngestion ingestion = new ArchiveIngestion(client);
+        try (ZipInputStream zipIn = new ZipInputStream(inputStream);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ZipEntry entry;
+            String entryName = null;
+            try {
+                while ((entry = zipIn.getNextEntry()) != null) {
+                    if (!entry.isDirectory()) {
+                        entryName = entry.getName();
+                        ingestion.submit(entryName, zipIn, executor);
+                        ingestion.recordIfFull();
+                    }
+                    zipIn.closeEntry();
                 }
+            } catch (IOException e) {
+                // 压缩包损坏或连接中断: 已读出的条目照常登记, 其余条目无法继续读取
+                log.error("压缩包读取失败", e);
+                ingestion.failures.put(StringUtils.blankToDefault(entryName, "压缩包"), e.getMessage());
             }
-        } finally {
-            // 删除临时目录
-            if (tempDir != null) {
-                deleteDirectory(tempDir);
-            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("压缩包处理被中断");
         }
-
-        return remoteFiles;
+        // 线程池关闭时已等待全部上传完成
+        ingestion.recordRemaining();
+        log.info("压缩包处理完成: 成功 {} 个, 失败 {} 个", ingestion.files.size(), ingestion.failures.size());
+        return new FileSaveResult(ingestion.files, ingestion.failures);
     }
 
     /**
-     * 上传文件.
+     * 检查文件是否为ZIP格式.
      *
      * @param file 文件对象
-     * @return 文件对象
-     * @throws IOException IO异常
+     * @return 是否为ZIP格式
      */
-    private RemoteFile uploadFile(File file) throws IOException {
-        return remoteFileService.upload(
-            file.getName(),
-            file.getName(),
-            Files.probeContentType(file.toPath()),
-            readAllBytesAsStream(file.toPath())
-        );
+    private boolean isZipFile(MultipartFile file) {
+        return Objects.requireNonNull(file.getOriginalFilename()).toLowerCase().endsWith(".zip");
     }
 
     /**
-     * 读取文件字节流.
-     *
-     * @param path 文件路径
-     * @return 文件字节流
-     * @throws IOException IO异常
+     * 获取文件后缀.
      */
-    private byte[] readAllBytesAsStream(Path path) throws IOException {
-        try (var inputStream = Files.newInputStream(path)) {
-            return inputStream.readAllBytes();
-        }
+    private static String suffix(String fileName) {
+        return StringUtils.substring(fileName, fileName.lastIndexOf("."), fileName.length());
     }
 
     /**
-     * 解压文件.
-     *
-     * @param inputStream   输入流
-     * @param destDirectory 目标目录
-     * @throws IOException IO异常
+     * 单个压缩包的导入过程.
      */
-    private void unzip(java.io.InputStream inputStream, Path destDirectory) throws IOException {
-        try (var zipIn = new ZipInputStream(inputStream)) {
-            ZipEntry entry;
-            while ((entry = zipIn.getNextEntry()) != null) {
-                Path filePath = sanitizeFilePath(destDirectory, entry.getName());
-                if (!entry.isDirectory()) {
-                    // 如果是文件，创建父目录并写入文件
-                    Files.createDirectories(filePath.getParent());
-                    Files.copy(zipIn, filePath);
-                } else {
-                    // 如果是目录，创建目录
-                    Files.createDirectories(filePath);
+    private final class ArchiveIngestion {
+
+        /**
+         * 对象存储客户端.
+         */
+        private final OssClient client;
+
+        /**
+         * 限制并行上传数.
+         */
+        private final Semaphore uploads = new Semaphore(UPLOAD_PARALLELISM);
+
+        /**
+         * 限制内存中等待上传的字节数.
+         */
+        private final Semaphore bufferedBytes = new Semaphore(MAX_BUFFERED_BYTES);
+
+        /**
+         * 已上传 待登记的文件.
+         */
+        private final BlockingQueue<Uploaded> pending = new LinkedBlockingQueue<>();
+
+        /**
+         * 已登记的文件 (仅在读取线程上写入).
+         */
+        private final List<RemoteFile> files = new ArrayList<>();
+
+        /**
+         * 失败的条目路径与原因.
+         */
+        private final Map<String, String> failures = new ConcurrentHashMap<>();
+
+        /**
+         * 已处理的条目数.
+         */
+        private final AtomicInteger processed = new AtomicInteger();
+
+        private ArchiveIngestion(OssClient client) {
+            this.client = client;
+        }
+
+        /**
+         * 读取当前条目并提交上传.
+         */
+        private void submit(String entryName, ZipInputStream zipIn, ExecutorService executor) throws IOException, InterruptedException {
+            String fileName = new File(entryName).getName();
+            byte[] head = zipIn.readNBytes(MAX_BUFFERED_ENTRY + 1);
+            if (head.length > MAX_BUFFERED_ENTRY) {
+                // 大条目: 在读取线程上流式上传 避免整体读入内存
+                InputStream rest = new FilterInputStream(zipIn) {
+                    @Override
+                    public void close() {
+                        // 由外层关闭压缩包输入流
+                    }
+                };
+                upload(entryName, fileName, new SequenceInputStream(new ByteArrayInputStream(head), rest), null);
+                return;
+            }
+            uploads.acquire();
+            bufferedBytes.acquire(head.length);
+            executor.execute(() -> {
+                try {
+                    upload(entryName, fileName, new ByteArrayInputStream(head), (long) head.length);
+                } finally {
+                    bufferedBytes.release(head.length);
+                    uploads.release();
                 }
-                zipIn.closeEntry();
+            });
+        }
+
+        /**
+         * 上传单个条目 失败时记录原因.
+         */
+        private void upload(String entryName, String fileName, InputStream inputStream, Long length) {
+            try {
+                String suffix = suffix(fileName);
+                UploadResult result = client.uploadSuffix(inputStream, suffix, length, FileUtils.getMimeType(fileName));
+                RemoteFile file = new RemoteFile();
+                file.setName(result.getFilename());
+                file.setUrl(result.getUrl());
+                file.setOriginalName(fileName);
+                file.setFileSuffix(suffix);
+                pending.add(new Uploaded(entryName, file));
+            } catch (Exception e) {
+                log.warn("压缩包条目上传失败: {}", entryName, e);
+                failures.put(entryName, e.getMessage());
+            }
+            int count = processed.incrementAndGet();
+            if (count % PROGRESS_INTERVAL == 0) {
+                log.info("压缩包处理进度: 已处理 {} 个, 失败 {} 个", count, failures.size());
             }
         }
-    }
 
-    /**
-     * 验证文件路径是否有效.
-     *
-     * @param baseDir   基础目录
-     * @param entryName 文件名
-     * @return 文件路径
-     */
-    private Path sanitizeFilePath(Path baseDir, String entryName) {
-        // 防止路径穿越攻击
-        Path resolvedPath = baseDir.resolve(entryName).normalize();
-        if (!resolvedPath.startsWith(baseDir)) {
-            throw new IllegalArgumentException("无效的 zip 条目： " + entryName);
+        /**
+         * 待登记的文件满一批时登记.
+         */
+        private void recordIfFull() {
+            if (pending.size() >= RECORD_BATCH_SIZE) {
+                record();
+            }
         }
-        return resolvedPath;
-    }
 
-    /**
-     * 删除临时目录.
-     *
-     * @param directory 目录
-     */
-    private void deleteDirectory(Path directory) {
-        try (Stream<Path> stream = Files.walk(directory)) {
-            stream.sorted((p1, p2) -> -p1.compareTo(p2))
-                .forEach(path -> {
+        /**
+         * 登记剩余的全部文件.
+         */
+        private void recordRemaining() {
+            while (!pending.isEmpty()) {
+                record();
+            }
+        }
+
+        /**
+         * 登记一批文件 失败时删除已上传的对象并记录原因.
+         */
+        private void record() {
+            List<Uploaded> batch = new ArrayList<>(RECORD_BATCH_SIZE);
+            pending.drainTo(batch, RECORD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                List<RemoteFile> recorded = remoteFileService.recordBatch(client.getConfigKey(),
+                    batch.stream().map(Uploaded::file).toList());
+                if (recorded.size() != batch.size()) {
+                    throw new ServiceException("文件登记服务不可用");
+                }
+                files.addAll(recorded);
+            } catch (Exception e) {
+                log.error("批量登记文件失败", e);
+                for (Uploaded uploaded : batch) {
+                    failures.put(uploaded.entryName(), e.getMessage());
                     try {
-                        Files.delete(path);
-                    } catch (IOException e) {
-                        log.error("无法删除临时文件：{}", path, e);
+                        client.delete(uploaded.file().getUrl());
+                    } catch (Exception ex) {
+                        log.warn("无法删除未登记的对象：{}", uploaded.file().getUrl(), ex);
                     }
-                });
-        } catch (IOException e) {
-            log.error("无法删除临时目录：{}", directory, e);
+                }
+            }
         }
     }
 
     /**
-     * 检查文件是否为ZIP格式.
+     * 已上传 待登记的条目.
      *
-     * @param file 文件对象
-     * @return 是否为ZIP格式
+     * @param entryName 条目在压缩包中的路径
+     * @param file      文件信息
      */
-    private boolean isZipFile(MultipartFile file) {
-        return Objects.requireNonNull(file.getOriginalFilename()).toLowerCase().endsWith(".zip");
+    private record Uploaded(String entryName, RemoteFile file) {
     }
 }
@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.file.command;
+
+import cn.hutool.core.util.IdUtil;
+import leyramu.framework.lersosa.common.core.constant.HttpStatus;
+import leyramu.framework.lersosa.common.core.exception.ServiceException;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass;
+import leyramu.framework.lersosa.common.oss.constant.OssConstant;
+import leyramu.framework.lersosa.common.oss.core.OssClient;
+import leyramu.framework.lersosa.common.oss.entity.UploadResult;
+import leyramu.framework.lersosa.common.oss.exception.OssException;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.grpc.file.domain.FileSaveResult;
+import leyramu.framework.lersosa.grpc.file.domain.FileUploadState;
+import leyramu.framework.lersosa.resource.api.RemoteFileService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 文件流式上传命令执行器.
+ * <p>
+ * 客户端分块直接写入对象存储的分片上传任务, 内存中只保留一个分片的缓冲区.
+ * 每写完一个分片即把任务状态持久化到 Redis, 连接中断后客户端可携带同一上传编号从已提交的偏移量续传.
+ * 每收到一个分块续期租约, 租约过期或中断后在租约有效期内未续传时取消分片上传任务, 释放已上传的分片.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileStreamUploadCmdExe {
+
+    /**
+     * 上传任务状态 KEY.
+     */
+    private static final String STATE_KEY = "grpc:file:upload:";
+
+    /**
+     * 上传任务租约 KEY (同一上传编号同时只允许一个连接写入).
+     */
+    private static final String LEASE_KEY = "grpc:file:upload:lease:";
+
+    /**
+     * 上传任务状态保留时间 (节点重启等未能按时取消的任务由存储桶生命周期规则清理未完成的分片).
+     */
+    private static final Duration STATE_TTL = Duration.ofDays(1);
+
+    /**
+     * 租约有效期 (每收到一个分块续期, 也是中断后等待续传的时长).
+     */
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 分片大小 (除最后一个分片外不能小于 5MB).
+     */
+    private static final int PART_SIZE = (int) OssConstant.DEFAULT_PART_SIZE;
+
+    /**
+     * 压缩包后缀.
+     */
+    private static final String ZIP_SUFFIX = ".zip";
+
+    /**
+     * 远程文件服务.
+     */
+    @DubboReference
+    private final RemoteFileService remoteFileService;
+
+    /**
+     * 文件保存命令执行器.
+     */
+    private final FileSaveCmdExe fileSaveCmdExe;
+
+    /**
+     * 定时任务线程池 (中断后到期取消未续传的任务).
+     */
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * 根据首个分块创建或恢复上传任务.
+     *
+     * @param chunk 首个分块
+     * @return 上传任务
+     * @throws ServiceException 上传编号正被占用
+     */
+    public Upload open(FileOuterClass.FileChunk chunk) {
+        String uploadId = StringUtils.blankToDefault(chunk.getUploadId(), IdUtil.fastSimpleUUID());
+        String token = IdUtil.fastSimpleUUID();
+        if (!RedisUtils.setObjectIfAbsent(LEASE_KEY + uploadId, token, LEASE_TTL)) {
+            throw new ServiceException("上传任务正在其他连接中进行", HttpStatus.CONFLICT);
+        }
+        OssClient client = null;
+        try {
+            FileUploadState state = RedisUtils.getCacheObject(STATE_KEY + uploadId);
+            if (state == null) {
+                client = OssFactory.instance();
+                state = new FileUploadState();
+                state.setUploadId(uploadId);
+                state.setConfigKey(client.getConfigKey());
+                state.setFileName(chunk.getFileName());
+                state.setMimeType(chunk.getMimeType());
+                state.setObjectKey(client.getPath(StringUtils.substring(chunk.getFileName(), chunk.getFileName().lastIndexOf("."))));
+                state.setMultipartId(client.createMultipartUpload(state.getObjectKey(), state.getMimeType()));
+            } else {
+                client = OssFactory.instance(state.getConfigKey());
+            }
+            // 记录最近一次打开任务的连接 到期取消时据此判断中断后是否已被续传
+            state.setLeaseToken(token);
+            RedisUtils.setCacheObject(STATE_KEY + uploadId, state, STATE_TTL);
+            return new Upload(state, client, token);
+        } catch (RuntimeException e) {
+            if (client != null) {
+                client.close();
+            }
+            RedisUtils.deleteObject(LEASE_KEY + uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 写入分块 缓冲区满一个分片时同步写入对象存储.
+     *
+     * @param upload 上传任务
+     * @param chunk  分块
+     * @throws ServiceException 租约已失效 偏移量不连续 或 分块校验失败
+     */
+    public void append(Upload upload, FileOuterClass.FileChunk chunk) {
+        renew(upload);
+        // 未携带偏移量的旧客户端只校验首个分块
+        long expected = upload.state.getCommittedOffset() + upload.position;
+        if ((!upload.started || chunk.getOffset() != 0) && chunk.getOffset() != expected) {
+            throw new ServiceException("请从已提交的偏移量续传", HttpStatus.CONFLICT);
+        }
+        upload.started = true;
+        ByteBuffer data = chunk.getData().asReadOnlyByteBuffer();
+        upload.crc32.reset();
+        upload.crc32.update(data.duplicate());
+        if (chunk.getCrc32() != 0 && (int) upload.crc32.getValue() != chunk.getCrc32()) {
+            // 缓冲区中未提交的数据一并丢弃 客户端从已提交的偏移量重传
+            throw new ServiceException("分块校验失败", HttpStatus.BAD_REQUEST);
+        }
+        while (data.hasRemaining()) {
+            int length = Math.min(data.remaining(), PART_SIZE - upload.position);
+            data.get(upload.buffer, upload.position, length);
+            upload.position += length;
+            if (upload.position == PART_SIZE) {
+                flush(upload);
+            }
+        }
+    }
+
+    /**
+     * 合并分片并登记文件 压缩包解压后逐个登记.
+     *
+     * @param upload 上传任务
+     * @return 保存结果
+     * @throws IOException IO异常
+     */
+    public FileSaveResult complete(Upload upload) throws IOException {
+        if (upload == null) {
+            throw new ServiceException("未收到文件数据", HttpStatus.BAD_REQUEST);
+        }
+        try {
+            renew(upload);
+            FileUploadState state = upload.state;
+            if (upload.position > 0 || state.getETags().isEmpty()) {
+                flush(upload);
+            }
+            UploadResult result = upload.client.completeMultipartUpload(state.getObjectKey(), state.getMultipartId(), state.getETags());
+            RedisUtils.deleteObject(STATE_KEY + state.getUploadId());
+            release(upload);
+
+            if (!StringUtils.endsWithIgnoreCase(state.getFileName(), ZIP_SUFFIX)) {
+                return FileSaveResult.of(
+                    remoteFileService.record(state.getConfigKey(), result.getFilename(), state.getFileName(), result.getUrl()));
+            }
+            // 压缩包只作为中转 解压登记后删除
+            try (InputStream inputStream = upload.client.getObjectContent(result.getUrl())) {
+                return fileSaveCmdExe.saveArchive(inputStream, upload.client);
+            } finally {
+                upload.client.delete(result.getUrl());
+            }
+        } finally {
+            closeClient(upload);
+        }
+    }
+
+    /**
+     * 暂停上传任务 保留已提交的分片供续传, 租约有效期内未续传则取消任务.
+     *
+     * @param upload 上传任务
+     */
+    public void suspend(Upload upload) {
+        if (upload == null) {
+            return;
+        }
+        release(upload);
+        closeClient(upload);
+        if (upload.aborted) {
+            return;
+        }
+        String uploadId = upload.state.getUploadId();
+        TenantContext tenant = TenantContext.capture();
+        scheduledExecutorService.schedule(() -> tenant.run(() -> abortIfAbandoned(uploadId, upload.token)),
+            LEASE_TTL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 续期租约 租约已过期时取消任务.
+     *
+     * @throws ServiceException 租约已失效
+     */
+    private void renew(Upload upload) {
+        String uploadId = upload.state.getUploadId();
+        if (RedisUtils.expireIfEquals(LEASE_KEY + uploadId, upload.token, LEASE_TTL)) {
+            return;
+        }
+        // 租约已被其他连接取得 由其继续上传
+        if (!RedisUtils.setObjectIfAbsent(LEASE_KEY + uploadId, upload.token, LEASE_TTL)) {
+            throw new ServiceException("上传任务正在其他连接中进行", HttpStatus.CONFLICT);
+        }
+        // 租约过期且无人续传 视为已放弃
+        abort(upload.state, upload.client);
+        upload.aborted = true;
+        release(upload);
+        throw new ServiceException("上传任务已超时取消, 请重新上传", HttpStatus.CONFLICT);
+    }
+
+    /**
+     * 中断后到期仍未被续传时取消任务.
+     *
+     * @param uploadId 上传编号
+     * @param token    中断连接的租约令牌
+     */
+    private void abortIfAbandoned(String uploadId, String token) {
+        if (!RedisUtils.setObjectIfAbsent(LEASE_KEY + uploadId, token, LEASE_TTL)) {
+            return;
+        }
+        try {
+            FileUploadState state = RedisUtils.getCacheObject(STATE_KEY + uploadId);
+            if (state != null && token.equals(state.getLeaseToken())) {
+                try (OssClient client = OssFactory.instance(state.getConfigKey())) {
+                    abort(state, client);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("取消上传任务失败 uploadId:{}", uploadId, e);
+        } finally {
+            RedisUtils.getClient().getBucket(LEASE_KEY + uploadId).compareAndSet(token, null);
+        }
+    }
+
+    /**
+     * 取消分片上传任务并删除任务状态.
+     */
+    private void abort(FileUploadState state, OssClient client) {
+        try {
+            client.abortMultipartUpload(state.getObjectKey(), state.getMultipartId());
+        } catch (OssException e) {
+            // 未能取消的分片由存储桶生命周期规则清理
+            log.warn("取消分片上传失败 uploadId:{}", state.getUploadId(), e);
+        }
+        RedisUtils.deleteObject(STATE_KEY + state.getUploadId());
+    }
+
+    /**
+     * 将缓冲区写入一个分片并持久化任务状态.
+     */
+    private void flush(Upload upload) {
+        FileUploadState state = upload.state;
+        int partNumber = state.getETags().size() + 1;
+        String eTag = upload.client.uploadPart(state.getObjectKey(), state.getMultipartId(), partNumber, upload.buffer, upload.position);
+        state.getETags().add(eTag);
+        state.setCommittedOffset(state.getCommittedOffset() + upload.position);
+        upload.position = 0;
+        RedisUtils.setCacheObject(STATE_KEY + state.getUploadId(), state, STATE_TTL);
+    }
+
+    /**
+     * 释放租约 (仅当租约仍属于当前连接).
+     */
+    private void release(Upload upload) {
+        RedisUtils.getClient().getBucket(LEASE_KEY + upload.state.getUploadId()).compareAndSet(upload.token, null);
+    }
+
+    /**
+     * 归还对象存储客户端的租约 (完成与暂停都会调用 只归还一次).
+     */
+    private void closeClient(Upload upload) {
+        if (!upload.clientClosed) {
+            upload.clientClosed = true;
+            upload.client.close();
+        }
+    }
+
+    /**
+     * 单个连接上的上传任务.
+     */
+    public static final class Upload {
+
+        /**
+         * 任务状态.
+         */
+        @Getter
+        private final FileUploadState state;
+
+        /**
+         * 对象存储客户端.
+         */
+        private final OssClient client;
+
+        /**
+         * 租约令牌.
+         */
+        private final String token;
+
+        /**
+         * 分片缓冲区.
+         */
+        private final byte[] buffer = new byte[PART_SIZE];
+
+        /**
+         * 分块校验.
+         */
+        private final CRC32 crc32 = new CRC32();
+
+        /**
+         * 缓冲区写入位置.
+         */
+        private int position;
+
+        /**
+         * 是否已收到首个分块.
+         */
+        private boolean started;
+
+        /**
+         * 是否已取消.
+         */
+        private boolean aborted;
+
+        /**
+         * 是否已归还客户端租约.
+         */
+        private boolean clientClosed;
+
+        private Upload(FileUploadState state, OssClient client, String token) {
+            this.state = state;
+            this.client = client;
+            this.token = token;
+        }
+    }
+}
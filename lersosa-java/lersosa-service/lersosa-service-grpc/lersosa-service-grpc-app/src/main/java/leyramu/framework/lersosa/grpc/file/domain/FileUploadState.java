@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.file.domain;
+
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 可续传的上传任务状态 (每写入一个分片后持久化到 Redis).
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@Data
+public class FileUploadState implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 客户端上传编号.
+     */
+    private String uploadId;
+
+    /**
+     * 存储服务商配置键.
+     */
+    private String configKey;
+
+    /**
+     * 对象键.
+     */
+    private String objectKey;
+
+    /**
+     * 对象存储分片上传任务编号.
+     */
+    private String multipartId;
+
+    /**
+     * 原文件名.
+     */
+    private String fileName;
+
+    /**
+     * 文件类型.
+     */
+    private String mimeType;
+
+    /**
+     * 最近一次打开任务的连接租约令牌.
+     */
+    private String leaseToken;
+
+    /**
+     * 已写入对象存储的字节数 (客户端从此处续传).
+     */
+    private long committedOffset;
+
+    /**
+     * 按分片序号排列的 ETag.
+     */
+    private List<String> eTags = new ArrayList<>();
+}
@@ -23,25 +23,31 @@
 
 package leyramu.framework.lersosa.grpc.file.service;
 
+import cn.hutool.core.util.ObjectUtil;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
+import leyramu.framework.lersosa.common.core.constant.HttpStatus;
+import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.grpc.annotation.GrpcLog;
 import leyramu.framework.lersosa.common.grpc.lib.file.FileGrpc;
 import leyramu.framework.lersosa.common.grpc.lib.file.FileOuterClass;
 import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
 import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import leyramu.framework.lersosa.grpc.api.FileService;
-import leyramu.framework.lersosa.grpc.file.command.FileSaveCmdExe;
+import leyramu.framework.lersosa.grpc.file.command.FileStreamUploadCmdExe;
+import leyramu.framework.lersosa.grpc.file.domain.FileSaveResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 /**
  * 文件服务业务层 接口.
@@ -56,12 +62,20 @@ import java.util.List;
 public class FileServiceImpl extends FileGrpc.FileImplBase implements FileService {
 
     /**
-     * 文件保存命令执行器.
+     * 分块处理线程 (写入对象存储为阻塞调用, 不占用 gRPC 事件线程).
      */
-    private final FileSaveCmdExe fileSaveCmdExe;
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 文件流式上传命令执行器.
+     */
+    private final FileStreamUploadCmdExe fileStreamUploadCmdExe;
 
     /**
      * Grpc 上传文件.
+     * <p>
+     * 关闭自动拉取, 每个分块写入完成后才向客户端请求下一个, 对象存储写入变慢时经 HTTP/2 流控反压到客户端.
+     * 中断后客户端可携带回复中的上传编号, 从已提交的偏移量重新发起调用续传.
      *
      * @param responseObserver 响应对象
      * @return 文件对象
@@ -70,26 +84,36 @@ public class FileServiceImpl extends FileGrpc.FileImplBase implements FileServic
     @Override
     public StreamObserver<FileOuterClass.FileRequest> uploadFile(StreamObserver<FileOuterClass.FileReply> responseObserver) {
 
-        // TODO 动态设置租户ID
-        TenantHelper.setDynamic("000000");
+        // 租户由 TenantServerInterceptor 从请求头绑定 在此捕获后带到处理线程
+        TenantContext tenant = TenantContext.capture();
         FileServiceImpl proxy = SpringUtils.getAopProxy(this);
 
+        ServerCallStreamObserver<FileOuterClass.FileReply> serverObserver =
+            (ServerCallStreamObserver<FileOuterClass.FileReply>) responseObserver;
+        serverObserver.disableAutoRequest();
+        serverObserver.request(1);
+
         return new StreamObserver<>() {
 
             /**
-             * 缓存数据.
+             * 串行处理链 (回调由 gRPC 串行触发, 分块按到达顺序写入).
+             */
+            private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+            /**
+             * 上传任务 (收到首个分块后创建).
              */
-            private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            private FileStreamUploadCmdExe.Upload upload;
 
             /**
-             * 文件名.
+             * 首个分块携带的上传编号.
              */
-            private String fileName;
+            private String uploadId;
 
             /**
-             * 文件类型.
+             * 是否已结束.
              */
-            private String mimeType;
+            private boolean finished;
 
             /**
              * 接收数据.
@@ -99,15 +123,14 @@ public class FileServiceImpl extends FileGrpc.FileImplBase implements FileServic
             @Override
             public void onNext(FileOuterClass.FileRequest request) {
                 FileOuterClass.FileChunk chunk = request.getFileChunk();
-                try {
-                    if (fileName == null) {
-                        fileName = chunk.getFileName();
-                        mimeType = chunk.getMimeType();
+                submit(() -> {
+                    if (upload == null) {
+                        uploadId = chunk.getUploadId();
+                        upload = fileStreamUploadCmdExe.open(chunk);
                     }
-                    chunk.getData().writeTo(buffer);
-                } catch (IOException e) {
-                    responseObserver.onError(e);
-                }
+                    fileStreamUploadCmdExe.append(upload, chunk);
+                    serverObserver.request(1);
+                });
             }
 
             /**
@@ -115,17 +138,12 @@ public class FileServiceImpl extends FileGrpc.FileImplBase implements FileServic
              */
             @Override
             public void onCompleted() {
-                try {
-                    MultipartFile multipartFile = new MockMultipartFile(
-                        fileName,
-                        fileName,
-                        mimeType,
-                        buffer.toByteArray()
-                    );
-
-                    List<FileOuterClass.FileDataReply> fileDataReply = fileSaveCmdExe.save(multipartFile).stream()
+                submit(() -> {
+                    FileSaveResult result = fileStreamUploadCmdExe.complete(upload);
+                    List<FileOuterClass.FileDataReply> fileDataReply = result.files().stream()
                         .map(
                             remoteFile -> FileOuterClass.FileDataReply.newBuilder()
+                                .setOssId(remoteFile.getOssId())
                                 .setName(remoteFile.getName())
                                 .setUrl(remoteFile.getUrl())
                                 .setOriginalName(remoteFile.getOriginalName())
@@ -133,37 +151,94 @@ public class FileServiceImpl extends FileGrpc.FileImplBase implements FileServic
                                 .build()
                         )
                         .toList();
-
-                    responseObserver.onNext(FileOuterClass.FileReply.newBuilder()
-                        .setCode(200)
-                        .setMessage("共计" + fileDataReply.size() + "文件上传成功")
-                        .addAllData(fileDataReply)
-                        .build());
+                    finished = true;
                     proxy.cleanMarkListCache();
-                    responseObserver.onCompleted();
-                } catch (Exception e) {
-                    responseObserver.onNext(
-                        FileOuterClass.FileReply.newBuilder()
-                            .setCode(500)
-                            .setMessage("文件上传失败，存在重复项！")
-                            .build()
-                    );
-                    responseObserver.onCompleted();
-                    log.error("文件上传失败", e);
-                }
+                    if (result.failures().isEmpty()) {
+                        reply(HttpStatus.SUCCESS, "共计" + fileDataReply.size() + "文件上传成功", fileDataReply);
+                    } else {
+                        reply(HttpStatus.WARN, "共计" + fileDataReply.size() + "文件上传成功，" + result.failures().size()
+                            + "文件上传失败：" + result.failures().keySet().stream().limit(20).collect(Collectors.joining("、")), fileDataReply);
+                    }
+                });
             }
 
             /**
-             * 错误处理.
+             * 错误处理 (客户端取消或连接中断, 保留已提交的分片供续传).
+             *
              * @param t 异常
              */
             @Override
             public void onError(Throwable t) {
                 log.error("文件上传失败", t);
+                tail = tail.thenRunAsync(() -> {
+                    if (!finished) {
+                        finished = true;
+                        tenant.run(() -> fileStreamUploadCmdExe.suspend(upload));
+                    }
+                }, EXECUTOR);
+            }
+
+            /**
+             * 提交到处理链 出错时回复客户端并暂停上传任务.
+             *
+             * @param task 处理任务
+             */
+            private void submit(ThrowingRunnable task) {
+                tail = tail.thenRunAsync(() -> {
+                    if (finished) {
+                        return;
+                    }
+                    tenant.run(() -> {
+                        try {
+                            task.run();
+                        } catch (Exception e) {
+                            finished = true;
+                            fileStreamUploadCmdExe.suspend(upload);
+                            if (e instanceof ServiceException se) {
+                                reply(ObjectUtil.defaultIfNull(se.getCode(), HttpStatus.ERROR), se.getMessage(), List.of());
+                            } else {
+                                log.error("文件上传失败", e);
+                                reply(HttpStatus.ERROR, "文件上传失败，存在重复项！", List.of());
+                            }
+                        }
+                    });
+                }, EXECUTOR);
+            }
+
+            /**
+             * 回复客户端 携带上传编号与已提交的偏移量.
+             */
+            private void reply(int code, String message, List<FileOuterClass.FileDataReply> data) {
+                FileOuterClass.FileReply.Builder builder = FileOuterClass.FileReply.newBuilder()
+                    .setCode(code)
+                    .setMessage(message)
+                    .addAllData(data);
+                if (upload != null) {
+                    builder.setUploadId(upload.getState().getUploadId())
+                        .setCommittedOffset(upload.getState().getCommittedOffset());
+                } else if (uploadId != null) {
+                    builder.setUploadId(uploadId);
+                }
+                responseObserver.onNext(builder.build());
+                responseObserver.onCompleted();
             }
         };
     }
 
+    /**
+     * 可抛出受检异常的处理任务.
+     */
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        /**
+         * 执行.
+         *
+         * @throws Exception 异常
+         */
+        void run() throws Exception;
+    }
+
     /**
      * 清理缓存.
      */
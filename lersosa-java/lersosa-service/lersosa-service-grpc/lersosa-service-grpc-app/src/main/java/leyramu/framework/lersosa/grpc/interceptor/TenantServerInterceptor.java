@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.interceptor;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import leyramu.framework.lersosa.common.core.constant.TenantConstants;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * Grpc 租户拦截器.
+ * <p>
+ * 从请求头 {@code tenant-id} 读取租户 (缺省为默认租户), 调用及其每次回调均在该租户上下文中执行, 回调返回后还原线程状态.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@GrpcGlobalServerInterceptor
+public class TenantServerInterceptor implements ServerInterceptor {
+
+    /**
+     * 租户请求头.
+     */
+    public static final Metadata.Key<String> TENANT_ID = Metadata.Key.of("tenant-id", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        TenantContext tenant = TenantContext.of(StringUtils.blankToDefault(headers.get(TENANT_ID), TenantConstants.DEFAULT_TENANT_ID));
+        ServerCall.Listener<ReqT> listener = tenant.get(() -> next.startCall(call, headers));
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+
+            @Override
+            public void onMessage(ReqT message) {
+                tenant.run(() -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                tenant.run(super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                tenant.run(super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                tenant.run(super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                tenant.run(super::onReady);
+            }
+        };
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.pulsar.command;
+
+import cn.hutool.core.collection.ListUtil;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
+import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.grpc.pulsar.command.query.PulsarGetCmdExe;
+import leyramu.framework.lersosa.grpc.pulsar.domain.PulsarItemResult;
+import leyramu.framework.lersosa.pulsar.api.domain.bo.RemotePulsarMatchBo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 脉冲星批量匹配命令执行器.
+ * <p>
+ * 按名称判定已知或新脉冲星, 先对整批数据分类, 再按操作类型各发起一次批量远程调用
+ * (批量修改标记, 批量存在性检查, 批量新增), 每个租户的缓存在整批处理完成后统一清理一次.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PulsarMatchBatchCmdExe {
+
+    /**
+     * 未匹配到已知脉冲星时的名称.
+     */
+    private static final String NOT_FOUND = "notfound";
+
+    /**
+     * 匹配到已知脉冲星的标记.
+     */
+    private static final int KNOWN_FLAG = 3;
+
+    /**
+     * 未匹配到已知脉冲星的标记.
+     */
+    private static final int NEW_FLAG = 4;
+
+    /**
+     * 单次远程调用的数据条数上限.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 已知脉冲星存在性缓存 (按名称缓存).
+     */
+    private static final String KNOWN_INFO_CACHE = "pulsar:find:info";
+
+    /**
+     * 新脉冲星存在性缓存 (按名称缓存).
+     */
+    private static final String NEW_INFO_CACHE = "pulsar:recorder:info";
+
+    /**
+     * 修改脉冲星状态命令执行器.
+     */
+    private final PulsarModifyCmdExe pulsarModifyCmdExe;
+
+    /**
+     * 脉冲星查询命令执行器.
+     */
+    private final PulsarGetCmdExe pulsarGetCmdExe;
+
+    /**
+     * 脉冲星保存命令执行器.
+     */
+    private final PulsarSaveCmdExe pulsarSaveCmdExe;
+
+    /**
+     * 批量匹配 (按租户分组, 每组在对应租户上下文中处理).
+     *
+     * @param requests 脉冲星匹配数据
+     * @return 新增的记录数
+     */
+    public int match(List<PulsarOuterClass.PulsarMatcherRequest> requests) {
+        return (int) matchEach(requests).stream().filter(PulsarItemResult::saved).count();
+    }
+
+    /**
+     * 批量匹配并返回每条数据的处理结果.
+     *
+     * @param requests 脉冲星匹配数据
+     * @return 与请求一一对应的处理结果
+     */
+    public List<PulsarItemResult> matchEach(List<PulsarOuterClass.PulsarMatcherRequest> requests) {
+        PulsarMatchBatchCmdExe proxy = SpringUtils.getAopProxy(this);
+        Map<String, List<PulsarOuterClass.PulsarMatcherRequest>> tenants = requests.stream()
+            .collect(Collectors.groupingBy(PulsarOuterClass.PulsarMatcherRequest::getTenantId, LinkedHashMap::new, Collectors.toList()));
+        // 同一请求对象可能在不同位置重复出现 按对象标识记录结果
+        Map<PulsarOuterClass.PulsarMatcherRequest, PulsarItemResult> results = new IdentityHashMap<>(requests.size());
+        for (Map.Entry<String, List<PulsarOuterClass.PulsarMatcherRequest>> tenant : tenants.entrySet()) {
+            TenantContext.of(tenant.getKey()).run(() -> {
+                for (List<PulsarOuterClass.PulsarMatcherRequest> part : ListUtil.partition(tenant.getValue(), BATCH_SIZE)) {
+                    matchPart(part, results);
+                }
+                proxy.cleanMatchCache();
+            });
+        }
+        List<PulsarItemResult> ordered = requests.stream().map(results::get).toList();
+        log.info("脉冲星批量匹配完成: 共 {} 条, 新增 {} 条", requests.size(), ordered.stream().filter(PulsarItemResult::saved).count());
+        return ordered;
+    }
+
+    /**
+     * 清理匹配相关的列表缓存 (每个租户每批一次).
+     */
+    @CacheEvict(
+        cacheNames = {"pulsar:mark:list", "pulsar:mark:chartE", "pulsar:find:list", "pulsar:recorder:list"},
+        allEntries = true
+    )
+    @NgxCacheCls
+    public void cleanMatchCache() {
+        log.debug("脉冲星匹配缓存清理成功");
+    }
+
+    /**
+     * 处理一块数据.
+     *
+     * @param part    脉冲星匹配数据
+     * @param results 处理结果
+     */
+    private void matchPart(List<PulsarOuterClass.PulsarMatcherRequest> part,
+                           Map<PulsarOuterClass.PulsarMatcherRequest, PulsarItemResult> results) {
+        Map<Boolean, List<PulsarOuterClass.PulsarMatcherRequest>> groups = part.stream()
+            .collect(Collectors.partitioningBy(req -> NOT_FOUND.equals(req.getName())));
+
+        List<PulsarOuterClass.PulsarMatcherRequest> known = groups.get(false);
+        if (!known.isEmpty()) {
+            pulsarModifyCmdExe.updateMatchByIds(ids(known), KNOWN_FLAG);
+            save(known, absent(known, KNOWN_INFO_CACHE, pulsarGetCmdExe::getKnownPulsarNames),
+                pulsarSaveCmdExe::saveKnownPulsarMatchBatch, results);
+        }
+
+        List<PulsarOuterClass.PulsarMatcherRequest> fresh = groups.get(true);
+        if (!fresh.isEmpty()) {
+            pulsarModifyCmdExe.updateMatchByIds(ids(fresh), NEW_FLAG);
+            save(fresh, absent(fresh, NEW_INFO_CACHE, pulsarGetCmdExe::getNewPulsarNames),
+                pulsarSaveCmdExe::saveNewPulsarMatchBatch, results);
+        }
+    }
+
+    /**
+     * 批量新增尚不存在的脉冲星并记录每条数据的处理结果.
+     *
+     * @param requests 已修改匹配标记的数据
+     * @param absent   其中尚不存在的数据
+     * @param saver    批量新增
+     * @param results  处理结果
+     */
+    private static void save(List<PulsarOuterClass.PulsarMatcherRequest> requests, List<PulsarOuterClass.PulsarMatcherRequest> absent,
+                             Function<List<RemotePulsarMatchBo>, Boolean> saver,
+                             Map<PulsarOuterClass.PulsarMatcherRequest, PulsarItemResult> results) {
+        requests.forEach(req -> results.put(req, PulsarItemResult.MATCHED));
+        if (absent.isEmpty()) {
+            return;
+        }
+        List<RemotePulsarMatchBo> bos = absent.stream()
+            .map(req -> {
+                RemotePulsarMatchBo bo = new RemotePulsarMatchBo();
+                BeanUtils.copyProperties(req, bo);
+                return bo;
+            })
+            .toList();
+        PulsarItemResult result = Boolean.TRUE.equals(saver.apply(bos)) ? PulsarItemResult.SAVED : PulsarItemResult.failed("保存失败！");
+        absent.forEach(req -> results.put(req, result));
+    }
+
+    /**
+     * 脉冲星 ID 集合.
+     */
+    private static List<Long> ids(List<PulsarOuterClass.PulsarMatcherRequest> requests) {
+        return requests.stream().map(PulsarOuterClass.PulsarMatcherRequest::getId).toList();
+    }
+
+    /**
+     * 筛选出尚不存在的脉冲星.
+     * <p>
+     * 先批量读取按名称缓存的检查结果, 未命中的名称一次批量查询后写回缓存.
+     *
+     * @param requests   脉冲星匹配数据
+     * @param cacheName  存在性缓存名称
+     * @param existNames 批量查询已存在名称
+     * @return 待新增的数据
+     */
+    private static List<PulsarOuterClass.PulsarMatcherRequest> absent(List<PulsarOuterClass.PulsarMatcherRequest> requests, String cacheName,
+                                                                      Function<Collection<String>, Set<String>> existNames) {
+        Set<String> names = requests.stream()
+            .map(PulsarOuterClass.PulsarMatcherRequest::getName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Boolean> absent = new HashMap<>(CacheUtils.getAll(cacheName, names));
+        Set<String> misses = names.stream()
+            .filter(name -> !absent.containsKey(name))
+            .collect(Collectors.toSet());
+        if (!misses.isEmpty()) {
+            Set<String> exists = existNames.apply(misses);
+            Map<String, Boolean> loaded = misses.stream()
+                .collect(Collectors.toMap(Function.identity(), name -> !exists.contains(name)));
+            CacheUtils.putAll(cacheName, loaded);
+            absent.putAll(loaded);
+        }
+        return requests.stream()
+            .filter(req -> Boolean.TRUE.equals(absent.get(req.getName())))
+            .toList();
+    }
+}
@@ -28,6 +28,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 /**
  * 脉冲星匹配修改命令执行器.
  *
@@ -55,4 +57,15 @@ public class PulsarModifyCmdExe {
     public Boolean updateMatchById(Long id, Integer flag) {
         return remoteMarkService.updateMatchById(id, flag);
     }
+
+    /**
+     * 批量修改脉冲星匹配.
+     *
+     * @param ids  脉冲星ID集合
+     * @param flag 脉冲星匹配结果标识
+     * @return 更新的条数
+     */
+    public Integer updateMatchByIds(Collection<Long> ids, Integer flag) {
+        return remoteMarkService.updateMatchByIds(ids, flag);
+    }
 }
@@ -84,6 +84,26 @@ public class PulsarSaveCmdExe {
         return remotePulsarService.saveMatchByBo(remotePulsarMatchBo);
     }
 
+    /**
+     * 批量保存新脉冲星匹配记录.
+     *
+     * @param remotePulsarMatchBos 脉冲星匹配记录
+     * @return 是否保存成功
+     */
+    public Boolean saveNewPulsarMatchBatch(List<RemotePulsarMatchBo> remotePulsarMatchBos) {
+        return remoteRecorderService.saveMatchBatchByBo(remotePulsarMatchBos);
+    }
+
+    /**
+     * 批量保存已知脉冲星匹配记录.
+     *
+     * @param remotePulsarMatchBos 脉冲星匹配记录
+     * @return 是否保存成功
+     */
+    public Boolean saveKnownPulsarMatchBatch(List<RemotePulsarMatchBo> remotePulsarMatchBos) {
+        return remotePulsarService.saveMatchBatchByBo(remotePulsarMatchBos);
+    }
+
     /**
      * 保存脉冲星匹配得分.
      *
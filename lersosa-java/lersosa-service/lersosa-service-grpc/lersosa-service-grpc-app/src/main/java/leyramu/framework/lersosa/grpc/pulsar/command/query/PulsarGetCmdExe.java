@@ -29,6 +29,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Set;
+
 /**
  * 脉冲星信息查看执行器.
  *
@@ -71,4 +74,24 @@ public class PulsarGetCmdExe {
     public Boolean getNewPulsarInfo(String name) {
         return remoteRecorderService.getPulsarInfo(name);
     }
+
+    /**
+     * 查询已存在的已知脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    public Set<String> getKnownPulsarNames(Collection<String> names) {
+        return remotePulsarService.selectExistNames(names);
+    }
+
+    /**
+     * 查询已存在的新脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    public Set<String> getNewPulsarNames(Collection<String> names) {
+        return remoteRecorderService.selectExistNames(names);
+    }
 }
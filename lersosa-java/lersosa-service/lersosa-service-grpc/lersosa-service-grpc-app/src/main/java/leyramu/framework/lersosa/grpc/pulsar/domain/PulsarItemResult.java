@@ -21,57 +21,47 @@
  * By using this project, users acknowledge and agree to abide by these terms and conditions.
  */
 
-package leyramu.framework.lersosa.grpc.pulsar.processor;
+package leyramu.framework.lersosa.grpc.pulsar.domain;
 
-import leyramu.framework.lersosa.common.core.utils.SpringUtils;
-import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
-import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
-import leyramu.framework.lersosa.grpc.pulsar.command.query.PulsarGetCmdExe;
-import leyramu.framework.lersosa.grpc.pulsar.handler.PulsarMatchHandler;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.stereotype.Component;
+import leyramu.framework.lersosa.common.core.constant.HttpStatus;
 
 /**
- * 存在性检查处理器.
+ * 单条脉冲星数据的处理结果 (流式调用中逐条回复).
  *
+ * @param code    状态码
+ * @param message 结果说明 (失败时为失败原因)
  * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
- * @version 1.0.0
- * @since 2025/3/18
+ * @version 2.1.0
+ * @since 2025/3/7
  */
-@Component
-@RequiredArgsConstructor
-public class KnownCheckProcessor implements PulsarMatchHandler {
+public record PulsarItemResult(int code, String message) {
 
     /**
-     * 脉冲星查询命令执行器.
+     * 已匹配 (记录已存在, 仅修改匹配标记).
      */
-    private final PulsarGetCmdExe pulsarGetCmdExe;
+    public static final PulsarItemResult MATCHED = new PulsarItemResult(HttpStatus.SUCCESS, "匹配成功！");
 
     /**
-     * 处理方法.
+     * 已保存.
+     */
+    public static final PulsarItemResult SAVED = new PulsarItemResult(HttpStatus.SUCCESS, "保存成功！");
+
+    /**
+     * 处理失败.
      *
-     * @param pulsarMatcherRequest 脉冲星匹配信息
-     * @return 是否处理成功
+     * @param reason 失败原因
+     * @return 处理结果
      */
-    @Override
-    public Boolean handle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return SpringUtils.getAopProxy(this).doHandle(pulsarMatcherRequest);
+    public static PulsarItemResult failed(String reason) {
+        return new PulsarItemResult(HttpStatus.ERROR, reason);
     }
 
     /**
-     * 处理器.
+     * 是否已保存.
      *
-     * @param pulsarMatcherRequest 脉冲星匹配信息
-     * @return 是否处理成功
+     * @return 是否已保存
      */
-    @Cacheable(
-        cacheNames = "pulsar:find:info",
-        key = "#pulsarMatcherRequest.name",
-        sync = true
-    )
-    @NgxCacheCls
-    public Boolean doHandle(PulsarOuterClass.PulsarMatcherRequest pulsarMatcherRequest) {
-        return pulsarGetCmdExe.getKnownPulsarInfo(pulsarMatcherRequest.getName());
+    public boolean saved() {
+        return SAVED.equals(this);
     }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.pulsar.service;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.grpc.pulsar.domain.PulsarItemResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 脉冲星双向流 微批处理观察者.
+ * <p>
+ * 请求按到达顺序编号并攒成微批 (满 {@link #BATCH_SIZE} 条或等待超过 {@link #LINGER_MILLIS} 毫秒即提交), 微批在处理链上串行执行,
+ * 完成后按每条请求的处理结果逐条回复 (回复的 sequence 为请求的到达序号, 从 0 开始). 入站关闭自动拉取, 最多允许两个微批的请求未处理;
+ * 出站在传输缓冲区写满时等待就绪, 两个方向均经 HTTP/2 流控反压.
+ *
+ * @param <T> 请求类型
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@Slf4j
+final class PulsarBatchStreamObserver<T> implements StreamObserver<T> {
+
+    /**
+     * 微批条数上限.
+     */
+    static final int BATCH_SIZE = 100;
+
+    /**
+     * 未满微批的最长等待时间 (毫秒).
+     */
+    static final long LINGER_MILLIS = 50L;
+
+    /**
+     * 微批处理线程 (远程调用为阻塞调用, 不占用 gRPC 事件线程).
+     */
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 响应观察者.
+     */
+    private final ServerCallStreamObserver<PulsarOuterClass.PulsarReply> responseObserver;
+
+    /**
+     * 超时提交调度器.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 微批处理器 (返回与请求一一对应的处理结果).
+     */
+    private final Function<List<T>, List<PulsarItemResult>> handler;
+
+    /**
+     * 调用方租户上下文.
+     */
+    private final TenantContext tenant;
+
+    /**
+     * 缓冲区锁 (保护缓冲区, 编号与处理链).
+     */
+    private final Object bufferLock = new Object();
+
+    /**
+     * 出站就绪锁.
+     */
+    private final ReentrantLock readyLock = new ReentrantLock();
+
+    /**
+     * 出站就绪或调用取消时触发.
+     */
+    private final Condition readyCondition = readyLock.newCondition();
+
+    /**
+     * 当前微批.
+     */
+    private List<T> buffer = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * 当前微批首条请求的序号.
+     */
+    private long bufferStart;
+
+    /**
+     * 已接收的请求数.
+     */
+    private long received;
+
+    /**
+     * 已提交的微批数 (用于识别过期的超时任务).
+     */
+    private long batches;
+
+    /**
+     * 当前微批的超时提交任务.
+     */
+    private ScheduledFuture<?> linger;
+
+    /**
+     * 串行处理链.
+     */
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    /**
+     * 调用是否已取消或出错.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * 构造观察者 (须在服务方法返回前调用).
+     *
+     * @param responseObserver 响应观察者
+     * @param scheduler        超时提交调度器
+     * @param handler          微批处理器
+     */
+    PulsarBatchStreamObserver(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver,
+                              ScheduledExecutorService scheduler, Function<List<T>, List<PulsarItemResult>> handler) {
+        this.responseObserver = (ServerCallStreamObserver<PulsarOuterClass.PulsarReply>) responseObserver;
+        this.scheduler = scheduler;
+        this.handler = handler;
+        // 租户由 TenantServerInterceptor 从请求头绑定 在此捕获后带到处理线程
+        this.tenant = TenantContext.capture();
+        this.responseObserver.disableAutoRequest();
+        this.responseObserver.setOnReadyHandler(this::signal);
+        this.responseObserver.setOnCancelHandler(() -> {
+            cancelled = true;
+            signal();
+        });
+        this.responseObserver.request(2 * BATCH_SIZE);
+    }
+
+    /**
+     * 接收请求.
+     *
+     * @param request 请求
+     */
+    @Override
+    public void onNext(T request) {
+        synchronized (bufferLock) {
+            if (cancelled) {
+                return;
+            }
+            if (buffer.isEmpty()) {
+                bufferStart = received;
+                long batch = batches;
+                linger = scheduler.schedule(() -> lingerFlush(batch), LINGER_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            buffer.add(request);
+            received++;
+            if (buffer.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 客户端发送完毕 处理剩余请求后结束调用.
+     */
+    @Override
+    public void onCompleted() {
+        synchronized (bufferLock) {
+            if (!buffer.isEmpty()) {
+                flush();
+            }
+            tail = tail.thenRunAsync(() -> {
+                if (!cancelled) {
+                    responseObserver.onCompleted();
+                }
+            }, EXECUTOR);
+        }
+    }
+
+    /**
+     * 错误处理 (客户端取消或连接中断, 丢弃未处理的请求).
+     *
+     * @param t 异常
+     */
+    @Override
+    public void onError(Throwable t) {
+        log.error("脉冲星流式调用中断: 已接收 {} 条", received, t);
+        cancelled = true;
+        synchronized (bufferLock) {
+            buffer.clear();
+            if (linger != null) {
+                linger.cancel(false);
+            }
+        }
+        signal();
+    }
+
+    /**
+     * 超时提交未满的微批.
+     *
+     * @param batch 调度时的微批编号
+     */
+    private void lingerFlush(long batch) {
+        synchronized (bufferLock) {
+            if (batch == batches && !buffer.isEmpty()) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * 将当前微批提交到处理链 (调用方持有缓冲区锁).
+     */
+    private void flush() {
+        List<T> batch = buffer;
+        long first = bufferStart;
+        buffer = new ArrayList<>(BATCH_SIZE);
+        batches++;
+        if (linger != null) {
+            linger.cancel(false);
+            linger = null;
+        }
+        tail = tail.thenRunAsync(() -> process(batch, first), EXECUTOR);
+    }
+
+    /**
+     * 处理一个微批并逐条回复, 回复完成后再向客户端拉取同样数量的请求.
+     *
+     * @param batch 微批
+     * @param first 首条请求的序号
+     */
+    private void process(List<T> batch, long first) {
+        if (cancelled) {
+            return;
+        }
+        List<PulsarItemResult> results;
+        try {
+            results = tenant.get(() -> handler.apply(batch));
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("处理结果数量 " + results.size() + " 与请求数量 " + batch.size() + " 不一致");
+            }
+        } catch (Exception e) {
+            log.error("{}, 执行错误！！", e.getMessage(), e);
+            // 微批在同一全局事务中处理 出错时整批回滚 每条均按失败回复
+            results = Collections.nCopies(batch.size(), PulsarItemResult.failed(Objects.requireNonNullElse(e.getMessage(), "执行错误！！")));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (!awaitReady()) {
+                return;
+            }
+            PulsarItemResult result = results.get(i);
+            responseObserver.onNext(PulsarOuterClass.PulsarReply.newBuilder()
+                .setCode(result.code())
+                .setMessage(result.message())
+                .setSequence(first + i)
+                .build());
+        }
+        responseObserver.request(batch.size());
+    }
+
+    /**
+     * 等待出站缓冲区可写.
+     *
+     * @return 是否可继续发送
+     */
+    private boolean awaitReady() {
+        readyLock.lock();
+        try {
+            while (!cancelled && !responseObserver.isReady()) {
+                readyCondition.await();
+            }
+            return !cancelled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            readyLock.unlock();
+        }
+    }
+
+    /**
+     * 唤醒等待出站就绪的处理线程.
+     */
+    private void signal() {
+        readyLock.lock();
+        try {
+            readyCondition.signalAll();
+        } finally {
+            readyLock.unlock();
+        }
+    }
+}
@@ -25,19 +25,24 @@ package leyramu.framework.lersosa.grpc.pulsar.service;
 
 import io.grpc.stub.StreamObserver;
 import io.seata.spring.annotation.GlobalTransactional;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.grpc.annotation.GrpcLog;
 import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarGrpc;
 import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
-import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import leyramu.framework.lersosa.grpc.api.PulsarService;
+import leyramu.framework.lersosa.grpc.pulsar.command.PulsarMatchBatchCmdExe;
 import leyramu.framework.lersosa.grpc.pulsar.command.PulsarSaveCmdExe;
-import leyramu.framework.lersosa.grpc.pulsar.handler.PulsarHandlerChain;
+import leyramu.framework.lersosa.grpc.pulsar.domain.PulsarItemResult;
 import leyramu.framework.lersosa.pulsar.api.domain.bo.RemotePulsarScoresBo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.springframework.beans.BeanUtils;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * 脉冲星匹配 Grpc 实现类.
  *
@@ -57,9 +62,14 @@ public class PulsarServiceImpl extends PulsarGrpc.PulsarImplBase implements Puls
     private final PulsarSaveCmdExe pulsarSaveCmdExe;
 
     /**
-     * 脉冲星匹配处理链.
+     * 脉冲星批量匹配命令执行器.
+     */
+    private final PulsarMatchBatchCmdExe pulsarMatchBatchCmdExe;
+
+    /**
+     * 流式微批超时提交调度器.
      */
-    private final PulsarHandlerChain pulsarHandlerChain;
+    private final ScheduledExecutorService scheduledExecutorService;
 
     /**
      * 脉冲星匹配.
@@ -72,8 +82,7 @@ public class PulsarServiceImpl extends PulsarGrpc.PulsarImplBase implements Puls
     @GlobalTransactional(name = "pulsarMatcher", rollbackFor = Exception.class)
     public void pulsarMatcher(PulsarOuterClass.PulsarMatcherRequestList requestList, StreamObserver<PulsarOuterClass.PulsarReply> responseObserver) {
         try {
-            requestList.getPulsarList().parallelStream()
-                .forEach(pulsarHandlerChain::executeChain);
+            pulsarMatchBatchCmdExe.match(requestList.getPulsarList());
             responseObserver.onNext(buildSuccessResponse());
         } catch (Exception e) {
             responseObserver.onNext(
@@ -129,13 +138,75 @@ public class PulsarServiceImpl extends PulsarGrpc.PulsarImplBase implements Puls
         responseObserver.onCompleted();
     }
 
+    /**
+     * 脉冲星流式匹配.
+     * <p>
+     * 请求按微批处理, 每条请求回复一次 (匹配成功, 保存成功或失败原因), 回复的 sequence 为请求的到达序号.
+     *
+     * @param responseObserver 响应观察者
+     * @return 请求观察者
+     */
+    @GrpcLog
+    @Override
+    public StreamObserver<PulsarOuterClass.PulsarMatcherRequest> pulsarMatcherStream(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver) {
+        PulsarServiceImpl proxy = SpringUtils.getAopProxy(this);
+        return new PulsarBatchStreamObserver<>(responseObserver, scheduledExecutorService, proxy::matchBatch);
+    }
+
+    /**
+     * 脉冲星流式 Ai打分数据.
+     * <p>
+     * 请求按微批处理, 每条请求回复一次, 回复的 sequence 为请求的到达序号.
+     *
+     * @param responseObserver 响应观察者
+     * @return 请求观察者
+     */
+    @GrpcLog
+    @Override
+    public StreamObserver<PulsarOuterClass.PulsarScoresRequest> pulsarScoresStream(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver) {
+        PulsarServiceImpl proxy = SpringUtils.getAopProxy(this);
+        return new PulsarBatchStreamObserver<>(responseObserver, scheduledExecutorService, proxy::scoresBatch);
+    }
+
+    /**
+     * 匹配一个微批 (每个微批一个全局事务).
+     *
+     * @param batch 微批
+     * @return 每条数据的处理结果
+     */
+    @GlobalTransactional(name = "pulsarMatcherStream", rollbackFor = Exception.class)
+    public List<PulsarItemResult> matchBatch(List<PulsarOuterClass.PulsarMatcherRequest> batch) {
+        return pulsarMatchBatchCmdExe.matchEach(batch);
+    }
+
+    /**
+     * 保存一个微批的打分数据 (每个微批一个全局事务).
+     * <p>
+     * 打分数据整批保存, 远程服务只返回整批是否成功, 每条数据的结果与整批一致.
+     *
+     * @param batch 微批
+     * @return 每条数据的处理结果
+     */
+    @GlobalTransactional(name = "pulsarScoresStream", rollbackFor = Exception.class)
+    public List<PulsarItemResult> scoresBatch(List<PulsarOuterClass.PulsarScoresRequest> batch) {
+        boolean saved = Boolean.TRUE.equals(pulsarSaveCmdExe.savePulsarScore(
+            batch.stream()
+                .map(req -> {
+                    RemotePulsarScoresBo bo = new RemotePulsarScoresBo();
+                    BeanUtils.copyProperties(req, bo);
+                    return bo;
+                })
+                .toList()
+        ));
+        return Collections.nCopies(batch.size(), saved ? PulsarItemResult.SAVED : PulsarItemResult.failed("执行失败！"));
+    }
+
     /**
      * 构建成功响应.
      *
      * @return 响应对象
      */
     private PulsarOuterClass.PulsarReply buildSuccessResponse() {
-        TenantHelper.clearDynamic();
         return PulsarOuterClass.PulsarReply.newBuilder()
             .setCode(200)
             .setMessage("执行成功！！")
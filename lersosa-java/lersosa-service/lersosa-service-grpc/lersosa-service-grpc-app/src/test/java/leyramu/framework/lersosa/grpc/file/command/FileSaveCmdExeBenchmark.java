@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.file.command;
+
+import leyramu.framework.lersosa.common.core.utils.file.FileUtils;
+import leyramu.framework.lersosa.common.oss.core.OssClient;
+import leyramu.framework.lersosa.common.oss.entity.UploadResult;
+import leyramu.framework.lersosa.resource.api.RemoteFileService;
+import leyramu.framework.lersosa.resource.api.domain.RemoteFile;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 压缩包导入基准测试.
+ * <p>
+ * 对 5000 张图片的压缩包, 对比调整前解压到临时目录后逐个读入内存串行上传, 与从 ZipInputStream 流式读取并行上传的整体耗时.
+ * 对象存储与文件登记服务以模拟实现代替, 上传耗时由 uploadLatencyMillis 模拟网络往返.
+ * 每个基准方法在独立进程中运行, 结束时输出该进程的峰值常驻内存 (VmHWM, 仅 Linux), 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FileSaveCmdExeBenchmark {
+
+    private static final int ENTRIES = 5000;
+
+    private static final String CONTENT_TYPE = "image/png";
+
+    /**
+     * 单张图片大小 (字节).
+     */
+    @Param({"65536"})
+    private int entrySize;
+
+    /**
+     * 模拟单次上传耗时 (毫秒).
+     */
+    @Param({"0", "2"})
+    private int uploadLatencyMillis;
+
+    private Path archive;
+
+    private OssClient client;
+
+    private RemoteFileService remoteFileService;
+
+    private FileSaveCmdExe fileSaveCmdExe;
+
+    @Setup
+    public void setup() throws IOException {
+        archive = Files.createTempFile("benchmark", ".zip");
+        Random random = new Random(0);
+        byte[] data = new byte[entrySize];
+        try (ZipOutputStream zipOut = new ZipOutputStream(Files.newOutputStream(archive))) {
+            // 图片本身已压缩 存储时不再压缩
+            zipOut.setLevel(Deflater.NO_COMPRESSION);
+            for (int i = 0; i < ENTRIES; i++) {
+                random.nextBytes(data);
+                zipOut.putNextEntry(new ZipEntry("observation/" + (i % 50) + "/" + i + ".png"));
+                zipOut.write(data);
+                zipOut.closeEntry();
+            }
+        }
+
+        AtomicLong sequence = new AtomicLong();
+        Answer<UploadResult> upload = invocation -> {
+            Object source = invocation.getArgument(0);
+            if (source instanceof InputStream inputStream) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+            if (uploadLatencyMillis > 0) {
+                Thread.sleep(uploadLatencyMillis);
+            }
+            String key = "2025/03/07/" + sequence.incrementAndGet() + invocation.getArgument(1);
+            return UploadResult.builder().url("http://127.0.0.1:9000/lersosa/" + key).filename(key).build();
+        };
+        // 不记录调用 避免调用记录本身占用内存
+        client = mock(OssClient.class, withSettings().stubOnly());
+        when(client.getConfigKey()).thenReturn("minio");
+        when(client.uploadSuffix(any(InputStream.class), anyString(), any(), anyString())).thenAnswer(upload);
+        when(client.uploadSuffix(any(byte[].class), anyString(), anyString())).thenAnswer(upload);
+
+        remoteFileService = mock(RemoteFileService.class, withSettings().stubOnly());
+        when(remoteFileService.recordBatch(anyString(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        fileSaveCmdExe = new FileSaveCmdExe(remoteFileService);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(archive);
+        Path status = Path.of("/proc/self/status");
+        if (Files.exists(status)) {
+            try (Stream<String> lines = Files.lines(status)) {
+                lines.filter(line -> line.startsWith("VmHWM"))
+                    .forEach(line -> System.out.println("峰值常驻内存 " + line));
+            }
+        }
+    }
+
+    /**
+     * 调整前: 解压到临时目录, 逐个读入内存后串行上传并登记.
+     */
+    @Benchmark
+    public int legacy() throws IOException {
+        Path directory = Files.createTempDirectory("archive");
+        try {
+            try (ZipInputStream zipIn = new ZipInputStream(Files.newInputStream(archive))) {
+                ZipEntry entry;
+                while ((entry = zipIn.getNextEntry()) != null) {
+                    if (!entry.isDirectory()) {
+                        Path target = directory.resolve(entry.getName());
+                        Files.createDirectories(target.getParent());
+                        Files.copy(zipIn, target);
+                    }
+                }
+            }
+            int count = 0;
+            try (Stream<Path> paths = Files.walk(directory)) {
+                Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+                while (iterator.hasNext()) {
+                    Path path = iterator.next();
+                    UploadResult result = client.uploadSuffix(Files.readAllBytes(path), ".png", CONTENT_TYPE);
+                    RemoteFile file = new RemoteFile();
+                    file.setName(result.getFilename());
+                    file.setUrl(result.getUrl());
+                    file.setOriginalName(path.getFileName().toString());
+                    remoteFileService.recordBatch(client.getConfigKey(), List.of(file));
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            FileUtils.del(directory.toFile());
+        }
+    }
+
+    /**
+     * 调整后: 从 ZipInputStream 流式读取, 有界并行上传, 批量登记.
+     */
+    @Benchmark
+    public int streaming() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(archive)) {
+            return fileSaveCmdExe.saveArchive(inputStream, client).files().size();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(FileSaveCmdExeBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
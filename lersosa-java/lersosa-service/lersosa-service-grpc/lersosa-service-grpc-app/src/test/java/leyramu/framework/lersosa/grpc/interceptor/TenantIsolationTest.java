@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.interceptor;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import leyramu.framework.lersosa.common.core.constant.TenantConstants;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.tenant.core.TenantTaskDecorator;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import org.junit.jupiter.api.*;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 多租户并发隔离测试.
+ * <p>
+ * 多个租户的 gRPC 调用按消息交错执行: 每次回调经 TenantServerInterceptor 绑定请求头中的租户, 回调中再向带 TenantTaskDecorator 的线程池
+ * (与 AsyncConfig 的 @Async 线程池配置一致) 提交任务. 校验每个回调与任务读到的都是所属调用的租户,
+ * 并绕过装饰器在每个线程上探测, 确认退出作用域后不残留租户.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@DisplayName("多租户并发隔离测试")
+public class TenantIsolationTest {
+
+    private static final int TENANTS = 8;
+
+    private static final int CALLS_PER_TENANT = 50;
+
+    private static final int MESSAGES_PER_CALL = 20;
+
+    private static final int POOL_SIZE = 4;
+
+    private static GenericApplicationContext context;
+
+    private final TenantServerInterceptor interceptor = new TenantServerInterceptor();
+
+    private final Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+    private ThreadPoolExecutor asyncPool;
+
+    private TaskExecutorAdapter asyncExecutor;
+
+    private ThreadPoolExecutor callbackExecutor;
+
+    @BeforeAll
+    public static void enableTenant() {
+        context = new GenericApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty("tenant.enable", "true"));
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+    }
+
+    @AfterAll
+    public static void closeContext() {
+        context.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        // 与 AsyncConfig.getAsyncExecutor 相同 通过 TaskDecorator 传递租户
+        asyncPool = newPool();
+        asyncExecutor = new TaskExecutorAdapter(asyncPool);
+        asyncExecutor.setTaskDecorator(new TenantTaskDecorator());
+        // 模拟 gRPC 的回调线程池 回调在少量线程上交错执行
+        callbackExecutor = newPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        asyncPool.shutdownNow();
+        callbackExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("交错执行的多租户调用互不串租户")
+    public void interleavedTenantsDoNotLeak() throws Exception {
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        // 按调用轮次交错提交 同一线程上相邻的回调属于不同租户
+        for (int call = 0; call < CALLS_PER_TENANT; call++) {
+            for (int tenant = 0; tenant < TENANTS; tenant++) {
+                calls.add(startCall(tenantId(tenant)));
+            }
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+
+        assertTrue(mismatches.isEmpty(), () -> mismatches.size() + " 次读到错误的租户, 例如: " + mismatches.peek());
+        assertNoResidue(callbackExecutor);
+        assertNoResidue(asyncPool);
+    }
+
+    @Test
+    @DisplayName("未携带租户请求头时使用默认租户")
+    public void missingHeaderFallsBackToDefaultTenant() throws Exception {
+        CompletableFuture<String> observed = new CompletableFuture<>();
+        ServerCallHandler<String, String> handler = (call, headers) -> new ServerCall.Listener<>() {
+            @Override
+            public void onHalfClose() {
+                observed.complete(TenantHelper.getTenantId());
+            }
+        };
+        ServerCall.Listener<String> listener = interceptor.interceptCall(newCall(), new Metadata(), handler);
+        callbackExecutor.execute(listener::onHalfClose);
+
+        assertEquals(TenantConstants.DEFAULT_TENANT_ID, observed.get(10, TimeUnit.SECONDS));
+        assertNoResidue(callbackExecutor);
+    }
+
+    /**
+     * 发起一次调用: 每条消息在回调线程上校验租户, 并向异步线程池提交任务再次校验.
+     */
+    private CompletableFuture<Void> startCall(String tenantId) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        List<CompletableFuture<Void>> tasks = new CopyOnWriteArrayList<>();
+        ServerCallHandler<Integer, String> handler = (call, headers) -> {
+            check(tenantId, "startCall");
+            return new ServerCall.Listener<>() {
+                @Override
+                public void onMessage(Integer message) {
+                    check(tenantId, "onMessage");
+                    tasks.add(CompletableFuture.runAsync(() -> {
+                        check(tenantId, "async");
+                        Thread.yield();
+                        check(tenantId, "async");
+                    }, asyncExecutor));
+                }
+
+                @Override
+                public void onHalfClose() {
+                    check(tenantId, "onHalfClose");
+                    CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+                        .whenComplete((_, e) -> {
+                            if (e == null) {
+                                done.complete(null);
+                            } else {
+                                done.completeExceptionally(e);
+                            }
+                        });
+                }
+            };
+        };
+        Metadata headers = new Metadata();
+        headers.put(TenantServerInterceptor.TENANT_ID, tenantId);
+        // 同一调用的回调串行执行 每条消息单独调度 与其他租户的回调在同一批线程上交错
+        CompletableFuture<ServerCall.Listener<Integer>> stage = CompletableFuture.supplyAsync(
+            () -> interceptor.interceptCall(this.<Integer>newCall(), headers, handler), callbackExecutor);
+        for (int i = 0; i < MESSAGES_PER_CALL; i++) {
+            int message = i;
+            stage = stage.thenApplyAsync(listener -> {
+                listener.onMessage(message);
+                return listener;
+            }, callbackExecutor);
+        }
+        stage.thenAcceptAsync(ServerCall.Listener::onHalfClose, callbackExecutor)
+            .exceptionally(e -> {
+                done.completeExceptionally(e);
+                return null;
+            });
+        return done;
+    }
+
+    private void check(String expected, String stage) {
+        String actual = TenantHelper.getTenantId();
+        if (!Objects.equals(expected, actual)) {
+            mismatches.add(stage + " 期望 " + expected + " 实际 " + actual);
+        }
+    }
+
+    /**
+     * 绕过任务装饰器在线程池的每个线程上执行一次, 确认线程上没有残留的租户.
+     */
+    private static void assertNoResidue(ThreadPoolExecutor executor) throws Exception {
+        int threads = executor.getCorePoolSize();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        Queue<String> residues = new ConcurrentLinkedQueue<>();
+        List<Future<?>> probes = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            probes.add(executor.submit(() -> {
+                // 等待所有线程都领到探测任务 保证每个线程各执行一次
+                barrier.await(10, TimeUnit.SECONDS);
+                if (TenantContext.current() != null || TenantHelper.getTenantId() != null) {
+                    residues.add(Thread.currentThread().getName() + ": " + TenantHelper.getTenantId());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> probe : probes) {
+            probe.get(30, TimeUnit.SECONDS);
+        }
+        assertTrue(residues.isEmpty(), () -> "线程上残留租户: " + residues);
+    }
+
+    private static ThreadPoolExecutor newPool() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        // 预先创建全部线程 探测时每个线程恰好执行一次
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    private static String tenantId(int index) {
+        return String.format("%06d", 100 + index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ServerCall<T, String> newCall() {
+        return mock(ServerCall.class);
+    }
+}
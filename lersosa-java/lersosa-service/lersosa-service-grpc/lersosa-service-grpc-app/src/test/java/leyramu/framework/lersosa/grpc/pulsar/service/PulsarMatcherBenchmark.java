@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.pulsar.service;
+
+import io.grpc.stub.StreamObserver;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.grpc.pulsar.command.PulsarMatchBatchCmdExe;
+import leyramu.framework.lersosa.grpc.pulsar.command.PulsarModifyCmdExe;
+import leyramu.framework.lersosa.grpc.pulsar.command.PulsarSaveCmdExe;
+import leyramu.framework.lersosa.grpc.pulsar.command.query.PulsarGetCmdExe;
+import leyramu.framework.lersosa.pulsar.api.domain.bo.RemotePulsarMatchBo;
+import lombok.RequiredArgsConstructor;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 脉冲星匹配端到端基准测试.
+ * <p>
+ * 通过 gRPC 服务实现的 PulsarMatcher 提交 1k, 10k, 100k 条候选体, 对比调整前逐条经匹配链 (并行流, 每条约三次远程调用)
+ * 与调整后按操作类型批量远程调用的整体耗时, 并输出每次调用发起的远程调用次数. 调整前的匹配链已从服务中移除,
+ * 此处由 {@link LegacyMatchChain} 按原处理器的顺序与缓存注解重现, 仅作为对比基线.
+ * 远程服务以模拟实现代替, 每次远程调用耗时由 rpcLatencyMicros 模拟网络往返; 缓存使用内存实现, 每轮开始前清空.
+ * 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PulsarMatcherBenchmark {
+
+    private static final int TENANTS = 4;
+
+    /**
+     * 候选体数量.
+     */
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /**
+     * 模拟单次远程调用耗时 (微秒).
+     */
+    @Param({"0", "200"})
+    private int rpcLatencyMicros;
+
+    private final AtomicLong rpcCount = new AtomicLong();
+
+    private GenericApplicationContext context;
+
+    private CacheManager cacheManager;
+
+    private PulsarOuterClass.PulsarMatcherRequestList requestList;
+
+    private LegacyMatchChain legacyMatchChain;
+
+    private PulsarServiceImpl pulsarService;
+
+    @Setup
+    public void setup() {
+        PulsarOuterClass.PulsarMatcherRequestList.Builder builder = PulsarOuterClass.PulsarMatcherRequestList.newBuilder();
+        for (int i = 0; i < size; i++) {
+            // 四分之一未匹配到已知脉冲星 其余名称约一半重复
+            builder.addPulsar(PulsarOuterClass.PulsarMatcherRequest.newBuilder()
+                .setId(i)
+                .setTenantId(String.valueOf(100000 + i % TENANTS))
+                .setName(i % 4 == 0 ? "notfound" : "J" + (i % (size / 2)))
+                .setPeriod("0.714")
+                .setDispersionMeasure("26.76")
+                .setRaDeg("83.63")
+                .setDecDeg("22.01")
+                .build());
+        }
+        requestList = builder.build();
+
+        // 不记录调用 避免调用记录本身占用内存
+        Answer<Boolean> single = _ -> rpc(true);
+        PulsarModifyCmdExe pulsarModifyCmdExe = mock(PulsarModifyCmdExe.class, withSettings().stubOnly());
+        when(pulsarModifyCmdExe.updateMatchById(anyLong(), anyInt())).thenAnswer(single);
+        when(pulsarModifyCmdExe.updateMatchByIds(anyCollection(), anyInt()))
+            .thenAnswer(invocation -> rpc(invocation.<Collection<?>>getArgument(0).size()));
+
+        PulsarGetCmdExe pulsarGetCmdExe = mock(PulsarGetCmdExe.class, withSettings().stubOnly());
+        when(pulsarGetCmdExe.getKnownPulsarInfo(anyString())).thenAnswer(single);
+        when(pulsarGetCmdExe.getNewPulsarInfo(anyString())).thenAnswer(single);
+        when(pulsarGetCmdExe.getKnownPulsarNames(anyCollection())).thenAnswer(_ -> rpc(Set.of()));
+        when(pulsarGetCmdExe.getNewPulsarNames(anyCollection())).thenAnswer(_ -> rpc(Set.of()));
+
+        PulsarSaveCmdExe pulsarSaveCmdExe = mock(PulsarSaveCmdExe.class, withSettings().stubOnly());
+        when(pulsarSaveCmdExe.saveKnownPulsarMatch(any())).thenAnswer(single);
+        when(pulsarSaveCmdExe.saveNewPulsarMatch(any())).thenAnswer(single);
+        when(pulsarSaveCmdExe.saveKnownPulsarMatchBatch(anyList())).thenAnswer(single);
+        when(pulsarSaveCmdExe.saveNewPulsarMatchBatch(anyList())).thenAnswer(single);
+
+        PulsarMatchBatchCmdExe pulsarMatchBatchCmdExe = new PulsarMatchBatchCmdExe(pulsarModifyCmdExe, pulsarGetCmdExe, pulsarSaveCmdExe);
+        pulsarService = new PulsarServiceImpl(pulsarSaveCmdExe, pulsarMatchBatchCmdExe, mock(ScheduledExecutorService.class));
+
+        // SpringUtils.getAopProxy 与 CacheUtils 从上下文中取 Bean
+        cacheManager = new ConcurrentMapCacheManager();
+        legacyMatchChain = new LegacyMatchChain(pulsarModifyCmdExe, pulsarGetCmdExe, pulsarSaveCmdExe, cacheManager);
+        context = new GenericApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty("tenant.enable", "true"));
+        context.registerBean(CacheManager.class, () -> cacheManager);
+        context.registerBean(PulsarMatchBatchCmdExe.class, () -> pulsarMatchBatchCmdExe);
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearCache() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        rpcCount.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printRpcCount() {
+        System.out.println("远程调用次数 " + rpcCount.get());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 调整前: 候选体并行逐条经匹配链处理, 每条分别修改标记, 检查存在性并新增.
+     */
+    @Benchmark
+    public PulsarOuterClass.PulsarReply chain() {
+        ReplyObserver observer = new ReplyObserver();
+        try {
+            requestList.getPulsarList().parallelStream()
+                .forEach(legacyMatchChain::executeChain);
+            observer.onNext(PulsarOuterClass.PulsarReply.newBuilder().setCode(200).setMessage("执行成功！！").build());
+        } finally {
+            observer.onCompleted();
+        }
+        return observer.reply;
+    }
+
+    /**
+     * 调整后: 经 PulsarServiceImpl.pulsarMatcher 整批分类, 按操作类型批量远程调用.
+     */
+    @Benchmark
+    public PulsarOuterClass.PulsarReply batch() {
+        ReplyObserver observer = new ReplyObserver();
+        pulsarService.pulsarMatcher(requestList, observer);
+        return observer.reply;
+    }
+
+    /**
+     * 模拟一次远程调用.
+     */
+    private <T> T rpc(T result) {
+        rpcCount.incrementAndGet();
+        if (rpcLatencyMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(rpcLatencyMicros));
+        }
+        return result;
+    }
+
+    /**
+     * 调整前的逐条匹配链.
+     * <p>
+     * 依次修改标记, 检查存在性并新增, 任一步失败即停止; 原处理器上的 {@code @Cacheable} 与 {@code @CacheEvict}
+     * 直接以缓存管理器实现, Nginx 缓存清理不在基准范围内.
+     */
+    @RequiredArgsConstructor
+    private static final class LegacyMatchChain {
+
+        private final PulsarModifyCmdExe pulsarModifyCmdExe;
+
+        private final PulsarGetCmdExe pulsarGetCmdExe;
+
+        private final PulsarSaveCmdExe pulsarSaveCmdExe;
+
+        private final CacheManager cacheManager;
+
+        /**
+         * 处理单条候选体, 租户按作用域绑定.
+         *
+         * @param request 脉冲星匹配信息
+         * @return 是否处理成功
+         */
+        public Boolean executeChain(PulsarOuterClass.PulsarMatcherRequest request) {
+            return TenantContext.of(request.getTenantId()).get(() -> {
+                boolean notFound = "notfound".equals(request.getName());
+                if (!modify(request, notFound)) {
+                    return false;
+                }
+                return notFound
+                    ? check("pulsar:recorder:info", request, pulsarGetCmdExe::getNewPulsarInfo)
+                    && save("pulsar:recorder:list", request, pulsarSaveCmdExe::saveNewPulsarMatch)
+                    : check("pulsar:find:info", request, pulsarGetCmdExe::getKnownPulsarInfo)
+                    && save("pulsar:find:list", request, pulsarSaveCmdExe::saveKnownPulsarMatch);
+            });
+        }
+
+        private boolean modify(PulsarOuterClass.PulsarMatcherRequest request, boolean notFound) {
+            Boolean result = pulsarModifyCmdExe.updateMatchById(request.getId(), notFound ? 4 : 3);
+            evict("pulsar:mark:list");
+            evict("pulsar:mark:chartE");
+            return Boolean.TRUE.equals(result);
+        }
+
+        private boolean check(String cacheName, PulsarOuterClass.PulsarMatcherRequest request,
+                              Function<String, Boolean> loader) {
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+            return Boolean.TRUE.equals(cache.get(request.getName(), () -> loader.apply(request.getName())));
+        }
+
+        private boolean save(String cacheName, PulsarOuterClass.PulsarMatcherRequest request,
+                             Function<RemotePulsarMatchBo, Boolean> saver) {
+            evict(cacheName);
+            RemotePulsarMatchBo remotePulsarMatchBo = new RemotePulsarMatchBo();
+            BeanUtils.copyProperties(request, remotePulsarMatchBo);
+            return Boolean.TRUE.equals(saver.apply(remotePulsarMatchBo));
+        }
+
+        private void evict(String cacheName) {
+            Objects.requireNonNull(cacheManager.getCache(cacheName)).clear();
+        }
+    }
+
+    /**
+     * 记录回复的响应观察者.
+     */
+    private static final class ReplyObserver implements StreamObserver<PulsarOuterClass.PulsarReply> {
+
+        private PulsarOuterClass.PulsarReply reply;
+
+        @Override
+        public void onNext(PulsarOuterClass.PulsarReply value) {
+            reply = value;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new IllegalStateException(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            if (reply == null || reply.getCode() != 200) {
+                throw new IllegalStateException("匹配失败: " + reply);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(PulsarMatcherBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
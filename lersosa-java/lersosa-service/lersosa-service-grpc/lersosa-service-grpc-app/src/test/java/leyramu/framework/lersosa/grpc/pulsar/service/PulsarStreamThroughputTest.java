@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.grpc.pulsar.service;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import leyramu.framework.lersosa.common.core.constant.HttpStatus;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarGrpc;
+import leyramu.framework.lersosa.common.grpc.lib.pulsar.PulsarOuterClass;
+import leyramu.framework.lersosa.grpc.pulsar.domain.PulsarItemResult;
+import org.junit.jupiter.api.*;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 脉冲星双向流吞吐测试.
+ * <p>
+ * 经进程内 gRPC 通道向 PulsarBatchStreamObserver 连续发送请求, 客户端按 isReady 发送 (服务端入站限流生效),
+ * 微批处理器模拟一次批量远程调用的耗时. 校验每条请求恰好收到一条回复, 回复的 sequence 与结果与该条请求的处理结果一致,
+ * 并输出吞吐量. 同样的请求再经一元调用 PulsarMatcher 整批提交 (服务端按批量匹配的分块大小处理, 每块耗时相同), 对比两者的
+ * 总耗时与首条回复时间.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 2.1.0
+ * @since 2025/3/7
+ */
+@DisplayName("脉冲星双向流吞吐测试")
+public class PulsarStreamThroughputTest {
+
+    private static final int REQUESTS = 20000;
+
+    /**
+     * 模拟单个微批的远程调用耗时 (毫秒).
+     */
+    private static final long BATCH_LATENCY_MILLIS = 2L;
+
+    /**
+     * 一元调用的分块大小, 与 PulsarMatchBatchCmdExe 一致.
+     */
+    private static final int UNARY_BATCH_SIZE = 1000;
+
+    /**
+     * 吞吐量下限 (条/秒), 约为微批串行处理理论上限的十分之一.
+     */
+    private static final double MIN_THROUGHPUT = PulsarBatchStreamObserver.BATCH_SIZE * 1000.0 / BATCH_LATENCY_MILLIS / 10;
+
+    private static GenericApplicationContext context;
+
+    private static ScheduledExecutorService scheduler;
+
+    private final AtomicInteger batches = new AtomicInteger();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private volatile Function<List<PulsarOuterClass.PulsarMatcherRequest>, List<PulsarItemResult>> handler;
+
+    private volatile long firstReplyNanos;
+
+    @BeforeAll
+    public static void createContext() {
+        context = new GenericApplicationContext();
+        context.setEnvironment(new MockEnvironment().withProperty("tenant.enable", "false"));
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterAll
+    public static void closeContext() {
+        scheduler.shutdownNow();
+        context.close();
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .addService(new PulsarGrpc.PulsarImplBase() {
+                @Override
+                public StreamObserver<PulsarOuterClass.PulsarMatcherRequest> pulsarMatcherStream(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver) {
+                    return new PulsarBatchStreamObserver<>(responseObserver, scheduler, batch -> handler.apply(batch));
+                }
+
+                @Override
+                public void pulsarMatcher(PulsarOuterClass.PulsarMatcherRequestList requestList, StreamObserver<PulsarOuterClass.PulsarReply> responseObserver) {
+                    List<PulsarOuterClass.PulsarMatcherRequest> requests = requestList.getPulsarList();
+                    for (int from = 0; from < requests.size(); from += UNARY_BATCH_SIZE) {
+                        handler.apply(requests.subList(from, Math.min(from + UNARY_BATCH_SIZE, requests.size())));
+                    }
+                    responseObserver.onNext(PulsarOuterClass.PulsarReply.newBuilder().setCode(HttpStatus.SUCCESS).setMessage("执行成功！！").build());
+                    responseObserver.onCompleted();
+                }
+            })
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("每条请求按处理结果回复一次且吞吐量达标")
+    public void streamsPerItemRepliesWithThroughput() throws Exception {
+        handler = batch -> {
+            batches.incrementAndGet();
+            sleep(BATCH_LATENCY_MILLIS);
+            return batch.stream().map(PulsarStreamThroughputTest::expected).toList();
+        };
+
+        long start = System.nanoTime();
+        List<PulsarOuterClass.PulsarReply> replies = stream();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double throughput = REQUESTS / seconds;
+        System.out.printf("双向流 %d 条, %d 个微批, 耗时 %.3f 秒, 吞吐 %.0f 条/秒%n", REQUESTS, batches.get(), seconds, throughput);
+
+        assertEquals(REQUESTS, replies.size());
+        boolean[] seen = new boolean[REQUESTS];
+        for (PulsarOuterClass.PulsarReply reply : replies) {
+            int sequence = (int) reply.getSequence();
+            assertFalse(seen[sequence], "重复回复: " + sequence);
+            seen[sequence] = true;
+            PulsarItemResult result = expected(request(sequence));
+            assertEquals(result.code(), reply.getCode());
+            assertEquals(result.message(), reply.getMessage());
+        }
+        assertTrue(batches.get() >= REQUESTS / PulsarBatchStreamObserver.BATCH_SIZE);
+        assertTrue(throughput >= MIN_THROUGHPUT, "吞吐量过低: " + throughput);
+    }
+
+    @Test
+    @DisplayName("相同负载下对比一元调用, 流式首条回复早于一元调用完成")
+    public void comparesWithUnaryMatcher() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        handler = batch -> {
+            batches.incrementAndGet();
+            processed.addAndGet(batch.size());
+            sleep(BATCH_LATENCY_MILLIS);
+            return batch.stream().map(PulsarStreamThroughputTest::expected).toList();
+        };
+
+        long start = System.nanoTime();
+        List<PulsarOuterClass.PulsarReply> replies = stream();
+        double streamSeconds = (System.nanoTime() - start) / 1e9;
+        double streamFirstMillis = (firstReplyNanos - start) / 1e6;
+        int streamBatches = batches.getAndSet(0);
+        assertEquals(REQUESTS, replies.size());
+        assertEquals(REQUESTS, processed.getAndSet(0));
+
+        start = System.nanoTime();
+        PulsarOuterClass.PulsarMatcherRequestList.Builder requestList = PulsarOuterClass.PulsarMatcherRequestList.newBuilder();
+        for (int i = 0; i < REQUESTS; i++) {
+            requestList.addPulsar(request(i));
+        }
+        PulsarOuterClass.PulsarReply reply = PulsarGrpc.newBlockingStub(channel)
+            .withDeadlineAfter(1, TimeUnit.MINUTES)
+            .pulsarMatcher(requestList.build());
+        double unarySeconds = (System.nanoTime() - start) / 1e9;
+        assertEquals(HttpStatus.SUCCESS, reply.getCode());
+        assertEquals(REQUESTS, processed.get());
+
+        System.out.printf("双向流 %d 条, %d 个微批, 耗时 %.3f 秒, 吞吐 %.0f 条/秒, 首条回复 %.1f 毫秒%n",
+            REQUESTS, streamBatches, streamSeconds, REQUESTS / streamSeconds, streamFirstMillis);
+        System.out.printf("一元调用 %d 条, %d 个分块, 耗时 %.3f 秒, 吞吐 %.0f 条/秒, 唯一回复 %.1f 毫秒%n",
+            REQUESTS, batches.get(), unarySeconds, REQUESTS / unarySeconds, unarySeconds * 1000);
+        assertTrue(streamFirstMillis < unarySeconds * 1000, "流式首条回复晚于一元调用完成: " + streamFirstMillis);
+    }
+
+    @Test
+    @DisplayName("微批处理出错时该批每条均回复失败原因")
+    public void failedBatchRepliesReasonPerItem() throws Exception {
+        handler = batch -> {
+            if (batch.getFirst().getId() == 0) {
+                throw new IllegalStateException("远程调用超时");
+            }
+            return batch.stream().map(_ -> PulsarItemResult.MATCHED).toList();
+        };
+
+        List<PulsarOuterClass.PulsarReply> replies = stream();
+
+        assertEquals(REQUESTS, replies.size());
+        int failed = 0;
+        for (PulsarOuterClass.PulsarReply reply : replies) {
+            if (reply.getCode() == HttpStatus.ERROR) {
+                assertEquals("远程调用超时", reply.getMessage());
+                assertTrue(reply.getSequence() < PulsarBatchStreamObserver.BATCH_SIZE);
+                failed++;
+            } else {
+                assertEquals(PulsarItemResult.MATCHED.message(), reply.getMessage());
+            }
+        }
+        assertTrue(failed > 0 && failed <= PulsarBatchStreamObserver.BATCH_SIZE);
+    }
+
+    /**
+     * 按 isReady 发送全部请求并收集回复.
+     */
+    private List<PulsarOuterClass.PulsarReply> stream() throws Exception {
+        CompletableFuture<List<PulsarOuterClass.PulsarReply>> done = new CompletableFuture<>();
+        PulsarGrpc.newStub(channel).pulsarMatcherStream(new ClientResponseObserver<PulsarOuterClass.PulsarMatcherRequest, PulsarOuterClass.PulsarReply>() {
+
+            private final List<PulsarOuterClass.PulsarReply> replies = new ArrayList<>(REQUESTS);
+
+            private int sent;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<PulsarOuterClass.PulsarMatcherRequest> requestStream) {
+                requestStream.setOnReadyHandler(() -> {
+                    while (sent < REQUESTS && requestStream.isReady()) {
+                        requestStream.onNext(request(sent++));
+                        if (sent == REQUESTS) {
+                            requestStream.onCompleted();
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(PulsarOuterClass.PulsarReply reply) {
+                if (replies.isEmpty()) {
+                    firstReplyNanos = System.nanoTime();
+                }
+                replies.add(reply);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                done.complete(replies);
+            }
+        });
+        return done.get(1, TimeUnit.MINUTES);
+    }
+
+    private static PulsarOuterClass.PulsarMatcherRequest request(int sequence) {
+        return PulsarOuterClass.PulsarMatcherRequest.newBuilder()
+            .setId(sequence)
+            .setTenantId("000000")
+            .setName(sequence % 4 == 0 ? "notfound" : "J" + sequence)
+            .build();
+    }
+
+    /**
+     * 模拟的处理结果: 未匹配到已知脉冲星的保存, 每十条中一条保存失败, 其余已匹配.
+     */
+    private static PulsarItemResult expected(PulsarOuterClass.PulsarMatcherRequest request) {
+        if (request.getId() % 10 == 1) {
+            return PulsarItemResult.failed("保存失败！");
+        }
+        return "notfound".equals(request.getName()) ? PulsarItemResult.SAVED : PulsarItemResult.MATCHED;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -48,4 +48,20 @@ public interface PulsarService {
      * @param responseObserver 响应
      */
     void pulsarScores(PulsarOuterClass.PulsarScoresRequestList requestList, StreamObserver<PulsarOuterClass.PulsarReply> responseObserver);
+
+    /**
+     * 脉冲星流式匹配.
+     *
+     * @param responseObserver 响应
+     * @return 请求
+     */
+    StreamObserver<PulsarOuterClass.PulsarMatcherRequest> pulsarMatcherStream(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver);
+
+    /**
+     * 脉冲星流式 Ai打分数据.
+     *
+     * @param responseObserver 响应
+     * @return 请求
+     */
+    StreamObserver<PulsarOuterClass.PulsarScoresRequest> pulsarScoresStream(StreamObserver<PulsarOuterClass.PulsarReply> responseObserver);
 }
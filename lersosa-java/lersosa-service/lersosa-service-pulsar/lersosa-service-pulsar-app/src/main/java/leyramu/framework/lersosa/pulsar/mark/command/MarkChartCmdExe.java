@@ -23,20 +23,20 @@
 
 package leyramu.framework.lersosa.pulsar.mark.command;
 
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import leyramu.framework.lersosa.pulsar.api.Mark.co.ChartECo;
 import leyramu.framework.lersosa.pulsar.api.Mark.co.UserEvaluateV;
-import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatE;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkStatMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.LongAccumulator;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static leyramu.framework.lersosa.pulsar.mark.constant.markEvaluateConstant.*;
 
@@ -52,9 +52,9 @@ import static leyramu.framework.lersosa.pulsar.mark.constant.markEvaluateConstan
 public class MarkChartCmdExe {
 
     /**
-     * 标记数据访问对象
+     * 统计计数映射器 (由 {@link MarkStatCmdExe} 随标记写入增量维护)
      */
-    private final MarkMapper markMapper;
+    private final MarkStatMapper markStatMapper;
 
     /**
      * 获取标记图表数据
@@ -62,69 +62,22 @@ public class MarkChartCmdExe {
      * @return {@link ChartECo}
      */
     public ChartECo getChartE() {
-        // 创建一个ConcurrentMap，用于存储标记和标记的数量
-        ConcurrentMap<Integer, LongAccumulator> map = new ConcurrentHashMap<>(0);
-        ConcurrentMap<String, ConcurrentMap<String, LongAccumulator>> userMap = new ConcurrentHashMap<>(0);
-        IntStream.rangeClosed(0, 4).forEach(i -> map.put(i, new LongAccumulator(Long::sum, 0L)));
-
-        // 创建一个线程池
-        try (ThreadPoolExecutor commonPool = new ThreadPoolExecutor(
-            // 核心线程数
-            Runtime.getRuntime().availableProcessors(),
-            // 最大线程数
-            Runtime.getRuntime().availableProcessors() * 2,
-            60L, TimeUnit.SECONDS,
-            // 防止OOM
-            new LinkedBlockingQueue<>(1000),
-            // 拒绝策略
-            new ThreadPoolExecutor.CallerRunsPolicy()
-        )) {
-            CompletableFuture<Void> processFlow = CompletableFuture.supplyAsync(markMapper::selectList)
-                .thenApplyAsync((list) -> {
-                    // 分片
-                    int totalSize = list.size();
-                    // 分割成4份
-                    return IntStream.range(0, THREAD_COUNT)
-                        .mapToObj(i -> list.subList(
-                            i * totalSize / THREAD_COUNT,
-                            Math.min((i + 1) * totalSize / THREAD_COUNT, totalSize)
-                        ))
-                        .collect(Collectors.toList());
-                }, commonPool)
-                // 创建子任务
-                .thenComposeAsync((subLists) -> CompletableFuture.allOf(subLists.stream()
-                    .map(subList -> CompletableFuture.runAsync(() ->
-                        subList.forEach(candidateE -> {
-                                map.get(candidateE.getFlag()).accumulate(1);
-                                if (!(candidateE.getCheck() == 0)) {
-
-                                    // 对第一标记者
-                                    ConcurrentMap<String, LongAccumulator> innerMap = userMap.computeIfAbsent(candidateE.getFlagUser() == null ? UNUSED_DATA : candidateE.getFlagUser(), k -> new ConcurrentHashMap<>());
-                                    innerMap.computeIfAbsent(candidateE.getFlag() == 1 ? POSITIVE_SAMPLE : NEGATIVE_SAMPLE, k -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
-                                    innerMap.computeIfAbsent(candidateE.getCheck() == 1 ? UNUSED_DATA : BE_CHECKED, k -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
-                                    innerMap.computeIfAbsent(Objects.equals(candidateE.getReFlagUser(), ADMIN) ? BE_ADMIN_CHECKED : UNUSED_DATA, k -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
-
-                                    // 对第二标记者
-                                    userMap.computeIfAbsent(candidateE.getCheck() == 1 ? UNUSED_DATA : candidateE.getReFlagUser(), k -> new ConcurrentHashMap<>())
-                                        .computeIfAbsent(CHECKED, k -> new LongAccumulator(Long::sum, 0L))
-                                        .accumulate(1);
-                                }
-                            }
-                        ), commonPool
-                    ))
-                    .toList().toArray(new CompletableFuture[0])), commonPool);
-            // 等待所有任务完成
-            processFlow.join();
-            // 关闭线程池
-            commonPool.shutdown();
-        }
+        // 读取当前租户的计数 行数只与用户数相关 与标记数据量无关
+        List<MarkStatE> stats = markStatMapper.selectList(Wrappers.lambdaQuery(MarkStatE.class)
+            .gt(MarkStatE::getStatCount, 0));
 
         long[] counts = new long[5];
-        map.forEach((key, acc) -> {
-            if (key >= 0 && key <= 4) {
-                counts[key] = acc.longValue();
+        Map<String, Map<String, Long>> userMap = new HashMap<>(0);
+        for (MarkStatE stat : stats) {
+            if (stat.getStatKey().startsWith(FLAG_PREFIX)) {
+                int key = Integer.parseInt(stat.getStatKey().substring(FLAG_PREFIX.length()));
+                if (key >= 0 && key <= 4) {
+                    counts[key] = stat.getStatCount();
+                }
+            } else {
+                userMap.computeIfAbsent(stat.getStatUser(), k -> new HashMap<>()).put(stat.getStatKey(), stat.getStatCount());
             }
-        });
+        }
 
         // 创建用户评价列表
         List<UserEvaluateV> userEvaluateList = userMap.entrySet().stream()
@@ -134,21 +87,20 @@ public class MarkChartCmdExe {
                     !Objects.equals(entry.getKey(), ""))
             .map(entry -> {
                 String key = entry.getKey();
-                ConcurrentMap<String, LongAccumulator> innerMap = entry.getValue();
+                Map<String, Long> innerMap = entry.getValue();
                 return new UserEvaluateV(
                     key,
                     calculateTotalWork(
-                        innerMap.get(POSITIVE_SAMPLE) == null ? 0 : innerMap.get(POSITIVE_SAMPLE).doubleValue(),
-                        innerMap.get(NEGATIVE_SAMPLE) == null ? 0 : innerMap.get(NEGATIVE_SAMPLE).doubleValue(),
-                        innerMap.get(BE_CHECKED) == null ? 0 : innerMap.get(BE_CHECKED).doubleValue(),
-                        innerMap.get(CHECKED) == null ? 0 : innerMap.get(CHECKED).doubleValue(),
-                        innerMap.get(BE_ADMIN_CHECKED) == null ? 0 : innerMap.get(BE_ADMIN_CHECKED).doubleValue(),
+                        innerMap.getOrDefault(POSITIVE_SAMPLE, 0L),
+                        innerMap.getOrDefault(NEGATIVE_SAMPLE, 0L),
+                        innerMap.getOrDefault(BE_CHECKED, 0L),
+                        innerMap.getOrDefault(CHECKED, 0L),
+                        innerMap.getOrDefault(BE_ADMIN_CHECKED, 0L),
                         (double) counts[1] / userMap.size(),
                         (double) counts[2] / userMap.size()
                     ),
-                    (innerMap.get(POSITIVE_SAMPLE) != null ? innerMap.get(POSITIVE_SAMPLE).longValue() : 0L)
-                        + (innerMap.get(NEGATIVE_SAMPLE) != null ? innerMap.get(NEGATIVE_SAMPLE).longValue() : 0L),
-                    (innerMap.get(CHECKED) != null ? innerMap.get(CHECKED).longValue() : 0L)
+                    innerMap.getOrDefault(POSITIVE_SAMPLE, 0L) + innerMap.getOrDefault(NEGATIVE_SAMPLE, 0L),
+                    innerMap.getOrDefault(CHECKED, 0L)
                 );
             })
             // 排序
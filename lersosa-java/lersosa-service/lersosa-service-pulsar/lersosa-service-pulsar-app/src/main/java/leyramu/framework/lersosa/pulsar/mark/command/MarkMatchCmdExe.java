@@ -23,9 +23,16 @@
 
 package leyramu.framework.lersosa.pulsar.mark.command;
 
+import cn.hutool.core.collection.CollUtil;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
 import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 脉冲星匹配命令执行器.
@@ -38,11 +45,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MarkMatchCmdExe {
 
+    /**
+     * 单条语句的 ID 数量上限.
+     */
+    private static final int BATCH_SIZE = 1000;
+
     /**
      * 脉冲星标记映射器.
      */
     private final MarkMapper markMapper;
 
+    /**
+     * 标记统计计数命令执行器.
+     */
+    private final MarkStatCmdExe markStatCmdExe;
+
     /**
      * 根据 ID 更新匹配数据.
      *
@@ -50,7 +67,31 @@ public class MarkMatchCmdExe {
      * @param flag 标记
      * @return 结果
      */
+    @Transactional(rollbackFor = Exception.class)
     public Boolean updateMatchFlagById(Long id, Integer flag) {
-        return markMapper.updateFlagById(flag, id);
+        List<MarkE> before = markStatCmdExe.lockByIds(List.of(id));
+        boolean updated = markMapper.updateFlagById(flag, id);
+        markStatCmdExe.onUpdate(before, List.of(MarkE.builder().id(id).flag(flag).build()));
+        return updated;
+    }
+
+    /**
+     * 根据 ID 批量更新匹配数据.
+     *
+     * @param ids  主键集合
+     * @param flag 标记
+     * @return 更新的条数
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Integer updateMatchFlagByIds(Collection<Long> ids, Integer flag) {
+        int rows = 0;
+        for (List<Long> part : CollUtil.split(ids, BATCH_SIZE)) {
+            List<MarkE> before = markStatCmdExe.lockByIds(part);
+            rows += markMapper.update(null, Wrappers.lambdaUpdate(MarkE.class)
+                .set(MarkE::getFlag, flag)
+                .in(MarkE::getId, part));
+            markStatCmdExe.onUpdate(before, part.stream().map(id -> MarkE.builder().id(id).flag(flag).build()).toList());
+        }
+        return rows;
     }
 }
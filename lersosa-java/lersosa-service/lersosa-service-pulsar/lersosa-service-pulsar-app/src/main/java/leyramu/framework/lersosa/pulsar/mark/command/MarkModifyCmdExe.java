@@ -29,6 +29,9 @@ import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
 import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * 脉冲星修改命令执行器.
@@ -46,16 +49,25 @@ public class MarkModifyCmdExe {
      */
     private final MarkMapper markMapper;
 
+    /**
+     * 标记统计计数命令执行器.
+     */
+    private final MarkStatCmdExe markStatCmdExe;
+
     /**
      * 修改AI打分记录.
      *
      * @param bo AI打分记录
      * @return 是否修改成功
      */
+    @Transactional(rollbackFor = Exception.class)
     public Boolean updateByBo(MarkBo bo) {
         MarkE update = MapstructUtils.convert(bo, MarkE.class);
         validEntityBeforeSave(update);
-        return markMapper.updateById(update) > 0;
+        List<MarkE> before = markStatCmdExe.lockByIds(List.of(update.getId()));
+        boolean updated = markMapper.updateById(update) > 0;
+        markStatCmdExe.onUpdate(before, List.of(update));
+        return updated;
     }
 
     /**
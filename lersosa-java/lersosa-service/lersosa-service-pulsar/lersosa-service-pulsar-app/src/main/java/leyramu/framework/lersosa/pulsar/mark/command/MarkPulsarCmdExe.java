@@ -55,6 +55,11 @@ public class MarkPulsarCmdExe {
      */
     private final MarkMapper markMapper;
 
+    /**
+     * 标记统计计数命令执行器.
+     */
+    private final MarkStatCmdExe markStatCmdExe;
+
     /**
      * 远程用户服务.
      */
@@ -73,7 +78,7 @@ public class MarkPulsarCmdExe {
         String userName = remoteUserService.selectNicknameById(userId);
         LocalDateTime localDateTime = LocalDateTime.now();
 
-        return markMapper.updateBatchById(markBoList.stream().map(markBo -> MarkE.builder()
+        List<MarkE> marks = markBoList.stream().map(markBo -> MarkE.builder()
                 .id(markBo.getId())
                 .flag(markBo.getFlag())
                 .flagUser(markBo.getFlagUser() == null || markBo.getFlagUser().isEmpty() ? userName : markBo.getFlagUser())
@@ -83,7 +88,10 @@ public class MarkPulsarCmdExe {
                 .check(markBo.getCheck() == 0 ? 1 : markBo.getCheck())
                 .locker(markBo.getLocker() == null ? 0 : markBo.getLocker())
                 .build())
-            .toList()
-        );
+            .toList();
+        List<MarkE> before = markStatCmdExe.lockByIds(marks.stream().map(MarkE::getId).toList());
+        boolean updated = markMapper.updateBatchById(marks);
+        markStatCmdExe.onUpdate(before, marks);
+        return updated;
     }
 }
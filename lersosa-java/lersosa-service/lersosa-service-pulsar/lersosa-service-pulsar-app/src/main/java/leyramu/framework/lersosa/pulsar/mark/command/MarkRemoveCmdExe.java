@@ -23,11 +23,14 @@
 
 package leyramu.framework.lersosa.pulsar.mark.command;
 
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
 import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * 脉冲星标记删除命令执行器.
@@ -45,6 +48,11 @@ public class MarkRemoveCmdExe {
      */
     private final MarkMapper markMapper;
 
+    /**
+     * 标记统计计数命令执行器.
+     */
+    private final MarkStatCmdExe markStatCmdExe;
+
     /**
      * 校验并批量删除AI打分记录信息.
      *
@@ -52,7 +60,11 @@ public class MarkRemoveCmdExe {
      * @param isValid 是否进行有效性校验
      * @return 是否删除成功
      */
+    @Transactional(rollbackFor = Exception.class)
     public Boolean deleteByIds(Collection<Long> ids, Boolean isValid) {
-        return markMapper.deleteByIds(ids) > 0;
+        List<MarkE> before = markStatCmdExe.lockByIds(ids);
+        boolean deleted = markMapper.deleteByIds(ids) > 0;
+        markStatCmdExe.onDelete(before);
+        return deleted;
     }
 }
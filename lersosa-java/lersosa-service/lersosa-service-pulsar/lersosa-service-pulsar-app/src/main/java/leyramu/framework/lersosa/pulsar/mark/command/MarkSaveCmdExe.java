@@ -28,6 +28,7 @@ import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMap
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -48,14 +49,23 @@ public class MarkSaveCmdExe {
      */
     private final MarkMapper baseMapper;
 
+    /**
+     * 标记统计计数命令执行器.
+     */
+    private final MarkStatCmdExe markStatCmdExe;
+
     /**
      * 新增ai打分数据.
      *
      * @return 是否新增成功
      */
+    @Transactional(rollbackFor = Exception.class)
     public Boolean savePulsarScore(List<MarkE> marks) {
         try {
-            return baseMapper.insertBatch(marks);
+            if (baseMapper.insertBatch(marks)) {
+                markStatCmdExe.onInsert(marks);
+                return true;
+            }
         } catch (Exception e) {
             log.error("保存ai打分数据失败", e);
         }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.pulsar.mark.command;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ObjectUtil;
+import com.baomidou.dynamic.datasource.annotation.DS;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import leyramu.framework.lersosa.common.core.constant.TenantConstants;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.tenant.helper.TenantContext;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatGroup;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkStatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static leyramu.framework.lersosa.pulsar.mark.constant.markEvaluateConstant.*;
+
+/**
+ * 脉冲星标记统计计数命令执行器.
+ * <p>
+ * 标记数据的新增, 修改, 删除在同一事务内先锁定并读取原记录, 写入后按 (新贡献 - 原贡献) 累加 pulsar_mark_stat,
+ * 图表读取计数表即可, 不再扫描标记表. 绕过这些入口的写入由 {@link #reconcile()} 定期按分组计数重建校正.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2025/1/16
+ */
+@Slf4j
+@Component
+@DS("sharding")
+@RequiredArgsConstructor
+public class MarkStatCmdExe {
+
+    /**
+     * 单条语句的 ID 数量上限.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 脉冲星标记映射器.
+     */
+    private final MarkMapper markMapper;
+
+    /**
+     * 统计计数映射器.
+     */
+    private final MarkStatMapper markStatMapper;
+
+    /**
+     * 锁定并读取参与统计的字段 (调用方须在事务内, 写入完成前其他写入方阻塞在行锁上).
+     *
+     * @param ids 主键集合
+     * @return 原记录
+     */
+    public List<MarkE> lockByIds(Collection<Long> ids) {
+        if (CollUtil.isEmpty(ids)) {
+            return List.of();
+        }
+        return CollUtil.split(ids, BATCH_SIZE).stream()
+            .flatMap(part -> markMapper.selectList(Wrappers.lambdaQuery(MarkE.class)
+                .select(MarkE::getId, MarkE::getTenantId, MarkE::getFlag, MarkE::getCheck, MarkE::getFlagUser, MarkE::getReFlagUser)
+                .in(MarkE::getId, part)
+                .last("for update")).stream())
+            .toList();
+    }
+
+    /**
+     * 新增记录后累加计数 (未赋值的字段按表默认值统计).
+     *
+     * @param marks 新增的记录
+     */
+    public void onInsert(List<MarkE> marks) {
+        Map<Stat, Long> delta = new HashMap<>();
+        String tenantId = TenantHelper.getTenantId();
+        for (MarkE mark : marks) {
+            accumulate(delta, StringUtils.blankToDefault(mark.getTenantId(), tenantId), ObjectUtil.defaultIfNull(mark.getFlag(), 0),
+                mark.getCheck(), ObjectUtil.defaultIfNull(mark.getFlagUser(), ""), ObjectUtil.defaultIfNull(mark.getReFlagUser(), ""), 1);
+        }
+        increase(delta);
+    }
+
+    /**
+     * 修改记录后累加计数 (修改对象中为 null 的字段视为未修改).
+     *
+     * @param before  修改前的记录 ({@link #lockByIds(Collection)} 的结果)
+     * @param updates 修改对象
+     */
+    public void onUpdate(List<MarkE> before, Collection<MarkE> updates) {
+        Map<Long, MarkE> changes = updates.stream()
+            .collect(Collectors.toMap(MarkE::getId, Function.identity(), (_, last) -> last));
+        Map<Stat, Long> delta = new HashMap<>();
+        for (MarkE old : before) {
+            MarkE change = changes.get(old.getId());
+            if (change == null) {
+                continue;
+            }
+            accumulate(delta, old, -1);
+            accumulate(delta, old.getTenantId(),
+                ObjectUtil.defaultIfNull(change.getFlag(), old.getFlag()),
+                ObjectUtil.defaultIfNull(change.getCheck(), old.getCheck()),
+                ObjectUtil.defaultIfNull(change.getFlagUser(), old.getFlagUser()),
+                ObjectUtil.defaultIfNull(change.getReFlagUser(), old.getReFlagUser()), 1);
+        }
+        increase(delta);
+    }
+
+    /**
+     * 删除记录后扣减计数.
+     *
+     * @param before 删除前的记录 ({@link #lockByIds(Collection)} 的结果)
+     */
+    public void onDelete(List<MarkE> before) {
+        Map<Stat, Long> delta = new HashMap<>();
+        before.forEach(old -> accumulate(delta, old, -1));
+        increase(delta);
+    }
+
+    /**
+     * 全部租户按标记表重建计数.
+     */
+    public void reconcile() {
+        Set<String> tenantIds = TenantHelper.ignore(() -> {
+            Set<String> ids = new TreeSet<>(markMapper.selectTenantIds().stream().filter(Objects::nonNull).toList());
+            ids.addAll(markStatMapper.selectTenantIds());
+            return ids;
+        });
+        MarkStatCmdExe proxy = SpringUtils.getAopProxy(this);
+        for (String tenantId : tenantIds) {
+            try {
+                TenantContext.of(tenantId).run(() -> proxy.reconcileTenant(tenantId));
+            } catch (Exception e) {
+                log.error("租户 {} 标记统计校正失败", tenantId, e);
+            }
+        }
+        log.info("标记统计校正完成: 共 {} 个租户", tenantIds.size());
+    }
+
+    /**
+     * 按标记表重建一个租户的计数.
+     * <p>
+     * 先锁定该租户的计数行, 进行中的增量写入提交后才开始分组计数, 之后的增量写入等待重建提交后再累加, 不会重复或遗漏.
+     *
+     * @param tenantId 租户 ID
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void reconcileTenant(String tenantId) {
+        markStatMapper.selectList(Wrappers.lambdaQuery(MarkStatE.class)
+            .eq(MarkStatE::getTenantId, tenantId)
+            .last("for update"));
+        Map<Stat, Long> actual = new HashMap<>();
+        for (MarkStatGroup group : markMapper.selectStatGroups(tenantId)) {
+            accumulate(actual, tenantId, group.getFlag(), group.getCheck(), group.getFlagUser(), group.getReFlagUser(), group.getTotal());
+        }
+        markStatMapper.delete(Wrappers.lambdaQuery(MarkStatE.class).eq(MarkStatE::getTenantId, tenantId));
+        increase(actual);
+    }
+
+    /**
+     * 累加计数增量.
+     */
+    private void increase(Map<Stat, Long> delta) {
+        List<MarkStatE> stats = delta.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .map(entry -> MarkStatE.builder()
+                .tenantId(entry.getKey().tenantId())
+                .statUser(entry.getKey().user())
+                .statKey(entry.getKey().key())
+                .statCount(entry.getValue())
+                .build())
+            .toList();
+        for (List<MarkStatE> part : CollUtil.split(stats, BATCH_SIZE)) {
+            markStatMapper.increaseBatch(part);
+        }
+    }
+
+    /**
+     * 累加一条记录的贡献.
+     */
+    private static void accumulate(Map<Stat, Long> stats, MarkE mark, long count) {
+        accumulate(stats, mark.getTenantId(), mark.getFlag(), mark.getCheck(), mark.getFlagUser(), mark.getReFlagUser(), count);
+    }
+
+    /**
+     * 累加 count 条相同记录的贡献 (与图表原有的逐条统计规则一致).
+     *
+     * @param stats      计数
+     * @param tenantId   租户 ID
+     * @param flag       标记
+     * @param check      审核状态
+     * @param flagUser   标记人
+     * @param reFlagUser 更正标记人
+     * @param count      记录数 (负数为扣减)
+     */
+    private static void accumulate(Map<Stat, Long> stats, String tenantId, Integer flag, Integer check,
+                                   String flagUser, String reFlagUser, long count) {
+        // 关闭多租户时记录可能不带租户 统一计入默认租户
+        String tenant = StringUtils.blankToDefault(tenantId, TenantConstants.DEFAULT_TENANT_ID);
+        if (flag != null && flag >= 0 && flag <= 4) {
+            stats.merge(new Stat(tenant, TOTAL_USER, FLAG_PREFIX + flag), count, Long::sum);
+        }
+        if (check == null || check == 0) {
+            return;
+        }
+        // 对第一标记者
+        String first = flagUser == null ? UNUSED_DATA : flagUser;
+        stats.merge(new Stat(tenant, first, Objects.equals(flag, 1) ? POSITIVE_SAMPLE : NEGATIVE_SAMPLE), count, Long::sum);
+        if (check != 1) {
+            stats.merge(new Stat(tenant, first, BE_CHECKED), count, Long::sum);
+        }
+        if (Objects.equals(reFlagUser, ADMIN)) {
+            stats.merge(new Stat(tenant, first, BE_ADMIN_CHECKED), count, Long::sum);
+        }
+        // 对第二标记者
+        String second = check == 1 || reFlagUser == null ? UNUSED_DATA : reFlagUser;
+        stats.merge(new Stat(tenant, second, CHECKED), count, Long::sum);
+    }
+
+    /**
+     * 计数键.
+     *
+     * @param tenantId 租户 ID
+     * @param user     统计用户
+     * @param key      统计项
+     */
+    private record Stat(String tenantId, String user, String key) {
+    }
+}
@@ -34,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -65,6 +66,18 @@ public class RemoteMarkServiceImpl implements RemoteMarkService {
         return markServiceI.updateMatchFlagById(id, flag);
     }
 
+    /**
+     * 批量更新匹配标记.
+     *
+     * @param ids  脉冲星ID集合
+     * @param flag 脉冲星匹配结果标识
+     * @return 更新的条数
+     */
+    @Override
+    public Integer updateMatchByIds(Collection<Long> ids, Integer flag) {
+        return markServiceI.updateMatchFlagByIds(ids, flag);
+    }
+
     /**
      * 根据条件查询列表.
      *
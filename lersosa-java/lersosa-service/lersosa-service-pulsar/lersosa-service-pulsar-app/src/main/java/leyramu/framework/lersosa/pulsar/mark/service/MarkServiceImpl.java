@@ -172,6 +172,18 @@ public class MarkServiceImpl implements MarkServiceI {
         return markMatchCmdExe.updateMatchFlagById(id, flag);
     }
 
+    /**
+     * 批量更新匹配标记.
+     *
+     * @param ids  脉冲星ID集合
+     * @param flag 脉冲星匹配结果标识
+     * @return 更新的条数
+     */
+    @Override
+    public Integer updateMatchFlagByIds(Collection<Long> ids, Integer flag) {
+        return markMatchCmdExe.updateMatchFlagByIds(ids, flag);
+    }
+
     /**
      * Ai 打分数据存储.
      *
@@ -30,6 +30,8 @@ import leyramu.framework.lersosa.pulsar.mapper.pulsar.gatewayimpl.database.Pulsa
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 脉冲星保存命令执行器.
  *
@@ -58,6 +60,18 @@ public class PulsarSaveCmdExe {
         return baseMapper.insert(add) > 0;
     }
 
+    /**
+     * 批量新增已知脉冲星.
+     *
+     * @param bos 已知脉冲星列表
+     * @return 是否新增成功
+     */
+    public Boolean insertBatchByBo(List<PulsarBo> bos) {
+        List<PulsarE> list = MapstructUtils.convert(bos, PulsarE.class);
+        list.forEach(this::validEntityBeforeSave);
+        return baseMapper.insertBatch(list);
+    }
+
     /**
      * 保存前的数据校验.
      */
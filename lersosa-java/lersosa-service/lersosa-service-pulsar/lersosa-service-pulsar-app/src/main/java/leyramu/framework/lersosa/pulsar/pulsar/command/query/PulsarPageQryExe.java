@@ -23,6 +23,8 @@
 
 package leyramu.framework.lersosa.pulsar.pulsar.command.query;
 
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
@@ -36,8 +38,11 @@ import leyramu.framework.lersosa.pulsar.mapper.pulsar.gatewayimpl.database.Pulsa
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 脉冲星查询执行器.
@@ -50,6 +55,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PulsarPageQryExe {
 
+    /**
+     * 单条语句的名称数量上限.
+     */
+    private static final int BATCH_SIZE = 1000;
+
     /**
      * 脉冲星信息映射器.
      */
@@ -65,6 +75,22 @@ public class PulsarPageQryExe {
         return baseMapper.selectVoOne(Wrappers.lambdaQuery(PulsarE.class).eq(PulsarE::getName, name));
     }
 
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    public Set<String> queryExistNames(Collection<String> names) {
+        Set<String> exists = new HashSet<>();
+        for (List<String> part : CollUtil.split(names, BATCH_SIZE)) {
+            exists.addAll(baseMapper.selectObjs(Wrappers.lambdaQuery(PulsarE.class)
+                .select(PulsarE::getName)
+                .in(PulsarE::getName, part), Convert::toStr));
+        }
+        return exists;
+    }
+
     /**
      * 分页查询已知脉冲星列表.
      *
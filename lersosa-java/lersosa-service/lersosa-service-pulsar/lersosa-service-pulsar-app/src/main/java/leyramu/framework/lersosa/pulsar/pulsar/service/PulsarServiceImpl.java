@@ -37,6 +37,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 脉冲星信息业务层.
@@ -80,6 +81,17 @@ public class PulsarServiceImpl implements PulsarServiceI {
         return pulsarPageQryExe.queryByName(name);
     }
 
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    @Override
+    public Set<String> queryExistNames(Collection<String> names) {
+        return pulsarPageQryExe.queryExistNames(names);
+    }
+
     /**
      * 分页查询已知脉冲星列表.
      *
@@ -114,6 +126,17 @@ public class PulsarServiceImpl implements PulsarServiceI {
         return pulsarSaveCmdExe.insertByBo(bo);
     }
 
+    /**
+     * 批量新增已知脉冲星.
+     *
+     * @param bos 已知脉冲星列表
+     * @return 是否新增成功
+     */
+    @Override
+    public Boolean insertBatchByBo(List<PulsarBo> bos) {
+        return pulsarSaveCmdExe.insertBatchByBo(bos);
+    }
+
     /**
      * 修改已知脉冲星.
      *
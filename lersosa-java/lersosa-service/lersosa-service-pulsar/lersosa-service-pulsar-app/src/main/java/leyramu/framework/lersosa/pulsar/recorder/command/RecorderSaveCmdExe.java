@@ -30,6 +30,8 @@ import leyramu.framework.lersosa.pulsar.mapper.recorder.gatewayimpl.database.Rec
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 新脉冲星保存命令执行器.
  *
@@ -58,6 +60,18 @@ public class RecorderSaveCmdExe {
         return baseMapper.insert(add) > 0;
     }
 
+    /**
+     * 批量新增新脉冲星.
+     *
+     * @param bos 新脉冲星列表
+     * @return 是否新增成功
+     */
+    public Boolean insertBatchByBo(List<RecorderBo> bos) {
+        List<RecorderE> list = MapstructUtils.convert(bos, RecorderE.class);
+        list.forEach(this::validEntityBeforeSave);
+        return baseMapper.insertBatch(list);
+    }
+
     /**
      * 保存前的数据校验.
      */
@@ -32,6 +32,10 @@ import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 远程记录服务实现.
  *
@@ -72,4 +76,33 @@ public class RemoteRecorderServiceImpl implements RemoteRecorderService {
     public Boolean getPulsarInfo(String name) {
         return recorderServiceI.queryByName(name) == null;
     }
+
+    /**
+     * 批量保存匹配记录.
+     *
+     * @param remotePulsars 匹配记录
+     * @return 保存结果
+     */
+    @Override
+    public Boolean saveMatchBatchByBo(List<RemotePulsarMatchBo> remotePulsars) {
+        List<RecorderBo> bos = remotePulsars.stream()
+            .map(remote -> {
+                RecorderBo bo = new RecorderBo();
+                BeanUtils.copyProperties(remote, bo);
+                return bo;
+            })
+            .toList();
+        return recorderServiceI.insertBatchByBo(bos);
+    }
+
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    @Override
+    public Set<String> selectExistNames(Collection<String> names) {
+        return recorderServiceI.queryExistNames(names);
+    }
 }
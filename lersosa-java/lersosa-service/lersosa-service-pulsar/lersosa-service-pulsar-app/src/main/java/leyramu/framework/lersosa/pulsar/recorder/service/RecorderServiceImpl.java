@@ -37,6 +37,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 脉冲星记录业务层.
@@ -81,6 +82,17 @@ public class RecorderServiceImpl implements RecorderServiceI {
         return recorderPageQryExe.queryByName(name);
     }
 
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    @Override
+    public Set<String> queryExistNames(Collection<String> names) {
+        return recorderPageQryExe.queryExistNames(names);
+    }
+
     /**
      * 分页查询记录脉冲星列表.
      *
@@ -115,6 +127,17 @@ public class RecorderServiceImpl implements RecorderServiceI {
         return recorderSaveCmdExe.insertByBo(bo);
     }
 
+    /**
+     * 批量新增新脉冲星.
+     *
+     * @param bos 新脉冲星列表
+     * @return 是否新增成功
+     */
+    @Override
+    public Boolean insertBatchByBo(List<RecorderBo> bos) {
+        return recorderSaveCmdExe.insertBatchByBo(bos);
+    }
+
     /**
      * 修改记录脉冲星.
      *
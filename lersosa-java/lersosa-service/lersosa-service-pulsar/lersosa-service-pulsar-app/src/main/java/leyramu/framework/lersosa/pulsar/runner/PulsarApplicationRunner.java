@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.pulsar.runner;
+
+import com.baomidou.lock.LockInfo;
+import com.baomidou.lock.LockTemplate;
+import com.baomidou.lock.executor.RedissonLockExecutor;
+import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.pulsar.mark.command.MarkStatCmdExe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 初始化 pulsar 模块对应业务数据.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PulsarApplicationRunner implements ApplicationRunner {
+
+    /**
+     * 标记统计校正间隔 (分钟).
+     */
+    private static final long RECONCILE_INTERVAL = 60L;
+
+    /**
+     * 标记统计校正锁(多节点同时到期时只有一个节点执行).
+     */
+    private static final String RECONCILE_LOCK_KEY = GlobalConstants.GLOBAL_REDIS_KEY + "pulsar_mark_stat:lock";
+
+    /**
+     * 标记统计最近一次校正完成时间 key.
+     */
+    private static final String RECONCILE_TIME_KEY = GlobalConstants.GLOBAL_REDIS_KEY + "pulsar_mark_stat:reconciled";
+
+    /**
+     * 校正锁最长持有时间.
+     */
+    private static final long RECONCILE_LOCK_EXPIRE = Duration.ofMinutes(30).toMillis();
+
+    private final MarkStatCmdExe markStatCmdExe;
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final LockTemplate lockTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 标记统计计数 启动时全量校正一次(首次部署时据此生成) 之后定期校正绕过增量维护的写入
+        scheduledExecutorService.scheduleWithFixedDelay(this::reconcile, 0, RECONCILE_INTERVAL, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 校正标记统计计数 (同一周期内只有一个节点执行).
+     */
+    private void reconcile() {
+        try {
+            long interval = TimeUnit.MINUTES.toMillis(RECONCILE_INTERVAL);
+            if (System.currentTimeMillis() - RedisUtils.getAtomicValue(RECONCILE_TIME_KEY) < interval) {
+                return;
+            }
+            LockInfo lockInfo = lockTemplate.lock(RECONCILE_LOCK_KEY, RECONCILE_LOCK_EXPIRE, 0L, RedissonLockExecutor.class);
+            if (lockInfo == null) {
+                log.info("其他节点正在校正标记统计 跳过");
+                return;
+            }
+            try {
+                // 获取锁后再次检查 其他节点可能刚完成校正
+                if (System.currentTimeMillis() - RedisUtils.getAtomicValue(RECONCILE_TIME_KEY) < interval) {
+                    return;
+                }
+                markStatCmdExe.reconcile();
+                RedisUtils.setAtomicValue(RECONCILE_TIME_KEY, System.currentTimeMillis());
+            } finally {
+                lockTemplate.releaseLock(lockInfo);
+            }
+        } catch (Exception e) {
+            log.error("标记统计校正失败", e);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.pulsar.mark.command;
+
+import leyramu.framework.lersosa.pulsar.api.Mark.co.ChartECo;
+import leyramu.framework.lersosa.pulsar.api.Mark.co.UserEvaluateV;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatGroup;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkStatMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.IntStream;
+
+import static leyramu.framework.lersosa.pulsar.mark.constant.markEvaluateConstant.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 标记图表基准测试.
+ * <p>
+ * 对 1000 万条标记数据, 对比调整前每次读取全部标记并分片累加 (含结果映射为对象的开销), 与调整后读取计数表的图表耗时,
+ * 以及增量维护给每次标记修改增加的计数计算开销. 数据库以内存数据代替, 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2025/1/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class MarkChartBenchmark {
+
+    private static final String TENANT_ID = "000000";
+
+    private static final int THREAD_COUNT = 4;
+
+    /**
+     * 标记人 (下标 0 为未标记时的空串).
+     */
+    private static final String[] USERS = IntStream.rangeClosed(0, 100)
+        .mapToObj(i -> i == 0 ? "" : i == 1 ? ADMIN : "user" + i)
+        .toArray(String[]::new);
+
+    /**
+     * 标记数据条数.
+     */
+    @Param({"10000000"})
+    private int rows;
+
+    private byte[] flags;
+
+    private byte[] checks;
+
+    private byte[] flagUsers;
+
+    private byte[] reFlagUsers;
+
+    private MarkChartCmdExe markChartCmdExe;
+
+    private MarkStatCmdExe markStatCmdExe;
+
+    private List<MarkE> before;
+
+    private List<MarkE> updates;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        flags = new byte[rows];
+        checks = new byte[rows];
+        flagUsers = new byte[rows];
+        reFlagUsers = new byte[rows];
+        int users = USERS.length;
+        long[] groups = new long[5 * 3 * users * users];
+        for (int i = 0; i < rows; i++) {
+            flags[i] = (byte) random.nextInt(5);
+            checks[i] = (byte) random.nextInt(3);
+            flagUsers[i] = (byte) (checks[i] == 0 ? 0 : 1 + random.nextInt(users - 1));
+            reFlagUsers[i] = (byte) (checks[i] == 2 ? 1 + random.nextInt(users - 1) : 0);
+            groups[((flags[i] * 3 + checks[i]) * users + flagUsers[i]) * users + reFlagUsers[i]]++;
+        }
+
+        // 按分组计数生成计数表 与上线时首次校正相同
+        List<MarkStatE> stats = new ArrayList<>();
+        MarkStatMapper collector = mock(MarkStatMapper.class, withSettings().stubOnly());
+        when(collector.increaseBatch(anyCollection())).thenAnswer(invocation -> {
+            stats.addAll(invocation.<Collection<MarkStatE>>getArgument(0));
+            return stats.size();
+        });
+        MarkMapper markMapper = mock(MarkMapper.class, withSettings().stubOnly());
+        when(markMapper.selectStatGroups(TENANT_ID)).thenAnswer(_ -> {
+            List<MarkStatGroup> list = new ArrayList<>();
+            for (int key = 0; key < groups.length; key++) {
+                if (groups[key] > 0) {
+                    MarkStatGroup group = new MarkStatGroup();
+                    group.setReFlagUser(USERS[key % users]);
+                    group.setFlagUser(USERS[key / users % users]);
+                    group.setCheck(key / users / users % 3);
+                    group.setFlag(key / users / users / 3);
+                    group.setTotal(groups[key]);
+                    list.add(group);
+                }
+            }
+            return list;
+        });
+        new MarkStatCmdExe(markMapper, collector).reconcileTenant(TENANT_ID);
+
+        MarkStatMapper markStatMapper = mock(MarkStatMapper.class, withSettings().stubOnly());
+        when(markStatMapper.selectList(any())).thenReturn(stats);
+        when(markStatMapper.increaseBatch(anyCollection())).thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+        markChartCmdExe = new MarkChartCmdExe(markStatMapper);
+        markStatCmdExe = new MarkStatCmdExe(markMapper, markStatMapper);
+
+        before = List.of(row(0));
+        updates = List.of(MarkE.builder().id(0L).flag((flags[0] + 1) % 5).check(2).reFlagUser(ADMIN).build());
+
+        ChartECo expected = legacy();
+        ChartECo actual = counters();
+        if (!expected.getCandidateTotal().equals(actual.getCandidateTotal())
+            || !expected.getPositiveTotal().equals(actual.getPositiveTotal())
+            || !marks(expected).equals(marks(actual))) {
+            throw new IllegalStateException("计数表与全量统计结果不一致");
+        }
+        System.out.println("计数表行数 " + stats.size());
+    }
+
+    /**
+     * 调整前: 读取全部标记 (映射为对象), 新建线程池分片累加.
+     */
+    @Benchmark
+    public ChartECo legacy() {
+        List<MarkE> list = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            list.add(row(i));
+        }
+
+        ConcurrentMap<Integer, LongAccumulator> map = new ConcurrentHashMap<>(0);
+        ConcurrentMap<String, ConcurrentMap<String, LongAccumulator>> userMap = new ConcurrentHashMap<>(0);
+        IntStream.rangeClosed(0, 4).forEach(i -> map.put(i, new LongAccumulator(Long::sum, 0L)));
+        try (ThreadPoolExecutor commonPool = new ThreadPoolExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors() * 2,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(1000),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        )) {
+            int totalSize = list.size();
+            CompletableFuture.allOf(IntStream.range(0, THREAD_COUNT)
+                .mapToObj(i -> list.subList(i * totalSize / THREAD_COUNT, Math.min((i + 1) * totalSize / THREAD_COUNT, totalSize)))
+                .map(subList -> CompletableFuture.runAsync(() -> subList.forEach(candidateE -> {
+                    map.get(candidateE.getFlag()).accumulate(1);
+                    if (!(candidateE.getCheck() == 0)) {
+                        ConcurrentMap<String, LongAccumulator> innerMap = userMap.computeIfAbsent(candidateE.getFlagUser() == null ? UNUSED_DATA : candidateE.getFlagUser(), _ -> new ConcurrentHashMap<>());
+                        innerMap.computeIfAbsent(candidateE.getFlag() == 1 ? POSITIVE_SAMPLE : NEGATIVE_SAMPLE, _ -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
+                        innerMap.computeIfAbsent(candidateE.getCheck() == 1 ? UNUSED_DATA : BE_CHECKED, _ -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
+                        innerMap.computeIfAbsent(Objects.equals(candidateE.getReFlagUser(), ADMIN) ? BE_ADMIN_CHECKED : UNUSED_DATA, _ -> new LongAccumulator(Long::sum, 0L)).accumulate(1);
+                        userMap.computeIfAbsent(candidateE.getCheck() == 1 ? UNUSED_DATA : candidateE.getReFlagUser(), _ -> new ConcurrentHashMap<>())
+                            .computeIfAbsent(CHECKED, _ -> new LongAccumulator(Long::sum, 0L))
+                            .accumulate(1);
+                    }
+                }), commonPool))
+                .toArray(CompletableFuture[]::new)).join();
+            commonPool.shutdown();
+        }
+
+        long[] counts = new long[5];
+        map.forEach((key, acc) -> counts[key] = acc.longValue());
+        // 工作量评分只与用户数相关 此处省略 仅统计标记数与修改数
+        List<UserEvaluateV> userEvaluateList = userMap.entrySet().stream()
+            .filter(entry -> !Objects.equals(entry.getKey(), UNUSED_DATA) && !Objects.equals(entry.getKey(), USER) && !Objects.equals(entry.getKey(), ""))
+            .map(entry -> new UserEvaluateV(entry.getKey(), 0.0,
+                count(entry.getValue(), POSITIVE_SAMPLE) + count(entry.getValue(), NEGATIVE_SAMPLE),
+                count(entry.getValue(), CHECKED)))
+            .toList();
+        return ChartECo.builder()
+            .unlabeledTotal(counts[0])
+            .positiveTotal(counts[1])
+            .negativeTotal(counts[2])
+            .foundCandidateTotal(counts[3])
+            .newCandidateTotal(counts[4])
+            .candidateTotal(Arrays.stream(counts).sum())
+            .userEvaluateList(userEvaluateList)
+            .build();
+    }
+
+    /**
+     * 调整后: 读取计数表.
+     */
+    @Benchmark
+    public ChartECo counters() {
+        return markChartCmdExe.getChartE();
+    }
+
+    /**
+     * 增量维护: 修改一条标记时计算并累加计数增量 (不含数据库往返).
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public List<MarkE> delta() {
+        markStatCmdExe.onUpdate(before, updates);
+        return before;
+    }
+
+    private static Map<String, List<Long>> marks(ChartECo chart) {
+        Map<String, List<Long>> marks = new HashMap<>();
+        chart.getUserEvaluateList().forEach(user -> marks.put(user.name(), List.of(user.markNum(), user.checkNum())));
+        return marks;
+    }
+
+    private static long count(Map<String, LongAccumulator> innerMap, String key) {
+        LongAccumulator accumulator = innerMap.get(key);
+        return accumulator == null ? 0L : accumulator.longValue();
+    }
+
+    /**
+     * 第 i 条标记 (与 selectList 映射结果相同的对象).
+     */
+    private MarkE row(int i) {
+        return MarkE.builder()
+            .id((long) i)
+            .tenantId(TENANT_ID)
+            .flag((int) flags[i])
+            .check((int) checks[i])
+            .flagUser(USERS[flagUsers[i]])
+            .reFlagUser(USERS[reFlagUsers[i]])
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(MarkChartBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.pulsar.mark.command;
+
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatGroup;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkMapper;
+import leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database.MarkStatMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 标记统计增量维护测试.
+ * <p>
+ * 以内存中的标记表与计数表代替数据库, 随机执行新增, 修改, 删除并按 onInsert, onUpdate, onDelete 累加计数,
+ * 每轮结束后与按分组计数全量重建 (reconcileTenant) 的结果比较, 两者必须完全一致.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2025/1/16
+ */
+@DisplayName("标记统计增量维护测试")
+public class MarkStatCmdExeTest {
+
+    private static final String[] TENANTS = {"000000", "100001", "100002"};
+
+    private static final String[] USERS = {"", "alice", "bob", "user", "Leyramu"};
+
+    private static final int ROUNDS = 50;
+
+    private static final int OPERATIONS_PER_ROUND = 200;
+
+    private static GenericApplicationContext context;
+
+    private final Random random = new Random(20250116L);
+
+    /**
+     * 内存标记表 (模拟数据库, 包含列默认值).
+     */
+    private final Map<Long, MarkE> table = new LinkedHashMap<>();
+
+    private long nextId = 1;
+
+    @BeforeAll
+    public static void createContext() {
+        context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("test", Map.of("tenant.enable", "false")));
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+    }
+
+    @AfterAll
+    public static void closeContext() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("随机增删改后增量计数与全量重建一致")
+    public void deltasMatchFullRecount() {
+        Map<String, Long> incremental = new HashMap<>();
+        MarkStatCmdExe markStatCmdExe = new MarkStatCmdExe(mock(MarkMapper.class), statMapper(incremental));
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < OPERATIONS_PER_ROUND; i++) {
+                switch (table.isEmpty() ? 0 : random.nextInt(3)) {
+                    case 0 -> insert(markStatCmdExe);
+                    case 1 -> update(markStatCmdExe);
+                    default -> delete(markStatCmdExe);
+                }
+            }
+            assertEquals(recount(), nonZero(incremental), "第 " + round + " 轮计数不一致");
+        }
+        assertFalse(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("修改对象中为空的字段不影响计数")
+    public void nullFieldsInUpdateAreUnchanged() {
+        Map<String, Long> incremental = new HashMap<>();
+        MarkStatCmdExe markStatCmdExe = new MarkStatCmdExe(mock(MarkMapper.class), statMapper(incremental));
+        MarkE mark = MarkE.builder().id(nextId++).tenantId(TENANTS[0]).flag(1).check(2).flagUser("alice").reFlagUser("Leyramu").build();
+        table.put(mark.getId(), mark);
+        markStatCmdExe.onInsert(List.of(copy(mark)));
+        Map<String, Long> before = nonZero(incremental);
+
+        markStatCmdExe.onUpdate(List.of(copy(mark)), List.of(MarkE.builder().id(mark.getId()).build()));
+
+        assertEquals(before, nonZero(incremental));
+        assertEquals(recount(), nonZero(incremental));
+    }
+
+    private void insert(MarkStatCmdExe markStatCmdExe) {
+        List<MarkE> marks = new ArrayList<>();
+        for (int i = random.nextInt(5) + 1; i > 0; i--) {
+            MarkE mark = MarkE.builder()
+                .id(nextId++)
+                .tenantId(pick(TENANTS))
+                .flag(random.nextInt(4) == 0 ? null : random.nextInt(6))
+                .check(randomCheck())
+                .flagUser(random.nextInt(4) == 0 ? null : pick(USERS))
+                .reFlagUser(random.nextInt(4) == 0 ? null : pick(USERS))
+                .build();
+            marks.add(mark);
+        }
+        markStatCmdExe.onInsert(marks);
+        // 与表默认值一致: flag 为 0, 标记人为空串
+        for (MarkE mark : marks) {
+            MarkE stored = copy(mark);
+            stored.setFlag(Objects.requireNonNullElse(mark.getFlag(), 0));
+            stored.setFlagUser(Objects.requireNonNullElse(mark.getFlagUser(), ""));
+            stored.setReFlagUser(Objects.requireNonNullElse(mark.getReFlagUser(), ""));
+            table.put(stored.getId(), stored);
+        }
+    }
+
+    private void update(MarkStatCmdExe markStatCmdExe) {
+        List<MarkE> before = sample();
+        List<MarkE> updates = before.stream()
+            .map(old -> MarkE.builder()
+                .id(old.getId())
+                .flag(random.nextBoolean() ? null : random.nextInt(6))
+                .check(random.nextBoolean() ? null : randomCheck())
+                .flagUser(random.nextBoolean() ? null : pick(USERS))
+                .reFlagUser(random.nextBoolean() ? null : pick(USERS))
+                .build())
+            .toList();
+        markStatCmdExe.onUpdate(before, updates);
+        for (MarkE change : updates) {
+            MarkE stored = table.get(change.getId());
+            Optional.ofNullable(change.getFlag()).ifPresent(stored::setFlag);
+            Optional.ofNullable(change.getCheck()).ifPresent(stored::setCheck);
+            Optional.ofNullable(change.getFlagUser()).ifPresent(stored::setFlagUser);
+            Optional.ofNullable(change.getReFlagUser()).ifPresent(stored::setReFlagUser);
+        }
+    }
+
+    private void delete(MarkStatCmdExe markStatCmdExe) {
+        List<MarkE> before = sample();
+        markStatCmdExe.onDelete(before);
+        before.forEach(mark -> table.remove(mark.getId()));
+    }
+
+    /**
+     * 随机选取若干条记录 (与 lockByIds 一样返回修改前的副本).
+     */
+    private List<MarkE> sample() {
+        List<Long> ids = new ArrayList<>(table.keySet());
+        Collections.shuffle(ids, random);
+        return ids.subList(0, Math.min(ids.size(), random.nextInt(5) + 1)).stream()
+            .map(id -> copy(table.get(id)))
+            .toList();
+    }
+
+    /**
+     * 按分组计数全量重建全部租户的计数.
+     */
+    private Map<String, Long> recount() {
+        Map<String, Long> rebuilt = new HashMap<>();
+        MarkMapper markMapper = mock(MarkMapper.class);
+        when(markMapper.selectStatGroups(anyString())).thenAnswer(invocation -> groups(invocation.getArgument(0)));
+        MarkStatCmdExe markStatCmdExe = new MarkStatCmdExe(markMapper, statMapper(rebuilt));
+        for (String tenantId : TENANTS) {
+            markStatCmdExe.reconcileTenant(tenantId);
+        }
+        return nonZero(rebuilt);
+    }
+
+    /**
+     * 与 MarkMapper.selectStatGroups 相同的分组计数.
+     */
+    private List<MarkStatGroup> groups(String tenantId) {
+        return table.values().stream()
+            .filter(mark -> tenantId.equals(mark.getTenantId()))
+            .collect(Collectors.groupingBy(mark -> Arrays.asList(mark.getFlag(), mark.getCheck(), mark.getFlagUser(), mark.getReFlagUser()),
+                Collectors.counting()))
+            .entrySet().stream()
+            .map(entry -> {
+                MarkStatGroup group = new MarkStatGroup();
+                group.setFlag((Integer) entry.getKey().get(0));
+                group.setCheck((Integer) entry.getKey().get(1));
+                group.setFlagUser((String) entry.getKey().get(2));
+                group.setReFlagUser((String) entry.getKey().get(3));
+                group.setTotal(entry.getValue());
+                return group;
+            })
+            .toList();
+    }
+
+    /**
+     * 内存计数表, increaseBatch 按 (租户, 用户, 统计项) 累加.
+     */
+    private static MarkStatMapper statMapper(Map<String, Long> stats) {
+        MarkStatMapper markStatMapper = mock(MarkStatMapper.class);
+        when(markStatMapper.increaseBatch(anyCollection())).thenAnswer(invocation -> {
+            Collection<MarkStatE> deltas = invocation.getArgument(0);
+            deltas.forEach(delta -> stats.merge(delta.getTenantId() + "|" + delta.getStatUser() + "|" + delta.getStatKey(),
+                delta.getStatCount(), Long::sum));
+            return deltas.size();
+        });
+        return markStatMapper;
+    }
+
+    private static Map<String, Long> nonZero(Map<String, Long> stats) {
+        return stats.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static MarkE copy(MarkE mark) {
+        return MarkE.builder()
+            .id(mark.getId())
+            .tenantId(mark.getTenantId())
+            .flag(mark.getFlag())
+            .check(mark.getCheck())
+            .flagUser(mark.getFlagUser())
+            .reFlagUser(mark.getReFlagUser())
+            .build();
+    }
+
+    private Integer randomCheck() {
+        int check = random.nextInt(4);
+        return check == 3 ? null : check;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
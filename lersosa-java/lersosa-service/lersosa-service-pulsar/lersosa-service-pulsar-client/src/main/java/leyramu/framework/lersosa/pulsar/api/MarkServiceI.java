@@ -105,6 +105,15 @@ public interface MarkServiceI {
      */
     Boolean updateMatchFlagById(Long id, Integer flag);
 
+    /**
+     * 批量更新匹配标记.
+     *
+     * @param ids  脉冲星ID集合
+     * @param flag 脉冲星匹配结果标识
+     * @return 更新的条数
+     */
+    Integer updateMatchFlagByIds(Collection<Long> ids, Integer flag);
+
     /**
      * 保存ai打分数据.
      *
@@ -30,6 +30,7 @@ import leyramu.framework.lersosa.pulsar.domain.pulsar.model.PulsarVo;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 脉冲星信息业务层 接口.
@@ -48,6 +49,14 @@ public interface PulsarServiceI {
      */
     PulsarVo queryByName(String name);
 
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    Set<String> queryExistNames(Collection<String> names);
+
     /**
      * 分页查询已知脉冲星列表.
      *
@@ -73,6 +82,14 @@ public interface PulsarServiceI {
      */
     Boolean insertByBo(PulsarBo bo);
 
+    /**
+     * 批量新增已知脉冲星.
+     *
+     * @param bos 已知脉冲星列表
+     * @return 是否新增成功
+     */
+    Boolean insertBatchByBo(List<PulsarBo> bos);
+
     /**
      * 修改已知脉冲星.
      *
@@ -30,6 +30,7 @@ import leyramu.framework.lersosa.pulsar.domain.recorder.model.RecorderVo;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 脉冲星记录业务层 接口.
@@ -49,6 +50,14 @@ public interface RecorderServiceI {
      */
     RecorderVo queryByName(String name);
 
+    /**
+     * 查询已存在的脉冲星名称.
+     *
+     * @param names 脉冲星名称集合
+     * @return 已存在的名称
+     */
+    Set<String> queryExistNames(Collection<String> names);
+
     /**
      * 分页查询记录脉冲星列表.
      *
@@ -74,6 +83,14 @@ public interface RecorderServiceI {
      */
     Boolean insertByBo(RecorderBo bo);
 
+    /**
+     * 批量新增新脉冲星.
+     *
+     * @param bos 新脉冲星列表
+     * @return 是否新增成功
+     */
+    Boolean insertBatchByBo(List<RecorderBo> bos);
+
     /**
      * 修改记录脉冲星.
      *
@@ -30,11 +30,14 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import leyramu.framework.lersosa.common.mybatis.core.mapper.BaseMapperPlus;
 import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkBo;
 import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkE;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatGroup;
 import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkVo;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 脉冲星打分标记数据库映射.
@@ -55,4 +58,26 @@ public interface MarkMapper extends BaseMapperPlus<MarkE, MarkVo> {
      */
     @Update("update pulsar_mark set flag = #{flag} where id = #{id}")
     boolean updateFlagById(@Param("flag") Integer flag, @Param("id") Long id);
+
+    /**
+     * 按参与图表统计的字段分组计数.
+     *
+     * @param tenantId 租户 ID
+     * @return 分组计数
+     */
+    @Select("""
+        select flag, `check`, flag_user, reflag_user as re_flag_user, count(*) as total
+        from pulsar_mark
+        where tenant_id = #{tenantId}
+        group by flag, `check`, flag_user, reflag_user
+        """)
+    List<MarkStatGroup> selectStatGroups(@Param("tenantId") String tenantId);
+
+    /**
+     * 查询存在标记数据的租户 (需在忽略租户时调用).
+     *
+     * @return 租户 ID 列表
+     */
+    @Select("select distinct tenant_id from pulsar_mark")
+    List<String> selectTenantIds();
 }
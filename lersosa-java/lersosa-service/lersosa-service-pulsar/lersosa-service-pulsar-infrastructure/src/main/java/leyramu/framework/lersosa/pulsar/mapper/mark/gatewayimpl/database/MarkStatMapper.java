@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.pulsar.mapper.mark.gatewayimpl.database;
+
+import com.baomidou.dynamic.datasource.annotation.DS;
+import leyramu.framework.lersosa.common.mybatis.core.mapper.BaseMapperPlus;
+import leyramu.framework.lersosa.pulsar.domain.mark.model.MarkStatE;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 脉冲星打分统计计数数据库映射.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2025/1/16
+ */
+@DS("sharding")
+public interface MarkStatMapper extends BaseMapperPlus<MarkStatE, MarkStatE> {
+
+    /**
+     * 批量累加计数 (不存在时新增).
+     *
+     * @param deltas 计数增量
+     * @return 影响行数
+     */
+    @Insert("""
+        <script>
+        insert into pulsar_mark_stat (tenant_id, stat_user, stat_key, stat_count) values
+        <foreach collection="deltas" item="item" separator=",">
+            (#{item.tenantId}, #{item.statUser}, #{item.statKey}, #{item.statCount})
+        </foreach>
+        on duplicate key update stat_count = stat_count + values(stat_count)
+        </script>
+        """)
+    int increaseBatch(@Param("deltas") Collection<MarkStatE> deltas);
+
+    /**
+     * 查询存在计数的租户 (需在忽略租户时调用).
+     *
+     * @return 租户 ID 列表
+     */
+    @Select("select distinct tenant_id from pulsar_mark_stat")
+    List<String> selectTenantIds();
+}
@@ -31,9 +31,14 @@ package leyramu.framework.lersosa.pulsar.mark.constant;
 public interface markEvaluateConstant {
 
     /**
-     * 分片数量.
+     * 各标记总数的统计用户.
      */
-    int THREAD_COUNT = 4;
+    String TOTAL_USER = "";
+
+    /**
+     * 标记总数统计项前缀 (后接标记值).
+     */
+    String FLAG_PREFIX = "FLAG_";
 
     /**
      * 正例样本.
@@ -44,8 +44,11 @@ import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -70,31 +73,81 @@ public class RemoteFileServiceImpl implements RemoteFileService {
     @Transactional(rollbackFor = Exception.class)
     @Override
     public RemoteFile upload(String name, String originalFilename, String contentType, byte[] file) throws ServiceException {
-        try {
+        try (OssClient storage = OssFactory.instance()) {
             String suffix = StringUtils.substring(originalFilename, originalFilename.lastIndexOf("."), originalFilename.length());
-            OssClient storage = OssFactory.instance();
             UploadResult uploadResult = storage.uploadSuffix(file, suffix, contentType);
-            // 保存文件信息
-            SysOssBo oss = new SysOssBo();
-            oss.setUrl(uploadResult.getUrl());
-            oss.setFileSuffix(suffix);
-            oss.setFileName(uploadResult.getFilename());
-            oss.setOriginalName(originalFilename);
-            oss.setService(storage.getConfigKey());
-            sysOssService.insertByBo(oss);
-            RemoteFile sysFile = new RemoteFile();
-            sysFile.setOssId(oss.getOssId());
-            sysFile.setName(uploadResult.getFilename());
-            sysFile.setUrl(uploadResult.getUrl());
-            sysFile.setOriginalName(originalFilename);
-            sysFile.setFileSuffix(suffix);
-            return sysFile;
+            return saveOss(storage.getConfigKey(), uploadResult.getFilename(), originalFilename, uploadResult.getUrl());
         } catch (Exception e) {
             log.error("上传文件失败", e);
             throw new ServiceException("上传文件失败");
         }
     }
 
+    /**
+     * 登记已由调用方直接写入对象存储的文件.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public RemoteFile record(String service, String name, String originalFilename, String url) throws ServiceException {
+        try {
+            return saveOss(service, name, originalFilename, url);
+        } catch (Exception e) {
+            log.error("登记文件失败", e);
+            throw new ServiceException("登记文件失败");
+        }
+    }
+
+    /**
+     * 批量登记已由调用方直接写入对象存储的文件.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public List<RemoteFile> recordBatch(String service, List<RemoteFile> files) throws ServiceException {
+        try {
+            List<SysOssBo> bos = new ArrayList<>(files.size());
+            for (RemoteFile file : files) {
+                String originalFilename = file.getOriginalName();
+                SysOssBo oss = new SysOssBo();
+                oss.setUrl(file.getUrl());
+                oss.setFileSuffix(StringUtils.substring(originalFilename, originalFilename.lastIndexOf("."), originalFilename.length()));
+                oss.setFileName(file.getName());
+                oss.setOriginalName(originalFilename);
+                oss.setService(service);
+                bos.add(oss);
+            }
+            sysOssService.insertBatchByBo(bos);
+            for (int i = 0; i < files.size(); i++) {
+                files.get(i).setOssId(bos.get(i).getOssId());
+                files.get(i).setFileSuffix(bos.get(i).getFileSuffix());
+            }
+            return files;
+        } catch (Exception e) {
+            log.error("批量登记文件失败", e);
+            throw new ServiceException("批量登记文件失败");
+        }
+    }
+
+    /**
+     * 保存文件信息.
+     */
+    private RemoteFile saveOss(String service, String name, String originalFilename, String url) {
+        String suffix = StringUtils.substring(originalFilename, originalFilename.lastIndexOf("."), originalFilename.length());
+        SysOssBo oss = new SysOssBo();
+        oss.setUrl(url);
+        oss.setFileSuffix(suffix);
+        oss.setFileName(name);
+        oss.setOriginalName(originalFilename);
+        oss.setService(service);
+        sysOssService.insertByBo(oss);
+        RemoteFile sysFile = new RemoteFile();
+        sysFile.setOssId(oss.getOssId());
+        sysFile.setName(name);
+        sysFile.setUrl(url);
+        sysFile.setOriginalName(originalFilename);
+        sysFile.setFileSuffix(suffix);
+        return sysFile;
+    }
+
     /**
      * 通过ossId查询对应的url.
      *
@@ -106,6 +159,23 @@ public class RemoteFileServiceImpl implements RemoteFileService {
         return sysOssService.selectUrlByIds(ossIds);
     }
 
+    /**
+     * 通过ossId批量查询对应的url.
+     *
+     * @param ossIds ossId集合
+     * @return ossId与url的映射
+     */
+    @Override
+    public Map<Long, String> selectUrlsByIds(List<Long> ossIds) {
+        if (CollectionUtils.isEmpty(ossIds)) {
+            return new HashMap<>(0);
+        }
+        List<SysOssVo> list = sysOssService.listByIds(ossIds);
+        Map<Long, String> map = new HashMap<>(list.size());
+        list.forEach(vo -> map.put(vo.getOssId(), vo.getUrl()));
+        return map;
+    }
+
     /**
      * 通过ossId查询列表.
      *
@@ -37,6 +37,7 @@ import leyramu.framework.lersosa.common.json.utils.JsonUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
 import leyramu.framework.lersosa.common.oss.constant.OssConstant;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
 import leyramu.framework.lersosa.resource.api.ISysOssConfigService;
@@ -113,6 +114,7 @@ public class SysOssConfigServiceImpl implements ISysOssConfigService {
             // 从数据库查询完整的数据做缓存
             config = baseMapper.selectById(config.getOssConfigId());
             CacheUtils.put(CacheNames.SYS_OSS_CONFIG, config.getConfigKey(), JsonUtils.toJsonString(config));
+            OssFactory.refresh(config.getConfigKey());
         }
         return flag;
     }
@@ -132,6 +134,7 @@ public class SysOssConfigServiceImpl implements ISysOssConfigService {
             // 从数据库查询完整的数据做缓存
             config = baseMapper.selectById(config.getOssConfigId());
             CacheUtils.put(CacheNames.SYS_OSS_CONFIG, config.getConfigKey(), JsonUtils.toJsonString(config));
+            OssFactory.refresh(config.getConfigKey());
         }
         return flag;
     }
@@ -159,8 +162,10 @@ public class SysOssConfigServiceImpl implements ISysOssConfigService {
         }
         boolean flag = baseMapper.deleteByIds(ids) > 0;
         if (flag) {
-            list.forEach(sysOssConfig ->
-                CacheUtils.evict(CacheNames.SYS_OSS_CONFIG, sysOssConfig.getConfigKey()));
+            list.forEach(sysOssConfig -> {
+                CacheUtils.evict(CacheNames.SYS_OSS_CONFIG, sysOssConfig.getConfigKey());
+                OssFactory.refresh(sysOssConfig.getConfigKey());
+            });
         }
         return flag;
     }
@@ -188,6 +193,7 @@ public class SysOssConfigServiceImpl implements ISysOssConfigService {
         row += baseMapper.updateById(sysOssConfig);
         if (row > 0) {
             RedisUtils.setCacheObject(OssConstant.DEFAULT_CONFIG_KEY, sysOssConfig.getConfigKey());
+            OssFactory.refresh(sysOssConfig.getConfigKey());
         }
         return row;
     }
@@ -34,10 +34,12 @@ import leyramu.framework.lersosa.common.core.constant.CacheNames;
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.MapstructUtils;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.core.utils.file.FileUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
+import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
 import leyramu.framework.lersosa.common.oss.core.OssClient;
 import leyramu.framework.lersosa.common.oss.entity.UploadResult;
 import leyramu.framework.lersosa.common.oss.enumd.AccessPolicyType;
@@ -56,8 +58,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 文件上传 服务层实现.
@@ -83,8 +85,7 @@ public class SysOssServiceImpl implements ISysOssService {
     public TableDataInfo<SysOssVo> queryPageList(SysOssBo bo, PageQuery pageQuery) {
         LambdaQueryWrapper<SysOss> lqw = buildQueryWrapper(bo);
         Page<SysOssVo> result = baseMapper.selectVoPage(pageQuery.build(), lqw);
-        List<SysOssVo> filterResult = result.getRecords().stream().map(this::matchingUrl).collect(Collectors.toList());
-        result.setRecords(filterResult);
+        result.setRecords(matchingUrls(result.getRecords()));
         return TableDataInfo.build(result);
     }
 
@@ -96,19 +97,19 @@ public class SysOssServiceImpl implements ISysOssService {
      */
     @Override
     public List<SysOssVo> listByIds(Collection<Long> ossIds) {
-        List<SysOssVo> list = new ArrayList<>();
-        SysOssServiceImpl ossService = SpringUtils.getAopProxy(this);
+        Map<Long, SysOssVo> voMap = selectVoMapByIds(ossIds);
+        List<SysOssVo> list = new ArrayList<>(voMap.size());
         for (Long id : ossIds) {
-            SysOssVo vo = ossService.getById(id);
+            SysOssVo vo = voMap.get(id);
             if (ObjectUtil.isNotNull(vo)) {
-                try {
-                    list.add(this.matchingUrl(vo));
-                } catch (Exception ignored) {
-                    // 如果oss异常无法连接则将数据直接返回
-                    list.add(vo);
-                }
+                list.add(vo);
             }
         }
+        try {
+            matchingUrls(list);
+        } catch (Exception ignored) {
+            // 如果oss异常无法连接则将数据直接返回
+        }
         return list;
     }
 
@@ -131,20 +132,41 @@ public class SysOssServiceImpl implements ISysOssService {
      */
     @Override
     public String selectUrlByIds(String ossIds) {
-        List<String> list = new ArrayList<>();
-        SysOssServiceImpl ossService = SpringUtils.getAopProxy(this);
-        for (Long id : StringUtils.splitTo(ossIds, Convert::toLong)) {
-            SysOssVo vo = ossService.getById(id);
-            if (ObjectUtil.isNotNull(vo)) {
-                try {
-                    list.add(this.matchingUrl(vo).getUrl());
-                } catch (Exception ignored) {
-                    // 如果oss异常无法连接则将数据直接返回
-                    list.add(vo.getUrl());
-                }
+        List<SysOssVo> list = listByIds(StringUtils.splitTo(ossIds, Convert::toLong));
+        return StreamUtils.join(list, SysOssVo::getUrl);
+    }
+
+    /**
+     * 批量查询 OSS 对象: 一次批量读取 sys_oss 缓存, 未命中的一次 IN 查询, 再一次批量回填缓存.
+     *
+     * @param ossIds OSS对象ID集合
+     * @return OSS对象ID 与 OSS对象 (返回副本 可直接修改)
+     */
+    private Map<Long, SysOssVo> selectVoMapByIds(Collection<Long> ossIds) {
+        Set<Long> ids = new LinkedHashSet<>(ossIds);
+        Map<Long, SysOssVo> result = new HashMap<>(ids.size());
+        if (ids.isEmpty()) {
+            return result;
+        }
+        Map<Long, SysOssVo> cached = CacheUtils.getAll(CacheNames.SYS_OSS, ids);
+        cached.forEach((id, vo) -> {
+            if (vo != null) {
+                result.put(id, BeanUtil.toBean(vo, SysOssVo.class));
             }
+        });
+        List<Long> misses = StreamUtils.filter(ids, id -> !cached.containsKey(id));
+        if (misses.isEmpty()) {
+            return result;
         }
-        return String.join(StringUtils.SEPARATOR, list);
+        Map<Long, SysOssVo> loaded = new HashMap<>(misses.size());
+        // 与 getById 一致 不存在的记录同样缓存空值
+        misses.forEach(id -> loaded.put(id, null));
+        for (SysOssVo vo : baseMapper.selectVoByIds(misses)) {
+            loaded.put(vo.getOssId(), vo);
+            result.put(vo.getOssId(), BeanUtil.toBean(vo, SysOssVo.class));
+        }
+        CacheUtils.putAll(CacheNames.SYS_OSS, loaded);
+        return result;
     }
 
     private LambdaQueryWrapper<SysOss> buildQueryWrapper(SysOssBo bo) {
@@ -188,9 +210,10 @@ public class SysOssServiceImpl implements ISysOssService {
         }
         FileUtils.setAttachmentResponseHeader(response, sysOss.getOriginalName());
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE + "; charset=UTF-8");
-        OssClient storage = OssFactory.instance(sysOss.getService());
-        long contentLength = storage.download(sysOss.getFileName(), response.getOutputStream());
-        response.setContentLengthLong(contentLength);
+        try (OssClient storage = OssFactory.instance(sysOss.getService())) {
+            long contentLength = storage.download(sysOss.getFileName(), response.getOutputStream());
+            response.setContentLengthLong(contentLength);
+        }
     }
 
     /**
@@ -204,15 +227,17 @@ public class SysOssServiceImpl implements ISysOssService {
     public SysOssVo upload(MultipartFile file) {
         String originalfileName = file.getOriginalFilename();
         String suffix = StringUtils.substring(originalfileName, Objects.requireNonNull(originalfileName).lastIndexOf("."), originalfileName.length());
-        OssClient storage = OssFactory.instance();
-        UploadResult uploadResult;
-        try {
-            uploadResult = storage.uploadSuffix(file.getBytes(), suffix, file.getContentType());
-        } catch (IOException e) {
-            throw new ServiceException(e.getMessage());
+        try (OssClient storage = OssFactory.instance()) {
+            UploadResult uploadResult;
+            // 直接流式上传 避免把整个文件读入内存
+            try (InputStream inputStream = file.getInputStream()) {
+                uploadResult = storage.uploadSuffix(inputStream, suffix, file.getSize(), file.getContentType());
+            } catch (IOException e) {
+                throw new ServiceException(e.getMessage());
+            }
+            // 保存文件信息
+            return buildResultEntity(originalfileName, suffix, storage.getConfigKey(), uploadResult);
         }
-        // 保存文件信息
-        return buildResultEntity(originalfileName, suffix, storage.getConfigKey(), uploadResult);
     }
 
     /**
@@ -225,10 +250,11 @@ public class SysOssServiceImpl implements ISysOssService {
     public SysOssVo upload(File file) {
         String originalfileName = file.getName();
         String suffix = StringUtils.substring(originalfileName, originalfileName.lastIndexOf("."), originalfileName.length());
-        OssClient storage = OssFactory.instance();
-        UploadResult uploadResult = storage.uploadSuffix(file, suffix);
-        // 保存文件信息
-        return buildResultEntity(originalfileName, suffix, storage.getConfigKey(), uploadResult);
+        try (OssClient storage = OssFactory.instance()) {
+            UploadResult uploadResult = storage.uploadSuffix(file, suffix);
+            // 保存文件信息
+            return buildResultEntity(originalfileName, suffix, storage.getConfigKey(), uploadResult);
+        }
     }
 
     private SysOssVo buildResultEntity(String originalfileName, String suffix, String configKey, UploadResult uploadResult) {
@@ -257,6 +283,21 @@ public class SysOssServiceImpl implements ISysOssService {
         }
     }
 
+    /**
+     * 批量新增OSS对象存储.
+     *
+     * @param bos SysOssBo 对象列表
+     */
+    @Override
+    public void insertBatchByBo(List<SysOssBo> bos) {
+        List<SysOss> list = BeanUtil.copyToList(bos, SysOss.class);
+        if (baseMapper.insertBatch(list)) {
+            for (int i = 0; i < list.size(); i++) {
+                bos.get(i).setOssId(list.get(i).getOssId());
+            }
+        }
+    }
+
     /**
      * 删除OSS对象存储.
      *
@@ -272,8 +313,9 @@ public class SysOssServiceImpl implements ISysOssService {
         }
         List<SysOss> list = baseMapper.selectByIds(ids);
         for (SysOss sysOss : list) {
-            OssClient storage = OssFactory.instance(sysOss.getService());
-            storage.delete(sysOss.getUrl());
+            try (OssClient storage = OssFactory.instance(sysOss.getService())) {
+                storage.delete(sysOss.getUrl());
+            }
         }
         return baseMapper.deleteByIds(ids) > 0;
     }
@@ -284,11 +326,31 @@ public class SysOssServiceImpl implements ISysOssService {
      * @param oss OSS对象
      * @return oss 匹配Url的OSS对象
      */
+    /**
+     * 批量处理私有桶的URL 同一存储配置的文件一次批量签名(复用缓存中未过期的URL).
+     *
+     * @param list OSS对象列表
+     * @return 处理后的列表
+     */
+    private List<SysOssVo> matchingUrls(List<SysOssVo> list) {
+        Map<String, List<SysOssVo>> byService = StreamUtils.groupByKey(list, SysOssVo::getService);
+        byService.forEach((service, group) -> {
+            try (OssClient storage = OssFactory.instance(service)) {
+                if (AccessPolicyType.PRIVATE == storage.getAccessPolicy()) {
+                    Map<String, String> urls = storage.getPrivateUrls(StreamUtils.toSet(group, SysOssVo::getFileName), 120);
+                    group.forEach(vo -> vo.setUrl(urls.get(vo.getFileName())));
+                }
+            }
+        });
+        return list;
+    }
+
     private SysOssVo matchingUrl(SysOssVo oss) {
-        OssClient storage = OssFactory.instance(oss.getService());
-        // 仅修改桶类型为 private 的URL，临时URL时长为120s
-        if (AccessPolicyType.PRIVATE == storage.getAccessPolicy()) {
-            oss.setUrl(storage.getPrivateUrl(oss.getFileName(), 120));
+        try (OssClient storage = OssFactory.instance(oss.getService())) {
+            // 仅修改桶类型为 private 的URL，临时URL时长为120s
+            if (AccessPolicyType.PRIVATE == storage.getAccessPolicy()) {
+                oss.setUrl(storage.getPrivateUrl(oss.getFileName(), 120));
+            }
         }
         return oss;
     }
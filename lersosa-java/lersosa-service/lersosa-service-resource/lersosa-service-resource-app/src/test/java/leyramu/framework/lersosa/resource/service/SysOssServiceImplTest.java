@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.resource.service;
+
+import leyramu.framework.lersosa.common.core.constant.CacheNames;
+import leyramu.framework.lersosa.common.core.utils.SpringUtils;
+import leyramu.framework.lersosa.common.oss.core.OssClient;
+import leyramu.framework.lersosa.common.oss.enumd.AccessPolicyType;
+import leyramu.framework.lersosa.common.oss.factory.OssFactory;
+import leyramu.framework.lersosa.common.redis.manager.PlusSpringCacheManager;
+import leyramu.framework.lersosa.resource.domain.vo.SysOssVo;
+import leyramu.framework.lersosa.resource.mapper.SysOssMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 批量查询 OSS 对象的往返次数测试.
+ * <p>
+ * 以内存 Map 模拟 sys_oss 缓存, 统计 listByIds 与 selectUrlByIds 对缓存与数据库的调用次数:
+ * 无论多少个ID, 都只有一次缓存批量读取, 未命中的ID合并为一次 IN 查询, 再一次批量回填缓存.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@DisplayName("批量查询 OSS 对象往返次数测试")
+public class SysOssServiceImplTest {
+
+    private static final String SERVICE = "minio";
+
+    private static final PlusSpringCacheManager CACHE_MANAGER = mock(PlusSpringCacheManager.class);
+
+    private static GenericApplicationContext context;
+
+    private static Map<String, OssClient> clientCache;
+
+    /**
+     * 模拟的 sys_oss 缓存 (值为 null 表示缓存了空值).
+     */
+    private final Map<Long, Object> cache = new HashMap<>();
+
+    /**
+     * 模拟的 sys_oss 表.
+     */
+    private final Map<Long, SysOssVo> table = new HashMap<>();
+
+    private SysOssMapper baseMapper;
+
+    private SysOssServiceImpl service;
+
+    @BeforeAll
+    @SuppressWarnings("unchecked")
+    public static void createContext() {
+        context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources()
+            .addFirst(new MapPropertySource("test", Map.of("tenant.enable", "false")));
+        context.getBeanFactory().registerSingleton("cacheManager", CACHE_MANAGER);
+        context.refresh();
+        new SpringUtils().setApplicationContext(context);
+
+        // 公有桶 不签名 URL
+        OssClient client = mock(OssClient.class);
+        when(client.tryAcquire()).thenReturn(true);
+        when(client.getAccessPolicy()).thenReturn(AccessPolicyType.PUBLIC);
+        clientCache = (Map<String, OssClient>) ReflectionTestUtils.getField(OssFactory.class, "CLIENT_CACHE");
+        clientCache.put(SERVICE, client);
+    }
+
+    @AfterAll
+    public static void closeContext() {
+        clientCache.remove(SERVICE);
+        context.close();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        reset(CACHE_MANAGER);
+        when(CACHE_MANAGER.getAll(eq(CacheNames.SYS_OSS), anyCollection())).thenAnswer(invocation -> {
+            Map<Object, Object> hits = new HashMap<>();
+            for (Object id : (Collection<Object>) invocation.getArgument(1)) {
+                if (cache.containsKey((Long) id)) {
+                    hits.put(id, cache.get(id));
+                }
+            }
+            return hits;
+        });
+        doAnswer(invocation -> {
+            cache.putAll((Map<Long, Object>) invocation.getArgument(1));
+            return null;
+        }).when(CACHE_MANAGER).putAll(eq(CacheNames.SYS_OSS), anyMap());
+
+        baseMapper = mock(SysOssMapper.class);
+        when(baseMapper.selectVoByIds(anyCollection())).thenAnswer(invocation -> {
+            List<SysOssVo> rows = new ArrayList<>();
+            for (Object id : (Collection<Object>) invocation.getArgument(0)) {
+                SysOssVo vo = table.get((Long) id);
+                if (vo != null) {
+                    rows.add(vo);
+                }
+            }
+            return rows;
+        });
+        service = new SysOssServiceImpl(baseMapper);
+
+        for (long id = 1; id <= 6; id++) {
+            table.put(id, oss(id));
+        }
+    }
+
+    @Test
+    @DisplayName("部分命中: 一次批量读缓存 未命中的一次查询 一次批量回填")
+    public void listByIdsBatchesMisses() {
+        cache.put(1L, oss(1));
+        cache.put(3L, oss(3));
+
+        List<SysOssVo> list = service.listByIds(List.of(1L, 2L, 3L, 4L, 99L));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), list.stream().map(SysOssVo::getOssId).toList());
+        verify(CACHE_MANAGER).getAll(CacheNames.SYS_OSS, Set.of(1L, 2L, 3L, 4L, 99L));
+        verify(baseMapper).selectVoByIds(List.of(2L, 4L, 99L));
+        Map<Long, SysOssVo> expected = new HashMap<>();
+        expected.put(2L, table.get(2L));
+        expected.put(4L, table.get(4L));
+        // 不存在的记录同样缓存空值
+        expected.put(99L, null);
+        verify(CACHE_MANAGER).putAll(CacheNames.SYS_OSS, expected);
+        verifyNoMoreInteractions(CACHE_MANAGER, baseMapper);
+    }
+
+    @Test
+    @DisplayName("全部命中 (包括空值): 只有一次批量读缓存")
+    public void listByIdsAllCached() {
+        service.listByIds(List.of(1L, 2L, 99L));
+        reset(baseMapper);
+        clearInvocations(CACHE_MANAGER);
+
+        List<SysOssVo> list = service.listByIds(List.of(2L, 99L, 1L));
+
+        assertEquals(List.of(2L, 1L), list.stream().map(SysOssVo::getOssId).toList());
+        verify(CACHE_MANAGER).getAll(CacheNames.SYS_OSS, Set.of(1L, 2L, 99L));
+        verifyNoMoreInteractions(CACHE_MANAGER);
+        verifyNoInteractions(baseMapper);
+    }
+
+    @Test
+    @DisplayName("按ID串查询 URL: 重复ID合并 往返次数与 listByIds 相同")
+    public void selectUrlByIdsBatchesMisses() {
+        cache.put(5L, oss(5));
+
+        String urls = service.selectUrlByIds("5,6,6,5");
+
+        assertEquals("https://oss/5,https://oss/6,https://oss/6,https://oss/5", urls);
+        verify(CACHE_MANAGER).getAll(CacheNames.SYS_OSS, Set.of(5L, 6L));
+        verify(baseMapper).selectVoByIds(List.of(6L));
+        verify(CACHE_MANAGER).putAll(eq(CacheNames.SYS_OSS), anyMap());
+        verifyNoMoreInteractions(CACHE_MANAGER, baseMapper);
+    }
+
+    private static SysOssVo oss(long id) {
+        SysOssVo vo = new SysOssVo();
+        vo.setOssId(id);
+        vo.setFileName(id + ".png");
+        vo.setUrl("https://oss/" + id);
+        vo.setService(SERVICE);
+        return vo;
+    }
+}
@@ -113,6 +113,13 @@ public interface ISysOssService {
 
     void insertByBo(SysOssBo bo);
 
+    /**
+     * 批量新增OSS对象存储 (插入后回填主键).
+     *
+     * @param bos SysOssBo 对象列表
+     */
+    void insertBatchByBo(List<SysOssBo> bos);
+
     /**
      * 文件下载方法，支持一次性下载完整文件.
      *
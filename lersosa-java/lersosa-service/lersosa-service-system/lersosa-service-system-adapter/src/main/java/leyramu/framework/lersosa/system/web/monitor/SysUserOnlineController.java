@@ -23,19 +23,23 @@
 
 package leyramu.framework.lersosa.system.web.monitor;
 
+import cn.dev33.satoken.SaManager;
 import cn.dev33.satoken.annotation.SaCheckPermission;
 import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.bean.BeanUtil;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import leyramu.framework.lersosa.common.core.constant.CacheConstants;
 import leyramu.framework.lersosa.common.core.domain.R;
 import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.log.annotation.Log;
 import leyramu.framework.lersosa.common.log.enums.BusinessType;
+import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
 import leyramu.framework.lersosa.common.purge.annotation.NgxCacheCls;
 import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.common.satoken.core.dao.PlusSaTokenDao;
 import leyramu.framework.lersosa.common.web.core.BaseController;
 import leyramu.framework.lersosa.system.api.domain.SysUserOnline;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +48,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -61,41 +66,73 @@ public class SysUserOnlineController extends BaseController {
     /**
      * 获取在线用户监控列表.
      *
-     * @param ipaddr   IP地址
-     * @param userName 用户名
+     * @param ipaddr    IP地址
+     * @param userName  用户名
+     * @param pageQuery 分页参数 (不传时返回全部)
      */
     @SaCheckPermission("monitor:online:list")
     @GetMapping("/list")
-    public TableDataInfo<SysUserOnline> list(String ipaddr, String userName) {
-        // 获取所有未过期的 token
-        List<String> keys = StpUtil.searchTokenValue("", 0, -1, false);
-        List<SysUserOnline> userOnlineDTOList = new ArrayList<>();
-        for (String key : keys) {
-            String token = StringUtils.substringAfterLast(key, ":");
-            // 如果已经过期则跳过
-            if (StpUtil.stpLogic.getTokenActiveTimeoutByToken(token) < -1) {
-                continue;
-            }
-            userOnlineDTOList.add(RedisUtils.getCacheObject(CacheConstants.ONLINE_TOKEN_KEY + token));
+    public TableDataInfo<SysUserOnline> list(String ipaddr, String userName, PageQuery pageQuery) {
+        Page<SysUserOnline> page = pageQuery.build();
+        long first = (page.getCurrent() - 1) * page.getSize();
+        if (StringUtils.isEmpty(ipaddr) && StringUtils.isEmpty(userName)
+            && SaManager.getSaTokenDao() instanceof PlusSaTokenDao saTokenDao) {
+            // 无筛选条件时按会话索引分页 只读取当前页的在线信息
+            int size = page.getSize() >= Integer.MAX_VALUE ? -1 : (int) page.getSize();
+            List<String> keys = StpUtil.searchTokenValue("", (int) Math.min(first, Integer.MAX_VALUE), size, true);
+            page.setRecords(getOnlineUsers(keys));
+            page.setTotal(saTokenDao.countData(StpUtil.stpLogic.splicingKeyTokenValue("")));
+            return TableDataInfo.build(page);
         }
+        // 获取所有未过期的 token
+        List<String> keys = StpUtil.searchTokenValue("", 0, -1, true);
+        List<SysUserOnline> userOnlineList = getOnlineUsers(keys);
         if (StringUtils.isNotEmpty(ipaddr) && StringUtils.isNotEmpty(userName)) {
-            userOnlineDTOList = StreamUtils.filter(userOnlineDTOList, userOnline ->
+            userOnlineList = StreamUtils.filter(userOnlineList, userOnline ->
                 StringUtils.equals(ipaddr, userOnline.getIpaddr()) &&
                     StringUtils.equals(userName, userOnline.getUserName())
             );
         } else if (StringUtils.isNotEmpty(ipaddr)) {
-            userOnlineDTOList = StreamUtils.filter(userOnlineDTOList, userOnline ->
+            userOnlineList = StreamUtils.filter(userOnlineList, userOnline ->
                 StringUtils.equals(ipaddr, userOnline.getIpaddr())
             );
         } else if (StringUtils.isNotEmpty(userName)) {
-            userOnlineDTOList = StreamUtils.filter(userOnlineDTOList, userOnline ->
+            userOnlineList = StreamUtils.filter(userOnlineList, userOnline ->
                 StringUtils.equals(userName, userOnline.getUserName())
             );
         }
-        Collections.reverse(userOnlineDTOList);
-        userOnlineDTOList.removeAll(Collections.singleton(null));
-        List<SysUserOnline> userOnlineList = BeanUtil.copyToList(userOnlineDTOList, SysUserOnline.class);
-        return TableDataInfo.build(userOnlineList);
+        int from = (int) Math.min(first, userOnlineList.size());
+        int to = (int) Math.min(first + page.getSize(), userOnlineList.size());
+        page.setRecords(userOnlineList.subList(from, to));
+        page.setTotal(userOnlineList.size());
+        return TableDataInfo.build(page);
+    }
+
+    /**
+     * 批量读取 token 对应的在线信息(跳过已过期的 token).
+     *
+     * @param keys token 的完整 key
+     * @return 在线信息
+     */
+    private List<SysUserOnline> getOnlineUsers(List<String> keys) {
+        List<String> onlineKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            String token = StringUtils.substringAfterLast(key, ":");
+            // 如果已经过期则跳过
+            if (StpUtil.stpLogic.getTokenActiveTimeoutByToken(token) < -1) {
+                continue;
+            }
+            onlineKeys.add(CacheConstants.ONLINE_TOKEN_KEY + token);
+        }
+        Map<String, SysUserOnline> userOnlineMap = RedisUtils.getMultiCacheObject(onlineKeys);
+        List<SysUserOnline> userOnlineDTOList = new ArrayList<>(onlineKeys.size());
+        for (String onlineKey : onlineKeys) {
+            SysUserOnline userOnline = userOnlineMap.get(onlineKey);
+            if (userOnline != null) {
+                userOnlineDTOList.add(userOnline);
+            }
+        }
+        return BeanUtil.copyToList(userOnlineDTOList, SysUserOnline.class);
     }
 
     /**
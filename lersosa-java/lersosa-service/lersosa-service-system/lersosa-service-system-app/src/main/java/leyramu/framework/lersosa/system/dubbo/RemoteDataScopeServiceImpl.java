@@ -28,17 +28,25 @@ import cn.hutool.core.convert.Convert;
 import cn.hutool.core.util.ObjectUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import leyramu.framework.lersosa.common.core.utils.StreamUtils;
-import leyramu.framework.lersosa.common.mybatis.helper.DataBaseHelper;
+import leyramu.framework.lersosa.common.mybatis.enums.DataScopeType;
+import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
 import leyramu.framework.lersosa.system.api.RemoteDataScopeService;
 import leyramu.framework.lersosa.system.domain.SysDept;
+import leyramu.framework.lersosa.system.domain.SysRole;
 import leyramu.framework.lersosa.system.domain.SysRoleDept;
 import leyramu.framework.lersosa.system.mapper.SysDeptMapper;
 import leyramu.framework.lersosa.system.mapper.SysRoleDeptMapper;
+import leyramu.framework.lersosa.system.mapper.SysRoleMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 数据权限 实现.
@@ -54,6 +62,8 @@ public class RemoteDataScopeServiceImpl implements RemoteDataScopeService {
 
     private final SysRoleDeptMapper roleDeptMapper;
     private final SysDeptMapper deptMapper;
+    private final SysRoleMapper roleMapper;
+    private final DeptHierarchy deptHierarchy;
 
     /**
      * 获取角色自定义权限语句.
@@ -87,14 +97,49 @@ public class RemoteDataScopeServiceImpl implements RemoteDataScopeService {
         if (ObjectUtil.isNull(deptId)) {
             return "-1";
         }
-        List<SysDept> deptList = deptMapper.selectList(new LambdaQueryWrapper<SysDept>()
-            .select(SysDept::getDeptId)
-            .apply(DataBaseHelper.findInSet(deptId, "ancestors")));
-        List<Long> ids = StreamUtils.toList(deptList, SysDept::getDeptId);
-        ids.add(deptId);
+        List<Long> ids = deptHierarchy.selectSubtreeIds(deptId);
+        if (CollUtil.isEmpty(ids)) {
+            ids.add(deptId);
+        }
         if (CollUtil.isNotEmpty(ids)) {
             return StreamUtils.join(ids, Convert::toStr);
         }
         return "-1";
     }
+
+    /**
+     * 获取租户下全部部门的上级关系.
+     *
+     * @param tenantId 租户ID
+     * @return key 为部门ID value 为上级部门ID
+     */
+    @Override
+    public Map<Long, Long> selectDeptParentMap(String tenantId) {
+        List<SysDept> deptList = TenantHelper.dynamic(tenantId, () -> DataPermissionHelper.ignore(() ->
+            deptMapper.selectList(new LambdaQueryWrapper<SysDept>()
+                .select(SysDept::getDeptId, SysDept::getParentId))));
+        return StreamUtils.toMap(deptList, SysDept::getDeptId, SysDept::getParentId);
+    }
+
+    /**
+     * 获取租户下全部角色的自定义数据权限部门.
+     *
+     * @param tenantId 租户ID
+     * @return key 为角色ID value 为部门ID集合
+     */
+    @Override
+    public Map<Long, List<Long>> selectRoleDeptMap(String tenantId) {
+        List<SysRole> roleList = TenantHelper.dynamic(tenantId, () -> DataPermissionHelper.ignore(() ->
+            roleMapper.selectList(new LambdaQueryWrapper<SysRole>()
+                .select(SysRole::getRoleId)
+                .eq(SysRole::getDataScope, DataScopeType.CUSTOM.getCode()))));
+        if (CollUtil.isEmpty(roleList)) {
+            return new HashMap<>();
+        }
+        List<SysRoleDept> list = roleDeptMapper.selectList(
+            new LambdaQueryWrapper<SysRoleDept>()
+                .in(SysRoleDept::getRoleId, StreamUtils.toList(roleList, SysRole::getRoleId)));
+        return list.stream().collect(Collectors.groupingBy(SysRoleDept::getRoleId, HashMap::new,
+            Collectors.mapping(SysRoleDept::getDeptId, Collectors.toList())));
+    }
 }
@@ -29,6 +29,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 部门服务.
  *
@@ -53,4 +56,15 @@ public class RemoteDeptServiceImpl implements RemoteDeptService {
     public String selectDeptNameByIds(String deptIds) {
         return sysDeptService.selectDeptNameByIds(deptIds);
     }
+
+    /**
+     * 通过部门ID批量查询部门名称.
+     *
+     * @param deptIds 部门ID集合
+     * @return 部门ID与部门名称的映射
+     */
+    @Override
+    public Map<Long, String> selectDeptNamesByIds(List<Long> deptIds) {
+        return sysDeptService.selectDeptNamesByIds(deptIds);
+    }
 }
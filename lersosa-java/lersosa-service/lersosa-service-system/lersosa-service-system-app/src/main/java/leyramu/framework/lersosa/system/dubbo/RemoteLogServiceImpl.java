@@ -36,6 +36,8 @@ import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 操作日志记录.
  *
@@ -63,6 +65,17 @@ public class RemoteLogServiceImpl implements RemoteLogService {
         operLogService.insertOperlog(sysOperLogBo);
     }
 
+    /**
+     * 批量保存系统日志.
+     *
+     * @param remoteOperLogBos 日志实体集合
+     */
+    @Override
+    public void saveLogBatch(List<RemoteOperLogBo> remoteOperLogBos) {
+        List<SysOperLogBo> sysOperLogBos = MapstructUtils.convert(remoteOperLogBos, SysOperLogBo.class);
+        operLogService.insertOperlogBatch(sysOperLogBos);
+    }
+
     /**
      * 保存访问记录.
      *
@@ -53,6 +53,7 @@ import org.apache.dubbo.config.annotation.DubboService;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -251,6 +252,28 @@ public class RemoteUserServiceImpl implements RemoteUserService {
         return userService.selectNicknameByIds(userIds);
     }
 
+    /**
+     * 通过用户ID批量查询用户账户.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户账户的映射
+     */
+    @Override
+    public Map<Long, String> selectUserNamesByIds(List<Long> userIds) {
+        return userService.selectUserNamesByIds(userIds);
+    }
+
+    /**
+     * 通过用户ID批量查询用户昵称.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户昵称的映射
+     */
+    @Override
+    public Map<Long, String> selectNicknamesByIds(List<Long> userIds) {
+        return userService.selectNicknamesByIds(userIds);
+    }
+
     /**
      * 通过用户ID查询用户手机号.
      *
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+package leyramu.framework.lersosa.system.service;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import leyramu.framework.lersosa.common.core.utils.StreamUtils;
+import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
+import leyramu.framework.lersosa.system.domain.SysDept;
+import leyramu.framework.lersosa.system.domain.SysDeptClosure;
+import leyramu.framework.lersosa.system.mapper.SysDeptClosureMapper;
+import leyramu.framework.lersosa.system.mapper.SysDeptMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 部门层级 服务层处理.
+ *
+ * <p>sys_dept_closure 保存每个部门与其全部祖先(含自身)的路径 主键 (ancestor_id, descendant_id) 使子树查询成为一次索引范围扫描.
+ * 部门移动只需删除/写入子树与外部祖先之间的路径 不再逐行改写后代的 ancestors.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DeptHierarchyImpl implements DeptHierarchy {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SysDeptClosureMapper baseMapper;
+    private final SysDeptMapper deptMapper;
+
+    @Override
+    public String subtreeSql(Long deptId) {
+        return "select descendant_id from sys_dept_closure where ancestor_id = " + deptId;
+    }
+
+    @Override
+    public String descendantSql(Long deptId) {
+        return subtreeSql(deptId) + " and depth > 0";
+    }
+
+    @Override
+    public List<Long> selectSubtreeIds(Long deptId) {
+        List<SysDeptClosure> list = baseMapper.selectList(new LambdaQueryWrapper<SysDeptClosure>()
+            .select(SysDeptClosure::getDescendantId)
+            .eq(SysDeptClosure::getAncestorId, deptId));
+        return StreamUtils.toList(list, SysDeptClosure::getDescendantId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void insertNode(Long deptId, Long parentId) {
+        baseMapper.insertAncestorPaths(deptId, parentId);
+        baseMapper.insert(new SysDeptClosure(deptId, deptId, 0));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void moveNode(Long deptId, Long parentId) {
+        baseMapper.deleteOuterPaths(deptId);
+        baseMapper.insertOuterPaths(deptId, parentId);
+    }
+
+    @Override
+    public void deleteNode(Long deptId) {
+        baseMapper.delete(new LambdaQueryWrapper<SysDeptClosure>()
+            .eq(SysDeptClosure::getDescendantId, deptId));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !baseMapper.exists(new LambdaQueryWrapper<>());
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int rebuild() {
+        List<SysDept> deptList = TenantHelper.ignore(() -> DataPermissionHelper.ignore(() ->
+            deptMapper.selectList(new LambdaQueryWrapper<SysDept>()
+                .select(SysDept::getDeptId, SysDept::getParentId))));
+        Map<Long, Long> parentMap = StreamUtils.toMap(deptList, SysDept::getDeptId, SysDept::getParentId);
+        List<SysDeptClosure> list = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        for (Long deptId : parentMap.keySet()) {
+            visited.clear();
+            int depth = 0;
+            Long current = deptId;
+            // 沿上级链路向上 遇到顶级或成环时停止
+            while (current != null && parentMap.containsKey(current) && visited.add(current)) {
+                list.add(new SysDeptClosure(current, deptId, depth++));
+                current = parentMap.get(current);
+            }
+        }
+        baseMapper.delete(new LambdaQueryWrapper<>());
+        baseMapper.insertBatch(list, BATCH_SIZE);
+        log.info("部门层级闭包表重建完成 部门数: {} 路径数: {}", parentMap.size(), list.size());
+        return list.size();
+    }
+}
@@ -37,9 +37,11 @@ import leyramu.framework.lersosa.common.core.utils.MapstructUtils;
 import leyramu.framework.lersosa.common.core.utils.SpringUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.core.utils.TreeBuildUtils;
-import leyramu.framework.lersosa.common.mybatis.helper.DataBaseHelper;
+import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
 import leyramu.framework.lersosa.common.satoken.utils.LoginHelper;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
 import leyramu.framework.lersosa.system.api.ISysDeptService;
 import leyramu.framework.lersosa.system.domain.SysDept;
 import leyramu.framework.lersosa.system.domain.SysRole;
@@ -53,10 +55,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -73,6 +78,7 @@ public class SysDeptServiceImpl implements ISysDeptService {
     private final SysDeptMapper baseMapper;
     private final SysRoleMapper roleMapper;
     private final SysUserMapper userMapper;
+    private final DeptHierarchy deptHierarchy;
 
     /**
      * 查询部门管理数据.
@@ -197,6 +203,24 @@ public class SysDeptServiceImpl implements ISysDeptService {
         return String.join(StringUtils.SEPARATOR, list);
     }
 
+    /**
+     * 通过部门ID批量查询部门名称.
+     *
+     * @param deptIds 部门ID集合
+     * @return 部门ID与部门名称的映射
+     */
+    @Override
+    public Map<Long, String> selectDeptNamesByIds(List<Long> deptIds) {
+        if (CollUtil.isEmpty(deptIds)) {
+            return new HashMap<>(0);
+        }
+        List<SysDept> list = baseMapper.selectList(new LambdaQueryWrapper<SysDept>()
+            .select(SysDept::getDeptId, SysDept::getDeptName).in(SysDept::getDeptId, deptIds));
+        Map<Long, String> map = new HashMap<>(list.size());
+        list.forEach(dept -> map.put(dept.getDeptId(), dept.getDeptName()));
+        return map;
+    }
+
     /**
      * 根据ID查询所有子部门数（正常状态）.
      *
@@ -207,7 +231,7 @@ public class SysDeptServiceImpl implements ISysDeptService {
     public long selectNormalChildrenDeptById(Long deptId) {
         return baseMapper.selectCount(new LambdaQueryWrapper<SysDept>()
             .eq(SysDept::getStatus, UserConstants.DEPT_NORMAL)
-            .apply(DataBaseHelper.findInSet(deptId, "ancestors")));
+            .inSql(SysDept::getDeptId, deptHierarchy.descendantSql(deptId)));
     }
 
     /**
@@ -274,6 +298,7 @@ public class SysDeptServiceImpl implements ISysDeptService {
      * @return 结果
      */
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public int insertDept(SysDeptBo bo) {
         SysDept info = baseMapper.selectById(bo.getParentId());
         // 如果父节点不为正常状态,则不允许新增子节点
@@ -282,7 +307,10 @@ public class SysDeptServiceImpl implements ISysDeptService {
         }
         SysDept dept = MapstructUtils.convert(bo, SysDept.class);
         Objects.requireNonNull(dept).setAncestors(info.getAncestors() + StringUtils.SEPARATOR + dept.getParentId());
-        return baseMapper.insert(dept);
+        int rows = baseMapper.insert(dept);
+        deptHierarchy.insertNode(dept.getDeptId(), dept.getParentId());
+        DataPermissionHelper.clearDataScopeCache(TenantHelper.getTenantId());
+        return rows;
     }
 
     /**
@@ -293,28 +321,34 @@ public class SysDeptServiceImpl implements ISysDeptService {
      */
     @CacheEvict(cacheNames = CacheNames.SYS_DEPT, key = "#bo.deptId")
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public int updateDept(SysDeptBo bo) {
         SysDept dept = MapstructUtils.convert(bo, SysDept.class);
         SysDept oldDept = baseMapper.selectById(Objects.requireNonNull(dept).getDeptId());
+        String oldAncestors = null;
         if (!oldDept.getParentId().equals(dept.getParentId())) {
             // 如果是新父部门 则校验是否具有新父部门权限 避免越权
             this.checkDeptDataScope(dept.getParentId());
             SysDept newParentDept = baseMapper.selectById(dept.getParentId());
             if (ObjectUtil.isNotNull(newParentDept) && ObjectUtil.isNotNull(oldDept)) {
-                String newAncestors = newParentDept.getAncestors() + StringUtils.SEPARATOR + newParentDept.getDeptId();
-                String oldAncestors = oldDept.getAncestors();
-                dept.setAncestors(newAncestors);
-                updateDeptChildren(dept.getDeptId(), newAncestors, oldAncestors);
+                oldAncestors = oldDept.getAncestors();
+                dept.setAncestors(newParentDept.getAncestors() + StringUtils.SEPARATOR + newParentDept.getDeptId());
             }
         } else {
             dept.setAncestors(oldDept.getAncestors());
         }
         int result = baseMapper.updateById(dept);
+        if (oldAncestors != null) {
+            // 部门本身更新后 再同步后代的 ancestors 与闭包表路径
+            updateDeptChildren(dept.getDeptId(), dept.getAncestors(), oldAncestors);
+            deptHierarchy.moveNode(dept.getDeptId(), dept.getParentId());
+        }
         if (UserConstants.DEPT_NORMAL.equals(dept.getStatus()) && StringUtils.isNotEmpty(dept.getAncestors())
             && !StringUtils.equals(UserConstants.DEPT_NORMAL, dept.getAncestors())) {
             // 如果该部门是启用状态，则启用该部门的所有上级部门
             updateParentDeptStatusNormal(dept);
         }
+        DataPermissionHelper.clearDataScopeCache(TenantHelper.getTenantId());
         return result;
     }
 
@@ -332,26 +366,16 @@ public class SysDeptServiceImpl implements ISysDeptService {
     }
 
     /**
-     * 修改子元素关系.
+     * 修改子元素关系(按闭包表定位后代 一条 UPDATE 替换 ancestors 前缀).
      *
      * @param deptId       被修改的部门ID
      * @param newAncestors 新的父ID集合
      * @param oldAncestors 旧的父ID集合
      */
     private void updateDeptChildren(Long deptId, String newAncestors, String oldAncestors) {
-        List<SysDept> children = baseMapper.selectList(new LambdaQueryWrapper<SysDept>()
-            .apply(DataBaseHelper.findInSet(deptId, "ancestors")));
-        List<SysDept> list = new ArrayList<>();
-        for (SysDept child : children) {
-            SysDept dept = new SysDept();
-            dept.setDeptId(child.getDeptId());
-            dept.setAncestors(child.getAncestors().replaceFirst(oldAncestors, newAncestors));
-            list.add(dept);
-        }
-        if (CollUtil.isNotEmpty(list)) {
-            if (baseMapper.updateBatchById(list)) {
-                list.forEach(dept -> CacheUtils.evict(CacheNames.SYS_DEPT, dept.getDeptId()));
-            }
+        if (baseMapper.updateDeptChildrenAncestors(deptId, newAncestors, oldAncestors) > 0) {
+            // 后代数量不定 整体清空部门缓存 避免逐个失效
+            CacheUtils.clear(CacheNames.SYS_DEPT);
         }
     }
 
@@ -363,7 +387,11 @@ public class SysDeptServiceImpl implements ISysDeptService {
      */
     @CacheEvict(cacheNames = CacheNames.SYS_DEPT, key = "#deptId")
     @Override
+    @Transactional(rollbackFor = Exception.class)
     public int deleteDeptById(Long deptId) {
-        return baseMapper.deleteById(deptId);
+        int rows = baseMapper.deleteById(deptId);
+        deptHierarchy.deleteNode(deptId);
+        DataPermissionHelper.clearDataScopeCache(TenantHelper.getTenantId());
+        return rows;
     }
 }
@@ -31,6 +31,7 @@ import leyramu.framework.lersosa.common.core.constant.CacheNames;
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.MapstructUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.dict.utils.DictUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
@@ -40,7 +41,7 @@ import leyramu.framework.lersosa.system.domain.bo.SysDictDataBo;
 import leyramu.framework.lersosa.system.domain.vo.SysDictDataVo;
 import leyramu.framework.lersosa.system.mapper.SysDictDataMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -125,6 +126,7 @@ public class SysDictDataServiceImpl implements ISysDictDataService {
             SysDictData data = baseMapper.selectById(dictCode);
             baseMapper.deleteById(dictCode);
             CacheUtils.evict(CacheNames.SYS_DICT, data.getDictType());
+            DictUtils.refreshDictLookup(data.getDictType());
         }
     }
 
@@ -133,13 +135,13 @@ public class SysDictDataServiceImpl implements ISysDictDataService {
      *
      * @param bo 字典数据信息
      */
-    @CachePut(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
+    @CacheEvict(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
     @Override
     public void insertDictData(SysDictDataBo bo) {
         SysDictData data = MapstructUtils.convert(bo, SysDictData.class);
         int row = baseMapper.insert(data);
         if (row > 0) {
-            baseMapper.selectDictDataByType(Objects.requireNonNull(data).getDictType());
+            DictUtils.refreshDictLookup(Objects.requireNonNull(data).getDictType());
             return;
         }
         throw new ServiceException("操作失败");
@@ -150,13 +152,13 @@ public class SysDictDataServiceImpl implements ISysDictDataService {
      *
      * @param bo 字典数据信息
      */
-    @CachePut(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
+    @CacheEvict(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
     @Override
     public void updateDictData(SysDictDataBo bo) {
         SysDictData data = MapstructUtils.convert(bo, SysDictData.class);
         int row = baseMapper.updateById(data);
         if (row > 0) {
-            baseMapper.selectDictDataByType(Objects.requireNonNull(data).getDictType());
+            DictUtils.refreshDictLookup(Objects.requireNonNull(data).getDictType());
             return;
         }
         throw new ServiceException("操作失败");
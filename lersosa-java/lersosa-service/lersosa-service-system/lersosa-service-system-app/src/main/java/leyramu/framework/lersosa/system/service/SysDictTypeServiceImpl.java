@@ -33,6 +33,7 @@ import leyramu.framework.lersosa.common.core.constant.CacheNames;
 import leyramu.framework.lersosa.common.core.exception.ServiceException;
 import leyramu.framework.lersosa.common.core.utils.MapstructUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
+import leyramu.framework.lersosa.common.dict.utils.DictUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
@@ -45,7 +46,7 @@ import leyramu.framework.lersosa.system.domain.vo.SysDictTypeVo;
 import leyramu.framework.lersosa.system.mapper.SysDictDataMapper;
 import leyramu.framework.lersosa.system.mapper.SysDictTypeMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -161,6 +162,7 @@ public class SysDictTypeServiceImpl implements ISysDictTypeService {
                 throw new ServiceException(String.format("%1$s已分配,不能删除", dictType.getDictName()));
             }
             CacheUtils.evict(CacheNames.SYS_DICT, dictType.getDictType());
+            DictUtils.refreshDictLookup(dictType.getDictType());
         }
         baseMapper.deleteByIds(Arrays.asList(dictIds));
     }
@@ -171,6 +173,7 @@ public class SysDictTypeServiceImpl implements ISysDictTypeService {
     @Override
     public void resetDictCache() {
         CacheUtils.clear(CacheNames.SYS_DICT);
+        DictUtils.refreshDictLookup(null);
     }
 
     /**
@@ -178,12 +181,13 @@ public class SysDictTypeServiceImpl implements ISysDictTypeService {
      *
      * @param bo 字典类型信息
      */
-    @CachePut(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
+    @CacheEvict(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
     @Override
     public void insertDictType(SysDictTypeBo bo) {
         SysDictType dict = MapstructUtils.convert(bo, SysDictType.class);
         int row = baseMapper.insert(dict);
         if (row > 0) {
+            DictUtils.refreshDictLookup(bo.getDictType());
             // 新增 type 下无 data 数据 返回空防止缓存穿透
             return;
         }
@@ -195,7 +199,7 @@ public class SysDictTypeServiceImpl implements ISysDictTypeService {
      *
      * @param bo 字典类型信息
      */
-    @CachePut(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
+    @CacheEvict(cacheNames = CacheNames.SYS_DICT, key = "#bo.dictType")
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void updateDictType(SysDictTypeBo bo) {
@@ -207,7 +211,8 @@ public class SysDictTypeServiceImpl implements ISysDictTypeService {
         int row = baseMapper.updateById(dict);
         if (row > 0) {
             CacheUtils.evict(CacheNames.SYS_DICT, oldDict.getDictType());
-            dictDataMapper.selectDictDataByType(dict.getDictType());
+            DictUtils.refreshDictLookup(oldDict.getDictType());
+            DictUtils.refreshDictLookup(dict.getDictType());
             return;
         }
         throw new ServiceException("操作失败");
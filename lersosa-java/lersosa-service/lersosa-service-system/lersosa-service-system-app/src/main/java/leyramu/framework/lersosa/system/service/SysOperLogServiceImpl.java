@@ -23,13 +23,16 @@
 
 package leyramu.framework.lersosa.system.service;
 
+import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ObjectUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import leyramu.framework.lersosa.common.core.utils.MapstructUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import leyramu.framework.lersosa.system.api.ISysOperLogService;
 import leyramu.framework.lersosa.system.domain.SysOperLog;
 import leyramu.framework.lersosa.system.domain.bo.SysOperLogBo;
@@ -96,6 +99,27 @@ public class SysOperLogServiceImpl implements ISysOperLogService {
         baseMapper.insert(operLog);
     }
 
+    /**
+     * 批量新增操作日志.
+     *
+     * @param bos 操作日志对象集合
+     */
+    @Override
+    public void insertOperlogBatch(List<SysOperLogBo> bos) {
+        if (CollUtil.isEmpty(bos)) {
+            return;
+        }
+        List<SysOperLog> operLogs = MapstructUtils.convert(bos, SysOperLog.class);
+        Date now = new Date();
+        for (SysOperLog operLog : operLogs) {
+            if (ObjectUtil.isNull(operLog.getOperTime())) {
+                operLog.setOperTime(now);
+            }
+        }
+        // 同一批次可能来自不同租户, 以日志自身携带的租户为准
+        TenantHelper.ignore(() -> baseMapper.insertBatch(operLogs));
+    }
+
     /**
      * 查询系统操作日志集合.
      *
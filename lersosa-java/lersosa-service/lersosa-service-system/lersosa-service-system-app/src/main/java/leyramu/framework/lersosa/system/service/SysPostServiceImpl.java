@@ -35,14 +35,12 @@ import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
-import leyramu.framework.lersosa.common.mybatis.helper.DataBaseHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
 import leyramu.framework.lersosa.system.api.ISysPostService;
-import leyramu.framework.lersosa.system.domain.SysDept;
 import leyramu.framework.lersosa.system.domain.SysPost;
 import leyramu.framework.lersosa.system.domain.SysUserPost;
 import leyramu.framework.lersosa.system.domain.bo.SysPostBo;
 import leyramu.framework.lersosa.system.domain.vo.SysPostVo;
-import leyramu.framework.lersosa.system.mapper.SysDeptMapper;
 import leyramu.framework.lersosa.system.mapper.SysPostMapper;
 import leyramu.framework.lersosa.system.mapper.SysUserPostMapper;
 import lombok.RequiredArgsConstructor;
@@ -50,7 +48,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 岗位信息 服务层处理.
@@ -64,7 +61,7 @@ import java.util.stream.Collectors;
 public class SysPostServiceImpl implements ISysPostService {
 
     private final SysPostMapper baseMapper;
-    private final SysDeptMapper deptMapper;
+    private final DeptHierarchy deptHierarchy;
     private final SysUserPostMapper userPostMapper;
 
     @Override
@@ -102,16 +99,7 @@ public class SysPostServiceImpl implements ISysPostService {
             wrapper.eq(SysPost::getDeptId, bo.getDeptId());
         } else if (ObjectUtil.isNotNull(bo.getBelongDeptId())) {
             //部门树搜索
-            wrapper.and(x -> {
-                List<Long> deptIds = deptMapper.selectList(new LambdaQueryWrapper<SysDept>()
-                        .select(SysDept::getDeptId)
-                        .apply(DataBaseHelper.findInSet(bo.getBelongDeptId(), "ancestors")))
-                    .stream()
-                    .map(SysDept::getDeptId)
-                    .collect(Collectors.toList());
-                deptIds.add(bo.getBelongDeptId());
-                x.in(SysPost::getDeptId, deptIds);
-            });
+            wrapper.inSql(SysPost::getDeptId, deptHierarchy.subtreeSql(bo.getBelongDeptId()));
         }
         return wrapper;
     }
@@ -42,7 +42,9 @@ import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
+import leyramu.framework.lersosa.common.mybatis.helper.DataPermissionHelper;
 import leyramu.framework.lersosa.common.satoken.utils.LoginHelper;
+import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
 import leyramu.framework.lersosa.system.api.ISysRoleService;
 import leyramu.framework.lersosa.system.api.model.LoginUser;
 import leyramu.framework.lersosa.system.domain.SysRole;
@@ -362,7 +364,9 @@ public class SysRoleServiceImpl implements ISysRoleService {
         // 删除角色与部门关联
         roleDeptMapper.delete(new LambdaQueryWrapper<SysRoleDept>().eq(SysRoleDept::getRoleId, Objects.requireNonNull(role).getRoleId()));
         // 新增角色和部门信息（数据权限）
-        return insertRoleDept(bo);
+        int rows = insertRoleDept(bo);
+        DataPermissionHelper.clearDataScopeCache(TenantHelper.getTenantId());
+        return rows;
     }
 
     /**
@@ -45,6 +45,7 @@ import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
 import leyramu.framework.lersosa.common.redis.utils.CacheUtils;
 import leyramu.framework.lersosa.common.tenant.core.TenantEntity;
 import leyramu.framework.lersosa.common.tenant.helper.TenantHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
 import leyramu.framework.lersosa.system.api.ISysTenantService;
 import leyramu.framework.lersosa.system.domain.*;
 import leyramu.framework.lersosa.system.domain.bo.SysTenantBo;
@@ -73,6 +74,7 @@ public class SysTenantServiceImpl implements ISysTenantService {
     private final SysTenantPackageMapper tenantPackageMapper;
     private final SysUserMapper userMapper;
     private final SysDeptMapper deptMapper;
+    private final DeptHierarchy deptHierarchy;
     private final SysRoleMapper roleMapper;
     private final SysRoleMenuMapper roleMenuMapper;
     private final SysRoleDeptMapper roleDeptMapper;
@@ -167,6 +169,7 @@ public class SysTenantServiceImpl implements ISysTenantService {
         dept.setAncestors(Constants.TOP_PARENT_ID.toString());
         deptMapper.insert(dept);
         Long deptId = dept.getDeptId();
+        deptHierarchy.insertNode(deptId, dept.getParentId());
 
         // 角色和部门关联表
         SysRoleDept roleDept = new SysRoleDept();
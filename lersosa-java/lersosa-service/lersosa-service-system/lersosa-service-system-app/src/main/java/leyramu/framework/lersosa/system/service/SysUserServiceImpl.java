@@ -42,8 +42,8 @@ import leyramu.framework.lersosa.common.core.utils.StreamUtils;
 import leyramu.framework.lersosa.common.core.utils.StringUtils;
 import leyramu.framework.lersosa.common.mybatis.core.page.PageQuery;
 import leyramu.framework.lersosa.common.mybatis.core.page.TableDataInfo;
-import leyramu.framework.lersosa.common.mybatis.helper.DataBaseHelper;
 import leyramu.framework.lersosa.common.satoken.utils.LoginHelper;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
 import leyramu.framework.lersosa.system.api.ISysUserService;
 import leyramu.framework.lersosa.system.domain.*;
 import leyramu.framework.lersosa.system.domain.bo.SysUserBo;
@@ -60,6 +60,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -77,7 +78,7 @@ import java.util.Objects;
 public class SysUserServiceImpl implements ISysUserService {
 
     private final SysUserMapper baseMapper;
-    private final SysDeptMapper deptMapper;
+    private final DeptHierarchy deptHierarchy;
     private final SysRoleMapper roleMapper;
     private final SysPostMapper postMapper;
     private final SysUserRoleMapper userRoleMapper;
@@ -110,14 +111,8 @@ public class SysUserServiceImpl implements ISysUserService {
             .like(StringUtils.isNotBlank(user.getPhonenumber()), "u.phonenumber", user.getPhonenumber())
             .between(params.get("beginTime") != null && params.get("endTime") != null,
                 "u.create_time", params.get("beginTime"), params.get("endTime"))
-            .and(ObjectUtil.isNotNull(user.getDeptId()), w -> {
-                List<SysDept> deptList = deptMapper.selectList(new LambdaQueryWrapper<SysDept>()
-                    .select(SysDept::getDeptId)
-                    .apply(DataBaseHelper.findInSet(user.getDeptId(), "ancestors")));
-                List<Long> ids = StreamUtils.toList(deptList, SysDept::getDeptId);
-                ids.add(user.getDeptId());
-                w.in("u.dept_id", ids);
-            }).orderByAsc("u.user_id");
+            .inSql(ObjectUtil.isNotNull(user.getDeptId()), "u.dept_id", deptHierarchy.subtreeSql(user.getDeptId()))
+            .orderByAsc("u.user_id");
         if (StringUtils.isNotBlank(user.getExcludeUserIds())) {
             wrapper.notIn("u.user_id", StringUtils.splitList(user.getExcludeUserIds()));
         }
@@ -625,6 +620,42 @@ public class SysUserServiceImpl implements ISysUserService {
         return String.join(StringUtils.SEPARATOR, list);
     }
 
+    /**
+     * 通过用户ID批量查询用户账户.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户账户的映射
+     */
+    @Override
+    public Map<Long, String> selectUserNamesByIds(List<Long> userIds) {
+        if (CollUtil.isEmpty(userIds)) {
+            return new HashMap<>(0);
+        }
+        List<SysUser> list = baseMapper.selectList(new LambdaQueryWrapper<SysUser>()
+            .select(SysUser::getUserId, SysUser::getUserName).in(SysUser::getUserId, userIds));
+        Map<Long, String> map = new HashMap<>(list.size());
+        list.forEach(user -> map.put(user.getUserId(), user.getUserName()));
+        return map;
+    }
+
+    /**
+     * 通过用户ID批量查询用户昵称.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户昵称的映射
+     */
+    @Override
+    public Map<Long, String> selectNicknamesByIds(List<Long> userIds) {
+        if (CollUtil.isEmpty(userIds)) {
+            return new HashMap<>(0);
+        }
+        List<SysUser> list = baseMapper.selectList(new LambdaQueryWrapper<SysUser>()
+            .select(SysUser::getUserId, SysUser::getNickName).in(SysUser::getUserId, userIds));
+        Map<Long, String> map = new HashMap<>(list.size());
+        list.forEach(user -> map.put(user.getUserId(), user.getNickName()));
+        return map;
+    }
+
     /**
      * 通过用户ID查询用户手机号.
      *
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+
+package leyramu.framework.lersosa.system.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 部门层级基准测试.
+ * <p>
+ * 对 5 万部门的租户(每个部门 10 个下级), 对比调整前 find_in_set(ancestors) 与闭包表的子树查询,
+ * 以及调整前逐行改写后代 ancestors 与闭包表路径迁移加一条 UPDATE 改写前缀的部门移动耗时.
+ * 需要一个可用的 MySQL 库, 连接通过 -Dbench.jdbc.url / -Dbench.jdbc.username / -Dbench.jdbc.password 指定,
+ * 数据写入独立的 bench_dept 与 bench_dept_closure 表, 通过 main 方法运行, 不参与单元测试.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeptHierarchyBenchmark {
+
+    private static final String URL = System.getProperty("bench.jdbc.url",
+        "jdbc:mysql://127.0.0.1:3306/lersosa_bench?rewriteBatchedStatements=true&useSSL=false&allowPublicKeyRetrieval=true");
+
+    private static final String USERNAME = System.getProperty("bench.jdbc.username", "root");
+
+    private static final String PASSWORD = System.getProperty("bench.jdbc.password", "root");
+
+    private static final int FANOUT = 10;
+
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 部门数量.
+     */
+    @Param({"50000"})
+    private int size;
+
+    private Connection connection;
+
+    /**
+     * 被移动的部门 在两个上级之间来回移动 子树约占全部部门的十分之一.
+     */
+    private final long movedId = 3;
+
+    private final long[] parents = {1, 2};
+
+    private int target;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_dept");
+            statement.execute("drop table if exists bench_dept_closure");
+            statement.execute("""
+                create table bench_dept (
+                  dept_id bigint not null,
+                  tenant_id varchar(20) default '000000',
+                  parent_id bigint default 0,
+                  ancestors varchar(500) default '',
+                  primary key (dept_id)
+                ) engine = InnoDB""");
+            statement.execute("""
+                create table bench_dept_closure (
+                  ancestor_id bigint not null,
+                  descendant_id bigint not null,
+                  depth int not null default 0,
+                  primary key (ancestor_id, descendant_id),
+                  index idx_descendant (descendant_id, depth)
+                ) engine = InnoDB""");
+        }
+        connection.setAutoCommit(false);
+        String[] ancestors = new String[size + 1];
+        try (PreparedStatement dept = connection.prepareStatement(
+            "insert into bench_dept (dept_id, parent_id, ancestors) values (?, ?, ?)");
+             PreparedStatement closure = connection.prepareStatement(
+                 "insert into bench_dept_closure (ancestor_id, descendant_id, depth) values (?, ?, ?)")) {
+            for (int id = 1; id <= size; id++) {
+                long parentId = id == 1 ? 0 : (id - 2) / FANOUT + 1;
+                ancestors[id] = parentId == 0 ? "0" : ancestors[(int) parentId] + "," + parentId;
+                dept.setLong(1, id);
+                dept.setLong(2, parentId);
+                dept.setString(3, ancestors[id]);
+                dept.addBatch();
+                // 自身路径与全部祖先路径
+                int depth = 0;
+                for (long current = id; current != 0; current = current == 1 ? 0 : (current - 2) / FANOUT + 1) {
+                    closure.setLong(1, current);
+                    closure.setLong(2, id);
+                    closure.setInt(3, depth++);
+                    closure.addBatch();
+                }
+                if (id % BATCH_SIZE == 0) {
+                    dept.executeBatch();
+                    closure.executeBatch();
+                }
+            }
+            dept.executeBatch();
+            closure.executeBatch();
+        }
+        connection.commit();
+        target = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_dept");
+            statement.execute("drop table if exists bench_dept_closure");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * 调整前 findInSet(deptId, "ancestors") 的子树查询.
+     */
+    @Benchmark
+    public List<Long> legacySubtree() throws SQLException {
+        return selectIds("select dept_id from bench_dept where find_in_set(?, ancestors)", 2);
+    }
+
+    /**
+     * 调整后 descendantSql 的子树查询.
+     */
+    @Benchmark
+    public List<Long> closureSubtree() throws SQLException {
+        return selectIds("select dept_id from bench_dept where dept_id in "
+            + "(select descendant_id from bench_dept_closure where ancestor_id = ? and depth > 0)", 2);
+    }
+
+    /**
+     * 调整前的部门移动: 查询全部后代后 逐行改写 ancestors(updateBatchById).
+     */
+    @Benchmark
+    public int legacyMove() throws SQLException {
+        long parentId = nextParent();
+        String oldAncestors = selectAncestors(movedId);
+        String newAncestors = selectAncestors(parentId) + "," + parentId;
+        updateDept(parentId, newAncestors);
+        List<Long> ids = new ArrayList<>();
+        List<String> list = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(
+            "select dept_id, ancestors from bench_dept where find_in_set(?, ancestors)")) {
+            select.setLong(1, movedId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                    list.add(rs.getString(2).replaceFirst(oldAncestors, newAncestors));
+                }
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+            "update bench_dept set ancestors = ? where dept_id = ?")) {
+            for (int i = 0; i < ids.size(); i++) {
+                update.setString(1, list.get(i));
+                update.setLong(2, ids.get(i));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+        connection.commit();
+        return ids.size();
+    }
+
+    /**
+     * 调整后的部门移动: 一条 UPDATE 改写后代 ancestors 前缀, 再迁移子树与祖先之间的闭包路径.
+     */
+    @Benchmark
+    public int closureMove() throws SQLException {
+        long parentId = nextParent();
+        String oldAncestors = selectAncestors(movedId);
+        String newAncestors = selectAncestors(parentId) + "," + parentId;
+        updateDept(parentId, newAncestors);
+        int rows;
+        try (PreparedStatement update = connection.prepareStatement("""
+            update bench_dept
+            set ancestors = concat(?, substring(ancestors, char_length(?) + 1))
+            where dept_id in (select descendant_id from bench_dept_closure where ancestor_id = ? and depth > 0)""");
+             PreparedStatement delete = connection.prepareStatement("""
+                 delete from bench_dept_closure
+                 where descendant_id in (select t.descendant_id from (select descendant_id from bench_dept_closure where ancestor_id = ?) t)
+                   and ancestor_id in (select t.ancestor_id from (select ancestor_id from bench_dept_closure where descendant_id = ? and depth > 0) t)""");
+             PreparedStatement insert = connection.prepareStatement("""
+                 insert into bench_dept_closure (ancestor_id, descendant_id, depth)
+                 select p.ancestor_id, s.descendant_id, p.depth + s.depth + 1
+                 from bench_dept_closure p, bench_dept_closure s
+                 where p.descendant_id = ?
+                   and s.ancestor_id = ?""")) {
+            update.setString(1, newAncestors);
+            update.setString(2, oldAncestors);
+            update.setLong(3, movedId);
+            rows = update.executeUpdate();
+            delete.setLong(1, movedId);
+            delete.setLong(2, movedId);
+            delete.executeUpdate();
+            insert.setLong(1, parentId);
+            insert.setLong(2, movedId);
+            insert.executeUpdate();
+        }
+        connection.commit();
+        return rows;
+    }
+
+    private long nextParent() {
+        target ^= 1;
+        return parents[target];
+    }
+
+    private void updateDept(long parentId, String ancestors) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+            "update bench_dept set parent_id = ?, ancestors = ? where dept_id = ?")) {
+            update.setLong(1, parentId);
+            update.setString(2, ancestors);
+            update.setLong(3, movedId);
+            update.executeUpdate();
+        }
+    }
+
+    private String selectAncestors(long deptId) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("select ancestors from bench_dept where dept_id = ?")) {
+            select.setLong(1, deptId);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+    }
+
+    private List<Long> selectIds(String sql, long deptId) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement select = connection.prepareStatement(sql)) {
+            select.setLong(1, deptId);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(DeptHierarchyBenchmark.class.getSimpleName())
+            .jvmArgsAppend("-Dbench.jdbc.url=" + URL, "-Dbench.jdbc.username=" + USERNAME, "-Dbench.jdbc.password=" + PASSWORD)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+package leyramu.framework.lersosa.system.api;
+
+import java.util.List;
+
+/**
+ * 部门层级 服务层(基于闭包表 子树查询走索引范围扫描).
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public interface DeptHierarchy {
+
+    /**
+     * 获取部门子树(含自身)的部门ID子查询 用于 inSql 条件.
+     *
+     * @param deptId 部门ID
+     * @return 子查询语句
+     */
+    String subtreeSql(Long deptId);
+
+    /**
+     * 获取部门全部下级(不含自身)的部门ID子查询 用于 inSql 条件.
+     *
+     * @param deptId 部门ID
+     * @return 子查询语句
+     */
+    String descendantSql(Long deptId);
+
+    /**
+     * 查询部门子树(含自身)的部门ID.
+     *
+     * @param deptId 部门ID
+     * @return 部门ID列表
+     */
+    List<Long> selectSubtreeIds(Long deptId);
+
+    /**
+     * 新增部门节点.
+     *
+     * @param deptId   部门ID
+     * @param parentId 上级部门ID
+     */
+    void insertNode(Long deptId, Long parentId);
+
+    /**
+     * 移动部门节点(连同子树).
+     *
+     * @param deptId   部门ID
+     * @param parentId 新上级部门ID
+     */
+    void moveNode(Long deptId, Long parentId);
+
+    /**
+     * 删除部门节点.
+     *
+     * @param deptId 部门ID
+     */
+    void deleteNode(Long deptId);
+
+    /**
+     * 闭包表是否为空(未迁移).
+     *
+     * @return 结果
+     */
+    boolean isEmpty();
+
+    /**
+     * 根据部门上级关系重建全部租户的闭包表.
+     *
+     * @return 写入的路径数
+     */
+    int rebuild();
+}
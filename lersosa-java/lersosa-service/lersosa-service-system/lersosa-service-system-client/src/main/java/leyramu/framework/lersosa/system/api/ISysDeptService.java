@@ -28,6 +28,7 @@ import leyramu.framework.lersosa.system.domain.bo.SysDeptBo;
 import leyramu.framework.lersosa.system.domain.vo.SysDeptVo;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 部门管理 服务层.
@@ -93,6 +94,14 @@ public interface ISysDeptService {
      */
     String selectDeptNameByIds(String deptIds);
 
+    /**
+     * 通过部门ID批量查询部门名称.
+     *
+     * @param deptIds 部门ID集合
+     * @return 部门ID与部门名称的映射
+     */
+    Map<Long, String> selectDeptNamesByIds(List<Long> deptIds);
+
     /**
      * 根据ID查询所有子部门数（正常状态）.
      *
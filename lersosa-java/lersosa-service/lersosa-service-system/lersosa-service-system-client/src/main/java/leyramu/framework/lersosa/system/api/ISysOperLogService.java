@@ -48,6 +48,13 @@ public interface ISysOperLogService {
      */
     void insertOperlog(SysOperLogBo bo);
 
+    /**
+     * 批量新增操作日志.
+     *
+     * @param bos 操作日志对象集合
+     */
+    void insertOperlogBatch(List<SysOperLogBo> bos);
+
     /**
      * 查询系统操作日志集合.
      *
@@ -30,6 +30,7 @@ import leyramu.framework.lersosa.system.domain.vo.SysUserExportVo;
 import leyramu.framework.lersosa.system.domain.vo.SysUserVo;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 用户 业务层.
@@ -263,6 +264,22 @@ public interface ISysUserService {
      */
     String selectNicknameByIds(String userIds);
 
+    /**
+     * 通过用户ID批量查询用户账户.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户账户的映射
+     */
+    Map<Long, String> selectUserNamesByIds(List<Long> userIds);
+
+    /**
+     * 通过用户ID批量查询用户昵称.
+     *
+     * @param userIds 用户ID集合
+     * @return 用户ID与用户昵称的映射
+     */
+    Map<Long, String> selectNicknamesByIds(List<Long> userIds);
+
     /**
      * 通过用户ID查询用户手机号.
      *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+package leyramu.framework.lersosa.system.mapper;
+
+import leyramu.framework.lersosa.common.mybatis.core.mapper.BaseMapperPlus;
+import leyramu.framework.lersosa.system.domain.SysDeptClosure;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 部门层级闭包表 数据层.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+public interface SysDeptClosureMapper extends BaseMapperPlus<SysDeptClosure, SysDeptClosure> {
+
+    /**
+     * 为部门写入上级部门的全部祖先路径.
+     *
+     * @param deptId   部门ID
+     * @param parentId 上级部门ID
+     * @return 结果
+     */
+    int insertAncestorPaths(@Param("deptId") Long deptId, @Param("parentId") Long parentId);
+
+    /**
+     * 删除子树与原祖先之间的路径(子树内部路径保留).
+     *
+     * @param deptId 子树根部门ID
+     * @return 结果
+     */
+    int deleteOuterPaths(@Param("deptId") Long deptId);
+
+    /**
+     * 为子树写入新上级部门的全部祖先路径.
+     *
+     * @param deptId   子树根部门ID
+     * @param parentId 新上级部门ID
+     * @return 结果
+     */
+    int insertOuterPaths(@Param("deptId") Long deptId, @Param("parentId") Long parentId);
+}
@@ -67,4 +67,15 @@ public interface SysDeptMapper extends BaseMapperPlus<SysDept, SysDeptVo> {
      * @return 选中部门列表
      */
     List<Long> selectDeptListByRoleId(@Param("roleId") Long roleId, @Param("deptCheckStrictly") boolean deptCheckStrictly);
+
+    /**
+     * 将部门全部后代的 ancestors 前缀由旧值替换为新值(后代由闭包表定位).
+     *
+     * @param deptId       被移动的部门ID
+     * @param newAncestors 新的父ID集合
+     * @param oldAncestors 旧的父ID集合
+     * @return 结果
+     */
+    int updateDeptChildrenAncestors(@Param("deptId") Long deptId, @Param("newAncestors") String newAncestors,
+                                    @Param("oldAncestors") String oldAncestors);
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023-2025 Leyramu Group. All rights reserved.
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+ *
+ * For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+ *
+ * The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+ *
+ * By using this project, users acknowledge and agree to abide by these terms and conditions.
+ */
+package leyramu.framework.lersosa.system.runner;
+
+import com.baomidou.lock.LockInfo;
+import com.baomidou.lock.LockTemplate;
+import com.baomidou.lock.executor.RedissonLockExecutor;
+import leyramu.framework.lersosa.common.core.constant.GlobalConstants;
+import leyramu.framework.lersosa.common.redis.utils.RedisUtils;
+import leyramu.framework.lersosa.system.api.DeptHierarchy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 初始化 system 模块对应业务数据.
+ *
+ * @author <a href="mailto:2038322151@qq.com">Miraitowa_zcx</a>
+ * @version 1.0.0
+ * @since 2024/11/6
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SystemApplicationRunner implements ApplicationRunner {
+
+    /**
+     * 部门层级闭包表迁移锁(多节点同时启动时只有一个节点执行).
+     */
+    private static final String CLOSURE_LOCK_KEY = GlobalConstants.GLOBAL_REDIS_KEY + "sys_dept_closure:lock";
+
+    /**
+     * 部门层级闭包表迁移版本 key.
+     */
+    private static final String CLOSURE_VERSION_KEY = GlobalConstants.GLOBAL_REDIS_KEY + "sys_dept_closure:version";
+
+    /**
+     * 部门层级闭包表迁移版本(闭包表生成规则变更时递增 触发一次全量重建).
+     */
+    private static final long CLOSURE_VERSION = 1L;
+
+    /**
+     * 迁移锁最长持有时间.
+     */
+    private static final long CLOSURE_LOCK_EXPIRE = Duration.ofMinutes(10).toMillis();
+
+    private final DeptHierarchy deptHierarchy;
+
+    private final LockTemplate lockTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 部门层级闭包表迁移 表为空或版本落后时根据 parent_id 全量生成
+        try {
+            if (RedisUtils.getAtomicValue(CLOSURE_VERSION_KEY) >= CLOSURE_VERSION && !deptHierarchy.isEmpty()) {
+                return;
+            }
+            LockInfo lockInfo = lockTemplate.lock(CLOSURE_LOCK_KEY, CLOSURE_LOCK_EXPIRE, 0L, RedissonLockExecutor.class);
+            if (lockInfo == null) {
+                log.info("其他节点正在迁移部门层级闭包表 跳过");
+                return;
+            }
+            try {
+                // 获取锁后再次检查 其他节点可能已完成迁移
+                long version = RedisUtils.getAtomicValue(CLOSURE_VERSION_KEY);
+                if (deptHierarchy.isEmpty() || (version > 0 && version < CLOSURE_VERSION)) {
+                    deptHierarchy.rebuild();
+                }
+                if (version < CLOSURE_VERSION) {
+                    RedisUtils.setAtomicValue(CLOSURE_VERSION_KEY, CLOSURE_VERSION);
+                }
+            } finally {
+                lockTemplate.releaseLock(lockInfo);
+            }
+        } catch (Exception e) {
+            log.error("部门层级闭包表迁移失败", e);
+        }
+    }
+}
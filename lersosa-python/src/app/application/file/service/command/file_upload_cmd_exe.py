@@ -20,6 +20,8 @@
 #  By using this project, users acknowledge and agree to abide by these terms and conditions.
 
 
+import uuid
+import zlib
 from typing import Iterable
 
 import grpc
@@ -68,9 +70,11 @@ class FileUploadCmdExe:
     def _generate_file_requests(file: UploadFile) -> Iterable[File_pb2.FileRequest]:
         """文件分块生成器
             以1MB为块大小循环读取文件流，生成符合gRPC协议的文件块消息
-            每个文件块包含二进制数据、文件名和MIME类型
+            每个文件块包含二进制数据、文件名、MIME类型、上传编号、偏移量与CRC32校验值
         """
         chunk_size = 1024 * 1024
+        upload_id = uuid.uuid4().hex
+        offset = 0
         while True:
             chunk = file.file.read(chunk_size)
             if not chunk:
@@ -78,6 +82,10 @@ class FileUploadCmdExe:
             file_chunk = File_pb2.FileChunk(
                 data=chunk,
                 file_name=file.filename,
-                mime_type=file.content_type
+                mime_type=file.content_type,
+                upload_id=upload_id,
+                offset=offset,
+                crc32=zlib.crc32(chunk)
             )
+            offset += len(chunk)
             yield File_pb2.FileRequest(file_chunk=file_chunk)
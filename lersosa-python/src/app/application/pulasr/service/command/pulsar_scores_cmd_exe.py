@@ -26,6 +26,7 @@ import logging
 import os
 import time
 from concurrent.futures import ThreadPoolExecutor
+from typing import Iterator
 
 import torch
 from torch.utils.data import DataLoader
@@ -36,6 +37,7 @@ from app.core.algo.pulsar.utils import SubimageDataset
 from app.core.model.model_loader import ModelLoader
 from app.core.rpc import RpcClient
 from app.domain.entity import GrpcEntity
+from app.domain.enum import CodeStatus
 from proto import Pulsar_pb2
 
 
@@ -105,21 +107,40 @@ class PulsarScoresCmdExe:
             persistent_workers=bool(num_workers > 0)
         )
 
-        # 将同步的推理过程放到线程池中执行
-        await asyncio.get_event_loop().run_in_executor(
+        # 推理与上报在线程池中流水执行：每个推理批次完成即经双向流发送，服务端按微批处理并逐条回复
+        reply = await asyncio.get_event_loop().run_in_executor(
             PulsarScoresCmdExe._executor,
-            PulsarScoresCmdExe._process_batch,
+            self._stream_scores,
             data_loader,
             model,
             device,
             pb_requests
         )
 
-        return GrpcEntity(data=self.rpc_client.call_method("PulsarScores", pb_requests))
+        return GrpcEntity(data=reply)
+
+    def _stream_scores(self, data_loader, model, device, pb_requests) -> Pulsar_pb2.PulsarReply:  # type: ignore
+        """经 PulsarScoresStream 双向流上报打分结果，并汇总逐条回复
+        Notes:
+            - 请求生成器由 gRPC 按发送进度拉取，服务端未及时处理时推理随之暂停
+            - 回复的 sequence 为请求的发送序号，用于定位失败的文件
+        """
+        replies = self.rpc_client.call_stream_method(
+            "PulsarScoresStream",
+            PulsarScoresCmdExe._score_batches(data_loader, model, device, pb_requests)
+        )
+        failed = [pb_requests[reply.sequence].file_name for reply in replies if reply.code != CodeStatus.SUCCESS]
+        if failed:
+            return Pulsar_pb2.PulsarReply(  # type: ignore
+                code=CodeStatus.INTERNAL_SERVER_ERROR,
+                message=f"共计{len(pb_requests) - len(failed)}文件打分成功，{len(failed)}文件打分失败：{'、'.join(failed[:20])}"
+            )
+        return Pulsar_pb2.PulsarReply(code=CodeStatus.SUCCESS, message="执行成功！！")  # type: ignore
 
     @staticmethod
-    def _process_batch(data_loader, model, device, pb_requests):
-        """实际执行模型推理的同步方法，带重试机制及资源回收"""
+    def _score_batches(data_loader, model, device, pb_requests) -> Iterator[Pulsar_pb2.PulsarScoresRequest]:  # type: ignore
+        """实际执行模型推理的同步生成器，每个批次推理完成后逐条产出请求，带重试机制及资源回收"""
+        offset = 0
         try:
             with torch.no_grad():
                 for images, _ in data_loader:
@@ -133,11 +154,11 @@ class PulsarScoresCmdExe:
                             scores = torch.softmax(outputs, dim=1)[:, 1].cpu().numpy()
 
                             for i, score in enumerate(scores):
-                                pb_requests[i].score = float(score)
+                                pb_requests[offset + i].score = float(score)
 
                             success = True
 
-                            del images, outputs, scores
+                            del images, outputs
                             torch.cuda.empty_cache() if device.type == 'cuda' else None
 
                         except Exception as e:
@@ -147,11 +168,13 @@ class PulsarScoresCmdExe:
                                 failed_urls = [req.file_url for req in pb_requests]
                                 error_msg = f"已达到最大重试次数，放弃当前批次处理。失败的文件URL列表：{failed_urls}"
                                 logging.critical(error_msg)
-                            raise RuntimeError(f"处理批次错误：经过 3 次重试后仍然失败。") from e
-                        time.sleep(1)
+                                raise RuntimeError(f"处理批次错误：经过 3 次重试后仍然失败。") from e
+                            time.sleep(1)
+
+                    yield from pb_requests[offset:offset + len(scores)]
+                    offset += len(scores)
 
             torch.cuda.empty_cache() if device.type == 'cuda' else None
             gc.collect()
         finally:
             logging.info("模型推理完成，资源回收中...")
-            pass
@@ -18,3 +18,9 @@
 #  The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
 #
 #  By using this project, users acknowledge and agree to abide by these terms and conditions.
+
+
+from .generate import generate
+
+# 生成代码不提交到仓库, 缺失或过期时在首次导入时生成
+generate()
@@ -0,0 +1,83 @@
+#  Copyright (c) 2025 Leyramu Group. All rights reserved.
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#       http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+#
+#  This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+#
+#  For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+#
+#  The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+#
+#  By using this project, users acknowledge and agree to abide by these terms and conditions.
+
+
+import glob
+import os
+import re
+import sys
+
+# 生成代码所在目录 (即 proto 包)
+PROTO_DIR = os.path.dirname(os.path.abspath(__file__))
+
+# proto 定义目录
+RPC_DIR = os.path.join(PROTO_DIR, 'rpc')
+
+
+# 生成 gRPC 代码
+def generate(force: bool = False) -> None:
+    """按 rpc/*.proto 生成 *_pb2.py 与 *_pb2_grpc.py
+        生成的文件不提交到仓库, 由镜像构建, doc/build/build-proto.bat 与首次导入 proto 包时调用
+    Args:
+        force: 为 False 时仅在生成文件缺失或早于 proto 定义时重新生成
+    Raises:
+        RuntimeError: protoc 执行失败
+    """
+    protos = sorted(glob.glob(os.path.join(RPC_DIR, '*.proto')))
+    if not force and all(_is_fresh(proto) for proto in protos):
+        return
+
+    from grpc_tools import protoc
+
+    include = os.path.join(os.path.dirname(protoc.__file__), '_proto')
+    code = protoc.main([
+        'grpc_tools.protoc',
+        f'-I{RPC_DIR}',
+        f'-I{include}',
+        f'--python_out={PROTO_DIR}',
+        f'--grpc_python_out={PROTO_DIR}',
+        *protos,
+    ])
+    if code != 0:
+        raise RuntimeError(f'protoc 执行失败, 退出码 {code}')
+
+    # 生成的 *_pb2_grpc.py 使用顶层导入, 改为包内导入
+    for path in glob.glob(os.path.join(PROTO_DIR, '*_pb2_grpc.py')):
+        with open(path, encoding='utf-8') as file:
+            content = file.read()
+        content = re.sub(r'^import (\w+_pb2) as', r'from proto import \1 as', content, flags=re.MULTILINE)
+        with open(path, 'w', encoding='utf-8') as file:
+            file.write(content)
+
+
+# 判断生成文件是否为最新
+def _is_fresh(proto: str) -> bool:
+    name = os.path.splitext(os.path.basename(proto))[0]
+    mtime = os.path.getmtime(proto)
+    for suffix in ('_pb2.py', '_pb2_grpc.py'):
+        path = os.path.join(PROTO_DIR, name + suffix)
+        if not os.path.exists(path) or os.path.getmtime(path) < mtime:
+            return False
+    return True
+
+
+if __name__ == '__main__':
+    generate(force='--force' in sys.argv)
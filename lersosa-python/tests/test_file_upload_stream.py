@@ -0,0 +1,94 @@
+#  Copyright (c) 2025 Leyramu Group. All rights reserved.
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#       http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+#
+#  This project (Lersosa), including its source code, documentation, and any associated materials, is the intellectual property of Leyramu. No part of this software may be reproduced, distributed, or transmitted in any form or by any means, including photocopying, recording, or other electronic or mechanical methods, without the prior written permission of the copyright owner, Miraitowa_zcx, except in the case of brief quotations embodied in critical reviews and certain other noncommercial uses permitted by copyright law.
+#
+#  For inquiries related to licensing or usage outside the scope of this notice, please contact the copyright holder at 2038322151@qq.com.
+#
+#  The author disclaims all warranties, express or implied, including but not limited to the warranties of merchantability and fitness for a particular purpose. Under no circumstances shall the author be liable for any special, incidental, indirect, or consequential damages arising from the use of this software.
+#
+#  By using this project, users acknowledge and agree to abide by these terms and conditions.
+
+
+import os
+import sys
+import time
+import unittest
+from types import SimpleNamespace
+
+import grpc
+
+sys.path.insert(0, os.path.join(os.path.dirname(os.path.dirname(os.path.abspath(__file__))), 'src'))
+
+from app.application.file.service.command.file_upload_cmd_exe import FileUploadCmdExe  # noqa: E402
+from proto import File_pb2_grpc  # noqa: E402
+
+# gRPC 文件服务地址 (如 127.0.0.1:9201), 未配置时跳过
+GRPC_TARGET = os.getenv('LERSOSA_FILE_GRPC_TARGET')
+
+# 上传文件大小
+FILE_SIZE = 1024 * 1024 * 1024
+
+
+class PatternFile:
+    """按固定块循环生成内容的文件对象
+        只在内存中保留一个块, 不随文件大小增长
+    """
+
+    def __init__(self, size: int, block_size: int = 1024 * 1024):
+        self._size = size
+        self._position = 0
+        self._block = os.urandom(block_size)
+
+    def read(self, n: int = -1) -> bytes:
+        remaining = self._size - self._position
+        if remaining <= 0:
+            return b''
+        n = remaining if n < 0 else min(n, remaining)
+        start = self._position % len(self._block)
+        data = (self._block[start:] + self._block)[:n] if start + n > len(self._block) else self._block[start:start + n]
+        self._position += len(data)
+        return data
+
+
+@unittest.skipUnless(GRPC_TARGET, '未配置 LERSOSA_FILE_GRPC_TARGET')
+class FileUploadStreamTest(unittest.TestCase):
+    """文件流式上传端到端测试
+        通过 gRPC 将 1GB 文件分块流式上传到文件服务, 校验全部分块均已提交
+    """
+
+    def setUp(self):
+        self.channel = grpc.insecure_channel(GRPC_TARGET)
+        self.stub = File_pb2_grpc.FileStub(self.channel)
+
+    def tearDown(self):
+        self.channel.close()
+
+    def test_upload_1gb(self):
+        upload_file = SimpleNamespace(
+            file=PatternFile(FILE_SIZE),
+            filename='stream-test.bin',
+            content_type='application/octet-stream'
+        )
+        started = time.perf_counter()
+        reply = self.stub.UploadFile(FileUploadCmdExe._generate_file_requests(upload_file))
+        elapsed = time.perf_counter() - started
+
+        self.assertEqual(200, reply.code, reply.message)
+        self.assertEqual(1, len(reply.data))
+        self.assertEqual(FILE_SIZE, reply.committed_offset)
+        print(f'上传 {FILE_SIZE >> 20}MB 耗时 {elapsed:.1f}s, 吞吐 {FILE_SIZE / elapsed / (1 << 20):.1f}MB/s')
+
+
+if __name__ == '__main__':
+    unittest.main()